@@ -0,0 +1,177 @@
+package compilador.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.lr_parser;
+
+/**
+ * Puente hacia las clases del compilador. Lexer, Parser, FlujoTokens,
+ * GeneradorMIPS, Proye1_compi y OpcionesCompilacion viven en el paquete por defecto, que no se
+ * puede importar desde un paquete con nombre (y JMH exige uno), asi que se
+ * resuelven una vez por reflexion. En el camino caliente solo se usan las
+ * interfaces de CUP (Scanner.next_token y lr_parser.parse) o MethodHandles
+ * constantes, que el JIT trata como llamadas directas.
+ */
+final class Compilador {
+
+    private static final Constructor<?> LEXER;
+    private static final Method SET_VIA_RAPIDA;
+    private static final Constructor<?> PARSER_FLUJO;
+    private static final MethodHandle GRABAR;
+    private static final MethodHandle REINICIAR;
+    private static final MethodHandle SET_DIRECTORIO;
+    private static final MethodHandle SET_EXPORTAR_3D;
+    private static final MethodHandle GET_CUADRUPLOS;
+    private static final MethodHandle GENERAR_MIPS;
+    private static final MethodHandle COMPILAR;
+    private static final Object OPCIONES_PREDETERMINADAS;
+    private static final Constructor<?> PARAMETROS_CARGA;
+    private static final MethodHandle GENERAR_CARGA;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> lexer = Class.forName("Lexer");
+            Class<?> parser = Class.forName("Parser");
+            Class<?> flujo = Class.forName("FlujoTokens");
+            Class<?> mips = Class.forName("GeneradorMIPS");
+            Class<?> driver = Class.forName("Proye1_compi");
+            // Lexer lo genera JFlex sin modificador public
+            LEXER = lexer.getDeclaredConstructor(Reader.class);
+            LEXER.setAccessible(true);
+            SET_VIA_RAPIDA = lexer.getMethod("setViaRapida", boolean.class);
+            SET_VIA_RAPIDA.setAccessible(true);
+            PARSER_FLUJO = parser.getConstructor(flujo);
+            GRABAR = lookup.findStatic(flujo, "grabar", MethodType.methodType(flujo, Reader.class));
+            REINICIAR = lookup.findVirtual(flujo, "reiniciar", MethodType.methodType(void.class));
+            SET_DIRECTORIO = lookup.findVirtual(parser, "setDirectorioSalida", MethodType.methodType(void.class, Path.class));
+            SET_EXPORTAR_3D = lookup.findVirtual(parser, "setExportarCodigo3D", MethodType.methodType(void.class, boolean.class));
+            GET_CUADRUPLOS = lookup.findVirtual(parser, "getCuadruplos", MethodType.methodType(List.class));
+            GENERAR_MIPS = lookup.findStatic(mips, "generarDesdeCuadruplos", MethodType.methodType(int.class, List.class, Path.class));
+            Class<?> opciones = Class.forName("OpcionesCompilacion");
+            COMPILAR = lookup.findStatic(driver, "compilar",
+                    MethodType.methodType(boolean.class, String.class, Path.class, opciones));
+            OPCIONES_PREDETERMINADAS = opciones.getField("PREDETERMINADAS").get(null);
+            Class<?> generador = Class.forName("GeneradorCargas");
+            Class<?> parametros = Class.forName("GeneradorCargas$Parametros");
+            PARAMETROS_CARGA = parametros.getConstructor();
+            GENERAR_CARGA = lookup.findStatic(generador, "generar", MethodType.methodType(String.class, parametros));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final PrintStream SALIDA_ORIGINAL = System.out;
+    private static final PrintStream ERRORES_ORIGINAL = System.err;
+
+    private Compilador() {
+    }
+
+    /**
+     * Proposito: crear un Lexer nuevo sobre el texto de un programa.
+     * Entradas: programa fuente.
+     * Salidas: el Lexer visto como Scanner de CUP.
+     * Restricciones: ninguna.
+     */
+    static Scanner lexer(String fuente) throws Exception {
+        return (Scanner) LEXER.newInstance(new StringReader(fuente));
+    }
+
+    /**
+     * Proposito: crear un Lexer con la via rapida ASCII activada o desactivada.
+     * Entradas: programa fuente y si se usa la via rapida (false = solo el automata de JFlex).
+     * Salidas: el Lexer visto como Scanner de CUP.
+     * Restricciones: la llamada reflexiva ocurre una vez por Lexer, fuera del ciclo de tokens.
+     */
+    static Scanner lexer(String fuente, boolean viaRapida) throws Exception {
+        Scanner lexer = lexer(fuente);
+        SET_VIA_RAPIDA.invoke(lexer, viaRapida);
+        return lexer;
+    }
+
+    /**
+     * Proposito: escanear un programa una vez y grabar sus tokens.
+     * Entradas: programa fuente.
+     * Salidas: FlujoTokens visto como Scanner, reproducible con reiniciar().
+     * Restricciones: propaga los errores lexicos.
+     */
+    static Scanner grabar(String fuente) throws Throwable {
+        return (Scanner) GRABAR.invoke(new StringReader(fuente));
+    }
+
+    static void reiniciar(Scanner flujo) throws Throwable {
+        REINICIAR.invoke(flujo);
+    }
+
+    /**
+     * Proposito: crear un Parser sobre tokens grabados que exporta sus tablas a una carpeta temporal.
+     * Entradas: flujo devuelto por grabar() y carpeta de salida.
+     * Salidas: parser listo para parse().
+     * Restricciones: reinicia el flujo antes de crear el parser.
+     */
+    static lr_parser parser(Scanner flujo, Path salida) throws Throwable {
+        reiniciar(flujo);
+        lr_parser parser = (lr_parser) PARSER_FLUJO.newInstance(flujo);
+        SET_DIRECTORIO.invoke(parser, salida);
+        SET_EXPORTAR_3D.invoke(parser, false);
+        return parser;
+    }
+
+    /**
+     * Proposito: obtener una copia de los cuadruplos de codigo 3D que genero un parser.
+     * Entradas: parser ya ejecutado.
+     * Salidas: lista independiente de los cuadruplos (de tipo Cuadruplo, sin referencia estatica).
+     * Restricciones: ninguna.
+     */
+    static List<?> cuadruplos(lr_parser parser) throws Throwable {
+        return new ArrayList<>((List<?>) GET_CUADRUPLOS.invoke(parser));
+    }
+
+    static int generarMips(List<?> codigo3D, Path destinoAsm) throws Throwable {
+        return (int) GENERAR_MIPS.invoke(codigo3D, destinoAsm);
+    }
+
+    static void compilar(Path fuente, Path salida) throws Throwable {
+        COMPILAR.invoke(fuente.toString(), salida, OPCIONES_PREDETERMINADAS);
+    }
+
+    /**
+     * Proposito: generar un programa con GeneradorCargas usando sus valores por defecto salvo el numero de funciones.
+     * Entradas: numero de funciones.
+     * Salidas: programa fuente con anidamiento, arreglos y listas de argumentos largas.
+     * Restricciones: determinista (semilla fija del generador).
+     */
+    static String cargaSintetica(int funciones) throws Throwable {
+        Object parametros = PARAMETROS_CARGA.newInstance();
+        parametros.getClass().getField("funciones").setInt(parametros, funciones);
+        return (String) GENERAR_CARGA.invoke(parametros);
+    }
+
+    /**
+     * Proposito: descartar lo que el compilador imprime para no medir la consola.
+     * Entradas: ninguna.
+     * Salidas: System.out y System.err apuntan a un flujo nulo hasta restaurarConsola().
+     * Restricciones: los reportes de JMH no pasan por System.out del proceso medido.
+     */
+    static void silenciarConsola() {
+        PrintStream nulo = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(nulo);
+        System.setErr(nulo);
+    }
+
+    static void restaurarConsola() {
+        System.setOut(SALIDA_ORIGINAL);
+        System.setErr(ERRORES_ORIGINAL);
+    }
+}
@@ -0,0 +1,89 @@
+package compilador.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Programas de entrada para los benchmarks: los ejemplos de programa/input
+ * (empaquetados como recursos entradas/<archivo>) y programas sinteticos
+ * escalados, pedidos con el nombre "sintetico-<funciones>" (funciones planas
+ * identicas) o "carga-<funciones>" (programas de GeneradorCargas con
+ * anidamiento, arreglos literales y listas de argumentos largas).
+ */
+final class Entradas {
+
+    static final String PREFIJO_SINTETICO = "sintetico-";
+    static final String PREFIJO_CARGA = "carga-";
+
+    private Entradas() {
+    }
+
+    /**
+     * Proposito: obtener el texto de una entrada por nombre.
+     * Entradas: nombre de un archivo de programa/input, "sintetico-N" o "carga-N".
+     * Salidas: programa fuente completo.
+     * Restricciones: lanza IOException si el recurso no existe.
+     */
+    static String leer(String nombre) throws IOException {
+        if (nombre.startsWith(PREFIJO_SINTETICO)) {
+            return sintetico(Integer.parseInt(nombre.substring(PREFIJO_SINTETICO.length())));
+        }
+        if (nombre.startsWith(PREFIJO_CARGA)) {
+            try {
+                return Compilador.cargaSintetica(Integer.parseInt(nombre.substring(PREFIJO_CARGA.length())));
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IOException("No se pudo generar " + nombre, e);
+            }
+        }
+        try (InputStream in = Entradas.class.getResourceAsStream("/entradas/" + nombre)) {
+            if (in == null) {
+                throw new IOException("Entrada inexistente: " + nombre);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Proposito: construir un programa valido cuyo tamano crece linealmente con la cantidad de funciones.
+     * Entradas: numero de funciones.
+     * Salidas: programa con N funciones (declaraciones, aritmetica, decide of, loop y salida) y un principal que las llama.
+     * Restricciones: determinista; el mismo N produce siempre el mismo texto.
+     */
+    static String sintetico(int funciones) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < funciones; i++) {
+            sb.append("int _f").append(i).append("_ є int _a_ э ¿\n");
+            sb.append("\tlet int _x_ = _a_ * 2 + ").append(i).append("$\n");
+            sb.append("\tdecide of\n\t\tє _x_ > 10 э -> ¿\n\t\t\t_x_ = _x_ - 1$\n\t\t?\n\tend decide$\n");
+            sb.append("\tloop\n\t\t_x_ = _x_ + 1$\n\texit when є _x_ > 20 э $\n\tend loop$\n");
+            sb.append("\toutput є _x_ э $\n");
+            sb.append("\treturn _x_$\n?\n\n");
+        }
+        sb.append("principal ¿\n\tlet int _total_ = 0$\n");
+        for (int i = 0; i < funciones; i++) {
+            sb.append("\t_total_ = _total_ + _f").append(i).append("_ є ").append(i).append(" э $\n");
+        }
+        sb.append("\toutput є _total_ э $\n\treturn _total_$\n?\n");
+        return sb.toString();
+    }
+
+    static Path carpetaTemporal() throws IOException {
+        return Files.createTempDirectory("compilador-bench-");
+    }
+
+    static void borrar(Path carpeta) throws IOException {
+        if (carpeta == null || !Files.exists(carpeta)) {
+            return;
+        }
+        try (Stream<Path> archivos = Files.walk(carpeta)) {
+            archivos.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
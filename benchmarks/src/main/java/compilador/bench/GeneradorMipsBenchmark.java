@@ -0,0 +1,61 @@
+package compilador.bench;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java_cup.runtime.lr_parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Traduccion de los cuadruplos de codigo 3D ya preparados a destino.asm con
+ * GeneradorMIPS. Los cuadruplos se obtienen una sola vez parseando la entrada,
+ * de modo que solo se mide el back end (incluida la escritura del archivo).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneradorMipsBenchmark {
+
+    @Param({"test2.txt", "sintetico-10", "sintetico-500", "sintetico-5000"})
+    public String entrada;
+
+    private List<?> codigo3D;
+    private Path salida;
+    private Path destinoAsm;
+
+    @Setup(Level.Trial)
+    public void preparar() throws Throwable {
+        salida = Entradas.carpetaTemporal();
+        destinoAsm = salida.resolve("destino.asm");
+        Compilador.silenciarConsola();
+        lr_parser parser = Compilador.parser(Compilador.grabar(Entradas.leer(entrada)), salida);
+        parser.parse();
+        codigo3D = Compilador.cuadruplos(parser);
+    }
+
+    @TearDown(Level.Trial)
+    public void terminar() throws Exception {
+        Compilador.restaurarConsola();
+        Entradas.borrar(salida);
+    }
+
+    @Benchmark
+    public int traducir() throws Throwable {
+        return Compilador.generarMips(codigo3D, destinoAsm);
+    }
+}
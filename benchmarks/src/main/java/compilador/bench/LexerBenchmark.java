@@ -0,0 +1,83 @@
+package compilador.bench;
+
+import java.util.concurrent.TimeUnit;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendimiento de Lexer.next_token: escanea el programa completo en cada
+ * invocacion. Las metricas "tokens" y "caracteres" del reporte son el
+ * throughput en tokens y caracteres por segundo; la metrica principal es
+ * archivos escaneados por segundo. viaRapida=false desactiva la via rapida
+ * ASCII del lexer para medir solo el automata de JFlex.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+
+    @Param({"test.txt", "test2.txt", "testProy1.txt", "sintetico-100", "sintetico-2000"})
+    public String entrada;
+
+    @Param({"true", "false"})
+    public boolean viaRapida;
+
+    private String fuente;
+
+    /**
+     * Contadores de tokens y caracteres por iteracion, reportados por JMH como operaciones por segundo.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Tokens {
+        public long tokens;
+        public long caracteres;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            tokens = 0;
+            caracteres = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        fuente = Entradas.leer(entrada);
+        Compilador.silenciarConsola();
+    }
+
+    @TearDown(Level.Trial)
+    public void terminar() {
+        Compilador.restaurarConsola();
+    }
+
+    @Benchmark
+    public long nextToken(Tokens contador) throws Exception {
+        Scanner lexer = Compilador.lexer(fuente, viaRapida);
+        long cantidad = 0;
+        Symbol token;
+        while ((token = lexer.next_token()).sym != 0) {
+            cantidad++;
+        }
+        contador.tokens += cantidad;
+        contador.caracteres += fuente.length();
+        return cantidad;
+    }
+}
@@ -0,0 +1,58 @@
+package compilador.bench;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.lr_parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parser.parse completo (sintaxis, chequeos semanticos, emision de codigo 3D
+ * y exportacion de la tabla de simbolos) sobre tokens ya grabados, para que
+ * el lexer no entre en la medicion. Va de programas pequenos a muy grandes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"test2.txt", "testProy1.txt", "sintetico-10", "sintetico-500", "sintetico-5000", "carga-200"})
+    public String entrada;
+
+    private Scanner flujo;
+    private Path salida;
+
+    @Setup(Level.Trial)
+    public void preparar() throws Throwable {
+        flujo = Compilador.grabar(Entradas.leer(entrada));
+        salida = Entradas.carpetaTemporal();
+        Compilador.silenciarConsola();
+    }
+
+    @TearDown(Level.Trial)
+    public void terminar() throws Exception {
+        Compilador.restaurarConsola();
+        Entradas.borrar(salida);
+    }
+
+    @Benchmark
+    public Object parse() throws Throwable {
+        lr_parser parser = Compilador.parser(flujo, salida);
+        return parser.parse();
+    }
+}
@@ -0,0 +1,60 @@
+package compilador.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pipeline completo de Proye1_compi.compilar: lectura del archivo, lexer,
+ * TOKENS.txt, parser, tabla de simbolos, Codigo3D.txt y destino.asm, tal como
+ * lo ejecuta el driver para un archivo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    @Param({"test2.txt", "testProy1.txt", "sintetico-10", "sintetico-500", "sintetico-5000", "carga-200"})
+    public String entrada;
+
+    private Path carpeta;
+    private Path fuente;
+    private Path salida;
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        carpeta = Entradas.carpetaTemporal();
+        fuente = carpeta.resolve("fuente.txt");
+        Files.writeString(fuente, Entradas.leer(entrada), StandardCharsets.UTF_8);
+        salida = Files.createDirectories(carpeta.resolve("output"));
+        Compilador.silenciarConsola();
+    }
+
+    @TearDown(Level.Trial)
+    public void terminar() throws Exception {
+        Compilador.restaurarConsola();
+        Entradas.borrar(carpeta);
+    }
+
+    @Benchmark
+    public void compilar() throws Throwable {
+        Compilador.compilar(fuente, salida);
+    }
+}
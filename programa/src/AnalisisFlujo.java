@@ -0,0 +1,159 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Pasada de flujo de control sobre el arbol tipado (Ast). Las acciones del
+ * parser validan cada return en cuanto lo reducen, pero no ven la funcion
+ * completa; esta pasada recorre el cuerpo de cada funcion ya construido y
+ * reporta como advertencias:
+ *
+ * - las funciones con valor de retorno que tienen algun return pero pueden
+ *   llegar al final del cuerpo por otro camino (sin ningun return ya lo
+ *   reporta el parser como error);
+ * - las sentencias que no se pueden alcanzar porque van despues de un return
+ *   o de un break en el mismo bloque.
+ *
+ * Cada visita de sentencia devuelve si la ejecucion puede continuar con la
+ * sentencia siguiente. Un loop corre su cuerpo al menos una vez antes de
+ * evaluar exit when, asi que solo continua si el cuerpo llega a esa
+ * condicion o tiene un break; un for puede no ejecutar su cuerpo, asi que
+ * siempre continua. Las expresiones no afectan el flujo.
+ */
+public final class AnalisisFlujo implements Ast.Visitante<Boolean> {
+
+    private final List<String> advertencias = new ArrayList<>();
+    // Un elemento por loop o for abierto: si algun break de su cuerpo lo termina
+    private final Deque<boolean[]> ciclos = new ArrayDeque<>();
+    private boolean funcionConReturn;
+
+    /**
+     * Proposito: analizar el flujo de control de un programa completo.
+     * Entradas: raiz del arbol construido por el Parser.
+     * Salidas: advertencias con el formato de posicion de los diagnosticos del parser.
+     * Restricciones: pensado para arboles de parseos completos; un arbol parcial puede dar advertencias de mas.
+     */
+    public static List<String> analizar(Ast.Program programa) {
+        AnalisisFlujo analisis = new AnalisisFlujo();
+        programa.aceptar(analisis);
+        return analisis.advertencias;
+    }
+
+    private AnalisisFlujo() {
+    }
+
+    /**
+     * Proposito: recorrer un bloque en orden y advertir la primera sentencia inalcanzable.
+     * Entradas: sentencias del bloque.
+     * Salidas: true si la ejecucion puede salir por el final del bloque.
+     * Restricciones: las sentencias inalcanzables se visitan igual para analizar sus bloques internos.
+     */
+    private boolean bloque(List<? extends Ast.Stmt> sentencias) {
+        boolean continua = true;
+        boolean advertido = false;
+        for (Ast.Stmt sentencia : sentencias) {
+            if (!continua && !advertido) {
+                advertir("Codigo inalcanzable: la sentencia nunca se ejecuta", sentencia);
+                advertido = true;
+            }
+            boolean siguiente = sentencia.aceptar(this);
+            continua = continua && siguiente;
+        }
+        return continua;
+    }
+
+    private void advertir(String mensaje, Ast.Node nodo) {
+        String posicion = nodo.line > 0 ? " (linea " + nodo.line + ", columna " + nodo.column + ")" : "";
+        advertencias.add("[ADVERTENCIA] " + mensaje + posicion);
+    }
+
+    public Boolean visitar(Ast.Program nodo) {
+        bloque(nodo.items);
+        return true;
+    }
+
+    public Boolean visitar(Ast.FuncDecl nodo) {
+        boolean externa = funcionConReturn;
+        Deque<boolean[]> ciclosExternos = new ArrayDeque<>(ciclos);
+        ciclos.clear();
+        funcionConReturn = false;
+        boolean llegaAlFinal = bloque(nodo.body);
+        if (llegaAlFinal && funcionConReturn && !"VOID".equals(nodo.returnType)) {
+            advertir("La funcion '" + nodo.name + "' puede terminar sin retornar un valor de tipo '"
+                    + nodo.returnType + "'", nodo);
+        }
+        funcionConReturn = externa;
+        ciclos.addAll(ciclosExternos);
+        return true;
+    }
+
+    public Boolean visitar(Ast.Return nodo) {
+        funcionConReturn = true;
+        return false;
+    }
+
+    public Boolean visitar(Ast.Break nodo) {
+        if (ciclos.isEmpty()) {
+            return true; // el parser ya reporta el break fuera de ciclo
+        }
+        ciclos.peek()[0] = true;
+        return false;
+    }
+
+    public Boolean visitar(Ast.Decide nodo) {
+        // Sin else puede no cumplirse ningun caso, y la ejecucion sigue despues del decide
+        boolean continua = nodo.elseBody == null;
+        for (Ast.Case caso : nodo.cases) {
+            continua |= caso.aceptar(this);
+        }
+        if (nodo.elseBody != null) {
+            continua |= bloque(nodo.elseBody);
+        }
+        return continua;
+    }
+
+    public Boolean visitar(Ast.Case nodo) {
+        return bloque(nodo.body);
+    }
+
+    public Boolean visitar(Ast.Loop nodo) {
+        boolean[] conBreak = new boolean[1];
+        ciclos.push(conBreak);
+        boolean llegaAExit = bloque(nodo.body);
+        ciclos.pop();
+        if (!llegaAExit && !conBreak[0]) {
+            if (nodo.elseBody != null && !nodo.elseBody.isEmpty()) {
+                advertir("Codigo inalcanzable: la sentencia nunca se ejecuta", nodo.elseBody.get(0));
+                bloque(nodo.elseBody);
+            }
+            return false;
+        }
+        return nodo.elseBody == null || bloque(nodo.elseBody);
+    }
+
+    public Boolean visitar(Ast.For nodo) {
+        ciclos.push(new boolean[1]);
+        bloque(nodo.body);
+        ciclos.pop();
+        return true;
+    }
+
+    public Boolean visitar(Ast.Param nodo) { return true; }
+    public Boolean visitar(Ast.VarDecl nodo) { return true; }
+    public Boolean visitar(Ast.ArrayDecl nodo) { return true; }
+    public Boolean visitar(Ast.Assign nodo) { return true; }
+    public Boolean visitar(Ast.ArrayAssign nodo) { return true; }
+    public Boolean visitar(Ast.ArrayInit nodo) { return true; }
+    public Boolean visitar(Ast.ExprStmt nodo) { return true; }
+    public Boolean visitar(Ast.Print nodo) { return true; }
+    public Boolean visitar(Ast.Read nodo) { return true; }
+    public Boolean visitar(Ast.Literal nodo) { return true; }
+    public Boolean visitar(Ast.VarRef nodo) { return true; }
+    public Boolean visitar(Ast.ArrayAccess nodo) { return true; }
+    public Boolean visitar(Ast.Call nodo) { return true; }
+    public Boolean visitar(Ast.Binary nodo) { return true; }
+    public Boolean visitar(Ast.Unary nodo) { return true; }
+    public Boolean visitar(Ast.Comparison nodo) { return true; }
+    public Boolean visitar(Ast.Update nodo) { return true; }
+}
@@ -0,0 +1,534 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Arbol sintactico abstracto tipado del lenguaje. Lo construye el Parser
+ * cuando se activa setConstruirAst(true): cada produccion agrega su nodo con
+ * la posicion de origen y, en las expresiones, el tipo que resolvio el
+ * analisis semantico. El arbol es la base para pasadas posteriores (analisis,
+ * optimizacion o generacion de codigo por funcion), que se escriben como un
+ * Visitante o recorriendo hijos(); AnalisisFlujo es la que corre el Parser.
+ */
+public final class Ast {
+
+    private Ast() {
+    }
+
+    /**
+     * Operaciones que una pasada implementa para recorrer el arbol con despacho por tipo de nodo.
+     */
+    public interface Visitante<R> {
+        R visitar(Program nodo);
+        R visitar(FuncDecl nodo);
+        R visitar(Param nodo);
+        R visitar(VarDecl nodo);
+        R visitar(ArrayDecl nodo);
+        R visitar(Assign nodo);
+        R visitar(ArrayAssign nodo);
+        R visitar(ArrayInit nodo);
+        R visitar(ExprStmt nodo);
+        R visitar(Print nodo);
+        R visitar(Read nodo);
+        R visitar(Return nodo);
+        R visitar(Break nodo);
+        R visitar(Decide nodo);
+        R visitar(Case nodo);
+        R visitar(Loop nodo);
+        R visitar(For nodo);
+        R visitar(Literal nodo);
+        R visitar(VarRef nodo);
+        R visitar(ArrayAccess nodo);
+        R visitar(Call nodo);
+        R visitar(Binary nodo);
+        R visitar(Unary nodo);
+        R visitar(Comparison nodo);
+        R visitar(Update nodo);
+    }
+
+    /**
+     * Nodo base con la posicion de origen (linea y columna desde 1; -1 si no se conoce).
+     */
+    public abstract static class Node {
+        public final int line;
+        public final int column;
+
+        Node(int line, int column) {
+            this.line = line;
+            this.column = column;
+        }
+
+        public abstract <R> R aceptar(Visitante<R> visitante);
+
+        /** Nodos hijos en el orden de la fuente; los opcionales ausentes no aparecen. */
+        public abstract List<Node> hijos();
+
+        /** Texto de una linea que identifica al nodo (sin hijos ni posicion). */
+        public abstract String describir();
+    }
+
+    /** Sentencias y declaraciones. */
+    public abstract static class Stmt extends Node {
+        Stmt(int line, int column) {
+            super(line, column);
+        }
+    }
+
+    /** Expresiones; type es el tipo resuelto por el analisis semantico ("ERROR" si fallo). */
+    public abstract static class Expr extends Node {
+        public String type;
+
+        Expr(int line, int column) {
+            super(line, column);
+        }
+
+        String sufijoTipo() {
+            return type != null ? " : " + type : "";
+        }
+    }
+
+    public static final class Program extends Node {
+        public final List<Stmt> items = new ArrayList<>();
+
+        public Program() {
+            super(-1, -1);
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return new ArrayList<Node>(items); }
+        public String describir() { return "Program"; }
+    }
+
+    public static final class FuncDecl extends Stmt {
+        public final String name;
+        public final String returnType;
+        public final boolean main;
+        public final List<Param> params = new ArrayList<>();
+        public final List<Stmt> body = new ArrayList<>();
+
+        public FuncDecl(String name, String returnType, boolean main, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.returnType = returnType;
+            this.main = main;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return concatenar(params, body); }
+        public String describir() { return (main ? "Main " : "FuncDecl ") + name + " : " + returnType; }
+    }
+
+    public static final class Param extends Node {
+        public final String name;
+        public final String type;
+
+        public Param(String name, String type, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.type = type;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return Collections.emptyList(); }
+        public String describir() { return "Param " + name + " : " + type; }
+    }
+
+    /** Declaracion escalar; init es null cuando no se inicializa. */
+    public static final class VarDecl extends Stmt {
+        public final String name;
+        public final String type;
+        public final boolean global;
+        public final Expr init;
+
+        public VarDecl(String name, String type, boolean global, Expr init, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.type = type;
+            this.global = global;
+            this.init = init;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(init); }
+        public String describir() { return (global ? "VarDecl global " : "VarDecl ") + name + " : " + type; }
+    }
+
+    /** Declaracion de arreglo; values es null cuando no tiene literal inicial. */
+    public static final class ArrayDecl extends Stmt {
+        public final String name;
+        public final String elementType;
+        public final int length;
+        public final boolean global;
+        public final List<Expr> values;
+
+        public ArrayDecl(String name, String elementType, int length, boolean global, List<Expr> values, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.elementType = elementType;
+            this.length = length;
+            this.global = global;
+            this.values = values;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return values != null ? new ArrayList<Node>(values) : Collections.<Node>emptyList(); }
+        public String describir() {
+            return (global ? "ArrayDecl global " : "ArrayDecl ") + name + "[" + length + "] : " + elementType;
+        }
+    }
+
+    public static final class Assign extends Stmt {
+        public final String name;
+        public final Expr value;
+
+        public Assign(String name, Expr value, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.value = value;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(value); }
+        public String describir() { return "Assign " + name; }
+    }
+
+    public static final class ArrayAssign extends Stmt {
+        public final ArrayAccess target;
+        public final Expr value;
+
+        public ArrayAssign(ArrayAccess target, Expr value, int line, int column) {
+            super(line, column);
+            this.target = target;
+            this.value = value;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(target, value); }
+        public String describir() { return "ArrayAssign"; }
+    }
+
+    /** Asignacion de todos los elementos de un arreglo ya declarado: arr = [a, b, c]. */
+    public static final class ArrayInit extends Stmt {
+        public final String name;
+        public final List<Expr> values;
+
+        public ArrayInit(String name, List<Expr> values, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.values = values;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return new ArrayList<Node>(values); }
+        public String describir() { return "ArrayInit " + name; }
+    }
+
+    /** Expresion evaluada como sentencia (por ejemplo una llamada o x++). */
+    public static final class ExprStmt extends Stmt {
+        public final Expr expr;
+
+        public ExprStmt(Expr expr, int line, int column) {
+            super(line, column);
+            this.expr = expr;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(expr); }
+        public String describir() { return "ExprStmt"; }
+    }
+
+    public static final class Print extends Stmt {
+        public final Expr value;
+
+        public Print(Expr value, int line, int column) {
+            super(line, column);
+            this.value = value;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(value); }
+        public String describir() { return "Print"; }
+    }
+
+    public static final class Read extends Stmt {
+        public final String name;
+
+        public Read(String name, int line, int column) {
+            super(line, column);
+            this.name = name;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return Collections.emptyList(); }
+        public String describir() { return "Read " + name; }
+    }
+
+    /** Retorno; value es null en un return sin valor. */
+    public static final class Return extends Stmt {
+        public final Expr value;
+
+        public Return(Expr value, int line, int column) {
+            super(line, column);
+            this.value = value;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(value); }
+        public String describir() { return "Return"; }
+    }
+
+    public static final class Break extends Stmt {
+        public Break(int line, int column) {
+            super(line, column);
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return Collections.emptyList(); }
+        public String describir() { return "Break"; }
+    }
+
+    /** decide of: casos en orden y rama else (null si no existe). */
+    public static final class Decide extends Stmt {
+        public final List<Case> cases = new ArrayList<>();
+        public List<Stmt> elseBody;
+
+        public Decide(int line, int column) {
+            super(line, column);
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() {
+            List<Node> hijos = new ArrayList<Node>(cases);
+            if (elseBody != null) {
+                hijos.addAll(elseBody);
+            }
+            return hijos;
+        }
+        public String describir() { return elseBody != null ? "Decide (con else)" : "Decide"; }
+    }
+
+    public static final class Case extends Node {
+        public final Expr condition;
+        public final List<Stmt> body = new ArrayList<>();
+
+        public Case(Expr condition, int line, int column) {
+            super(line, column);
+            this.condition = condition;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return concatenar(lista(condition), body); }
+        public String describir() { return "Case"; }
+    }
+
+    /** loop ... exit when cond: el cuerpo se repite hasta que exitCondition es verdadera. */
+    public static final class Loop extends Stmt {
+        public final List<Stmt> body = new ArrayList<>();
+        public Expr exitCondition;
+        public List<Stmt> elseBody;
+
+        public Loop(int line, int column) {
+            super(line, column);
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() {
+            List<Node> hijos = concatenar(body, lista(exitCondition));
+            if (elseBody != null) {
+                hijos.addAll(elseBody);
+            }
+            return hijos;
+        }
+        public String describir() { return elseBody != null ? "Loop (con else)" : "Loop"; }
+    }
+
+    public static final class For extends Stmt {
+        public final String variable;
+        public final Expr init;
+        public final Expr step;
+        public final Expr limit;
+        public final boolean downto;
+        public final List<Stmt> body = new ArrayList<>();
+
+        public For(String variable, Expr init, Expr step, Expr limit, boolean downto, int line, int column) {
+            super(line, column);
+            this.variable = variable;
+            this.init = init;
+            this.step = step;
+            this.limit = limit;
+            this.downto = downto;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return concatenar(lista(init, step, limit), body); }
+        public String describir() { return "For " + variable + (downto ? " downto" : " to"); }
+    }
+
+    /** Literal numerico, de texto, caracter o booleano tal como aparece en el codigo 3D. */
+    public static final class Literal extends Expr {
+        public final String text;
+
+        public Literal(String text, int line, int column) {
+            super(line, column);
+            this.text = text;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return Collections.emptyList(); }
+        public String describir() { return "Literal " + text + sufijoTipo(); }
+    }
+
+    public static final class VarRef extends Expr {
+        public final String name;
+
+        public VarRef(String name, int line, int column) {
+            super(line, column);
+            this.name = name;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return Collections.emptyList(); }
+        public String describir() { return "VarRef " + name + sufijoTipo(); }
+    }
+
+    public static final class ArrayAccess extends Expr {
+        public final String name;
+        public final Expr index;
+
+        public ArrayAccess(String name, Expr index, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.index = index;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(index); }
+        public String describir() { return "ArrayAccess " + name + sufijoTipo(); }
+    }
+
+    public static final class Call extends Expr {
+        public final String name;
+        public final List<Expr> args;
+
+        public Call(String name, List<Expr> args, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.args = args;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return new ArrayList<Node>(args); }
+        public String describir() { return "Call " + name + sufijoTipo(); }
+    }
+
+    /** Operacion binaria aritmetica (+ - * / ^ %) o logica (&& ||). */
+    public static final class Binary extends Expr {
+        public final String operator;
+        public final Expr left;
+        public final Expr right;
+
+        public Binary(String operator, Expr left, Expr right, int line, int column) {
+            super(line, column);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(left, right); }
+        public String describir() { return "Binary " + operator + sufijoTipo(); }
+    }
+
+    /** Negacion numerica (-) o logica (!). */
+    public static final class Unary extends Expr {
+        public final String operator;
+        public final Expr operand;
+
+        public Unary(String operator, Expr operand, int line, int column) {
+            super(line, column);
+            this.operator = operator;
+            this.operand = operand;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return lista(operand); }
+        public String describir() { return "Unary " + operator + sufijoTipo(); }
+    }
+
+    /**
+     * Comparacion encadenada a op1 b op2 c: operands tiene un elemento mas que operators
+     * y equivale a la conjuncion de cada par consecutivo.
+     */
+    public static final class Comparison extends Expr {
+        public final List<String> operators;
+        public final List<Expr> operands;
+
+        public Comparison(List<String> operators, List<Expr> operands, int line, int column) {
+            super(line, column);
+            this.operators = operators;
+            this.operands = operands;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return new ArrayList<Node>(operands); }
+        public String describir() { return "Comparison " + String.join(" ", operators) + sufijoTipo(); }
+    }
+
+    /** Incremento o decremento posfijo (x++ / x--), que vale el nuevo valor de la variable. */
+    public static final class Update extends Expr {
+        public final String name;
+        public final String operator;
+
+        public Update(String name, String operator, int line, int column) {
+            super(line, column);
+            this.name = name;
+            this.operator = operator;
+        }
+
+        public <R> R aceptar(Visitante<R> visitante) { return visitante.visitar(this); }
+        public List<Node> hijos() { return Collections.emptyList(); }
+        public String describir() { return "Update " + name + operator + sufijoTipo(); }
+    }
+
+    /**
+     * Proposito: imprimir un arbol con un nodo por linea, indentado por profundidad.
+     * Entradas: raiz del arbol (normalmente el Program del Parser).
+     * Salidas: texto con la descripcion y la posicion de cada nodo.
+     * Restricciones: los hijos ausentes (expresiones con error de sintaxis) no se imprimen.
+     */
+    public static String imprimir(Node raiz) {
+        StringBuilder sb = new StringBuilder();
+        imprimir(raiz, 0, sb);
+        return sb.toString();
+    }
+
+    private static void imprimir(Node nodo, int profundidad, StringBuilder sb) {
+        for (int i = 0; i < profundidad; i++) {
+            sb.append("  ");
+        }
+        sb.append(nodo.describir());
+        if (nodo.line > 0) {
+            sb.append(" (linea ").append(nodo.line).append(", columna ").append(nodo.column).append(')');
+        }
+        sb.append('\n');
+        for (Node hijo : nodo.hijos()) {
+            imprimir(hijo, profundidad + 1, sb);
+        }
+    }
+
+    private static List<Node> lista(Node... nodos) {
+        List<Node> resultado = new ArrayList<>(nodos.length);
+        for (Node nodo : nodos) {
+            if (nodo != null) {
+                resultado.add(nodo);
+            }
+        }
+        return resultado;
+    }
+
+    private static List<Node> concatenar(List<? extends Node> primeros, List<? extends Node> segundos) {
+        List<Node> resultado = new ArrayList<Node>(primeros);
+        resultado.addAll(segundos);
+        return resultado;
+    }
+}
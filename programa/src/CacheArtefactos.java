@@ -0,0 +1,258 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Cache de artefactos indexada por contenido: la clave es un SHA-256 de los
+ * bytes de la fuente, de la version del compilador (incluida una huella de las
+ * clases Lexer/Parser/GeneradorMIPS cargadas) y de las opciones. Cada entrada
+ * es una carpeta con TOKENS.txt, TablaSimbolos.txt, Codigo3D.txt, destino.asm,
+ * AST.txt (si se pidio), los diagnosticos de stderr y una marca si la compilacion tuvo errores;
+ * las entradas menos usadas se desalojan cuando la cache supera su tamano maximo.
+ */
+public final class CacheArtefactos {
+
+    public static final String VERSION_COMPILADOR = "Compilador2025-4";
+    public static final long TAMANO_MAXIMO_POR_DEFECTO = 256L * 1024 * 1024;
+
+    static final String[] ARTEFACTOS = {"TOKENS.txt", "TablaSimbolos.txt", "Codigo3D.txt", "destino.asm", "AST.txt"};
+    private static final String ARCHIVO_ERRORES = "stderr.txt";
+    private static final String ARCHIVO_FALLO = "fallo.txt";
+    private static final String[] CLASES_HUELLA = {
+        "Lexer.class", "Parser.class", "sym.class", "GeneradorMIPS.class", "FlujoTokens.class", "Proye1_compi.class",
+        "Cuadruplo.class", "Ast.class", "AnalisisFlujo.class", "OpcionesCompilacion.class"
+    };
+    private static volatile String huellaCompilador;
+
+    private final Path directorio;
+    private final long tamanoMaximo;
+
+    /**
+     * Proposito: crear una cache sobre una carpeta local.
+     * Entradas: carpeta de la cache (se crea si falta) y tamano maximo en bytes.
+     * Salidas: instancia lista para consultar y guardar entradas.
+     * Restricciones: varias instancias del mismo proceso pueden compartir la carpeta; el desalojo es por proceso.
+     */
+    public CacheArtefactos(Path directorio, long tamanoMaximo) throws IOException {
+        this.directorio = directorio;
+        this.tamanoMaximo = tamanoMaximo;
+        Files.createDirectories(directorio);
+    }
+
+    /**
+     * Proposito: calcular la clave de una compilacion.
+     * Entradas: bytes de la fuente y descripcion textual de las opciones que afectan los artefactos.
+     * Salidas: SHA-256 en hexadecimal.
+     * Restricciones: fuentes u opciones distintas producen claves distintas; la huella cambia al recompilar el compilador.
+     */
+    public String clave(byte[] fuente, String opciones) {
+        MessageDigest sha = sha256();
+        sha.update((VERSION_COMPILADOR + "\0" + huellaCompilador() + "\0" + opciones + "\0").getBytes(StandardCharsets.UTF_8));
+        sha.update(fuente);
+        return hex(sha.digest());
+    }
+
+    /**
+     * Proposito: copiar los artefactos de una entrada existente a la carpeta de salida.
+     * Entradas: clave calculada con clave() y carpeta de salida de la compilacion.
+     * Salidas: en un acierto (artefactos copiados y diagnosticos reemitidos en stderr), si la compilacion guardada
+     *          termino sin errores; null si no existe la entrada.
+     * Restricciones: marca la entrada como usada recientemente para el desalojo LRU; los artefactos que la entrada
+     *                no tiene se borran de outputDir para no dejar los de otra fuente.
+     */
+    public Boolean restaurar(String clave, Path outputDir) throws IOException {
+        Path entrada = directorio.resolve(clave);
+        if (!Files.isDirectory(entrada)) {
+            return null;
+        }
+        Files.createDirectories(outputDir);
+        for (String artefacto : ARTEFACTOS) {
+            Path origen = entrada.resolve(artefacto);
+            if (Files.exists(origen)) {
+                Files.copy(origen, outputDir.resolve(artefacto), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(outputDir.resolve(artefacto));
+            }
+        }
+        Path errores = entrada.resolve(ARCHIVO_ERRORES);
+        if (Files.exists(errores)) {
+            System.err.print(new String(Files.readAllBytes(errores), StandardCharsets.UTF_8));
+        }
+        Files.setLastModifiedTime(entrada, FileTime.fromMillis(System.currentTimeMillis()));
+        System.out.println("[CACHE] Artefactos reutilizados (" + clave.substring(0, 12) + ") en: " + outputDir.toAbsolutePath());
+        return !Files.exists(entrada.resolve(ARCHIVO_FALLO));
+    }
+
+    /**
+     * Proposito: borrar de la carpeta de salida los artefactos de compilaciones anteriores.
+     * Entradas: carpeta de salida de la compilacion que va a empezar.
+     * Salidas: ninguno de los ARTEFACTOS queda en outputDir.
+     * Restricciones: llamarlo antes de compilar; guardar() toma todo lo que encuentre en outputDir.
+     */
+    public static void limpiar(Path outputDir) throws IOException {
+        for (String artefacto : ARTEFACTOS) {
+            Files.deleteIfExists(outputDir.resolve(artefacto));
+        }
+    }
+
+    /**
+     * Proposito: guardar los artefactos recien generados bajo una clave.
+     * Entradas: clave, carpeta donde la compilacion dejo sus artefactos, texto de stderr de la compilacion y si
+     *           termino sin errores.
+     * Salidas: nueva entrada en la cache y desalojo de las menos usadas si se supera el tamano maximo.
+     * Restricciones: la entrada se arma en una carpeta temporal y se publica con un movimiento atomico;
+     *                outputDir debe haberse vaciado con limpiar() antes de compilar.
+     */
+    public void guardar(String clave, Path outputDir, String errores, boolean exito) throws IOException {
+        Path entrada = directorio.resolve(clave);
+        if (Files.isDirectory(entrada)) {
+            return;
+        }
+        Path temporal = Files.createTempDirectory(directorio, "tmp-");
+        try {
+            for (String artefacto : ARTEFACTOS) {
+                Path origen = outputDir.resolve(artefacto);
+                if (Files.exists(origen)) {
+                    Files.copy(origen, temporal.resolve(artefacto));
+                }
+            }
+            if (errores != null && !errores.isEmpty()) {
+                Files.write(temporal.resolve(ARCHIVO_ERRORES), errores.getBytes(StandardCharsets.UTF_8));
+            }
+            if (!exito) {
+                Files.createFile(temporal.resolve(ARCHIVO_FALLO));
+            }
+            try {
+                Files.move(temporal, entrada, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal, entrada);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // otra compilacion paralela publico la misma entrada primero
+        } finally {
+            borrarCarpeta(temporal);
+        }
+        desalojar();
+    }
+
+    /**
+     * Proposito: eliminar las entradas usadas hace mas tiempo hasta quedar bajo el tamano maximo.
+     * Entradas: ninguna.
+     * Salidas: carpetas de entrada borradas.
+     * Restricciones: sincronizado para que los hilos del modo lote no desalojen a la vez.
+     */
+    private synchronized void desalojar() throws IOException {
+        List<Path> entradas = new ArrayList<>();
+        try (Stream<Path> listado = Files.list(directorio)) {
+            listado.filter(Files::isDirectory)
+                   .filter(p -> !p.getFileName().toString().startsWith("tmp-"))
+                   .forEach(entradas::add);
+        }
+        long total = 0;
+        List<Long> tamanos = new ArrayList<>();
+        for (Path entrada : entradas) {
+            long tamano = tamanoCarpeta(entrada);
+            tamanos.add(tamano);
+            total += tamano;
+        }
+        if (total <= tamanoMaximo) {
+            return;
+        }
+        List<Integer> orden = new ArrayList<>();
+        for (int i = 0; i < entradas.size(); i++) {
+            orden.add(i);
+        }
+        orden.sort(Comparator.comparingLong(i -> ultimoUso(entradas.get(i))));
+        for (int i : orden) {
+            if (total <= tamanoMaximo) {
+                break;
+            }
+            borrarCarpeta(entradas.get(i));
+            total -= tamanos.get(i);
+        }
+    }
+
+    private static long ultimoUso(Path entrada) {
+        try {
+            return Files.getLastModifiedTime(entrada).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static long tamanoCarpeta(Path carpeta) throws IOException {
+        try (Stream<Path> archivos = Files.walk(carpeta)) {
+            return archivos.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+        }
+    }
+
+    private static void borrarCarpeta(Path carpeta) {
+        if (!Files.exists(carpeta)) {
+            return;
+        }
+        try (Stream<Path> archivos = Files.walk(carpeta)) {
+            archivos.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            // se reintentara en el siguiente desalojo
+        }
+    }
+
+    /**
+     * Proposito: obtener una huella de las clases del compilador para invalidar la cache al recompilarlo.
+     * Entradas: ninguna; lee los .class desde el classpath.
+     * Salidas: SHA-256 hexadecimal de las clases encontradas (calculado una sola vez por proceso).
+     * Restricciones: las clases que no se encuentren simplemente no aportan a la huella.
+     */
+    private static String huellaCompilador() {
+        String huella = huellaCompilador;
+        if (huella != null) {
+            return huella;
+        }
+        MessageDigest sha = sha256();
+        byte[] buffer = new byte[8192];
+        for (String clase : CLASES_HUELLA) {
+            try (InputStream in = CacheArtefactos.class.getResourceAsStream(clase)) {
+                if (in == null) {
+                    continue;
+                }
+                int n;
+                while ((n = in.read(buffer)) > 0) {
+                    sha.update(buffer, 0, n);
+                }
+            } catch (IOException e) {
+                // clase no legible; no aporta a la huella
+            }
+        }
+        huella = hex(sha.digest());
+        huellaCompilador = huella;
+        return huella;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,183 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Modo lote del compilador: compila muchos archivos fuente en paralelo sobre
+ * un pool fijo de hilos. Cada fuente escribe sus artefactos en su propia
+ * carpeta output/<fuente>/ y su salida de consola se imprime en bloque al
+ * terminar, para que los mensajes de distintas compilaciones no se mezclen.
+ */
+public final class CompilacionLote {
+
+    /**
+     * Resultado de compilar una fuente dentro del lote.
+     */
+    static final class Resultado {
+        final Path fuente;
+        final Path carpetaSalida;
+        final boolean exito;
+        final String error;
+        final long milisegundos;
+
+        Resultado(Path fuente, Path carpetaSalida, boolean exito, String error, long milisegundos) {
+            this.fuente = fuente;
+            this.carpetaSalida = carpetaSalida;
+            this.exito = exito;
+            this.error = error;
+            this.milisegundos = milisegundos;
+        }
+    }
+
+    private CompilacionLote() {
+    }
+
+    /**
+     * Proposito: expandir las rutas recibidas en la linea de comandos a la lista de archivos a compilar.
+     * Entradas: rutas (directorios o archivos) y directorio base para resolver rutas relativas.
+     * Salidas: archivos .txt y .c encontrados, en orden alfabetico por directorio; los archivos explicitos se respetan tal cual.
+     * Restricciones: no recorre subdirectorios; las rutas inexistentes se reportan en stderr y se omiten.
+     */
+    public static List<Path> recolectarFuentes(List<String> rutas, Path baseDir) throws IOException {
+        List<Path> fuentes = new ArrayList<>();
+        for (String ruta : rutas) {
+            Path path = Proye1_compi.resolverFuente(ruta, baseDir);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> listado = Files.list(path)) {
+                    fuentes.addAll(listado
+                            .filter(Files::isRegularFile)
+                            .filter(CompilacionLote::esFuente)
+                            .sorted()
+                            .collect(Collectors.toList()));
+                }
+            } else if (Files.isRegularFile(path)) {
+                fuentes.add(path);
+            } else {
+                System.err.println("Ruta de entrada inexistente: " + path);
+            }
+        }
+        return fuentes;
+    }
+
+    /**
+     * Proposito: compilar todas las fuentes en paralelo e imprimir un resumen.
+     * Entradas: archivos fuente, carpeta output base, cantidad de hilos y opciones compartidas por las compilaciones
+     *           (con su cache, si la hay).
+     * Salidas: una carpeta por fuente dentro de salidaBase y el numero de compilaciones que fallaron.
+     * Restricciones: instala ConsolaPorHilo para capturar la salida de cada compilacion; las opciones no deben llevar
+     *                estadisticas porque las comparten todos los hilos. CacheArtefactos sincroniza el desalojo, por lo
+     *                que la misma cache sirve a todo el pool.
+     */
+    public static int compilar(List<Path> fuentes, Path salidaBase, int hilos, OpcionesCompilacion opciones) throws Exception {
+        return compilar(fuentes, asignarCarpetas(fuentes, salidaBase), salidaBase, hilos, opciones);
+    }
+
+    /**
+     * Proposito: compilar en paralelo fuentes cuya carpeta de salida ya fue decidida por quien llama.
+     * Entradas: fuentes, lista paralela de carpetas, carpeta base (solo para el resumen), hilos y opciones compartidas.
+     * Salidas: artefactos en la carpeta de cada fuente y el numero de compilaciones que fallaron.
+     * Restricciones: usado por el modo vigilancia para recompilar un subconjunto sin cambiar los nombres de carpeta.
+     */
+    static int compilar(List<Path> fuentes, List<Path> carpetas, Path salidaBase, int hilos,
+                        OpcionesCompilacion opciones) throws Exception {
+        ConsolaPorHilo.instalar();
+        int tamanoPool = Math.max(1, Math.min(hilos, fuentes.size()));
+        ExecutorService pool = Executors.newFixedThreadPool(tamanoPool);
+        List<Future<Resultado>> pendientes = new ArrayList<>();
+        long inicio = System.nanoTime();
+        try {
+            for (int i = 0; i < fuentes.size(); i++) {
+                Path fuente = fuentes.get(i);
+                Path carpeta = carpetas.get(i);
+                pendientes.add(pool.submit(() -> compilarUna(fuente, carpeta, opciones)));
+            }
+
+            int fallidos = 0;
+            for (Future<Resultado> pendiente : pendientes) {
+                Resultado r = pendiente.get();
+                if (!r.exito) {
+                    fallidos++;
+                    System.err.println("[LOTE] Fallo " + r.fuente.getFileName() + ": " + r.error);
+                }
+            }
+            long totalMs = (System.nanoTime() - inicio) / 1_000_000;
+            System.out.println("[LOTE] " + (fuentes.size() - fallidos) + " de " + fuentes.size()
+                    + " fuentes compiladas en " + totalMs + " ms (" + tamanoPool + " hilos); salida en " + salidaBase.toAbsolutePath());
+            return fallidos;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Proposito: compilar una fuente capturando su salida de consola.
+     * Entradas: archivo fuente, carpeta propia de salida y opciones compartidas.
+     * Salidas: Resultado con el estado y la duracion; la salida capturada se imprime en bloque.
+     * Restricciones: no propaga excepciones; las convierte en un Resultado fallido, igual que una fuente con
+     *                errores sintacticos o semanticos.
+     */
+    private static Resultado compilarUna(Path fuente, Path carpeta, OpcionesCompilacion opciones) {
+        long inicio = System.nanoTime();
+        ConsolaPorHilo.iniciarCaptura();
+        boolean exito = true;
+        String error = null;
+        try {
+            Files.createDirectories(carpeta);
+            System.out.println("==== " + fuente + " -> " + carpeta);
+            if (!Proye1_compi.compilar(fuente.toString(), carpeta, opciones)) {
+                exito = false;
+                error = "errores de compilacion";
+            }
+        } catch (Exception e) {
+            exito = false;
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            System.err.println("Error compilando " + fuente + ": " + error);
+        } finally {
+            ConsolaPorHilo.terminarCaptura().escribirEnConsola();
+        }
+        return new Resultado(fuente, carpeta, exito, error, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Proposito: decidir la carpeta de salida de cada fuente a partir de su nombre sin extension.
+     * Entradas: fuentes en el orden del lote y carpeta base.
+     * Salidas: lista paralela de carpetas; los caracteres no portables se cambian por '_' y los nombres repetidos reciben sufijo _2, _3, ...
+     * Restricciones: el orden de la lista determina que fuente conserva el nombre sin sufijo.
+     */
+    static List<Path> asignarCarpetas(List<Path> fuentes, Path salidaBase) {
+        Set<String> usados = new HashSet<>();
+        List<Path> carpetas = new ArrayList<>();
+        for (Path fuente : fuentes) {
+            String nombre = fuente.getFileName().toString();
+            int punto = nombre.lastIndexOf('.');
+            String base = (punto > 0 ? nombre.substring(0, punto) : nombre).replaceAll("[^A-Za-z0-9._-]", "_");
+            String candidato = base;
+            int sufijo = 2;
+            while (!usados.add(candidato)) {
+                candidato = base + "_" + sufijo++;
+            }
+            carpetas.add(salidaBase.resolve(candidato));
+        }
+        return carpetas;
+    }
+
+    /**
+     * Proposito: filtrar los archivos de un directorio que son programas fuente.
+     * Entradas: ruta de un archivo.
+     * Salidas: true para extensiones .txt y .c.
+     * Restricciones: la comparacion ignora mayusculas.
+     */
+    static boolean esFuente(Path path) {
+        String nombre = path.getFileName().toString().toLowerCase();
+        return nombre.endsWith(".txt") || nombre.endsWith(".c");
+    }
+}
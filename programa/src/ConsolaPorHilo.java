@@ -0,0 +1,161 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Redireccion de System.out/System.err por hilo: mientras un hilo tiene una
+ * captura activa, todo lo que imprimen el driver, el Parser y GeneradorMIPS se
+ * acumula en buffers propios en lugar de mezclarse con otras compilaciones que
+ * corren en paralelo. Los hilos sin captura escriben a la consola original.
+ */
+public final class ConsolaPorHilo extends OutputStream {
+
+    private static final ThreadLocal<Captura> CAPTURA_ACTUAL = new ThreadLocal<>();
+    private static final Object BLOQUEO_CONSOLA = new Object();
+    private static PrintStream salidaOriginal;
+    private static PrintStream erroresOriginal;
+
+    private final PrintStream destinoOriginal;
+    private final boolean esErrores;
+
+    /**
+     * Salida acumulada de una compilacion: texto de stdout y de stderr por separado.
+     */
+    public static final class Captura {
+        private final ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream errores = new ByteArrayOutputStream();
+        private final Captura anterior;
+
+        private Captura(Captura anterior) {
+            this.anterior = anterior;
+        }
+
+        /**
+         * Proposito: obtener lo impreso en stdout durante la captura.
+         * Entradas: ninguna.
+         * Salidas: texto decodificado con el charset por defecto de la consola.
+         * Restricciones: ninguna.
+         */
+        public String salida() {
+            return salida.toString();
+        }
+
+        /**
+         * Proposito: obtener lo impreso en stderr durante la captura.
+         * Entradas: ninguna.
+         * Salidas: texto decodificado con el charset por defecto de la consola.
+         * Restricciones: ninguna.
+         */
+        public String errores() {
+            return errores.toString();
+        }
+
+        /**
+         * Proposito: volcar la captura completa a la consola original sin intercalarse con otros hilos.
+         * Entradas: ninguna.
+         * Salidas: bloque de stdout seguido del bloque de stderr.
+         * Restricciones: requiere que instalar() se haya invocado.
+         */
+        public void escribirEnConsola() {
+            synchronized (BLOQUEO_CONSOLA) {
+                salidaOriginal.write(salida.toByteArray(), 0, salida.size());
+                salidaOriginal.flush();
+                erroresOriginal.write(errores.toByteArray(), 0, errores.size());
+                erroresOriginal.flush();
+            }
+        }
+
+        /**
+         * Proposito: reenviar la captura a System.out/System.err del hilo actual.
+         * Entradas: ninguna.
+         * Salidas: los bytes llegan a la captura externa si existe o, si no, a la consola.
+         * Restricciones: pensado para capturas anidadas, despues de terminarCaptura.
+         */
+        public void reenviar() {
+            System.out.write(salida.toByteArray(), 0, salida.size());
+            System.out.flush();
+            System.err.write(errores.toByteArray(), 0, errores.size());
+            System.err.flush();
+        }
+    }
+
+    private ConsolaPorHilo(PrintStream destinoOriginal, boolean esErrores) {
+        this.destinoOriginal = destinoOriginal;
+        this.esErrores = esErrores;
+    }
+
+    /**
+     * Proposito: reemplazar System.out y System.err por flujos que respetan las capturas por hilo.
+     * Entradas: ninguna.
+     * Salidas: flujos globales sustituidos; llamadas repetidas no tienen efecto.
+     * Restricciones: debe ejecutarse antes de lanzar los hilos de compilacion.
+     */
+    public static synchronized void instalar() {
+        if (salidaOriginal != null) {
+            return;
+        }
+        salidaOriginal = System.out;
+        erroresOriginal = System.err;
+        System.setOut(new PrintStream(new ConsolaPorHilo(salidaOriginal, false), true));
+        System.setErr(new PrintStream(new ConsolaPorHilo(erroresOriginal, true), true));
+    }
+
+    /**
+     * Proposito: comenzar a acumular la salida del hilo actual.
+     * Entradas: ninguna.
+     * Salidas: captura vacia asociada al hilo; si ya habia una activa queda suspendida hasta terminar la nueva.
+     * Restricciones: cada iniciarCaptura debe cerrarse con terminarCaptura en el mismo hilo.
+     */
+    public static void iniciarCaptura() {
+        CAPTURA_ACTUAL.set(new Captura(CAPTURA_ACTUAL.get()));
+    }
+
+    /**
+     * Proposito: detener la captura del hilo actual y entregar lo acumulado.
+     * Entradas: ninguna.
+     * Salidas: captura con stdout/stderr del hilo, o una captura vacia si no habia ninguna activa.
+     * Restricciones: despues de llamarla el hilo vuelve a la captura externa o, si no hay, a la consola original.
+     */
+    public static Captura terminarCaptura() {
+        Captura captura = CAPTURA_ACTUAL.get();
+        if (captura == null) {
+            return new Captura(null);
+        }
+        if (captura.anterior != null) {
+            CAPTURA_ACTUAL.set(captura.anterior);
+        } else {
+            CAPTURA_ACTUAL.remove();
+        }
+        return captura;
+    }
+
+    /**
+     * Proposito: obtener el flujo real que recibe los bytes del hilo que escribe.
+     * Entradas: ninguna.
+     * Salidas: buffer de la captura activa o la consola original.
+     * Restricciones: uso interno de los metodos write.
+     */
+    private OutputStream destino() {
+        Captura captura = CAPTURA_ACTUAL.get();
+        if (captura == null) {
+            return destinoOriginal;
+        }
+        return esErrores ? captura.errores : captura.salida;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        destino().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        destino().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        destino().flush();
+    }
+}
@@ -0,0 +1,693 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Instruccion del codigo intermedio como cuadruplo: operacion, resultado y
+ * hasta dos argumentos tipados (temporal, variable, literal o etiqueta), mas
+ * el tipo del resultado. El Parser arma la lista de cuadruplos durante el
+ * analisis semantico; toString() imprime cada uno con el mismo formato de
+ * linea que Codigo3D.txt, y desdeTexto() hace el camino inverso para los listados
+ * que vienen de archivo. Asi las fases posteriores (GeneradorMIPS, futuras
+ * optimizaciones) trabajan sobre objetos sin volver a partir texto.
+ */
+public final class Cuadruplo {
+
+    /**
+     * Operaciones del codigo intermedio. Las que tienen simbolo se imprimen
+     * como "resultado = arg1 simbolo arg2" (binarias) o con el simbolo antes
+     * del argumento (unarias).
+     */
+    public enum Operacion {
+        COPIA(null),
+        SUMA("+"),
+        RESTA("-"),
+        MULTIPLICACION("*"),
+        DIVISION("/"),
+        POTENCIA("^"),
+        MODULO("%"),
+        MAYOR(">"),
+        MENOR("<"),
+        MAYOR_IGUAL(">="),
+        MENOR_IGUAL("<="),
+        IGUAL("=="),
+        DISTINTO("!="),
+        Y("&&"),
+        O("||"),
+        NEGATIVO("-"),
+        NEGACION("!"),
+        ENTERO_A_FLOTANTE("itof"),
+        CARGA_ARREGLO("aload"),
+        GUARDA_ARREGLO("astore"),
+        RELLENO_CEROS("arr_pad_zero"),
+        PARAMETRO("param"),
+        LLAMADA("call"),
+        RETORNO("return"),
+        IMPRIMIR("print"),
+        LEER("read"),
+        SALTO("goto"),
+        SALTO_SI("if"),
+        ETIQUETA(null),
+        DECLARAR("declare"),
+        DECLARAR_GLOBAL("declare_global"),
+        DECLARAR_ARREGLO("declare_arr"),
+        DECLARAR_ARREGLO_GLOBAL("declare_global_arr"),
+        INICIO_FUNCION("FUNC_BEGIN"),
+        FIN_FUNCION("FUNC_END"),
+        INICIO_PRINCIPAL("MAIN_BEGIN"),
+        FIN_PRINCIPAL("MAIN_END"),
+        PARAMETROS_FUNCION("Parametros_funcion_"),
+        DIRECTIVA("#!"),
+        COMENTARIO("//"),
+        // Linea de un archivo que desdeTexto() no reconoce; se conserva tal cual
+        DESCONOCIDA(null);
+
+        private final String simbolo;
+
+        Operacion(String simbolo) {
+            this.simbolo = simbolo;
+        }
+
+        public String simbolo() {
+            return simbolo;
+        }
+
+        /**
+         * Proposito: saber si la operacion es aritmetica, relacional o logica de dos argumentos.
+         * Entradas: ninguna.
+         * Salidas: true para SUMA..O.
+         * Restricciones: ninguna.
+         */
+        public boolean esBinaria() {
+            return ordinal() >= SUMA.ordinal() && ordinal() <= O.ordinal();
+        }
+
+        public boolean esRelacional() {
+            return ordinal() >= MAYOR.ordinal() && ordinal() <= DISTINTO.ordinal();
+        }
+
+        /**
+         * Proposito: obtener la operacion binaria que corresponde al operador de la gramatica.
+         * Entradas: simbolo tal como lo usa el Parser ("+", "<=", "&&", ...).
+         * Salidas: la operacion binaria con ese simbolo.
+         * Restricciones: lanza IllegalArgumentException si el simbolo no es de una operacion binaria.
+         */
+        public static Operacion binaria(String simbolo) {
+            for (Operacion operacion : values()) {
+                if (operacion.esBinaria() && operacion.simbolo.equals(simbolo)) {
+                    return operacion;
+                }
+            }
+            throw new IllegalArgumentException("Operador binario desconocido: " + simbolo);
+        }
+    }
+
+    /**
+     * Argumento o resultado de un cuadruplo. El texto es el que aparece en
+     * Codigo3D.txt; el tipo (INT, FLOAT, BOOL, CHAR, STRING) puede ser null
+     * cuando el operando viene de un archivo y no se conoce. Los literales INT
+     * y FLOAT llevan ademas su LiteralNumerico, para que las fases posteriores
+     * usen el valor ya convertido en lugar de volver a leer el texto.
+     */
+    public static final class Operando {
+
+        public enum Clase {
+            TEMPORAL, VARIABLE, LITERAL, ETIQUETA
+        }
+
+        private final Clase clase;
+        private final String texto;
+        private final String tipo;
+        private final LiteralNumerico valor;
+
+        private Operando(Clase clase, String texto, String tipo, LiteralNumerico valor) {
+            this.clase = clase;
+            this.texto = texto;
+            this.tipo = tipo;
+            this.valor = valor;
+        }
+
+        public static Operando temporal(String nombre, String tipo) {
+            return new Operando(Clase.TEMPORAL, nombre, tipo, null);
+        }
+
+        public static Operando variable(String nombre, String tipo) {
+            return new Operando(Clase.VARIABLE, nombre, tipo, null);
+        }
+
+        public static Operando literal(String valor, String tipo) {
+            return new Operando(Clase.LITERAL, valor, tipo, null);
+        }
+
+        public static Operando literal(LiteralNumerico valor) {
+            return new Operando(Clase.LITERAL, valor.toString(), valor.esFlotante() ? "FLOAT" : "INT", valor);
+        }
+
+        public static Operando etiqueta(String nombre) {
+            return new Operando(Clase.ETIQUETA, nombre, null, null);
+        }
+
+        public Clase clase() {
+            return clase;
+        }
+
+        public String texto() {
+            return texto;
+        }
+
+        public String tipo() {
+            return tipo;
+        }
+
+        /**
+         * Proposito: obtener el valor de un literal numerico.
+         * Entradas: ninguna.
+         * Salidas: el LiteralNumerico del literal INT o FLOAT; null para los demas operandos.
+         * Restricciones: ninguna.
+         */
+        public LiteralNumerico valorNumerico() {
+            return valor;
+        }
+
+        public boolean esTemporal() {
+            return clase == Clase.TEMPORAL;
+        }
+
+        public boolean esLiteral() {
+            return clase == Clase.LITERAL;
+        }
+
+        @Override
+        public boolean equals(Object otro) {
+            if (this == otro) {
+                return true;
+            }
+            if (!(otro instanceof Operando)) {
+                return false;
+            }
+            Operando operando = (Operando) otro;
+            return clase == operando.clase && String.valueOf(texto).equals(String.valueOf(operando.texto));
+        }
+
+        @Override
+        public int hashCode() {
+            return String.valueOf(texto).hashCode() * 31 + clase.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return texto;
+        }
+    }
+
+    private final Operacion operacion;
+    private final Operando resultado;
+    private final Operando arg1;
+    private final Operando arg2;
+    // Solo en SALTO_SI con comparacion ("if a > b goto L"); null en "if c goto L"
+    private final Operacion relacion;
+    private final String tipo;
+    // Texto libre de directivas, comentarios, descriptores de parametros y lineas desconocidas
+    private final String nota;
+
+    private Cuadruplo(Operacion operacion, Operando resultado, Operando arg1, Operando arg2,
+                      Operacion relacion, String tipo, String nota) {
+        this.operacion = operacion;
+        this.resultado = resultado;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.relacion = relacion;
+        this.tipo = tipo;
+        this.nota = nota;
+    }
+
+    private static Cuadruplo de(Operacion operacion, Operando resultado, Operando arg1, Operando arg2) {
+        return new Cuadruplo(operacion, resultado, arg1, arg2, null,
+                resultado != null ? resultado.tipo : null, null);
+    }
+
+    public static Cuadruplo copia(Operando destino, Operando valor) {
+        return de(Operacion.COPIA, destino, valor, null);
+    }
+
+    /**
+     * Proposito: crear una operacion binaria "destino = izquierda op derecha".
+     * Entradas: operacion (esBinaria), destino y operandos.
+     * Salidas: cuadruplo con el tipo del destino como tipo del resultado.
+     * Restricciones: lanza IllegalArgumentException si la operacion no es binaria.
+     */
+    public static Cuadruplo binaria(Operacion operacion, Operando destino, Operando izquierda, Operando derecha) {
+        if (!operacion.esBinaria()) {
+            throw new IllegalArgumentException("No es una operacion binaria: " + operacion);
+        }
+        return de(operacion, destino, izquierda, derecha);
+    }
+
+    public static Cuadruplo negativo(Operando destino, Operando valor) {
+        return de(Operacion.NEGATIVO, destino, valor, null);
+    }
+
+    public static Cuadruplo negacion(Operando destino, Operando valor) {
+        return de(Operacion.NEGACION, destino, valor, null);
+    }
+
+    public static Cuadruplo enteroAFlotante(Operando destino, Operando valor) {
+        return de(Operacion.ENTERO_A_FLOTANTE, destino, valor, null);
+    }
+
+    public static Cuadruplo cargaArreglo(Operando destino, Operando arreglo, Operando indice) {
+        return de(Operacion.CARGA_ARREGLO, destino, arreglo, indice);
+    }
+
+    public static Cuadruplo guardaArreglo(Operando arreglo, Operando indice, Operando valor) {
+        return de(Operacion.GUARDA_ARREGLO, arreglo, indice, valor);
+    }
+
+    public static Cuadruplo rellenoCeros(Operando arreglo, Operando desde, Operando hasta) {
+        return de(Operacion.RELLENO_CEROS, arreglo, desde, hasta);
+    }
+
+    public static Cuadruplo parametro(Operando valor) {
+        return de(Operacion.PARAMETRO, null, valor, null);
+    }
+
+    public static Cuadruplo llamada(Operando destino, String funcion, int argumentos) {
+        return de(Operacion.LLAMADA, destino, Operando.etiqueta(funcion),
+                Operando.literal(LiteralNumerico.entero(argumentos)));
+    }
+
+    /**
+     * Proposito: crear un return con o sin valor.
+     * Entradas: valor retornado o null para "return" solo.
+     * Salidas: cuadruplo RETORNO.
+     * Restricciones: ninguna.
+     */
+    public static Cuadruplo retorno(Operando valor) {
+        return de(Operacion.RETORNO, null, valor, null);
+    }
+
+    public static Cuadruplo imprimir(Operando valor) {
+        return de(Operacion.IMPRIMIR, null, valor, null);
+    }
+
+    public static Cuadruplo leer(Operando destino) {
+        return de(Operacion.LEER, destino, null, null);
+    }
+
+    public static Cuadruplo salto(String etiqueta) {
+        return de(Operacion.SALTO, Operando.etiqueta(etiqueta), null, null);
+    }
+
+    public static Cuadruplo saltoSi(Operando condicion, String etiqueta) {
+        return de(Operacion.SALTO_SI, Operando.etiqueta(etiqueta), condicion, null);
+    }
+
+    /**
+     * Proposito: crear un salto condicional que compara dos operandos ("if a > b goto L").
+     * Entradas: operacion relacional, operandos y etiqueta destino.
+     * Salidas: cuadruplo SALTO_SI con la relacion guardada aparte.
+     * Restricciones: lanza IllegalArgumentException si la operacion no es relacional.
+     */
+    public static Cuadruplo saltoSi(Operacion relacion, Operando izquierda, Operando derecha, String etiqueta) {
+        if (!relacion.esRelacional()) {
+            throw new IllegalArgumentException("No es una operacion relacional: " + relacion);
+        }
+        return new Cuadruplo(Operacion.SALTO_SI, Operando.etiqueta(etiqueta), izquierda, derecha, relacion, null, null);
+    }
+
+    public static Cuadruplo etiqueta(String etiqueta) {
+        return de(Operacion.ETIQUETA, Operando.etiqueta(etiqueta), null, null);
+    }
+
+    public static Cuadruplo declarar(String nombre, String tipo, boolean global) {
+        return new Cuadruplo(global ? Operacion.DECLARAR_GLOBAL : Operacion.DECLARAR,
+                Operando.variable(nombre, tipo), null, null, null, tipo, null);
+    }
+
+    public static Cuadruplo declararArreglo(String nombre, int longitud, String tipoElemento, boolean global) {
+        return new Cuadruplo(global ? Operacion.DECLARAR_ARREGLO_GLOBAL : Operacion.DECLARAR_ARREGLO,
+                Operando.variable(nombre, tipoElemento), Operando.literal(LiteralNumerico.entero(longitud)), null,
+                null, tipoElemento, null);
+    }
+
+    public static Cuadruplo inicioFuncion(String nombre, String tipoRetorno) {
+        return new Cuadruplo(Operacion.INICIO_FUNCION, Operando.etiqueta(nombre), null, null, null, tipoRetorno, null);
+    }
+
+    public static Cuadruplo finFuncion(String nombre) {
+        return de(Operacion.FIN_FUNCION, Operando.etiqueta(nombre), null, null);
+    }
+
+    public static Cuadruplo inicioPrincipal() {
+        return de(Operacion.INICIO_PRINCIPAL, null, null, null);
+    }
+
+    public static Cuadruplo finPrincipal() {
+        return de(Operacion.FIN_PRINCIPAL, null, null, null);
+    }
+
+    /**
+     * Proposito: registrar los parametros formales de una funcion como metadato del codigo intermedio.
+     * Entradas: nombre de la funcion y descriptores "TIPO_nombre" en orden.
+     * Salidas: cuadruplo PARAMETROS_FUNCION.
+     * Restricciones: los descriptores no deben contener comas.
+     */
+    public static Cuadruplo parametrosFuncion(String funcion, List<String> descriptores) {
+        return new Cuadruplo(Operacion.PARAMETROS_FUNCION, Operando.etiqueta(funcion), null, null, null, null,
+                String.join(", ", descriptores));
+    }
+
+    /**
+     * Proposito: completar un salto emitido sin destino (backpatching de las listas de saltos de una condicion).
+     * Entradas: etiqueta destino.
+     * Salidas: copia del SALTO o SALTO_SI con la etiqueta como destino.
+     * Restricciones: lanza IllegalStateException si el cuadruplo no es un salto.
+     */
+    public Cuadruplo conDestino(String etiqueta) {
+        if (operacion != Operacion.SALTO && operacion != Operacion.SALTO_SI) {
+            throw new IllegalStateException("No es un salto: " + this);
+        }
+        return new Cuadruplo(operacion, Operando.etiqueta(etiqueta), arg1, arg2, relacion, tipo, nota);
+    }
+
+    public static Cuadruplo directiva(String texto) {
+        return new Cuadruplo(Operacion.DIRECTIVA, null, null, null, null, null, texto);
+    }
+
+    public static Cuadruplo comentario(String texto) {
+        return new Cuadruplo(Operacion.COMENTARIO, null, null, null, null, null, texto);
+    }
+
+    public Operacion operacion() {
+        return operacion;
+    }
+
+    public Operando resultado() {
+        return resultado;
+    }
+
+    public Operando arg1() {
+        return arg1;
+    }
+
+    public Operando arg2() {
+        return arg2;
+    }
+
+    public Operacion relacion() {
+        return relacion;
+    }
+
+    public String tipo() {
+        return tipo;
+    }
+
+    public String nota() {
+        return nota;
+    }
+
+    /**
+     * Proposito: imprimir el cuadruplo con el formato de linea de Codigo3D.txt.
+     * Entradas: ninguna.
+     * Salidas: la linea sin salto final (por ejemplo "t3 = t2 + numero" o "if t8 goto case_hit_3").
+     * Restricciones: desdeTexto(toString()) reconstruye un cuadruplo equivalente salvo los tipos de los operandos.
+     */
+    @Override
+    public String toString() {
+        switch (operacion) {
+            case COPIA:
+                return resultado + " = " + arg1;
+            case NEGATIVO:
+                return resultado + " = -" + arg1;
+            case NEGACION:
+                return resultado + " = ! " + arg1;
+            case ENTERO_A_FLOTANTE:
+                return resultado + " = itof " + arg1;
+            case LLAMADA:
+                return resultado + " = call " + arg1 + ", " + arg2;
+            case CARGA_ARREGLO:
+            case GUARDA_ARREGLO:
+            case RELLENO_CEROS:
+                return operacion.simbolo + " " + resultado + ", " + arg1 + ", " + arg2;
+            case PARAMETRO:
+            case IMPRIMIR:
+                return operacion.simbolo + " " + arg1;
+            case RETORNO:
+                return arg1 != null ? "return " + arg1 : "return";
+            case LEER:
+            case SALTO:
+            case FIN_FUNCION:
+                return operacion.simbolo + " " + resultado;
+            case SALTO_SI:
+                if (relacion != null) {
+                    return "if " + arg1 + " " + relacion.simbolo + " " + arg2 + " goto " + resultado;
+                }
+                return "if " + arg1 + " goto " + resultado;
+            case ETIQUETA:
+                return resultado + ":";
+            case DECLARAR:
+            case DECLARAR_GLOBAL:
+                return operacion.simbolo + " " + resultado + ":" + tipo;
+            case DECLARAR_ARREGLO:
+            case DECLARAR_ARREGLO_GLOBAL:
+                return operacion.simbolo + " " + resultado + "[" + arg1 + "] " + tipo;
+            case INICIO_FUNCION:
+                return "FUNC_BEGIN " + resultado + " RET " + tipo;
+            case INICIO_PRINCIPAL:
+            case FIN_PRINCIPAL:
+                return operacion.simbolo;
+            case PARAMETROS_FUNCION:
+                return operacion.simbolo + resultado + ": [" + nota + "]";
+            case COMENTARIO:
+                return "// " + nota;
+            case DIRECTIVA:
+            case DESCONOCIDA:
+                return nota;
+            default:
+                return resultado + " = " + arg1 + " " + operacion.simbolo + " " + arg2;
+        }
+    }
+
+    /**
+     * Proposito: imprimir un listado completo con el formato de Codigo3D.txt.
+     * Entradas: cuadruplos en orden.
+     * Salidas: una linea por cuadruplo separadas por '\n', sin salto al final.
+     * Restricciones: ninguna.
+     */
+    public static String imprimir(List<Cuadruplo> codigo) {
+        StringBuilder texto = new StringBuilder();
+        for (Cuadruplo cuadruplo : codigo) {
+            if (texto.length() > 0) {
+                texto.append('\n');
+            }
+            texto.append(cuadruplo);
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Proposito: reconstruir los cuadruplos de un listado en texto (por ejemplo Codigo3D.txt).
+     * Entradas: lineas del listado.
+     * Salidas: un cuadruplo por linea no vacia.
+     * Restricciones: los operandos leidos no traen tipo, salvo los literales numericos y booleanos.
+     */
+    public static List<Cuadruplo> desdeTexto(List<String> lineas) {
+        List<Cuadruplo> codigo = new ArrayList<>(lineas.size());
+        for (String linea : lineas) {
+            Cuadruplo cuadruplo = linea != null ? desdeTexto(linea) : null;
+            if (cuadruplo != null) {
+                codigo.add(cuadruplo);
+            }
+        }
+        return codigo;
+    }
+
+    /**
+     * Proposito: reconstruir un cuadruplo desde una linea con el formato de toString().
+     * Entradas: linea del listado.
+     * Salidas: cuadruplo equivalente, DESCONOCIDA si la linea no tiene una forma conocida, o null si esta vacia.
+     * Restricciones: un literal de cadena con espacios que parece una operacion ("a + b") se lee como operacion.
+     */
+    public static Cuadruplo desdeTexto(String linea) {
+        String texto = linea.trim();
+        if (texto.isEmpty()) {
+            return null;
+        }
+        if (texto.startsWith("#!")) {
+            return directiva(texto);
+        }
+        if (texto.startsWith("//")) {
+            return comentario(texto.substring(2).trim());
+        }
+        if (texto.endsWith(":")) {
+            return etiqueta(texto.substring(0, texto.length() - 1));
+        }
+        if (texto.equals("MAIN_BEGIN")) {
+            return inicioPrincipal();
+        }
+        if (texto.equals("MAIN_END")) {
+            return finPrincipal();
+        }
+        if (texto.equals("return")) {
+            return retorno(null);
+        }
+        String[] partes = texto.split(" ");
+        switch (partes[0]) {
+            case "FUNC_BEGIN":
+                if (partes.length == 4 && partes[2].equals("RET")) {
+                    return inicioFuncion(partes[1], partes[3]);
+                }
+                break;
+            case "FUNC_END":
+                if (partes.length == 2) {
+                    return finFuncion(partes[1]);
+                }
+                break;
+            case "goto":
+                if (partes.length == 2) {
+                    return salto(partes[1]);
+                }
+                break;
+            case "if":
+                if (partes.length == 4 && partes[2].equals("goto")) {
+                    return saltoSi(operando(partes[1]), partes[3]);
+                }
+                if (partes.length == 6 && partes[4].equals("goto")) {
+                    Operacion relacion = relacional(partes[2]);
+                    if (relacion != null) {
+                        return saltoSi(relacion, operando(partes[1]), operando(partes[3]), partes[5]);
+                    }
+                }
+                break;
+            case "print":
+                return imprimir(operando(resto(texto, "print")));
+            case "read":
+                return leer(operando(resto(texto, "read")));
+            case "param":
+                return parametro(operando(resto(texto, "param")));
+            case "return":
+                return retorno(operando(resto(texto, "return")));
+            case "aload":
+            case "astore":
+            case "arr_pad_zero": {
+                String[] args = resto(texto, partes[0]).split(",", 3);
+                if (args.length == 3) {
+                    Operacion operacion = partes[0].equals("aload") ? Operacion.CARGA_ARREGLO
+                            : partes[0].equals("astore") ? Operacion.GUARDA_ARREGLO : Operacion.RELLENO_CEROS;
+                    return de(operacion, operando(args[0].trim()), operando(args[1].trim()), operando(args[2].trim()));
+                }
+                break;
+            }
+            case "declare":
+            case "declare_global": {
+                String declarado = resto(texto, partes[0]);
+                int dosPuntos = declarado.indexOf(':');
+                if (dosPuntos > 0) {
+                    return declarar(declarado.substring(0, dosPuntos), declarado.substring(dosPuntos + 1),
+                            partes[0].equals("declare_global"));
+                }
+                break;
+            }
+            case "declare_arr":
+            case "declare_global_arr":
+                if (partes.length == 3 && partes[1].endsWith("]") && partes[1].indexOf('[') > 0) {
+                    int corchete = partes[1].indexOf('[');
+                    try {
+                        int longitud = Integer.parseInt(partes[1].substring(corchete + 1, partes[1].length() - 1));
+                        return declararArreglo(partes[1].substring(0, corchete), longitud, partes[2],
+                                partes[0].equals("declare_global_arr"));
+                    } catch (NumberFormatException e) {
+                        break;
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        if (texto.startsWith(Operacion.PARAMETROS_FUNCION.simbolo) && texto.endsWith("]")) {
+            int separador = texto.indexOf(": [");
+            if (separador > 0) {
+                String funcion = texto.substring(Operacion.PARAMETROS_FUNCION.simbolo.length(), separador);
+                return new Cuadruplo(Operacion.PARAMETROS_FUNCION, Operando.etiqueta(funcion), null, null, null, null,
+                        texto.substring(separador + 3, texto.length() - 1));
+            }
+        }
+        int igual = texto.indexOf('=');
+        if (igual > 0) {
+            return leerAsignacion(operando(texto.substring(0, igual).trim()), texto.substring(igual + 1).trim());
+        }
+        return new Cuadruplo(Operacion.DESCONOCIDA, null, null, null, null, null, texto);
+    }
+
+    private static Cuadruplo leerAsignacion(Operando destino, String derecha) {
+        if (derecha.startsWith("call ")) {
+            String[] args = derecha.substring(5).split(",", 2);
+            if (args.length == 2) {
+                return de(Operacion.LLAMADA, destino, Operando.etiqueta(args[0].trim()), operando(args[1].trim()));
+            }
+        }
+        if (derecha.startsWith("itof ")) {
+            return enteroAFlotante(destino, operando(derecha.substring(5).trim()));
+        }
+        if (derecha.startsWith("! ")) {
+            return negacion(destino, operando(derecha.substring(2).trim()));
+        }
+        String[] partes = derecha.split(" ");
+        if (partes.length == 3) {
+            for (Operacion operacion : Operacion.values()) {
+                if (operacion.esBinaria() && operacion.simbolo.equals(partes[1])) {
+                    return binaria(operacion, destino, operando(partes[0]), operando(partes[2]));
+                }
+            }
+        }
+        if (partes.length == 1 && derecha.length() > 1 && derecha.charAt(0) == '-') {
+            return negativo(destino, operando(derecha.substring(1)));
+        }
+        return copia(destino, operando(derecha));
+    }
+
+    private static String resto(String texto, String prefijo) {
+        return texto.substring(prefijo.length()).trim();
+    }
+
+    private static Operacion relacional(String simbolo) {
+        for (Operacion operacion : Operacion.values()) {
+            if (operacion.esRelacional() && operacion.simbolo.equals(simbolo)) {
+                return operacion;
+            }
+        }
+        return null;
+    }
+
+    // Clasifica un operando leido de texto: t<n>/f<n> son temporales del Parser, los numeros y booleanos literales
+    private static Operando operando(String texto) {
+        if (texto.equals("true") || texto.equals("false")) {
+            return Operando.literal(texto, "BOOL");
+        }
+        if (texto.length() > 1 && (texto.charAt(0) == 't' || texto.charAt(0) == 'f') && soloDigitos(texto, 1)) {
+            return Operando.temporal(texto, texto.charAt(0) == 'f' ? "FLOAT" : null);
+        }
+        // Los literales plegados en compilacion pueden ser negativos
+        int signo = texto.length() > 1 && texto.charAt(0) == '-' ? 1 : 0;
+        if (texto.length() > signo && soloDigitos(texto, signo)) {
+            return Operando.literal(LiteralNumerico.entero(texto));
+        }
+        int punto = texto.indexOf('.');
+        if (punto > signo && soloDigitos(texto.substring(0, punto), signo) && soloDigitos(texto, punto + 1)) {
+            return Operando.literal(LiteralNumerico.flotante(texto));
+        }
+        if (texto.indexOf(' ') >= 0) {
+            return Operando.literal(texto, "STRING");
+        }
+        return Operando.variable(texto, null);
+    }
+
+    private static boolean soloDigitos(String texto, int desde) {
+        for (int i = desde; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return desde < texto.length();
+    }
+}
@@ -0,0 +1,163 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Escritura de artefactos en segundo plano: las fases entregan el contenido
+ * ya terminado y un hilo dedicado de E/S lo escribe en disco mientras la
+ * compilacion sigue con la fase siguiente. Cada compilacion usa su propia
+ * instancia para llevar la cuenta de sus escrituras y, al final, esperar() las
+ * confirma y reporta los errores antes de que el driver termine. Los mensajes
+ * de "archivo escrito" tambien los imprime esperar(), solo para las escrituras
+ * que terminaron bien. Con estadisticas, cada escritura se mide en el hilo de
+ * E/S y esperar() la suma a la fase que estaba en curso cuando se encolo.
+ */
+public final class EscritorArtefactos {
+
+    /**
+     * Escritura diferida que produce un artefacto completo.
+     */
+    @FunctionalInterface
+    public interface Tarea {
+        void ejecutar() throws IOException;
+    }
+
+    // Un solo hilo de E/S para todo el proceso: las escrituras a un mismo archivo conservan su orden
+    private static final ExecutorService HILO_ES = Executors.newSingleThreadExecutor(r -> {
+        Thread hilo = new Thread(r, "escritor-artefactos");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+
+    private final List<Future<long[][]>> pendientes = new ArrayList<>();
+    private final List<Path> destinos = new ArrayList<>();
+    private final List<String> confirmaciones = new ArrayList<>();
+    private final List<String> fases = new ArrayList<>();
+    private final EstadisticasFases estadisticas;
+
+    /**
+     * Proposito: crear un escritor sin medicion.
+     * Entradas: ninguna.
+     * Salidas: escritor vacio.
+     * Restricciones: ninguna.
+     */
+    public EscritorArtefactos() {
+        this(null);
+    }
+
+    /**
+     * Proposito: crear un escritor que suma el costo de cada escritura a la fase que la encolo.
+     * Entradas: estadisticas de la compilacion (null no mide).
+     * Salidas: escritor vacio.
+     * Restricciones: con estadisticas, las escrituras deben encolarse desde el hilo que compila.
+     */
+    public EscritorArtefactos(EstadisticasFases estadisticas) {
+        this.estadisticas = estadisticas;
+    }
+
+    /**
+     * Proposito: encolar la escritura de un texto completo.
+     * Entradas: archivo destino, contenido y charset (Charset.defaultCharset() reproduce lo que hacia FileWriter).
+     * Salidas: ninguna inmediata; el archivo queda escrito cuando esperar() retorna.
+     * Restricciones: crea la carpeta padre si falta y sobrescribe el archivo.
+     */
+    public void escribir(Path destino, String contenido, Charset charset) {
+        escribir(destino, contenido, charset, null);
+    }
+
+    /**
+     * Proposito: encolar la escritura de un texto completo con un mensaje para cuando quede en disco.
+     * Entradas: archivo destino, contenido, charset y mensaje de confirmacion (null no imprime nada).
+     * Salidas: ninguna inmediata; esperar() imprime el mensaje en stdout si la escritura termino bien.
+     * Restricciones: las mismas que escribir(Path, String, Charset).
+     */
+    public void escribir(Path destino, String contenido, Charset charset, String confirmacion) {
+        ejecutar(destino, confirmacion, () -> {
+            if (destino.getParent() != null) {
+                Files.createDirectories(destino.getParent());
+            }
+            // OutputStreamWriter reemplaza los caracteres no representables, igual que FileWriter
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(destino), charset))) {
+                writer.write(contenido);
+            }
+        });
+    }
+
+    /**
+     * Proposito: encolar una escritura que genera el archivo por partes (por ejemplo el volcado de tokens).
+     * Entradas: archivo destino (para los mensajes de error) y la tarea que lo escribe.
+     * Salidas: ninguna inmediata; la tarea corre en el hilo de E/S.
+     * Restricciones: la tarea no debe imprimir en consola, porque el hilo de E/S no pertenece a la compilacion.
+     */
+    public void ejecutar(Path destino, Tarea tarea) {
+        ejecutar(destino, null, tarea);
+    }
+
+    /**
+     * Proposito: encolar una escritura por partes con un mensaje para cuando quede en disco.
+     * Entradas: archivo destino, mensaje de confirmacion (null no imprime nada) y la tarea que lo escribe.
+     * Salidas: ninguna inmediata; esperar() imprime el mensaje en stdout si la tarea termino bien.
+     * Restricciones: las mismas que ejecutar(Path, Tarea).
+     */
+    public synchronized void ejecutar(Path destino, String confirmacion, Tarea tarea) {
+        EstadisticasFases medicion = estadisticas;
+        destinos.add(destino);
+        confirmaciones.add(confirmacion);
+        fases.add(medicion != null ? medicion.faseActual() : null);
+        pendientes.add(HILO_ES.submit(() -> {
+            if (medicion == null) {
+                tarea.ejecutar();
+                return null;
+            }
+            long[] antes = medicion.lecturaHilo();
+            tarea.ejecutar();
+            return new long[][] {antes, medicion.lecturaHilo()};
+        }));
+    }
+
+    /**
+     * Proposito: esperar a que terminen todas las escrituras encoladas por esta instancia.
+     * Entradas: ninguna.
+     * Salidas: cada fallo se informa en stderr y cada confirmacion de una escritura exitosa en stdout, ambos
+     *          desde el hilo que espera y en el orden en que se encolaron; con estadisticas, el costo de cada
+     *          escritura exitosa se suma a su fase.
+     * Restricciones: lanza IOException si alguna escritura fallo, despues de informar todas.
+     */
+    public synchronized void esperar() throws IOException {
+        int fallidas = 0;
+        for (int i = 0; i < pendientes.size(); i++) {
+            try {
+                long[][] medida = pendientes.get(i).get();
+                if (medida != null && fases.get(i) != null) {
+                    estadisticas.sumarEscritura(fases.get(i), medida[0], medida[1]);
+                }
+                if (confirmaciones.get(i) != null) {
+                    System.out.println(confirmaciones.get(i));
+                }
+            } catch (ExecutionException e) {
+                fallidas++;
+                System.err.println("No se pudo escribir " + destinos.get(i) + ": " + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrumpido esperando la escritura de artefactos", e);
+            }
+        }
+        pendientes.clear();
+        destinos.clear();
+        confirmaciones.clear();
+        fases.clear();
+        if (fallidas > 0) {
+            throw new IOException(fallidas + " artefacto(s) no se pudieron escribir");
+        }
+    }
+}
@@ -0,0 +1,284 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Medicion por fase del pipeline (--stats): tiempo de reloj, tiempo de CPU y
+ * bytes asignados por el hilo que compila, mas conteos propios de cada fase
+ * (tokens, temporales, etiquetas, instrucciones). Las fases pueden anidarse:
+ * mientras corre una fase interna (por ejemplo la exportacion de la tabla de
+ * simbolos dentro de parse()) la fase externa deja de acumular, de modo que
+ * cada fila del reporte es tiempo exclusivo.
+ *
+ * Las escrituras que una fase deja a EscritorArtefactos corren en el hilo de
+ * E/S; su reloj, CPU y bytes se suman a la fase que las encolo (conteo
+ * escrituras), no a espera_escritura, que solo mide el tiempo que el hilo que
+ * compila queda bloqueado esperandolas. Como esas escrituras se solapan con
+ * las fases siguientes, el total de reloj puede superar el tiempo transcurrido.
+ */
+public final class EstadisticasFases {
+
+    private static final ThreadMXBean HILOS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Totales acumulados de una fase.
+     */
+    static final class Fase {
+        final String nombre;
+        long relojNs;
+        long cpuNs;
+        long bytesAsignados;
+        int veces;
+        final Map<String, Long> conteos = new LinkedHashMap<>();
+
+        Fase(String nombre) {
+            this.nombre = nombre;
+        }
+    }
+
+    /**
+     * Fase en curso con la lectura de los contadores al momento de (re)anudarse.
+     */
+    private static final class Marca {
+        final Fase fase;
+        long reloj;
+        long cpu;
+        long bytes;
+
+        Marca(Fase fase) {
+            this.fase = fase;
+        }
+    }
+
+    private final Map<String, Fase> fases = new LinkedHashMap<>();
+    private final Deque<Marca> enCurso = new ArrayDeque<>();
+    private final boolean midaCpu;
+    private final boolean midaBytes;
+
+    /**
+     * Proposito: preparar la medicion sobre el hilo actual.
+     * Entradas: ninguna.
+     * Salidas: instancia vacia; activa la medicion de CPU y de asignaciones si la JVM la soporta.
+     * Restricciones: todas las llamadas deben hacerse desde el mismo hilo que compila.
+     */
+    public EstadisticasFases() {
+        boolean cpu = false;
+        try {
+            if (HILOS.isCurrentThreadCpuTimeSupported()) {
+                HILOS.setThreadCpuTimeEnabled(true);
+                cpu = true;
+            }
+        } catch (UnsupportedOperationException e) {
+            cpu = false;
+        }
+        this.midaCpu = cpu;
+        this.midaBytes = habilitarAsignaciones();
+    }
+
+    /**
+     * Proposito: comenzar (o reanudar) la medicion de una fase.
+     * Entradas: nombre de la fase; si ya existe, sus totales se acumulan.
+     * Salidas: la fase que estaba en curso queda en pausa hasta terminar().
+     * Restricciones: cada iniciar debe cerrarse con terminar en orden inverso.
+     */
+    public void iniciar(String nombre) {
+        long reloj = System.nanoTime();
+        long cpu = cpuActual();
+        long bytes = bytesActuales();
+        Marca exterior = enCurso.peek();
+        if (exterior != null) {
+            acumular(exterior, reloj, cpu, bytes);
+        }
+        Marca marca = new Marca(fases.computeIfAbsent(nombre, Fase::new));
+        marca.fase.veces++;
+        anotar(marca, reloj, cpu, bytes);
+        enCurso.push(marca);
+    }
+
+    /**
+     * Proposito: cerrar la fase mas reciente y reanudar la exterior.
+     * Entradas: ninguna.
+     * Salidas: tiempos y bytes sumados a la fase cerrada.
+     * Restricciones: sin efecto si no hay fases en curso.
+     */
+    public void terminar() {
+        long reloj = System.nanoTime();
+        long cpu = cpuActual();
+        long bytes = bytesActuales();
+        Marca marca = enCurso.poll();
+        if (marca == null) {
+            return;
+        }
+        acumular(marca, reloj, cpu, bytes);
+        Marca exterior = enCurso.peek();
+        if (exterior != null) {
+            anotar(exterior, reloj, cpu, bytes);
+        }
+    }
+
+    /**
+     * Proposito: registrar un conteo asociado a una fase (tokens, temporales, instrucciones, ...).
+     * Entradas: nombre de la fase, nombre del conteo y valor.
+     * Salidas: el valor se suma al conteo existente.
+     * Restricciones: crea la fase si todavia no se ha medido.
+     */
+    public void contar(String fase, String conteo, long valor) {
+        fases.computeIfAbsent(fase, Fase::new).conteos.merge(conteo, valor, Long::sum);
+    }
+
+    /**
+     * Proposito: obtener el nombre de la fase que esta acumulando en este momento.
+     * Entradas: ninguna.
+     * Salidas: nombre de la fase mas interna en curso, o null si no hay ninguna.
+     * Restricciones: llamar desde el hilo que compila.
+     */
+    public String faseActual() {
+        Marca marca = enCurso.peek();
+        return marca == null ? null : marca.fase.nombre;
+    }
+
+    /**
+     * Proposito: leer los contadores del hilo actual para medir trabajo hecho fuera del hilo que compila.
+     * Entradas: ninguna.
+     * Salidas: arreglo {reloj ns, CPU ns, bytes asignados} del hilo que llama; 0 en lo que no se mide.
+     * Restricciones: puede llamarse desde cualquier hilo; no modifica las fases.
+     */
+    long[] lecturaHilo() {
+        return new long[] {System.nanoTime(), cpuActual(), bytesActuales()};
+    }
+
+    /**
+     * Proposito: sumar a una fase una escritura medida en el hilo de E/S.
+     * Entradas: nombre de la fase que encolo la escritura y las lecturas de lecturaHilo() antes y despues.
+     * Salidas: reloj, CPU y bytes sumados a la fase y un conteo mas de escrituras.
+     * Restricciones: llamar desde el hilo que compila (EscritorArtefactos.esperar()).
+     */
+    void sumarEscritura(String nombre, long[] antes, long[] despues) {
+        Fase fase = fases.computeIfAbsent(nombre, Fase::new);
+        fase.relojNs += despues[0] - antes[0];
+        fase.cpuNs += despues[1] - antes[1];
+        fase.bytesAsignados += despues[2] - antes[2];
+        fase.conteos.merge("escrituras", 1L, Long::sum);
+    }
+
+    /**
+     * Proposito: generar el reporte legible por personas.
+     * Entradas: ninguna.
+     * Salidas: tabla con una fila por fase, una fila de total y una nota sobre las escrituras en segundo plano.
+     * Restricciones: los valores no soportados por la JVM se muestran como n/d.
+     */
+    public String reporteTexto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\nESTADISTICAS POR FASE\n");
+        sb.append(String.format("%-16s %10s %10s %14s  %s%n", "Fase", "Reloj ms", "CPU ms", "Bytes asig.", "Conteos"));
+        long reloj = 0, cpu = 0, bytes = 0;
+        for (Fase f : fases.values()) {
+            reloj += f.relojNs;
+            cpu += f.cpuNs;
+            bytes += f.bytesAsignados;
+            sb.append(String.format("%-16s %10.3f %10s %14s  %s%n", f.nombre, f.relojNs / 1e6,
+                    midaCpu ? String.format("%.3f", f.cpuNs / 1e6) : "n/d",
+                    midaBytes ? Long.toString(f.bytesAsignados) : "n/d",
+                    conteosTexto(f)));
+        }
+        sb.append(String.format("%-16s %10.3f %10s %14s%n", "total", reloj / 1e6,
+                midaCpu ? String.format("%.3f", cpu / 1e6) : "n/d",
+                midaBytes ? Long.toString(bytes) : "n/d"));
+        sb.append("Las escrituras del hilo de E/S se suman a la fase que las encolo; espera_escritura es solo el\n"
+                + "tiempo bloqueado esperandolas, y el total puede superar el tiempo transcurrido.\n");
+        return sb.toString();
+    }
+
+    /**
+     * Proposito: generar el reporte en JSON para herramientas externas.
+     * Entradas: ninguna.
+     * Salidas: objeto {"fases":[...]} con nanosegundos, bytes y conteos; -1 cuando la medicion no esta soportada.
+     *          Las fases con el conteo escrituras incluyen el costo de esas escrituras en el hilo de E/S.
+     * Restricciones: los nombres de fase y de conteo son identificadores simples, sin escapes.
+     */
+    public String reporteJson() {
+        StringBuilder sb = new StringBuilder("{\"fases\":[");
+        boolean primera = true;
+        for (Fase f : fases.values()) {
+            if (!primera) {
+                sb.append(',');
+            }
+            primera = false;
+            sb.append("{\"nombre\":\"").append(f.nombre).append('"')
+              .append(",\"veces\":").append(f.veces)
+              .append(",\"relojNs\":").append(f.relojNs)
+              .append(",\"cpuNs\":").append(midaCpu ? f.cpuNs : -1)
+              .append(",\"bytesAsignados\":").append(midaBytes ? f.bytesAsignados : -1)
+              .append(",\"conteos\":{");
+            boolean primerConteo = true;
+            for (Map.Entry<String, Long> c : f.conteos.entrySet()) {
+                if (!primerConteo) {
+                    sb.append(',');
+                }
+                primerConteo = false;
+                sb.append('"').append(c.getKey()).append("\":").append(c.getValue());
+            }
+            sb.append("}}");
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static String conteosTexto(Fase f) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> c : f.conteos.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(c.getKey()).append('=').append(c.getValue());
+        }
+        return sb.toString();
+    }
+
+    private static void acumular(Marca marca, long reloj, long cpu, long bytes) {
+        marca.fase.relojNs += reloj - marca.reloj;
+        marca.fase.cpuNs += cpu - marca.cpu;
+        marca.fase.bytesAsignados += bytes - marca.bytes;
+    }
+
+    private static void anotar(Marca marca, long reloj, long cpu, long bytes) {
+        marca.reloj = reloj;
+        marca.cpu = cpu;
+        marca.bytes = bytes;
+    }
+
+    private long cpuActual() {
+        return midaCpu ? HILOS.getCurrentThreadCpuTime() : 0L;
+    }
+
+    /**
+     * Proposito: leer los bytes asignados por el hilo actual mediante la extension com.sun.management.
+     * Entradas: ninguna.
+     * Salidas: total de bytes asignados por el hilo desde que inicio, o 0 si no se mide.
+     * Restricciones: solo disponible en JVM basadas en HotSpot.
+     */
+    private long bytesActuales() {
+        if (!midaBytes) {
+            return 0L;
+        }
+        return ((com.sun.management.ThreadMXBean) HILOS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static boolean habilitarAsignaciones() {
+        if (!(HILOS instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) HILOS;
+        try {
+            if (!hilos.isThreadAllocatedMemorySupported()) {
+                return false;
+            }
+            hilos.setThreadAllocatedMemoryEnabled(true);
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Flujo de tokens grabado: ejecuta el Lexer una sola vez sobre la fuente y
+ * conserva cada token (con su linea, columna y lexema) para que el listado
+ * TOKENS.txt y el Parser consuman la misma secuencia sin volver a escanear.
+ *
+ * Los tokens se guardan empaquetados en dos arreglos de int: uno combina el
+ * tipo, la marca de valor y la columna, y el otro guarda el indice del lexema
+ * en una reserva compartida donde cada valor distinto aparece una sola vez
+ * (el texto, o el LiteralNumerico que emitio el lexer para los numeros).
+ * Las lineas se guardan por tramos (primer token de cada linea), porque
+ * muchos tokens seguidos comparten linea. Un Symbol de CUP solo se crea
+ * cuando el Parser lo pide en next_token(); el volcado de TOKENS.txt y los
+ * conteos leen directamente los arreglos.
+ */
+public class FlujoTokens implements Scanner {
+
+    // Palabra de cada token: bits 0-7 tipo (sym), bit 8 marca de valor, bits 9-31 columna
+    private static final int MASCARA_TIPO = 0xFF;
+    private static final int CON_VALOR = 1 << 8;
+    private static final int DESPLAZAMIENTO_COLUMNA = 9;
+    // Columnas que no caben en 23 bits (o negativas) se guardan aparte
+    private static final int COLUMNA_DESBORDADA = (1 << (32 - DESPLAZAMIENTO_COLUMNA)) - 1;
+    private static final int CAPACIDAD_INICIAL = 1024;
+
+    private int[] palabras = new int[CAPACIDAD_INICIAL];
+    private int[] indicesLexema = new int[CAPACIDAD_INICIAL];
+    private int cantidad;
+
+    // Tramo k: desde el token inicioTramo[k] los tokens estan en la linea lineaTramo[k]
+    private int[] inicioTramo = new int[CAPACIDAD_INICIAL];
+    private int[] lineaTramo = new int[CAPACIDAD_INICIAL];
+    private int cantidadTramos;
+    private Map<Integer, Integer> columnasDesbordadas;
+
+    private Object[] reserva = new Object[CAPACIDAD_INICIAL];
+    private int cantidadLexemas;
+    // Solo hace falta mientras se graba; se descarta al terminar
+    private Map<Object, Integer> indicePorLexema = new HashMap<>();
+
+    private Symbol eof;
+    private int cursor = 0;
+
+    // Los flujos se arman con grabar o unir; LexicoIncremental los arma token por token con agregar y terminar
+    FlujoTokens() {
+    }
+
+    /**
+     * Proposito: escanear completamente la fuente y guardar todos sus tokens.
+     * Entradas: lector posicionado al inicio del programa fuente.
+     * Salidas: flujo listo para volcarse o reproducirse en el Parser.
+     * Restricciones: propaga las excepciones del lexer (caracteres invalidos, comentarios sin cierre); no cierra el lector.
+     */
+    public static FlujoTokens grabar(Reader reader) throws IOException {
+        return grabar(reader, null);
+    }
+
+    /**
+     * Proposito: grabar la fuente con un observador instalado en el lexer.
+     * Entradas: lector de la fuente y listener (null para no observar).
+     * Salidas: flujo listo para volcarse o reproducirse en el Parser.
+     * Restricciones: las mismas que grabar(Reader).
+     */
+    public static FlujoTokens grabar(Reader reader, LexerListener listener) throws IOException {
+        Lexer lex = new Lexer(reader);
+        lex.setListener(listener);
+        return grabar(lex);
+    }
+
+    /**
+     * Proposito: grabar los tokens de un Lexer ya configurado (por ejemplo en modo fragmento).
+     * Entradas: lexer listo para next_token().
+     * Salidas: flujo con los tokens hasta EOF; el lexer queda en su estado final para consultarlo.
+     * Restricciones: propaga las excepciones del lexer.
+     */
+    static FlujoTokens grabar(Lexer lex) throws IOException {
+        FlujoTokens flujo = new FlujoTokens();
+        Symbol token = lex.next_token();
+        while (token.sym != sym.EOF) {
+            boolean conValor = token.value != null;
+            flujo.agregar(token.sym, token.left, token.right, conValor, conValor ? token.value : lex.getYYText());
+            token = lex.next_token();
+        }
+        flujo.terminar(token);
+        return flujo;
+    }
+
+    /**
+     * Proposito: concatenar flujos grabados por partes en uno solo, en orden.
+     * Entradas: partes y, para cada una, cuantas lineas preceden a su primera linea en la fuente completa.
+     * Salidas: flujo unico con las lineas corridas, una reserva de lexemas sin repetidos y el EOF de la ultima parte.
+     * Restricciones: cada parte debe empezar al inicio de una linea para que las columnas sigan siendo validas.
+     */
+    static FlujoTokens unir(List<FlujoTokens> partes, int[] lineasPrevias) {
+        FlujoTokens flujo = new FlujoTokens();
+        for (int p = 0; p < partes.size(); p++) {
+            FlujoTokens parte = partes.get(p);
+            for (int i = 0; i < parte.cantidad; i++) {
+                boolean conValor = (parte.palabras[i] & CON_VALOR) != 0;
+                flujo.agregar(parte.tipo(i), parte.linea(i) + lineasPrevias[p], parte.columna(i), conValor,
+                        parte.reserva[parte.indicesLexema[i]]);
+            }
+        }
+        flujo.terminar(partes.get(partes.size() - 1).eof);
+        return flujo;
+    }
+
+    void agregar(int tipo, int linea, int columna, boolean conValor, Object lexema) {
+        if (tipo < 0 || tipo > MASCARA_TIPO) {
+            throw new IllegalStateException("Tipo de token fuera de rango: " + tipo);
+        }
+        if (cantidad == palabras.length) {
+            palabras = Arrays.copyOf(palabras, cantidad * 2);
+            indicesLexema = Arrays.copyOf(indicesLexema, cantidad * 2);
+        }
+        int columnaGuardada = columna;
+        if (columna < 0 || columna >= COLUMNA_DESBORDADA) {
+            if (columnasDesbordadas == null) {
+                columnasDesbordadas = new HashMap<>();
+            }
+            columnasDesbordadas.put(cantidad, columna);
+            columnaGuardada = COLUMNA_DESBORDADA;
+        }
+        palabras[cantidad] = tipo | (conValor ? CON_VALOR : 0) | (columnaGuardada << DESPLAZAMIENTO_COLUMNA);
+        indicesLexema[cantidad] = indiceLexema(lexema);
+        if (cantidadTramos == 0 || lineaTramo[cantidadTramos - 1] != linea) {
+            if (cantidadTramos == inicioTramo.length) {
+                inicioTramo = Arrays.copyOf(inicioTramo, cantidadTramos * 2);
+                lineaTramo = Arrays.copyOf(lineaTramo, cantidadTramos * 2);
+            }
+            inicioTramo[cantidadTramos] = cantidad;
+            lineaTramo[cantidadTramos] = linea;
+            cantidadTramos++;
+        }
+        cantidad++;
+    }
+
+    // Fija el EOF que se entrega al agotar el flujo y deja de aceptar tokens
+    void terminar(Symbol eof) {
+        this.eof = eof;
+        compactar();
+    }
+
+    // Recorta los arreglos al tamano usado y suelta el indice de la reserva
+    private void compactar() {
+        palabras = Arrays.copyOf(palabras, cantidad);
+        indicesLexema = Arrays.copyOf(indicesLexema, cantidad);
+        inicioTramo = Arrays.copyOf(inicioTramo, cantidadTramos);
+        lineaTramo = Arrays.copyOf(lineaTramo, cantidadTramos);
+        reserva = Arrays.copyOf(reserva, cantidadLexemas);
+        indicePorLexema = null;
+    }
+
+    private int indiceLexema(Object lexema) {
+        Integer indice = indicePorLexema.get(lexema);
+        if (indice != null) {
+            return indice;
+        }
+        if (cantidadLexemas == reserva.length) {
+            reserva = Arrays.copyOf(reserva, cantidadLexemas * 2);
+        }
+        reserva[cantidadLexemas] = lexema;
+        indicePorLexema.put(lexema, cantidadLexemas);
+        return cantidadLexemas++;
+    }
+
+    /**
+     * Proposito: entregar al Parser el siguiente token grabado (gancho scan with de CUP).
+     * Entradas: ninguna; avanza el cursor interno.
+     * Salidas: Symbol nuevo armado desde los arreglos, o el EOF una vez agotado el flujo.
+     * Restricciones: cada llamada crea su propio Symbol, asi el parser puede marcar estados sin alterar la grabacion.
+     */
+    @Override
+    public Symbol next_token() {
+        if (cursor >= cantidad) {
+            cursor = cantidad + 1;
+            return new Symbol(eof.sym, eof.left, eof.right, eof.value);
+        }
+        return simbolo(cursor++);
+    }
+
+    /**
+     * Proposito: regresar el cursor al inicio para volver a parsear el mismo flujo.
+     * Entradas: ninguna.
+     * Salidas: cursor en cero.
+     * Restricciones: no altera los tokens grabados.
+     */
+    public void reiniciar() {
+        cursor = 0;
+    }
+
+    /**
+     * Proposito: exponer el texto del ultimo token entregado, equivalente a yytext() del lexer.
+     * Entradas: ninguna.
+     * Salidas: lexema del token actual o cadena vacia si aun no se ha leido ninguno o ya se alcanzo EOF.
+     * Restricciones: pensado para los mensajes de error del parser.
+     */
+    public String textoActual() {
+        int actual = cursor - 1;
+        if (actual < 0 || actual >= cantidad) {
+            return "";
+        }
+        return lexema(actual);
+    }
+
+    /**
+     * Proposito: informar cuantos tokens (sin contar EOF) se grabaron.
+     * Entradas: ninguna.
+     * Salidas: cantidad de tokens.
+     * Restricciones: ninguna.
+     */
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Proposito: informar cuantos lexemas distintos guarda la reserva compartida.
+     * Entradas: ninguna.
+     * Salidas: cantidad de textos distintos.
+     * Restricciones: ninguna.
+     */
+    public int lexemasDistintos() {
+        return cantidadLexemas;
+    }
+
+    /**
+     * Proposito: armar el Symbol de un token grabado.
+     * Entradas: indice entre 0 y size()-1.
+     * Salidas: Symbol nuevo con sym, left (linea 0-based), right (columna 0-based) y el mismo value que emitio el lexer.
+     * Restricciones: crea un objeto por llamada; para recorrer el flujo conviene usar tipo, linea, columna y lexema.
+     */
+    public Symbol simbolo(int indice) {
+        Object valor = (palabras[indice] & CON_VALOR) != 0 ? reserva[indicesLexema[indice]] : null;
+        return new Symbol(tipo(indice), linea(indice), columna(indice), valor);
+    }
+
+    /**
+     * Proposito: consultar el tipo (constante de sym) de un token grabado.
+     * Entradas: indice entre 0 y size()-1.
+     * Salidas: identificador numerico del token.
+     * Restricciones: ninguna.
+     */
+    public int tipo(int indice) {
+        return palabras[indice] & MASCARA_TIPO;
+    }
+
+    /**
+     * Proposito: consultar la linea (base 0) de un token grabado.
+     * Entradas: indice entre 0 y size()-1.
+     * Salidas: linea donde empieza el token.
+     * Restricciones: busqueda binaria sobre los tramos de linea.
+     */
+    public int linea(int indice) {
+        int bajo = 0;
+        int alto = cantidadTramos - 1;
+        while (bajo < alto) {
+            int medio = (bajo + alto + 1) >>> 1;
+            if (inicioTramo[medio] <= indice) {
+                bajo = medio;
+            } else {
+                alto = medio - 1;
+            }
+        }
+        return lineaTramo[bajo];
+    }
+
+    public int columna(int indice) {
+        int columna = palabras[indice] >>> DESPLAZAMIENTO_COLUMNA;
+        return columna == COLUMNA_DESBORDADA ? columnasDesbordadas.get(indice) : columna;
+    }
+
+    /**
+     * Proposito: consultar el lexema asociado a un token grabado.
+     * Entradas: indice entre 0 y size()-1.
+     * Salidas: texto del valor del token o, si no tenia valor, el texto reconocido por el lexer.
+     * Restricciones: ninguna.
+     */
+    public String lexema(int indice) {
+        return reserva[indicesLexema[indice]].toString();
+    }
+}
@@ -0,0 +1,381 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generador de programas sinteticos validos para pruebas de escala del
+ * compilador. Produce N funciones (funInitial + funcStruct) con A parametros
+ * int, bloques de M sentencias, anidamiento de profundidad D de decide of,
+ * loop ... exit when y for ... step ... to, arreglos let con literales de K
+ * elementos y un principal que llama a todas las funciones con listas de
+ * argumentos є ... э de largo A. Solo usa variables declaradas en un ambito
+ * visible, asi que el programa pasa el analisis semantico sin errores.
+ *
+ * Cada bloque contiene una sola estructura anidada (rotando entre decide,
+ * loop y for) para que el tamano crezca linealmente con M y D en lugar de
+ * M^D; la misma semilla produce siempre el mismo texto.
+ *
+ * Uso: java GeneradorCargas [--funciones N] [--sentencias M] [--profundidad D]
+ *      [--arreglo K] [--argumentos A] [--semilla S] [-o archivo]
+ */
+public final class GeneradorCargas {
+
+    /**
+     * Parametros de escala del programa generado.
+     */
+    public static final class Parametros {
+        public int funciones = 100;
+        public int sentencias = 8;
+        public int profundidad = 3;
+        public int arreglo = 64;
+        public int argumentos = 8;
+        public long semilla = 2025L;
+    }
+
+    private final Parametros parametros;
+    private final Random azar;
+    private final Writer salida;
+    // Variables int visibles, una lista por bloque abierto
+    private final List<List<String>> ambitos = new ArrayList<>();
+    // Contadores de loop/for: se leen pero nunca se reasignan, asi los ciclos terminan
+    private final Set<String> controles = new HashSet<>();
+    private String arregloActual;
+    private int contadorNombres;
+    private int tipoEstructura;
+
+    private GeneradorCargas(Parametros parametros, Writer salida) {
+        this.parametros = parametros;
+        this.azar = new Random(parametros.semilla);
+        this.salida = salida;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Parametros parametros = new Parametros();
+        String destino = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("-o".equals(arg) && i + 1 < args.length) {
+                destino = args[++i];
+            } else if (arg.startsWith("--") && i + 1 < args.length) {
+                String valor = args[++i];
+                try {
+                    switch (arg) {
+                        case "--funciones": parametros.funciones = Integer.parseInt(valor); break;
+                        case "--sentencias": parametros.sentencias = Integer.parseInt(valor); break;
+                        case "--profundidad": parametros.profundidad = Integer.parseInt(valor); break;
+                        case "--arreglo": parametros.arreglo = Integer.parseInt(valor); break;
+                        case "--argumentos": parametros.argumentos = Integer.parseInt(valor); break;
+                        case "--semilla": parametros.semilla = Long.parseLong(valor); break;
+                        default:
+                            System.err.println("Opcion desconocida: " + arg);
+                            System.exit(1);
+                    }
+                } catch (NumberFormatException e) {
+                    System.err.println("Valor invalido para " + arg + ": " + valor);
+                    System.exit(1);
+                }
+            } else {
+                System.err.println("Uso: GeneradorCargas [--funciones N] [--sentencias M] [--profundidad D]"
+                        + " [--arreglo K] [--argumentos A] [--semilla S] [-o archivo]");
+                System.exit(1);
+            }
+        }
+        if (destino == null) {
+            Writer consola = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            generar(parametros, consola);
+            consola.flush();
+            return;
+        }
+        Path ruta = Paths.get(destino);
+        if (ruta.getParent() != null) {
+            Files.createDirectories(ruta.getParent());
+        }
+        try (Writer archivo = Files.newBufferedWriter(ruta, StandardCharsets.UTF_8)) {
+            generar(parametros, archivo);
+        }
+        System.out.println("Programa sintetico escrito en: " + ruta.toAbsolutePath()
+                + " (" + Files.size(ruta) + " bytes)");
+    }
+
+    /**
+     * Proposito: escribir un programa sintetico completo.
+     * Entradas: parametros de escala y el destino del texto.
+     * Salidas: programa fuente en la sintaxis de lexer.flex/sintax.cup.
+     * Restricciones: determinista para los mismos parametros; valores negativos se tratan como 0
+     *                (con al menos una sentencia por bloque).
+     */
+    public static void generar(Parametros parametros, Writer salida) throws IOException {
+        new GeneradorCargas(parametros, salida).programa();
+    }
+
+    /**
+     * Proposito: generar el programa en memoria (para programas pequenos o benchmarks).
+     * Entradas: parametros de escala.
+     * Salidas: texto del programa.
+     * Restricciones: mismas que generar(Parametros, Writer).
+     */
+    public static String generar(Parametros parametros) {
+        StringWriter texto = new StringWriter();
+        try {
+            generar(parametros, texto);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return texto.toString();
+    }
+
+    private void programa() throws IOException {
+        int funciones = Math.max(0, parametros.funciones);
+        escribir("| Programa sintetico: funciones=" + funciones + " sentencias=" + parametros.sentencias
+                + " profundidad=" + parametros.profundidad + " arreglo=" + parametros.arreglo
+                + " argumentos=" + parametros.argumentos + " semilla=" + parametros.semilla + "\n\n");
+        for (int f = 0; f < funciones; f++) {
+            funcion(f);
+        }
+        principal(funciones);
+    }
+
+    private void funcion(int indice) throws IOException {
+        int argumentos = Math.max(1, parametros.argumentos);
+        contadorNombres = 0;
+        abrirAmbito();
+        StringBuilder firma = new StringBuilder();
+        firma.append("int ").append(nombreFuncion(indice)).append(" є ");
+        for (int p = 0; p < argumentos; p++) {
+            String nombre = "_p" + p + "_";
+            if (p > 0) {
+                firma.append(", ");
+            }
+            firma.append("int ").append(nombre);
+            declarar(nombre);
+        }
+        firma.append(" э ¿\n");
+        escribir(firma.toString());
+
+        arregloActual = null;
+        if (parametros.arreglo > 0) {
+            arregloActual = "_arr" + indice + "_";
+            StringBuilder arreglo = new StringBuilder();
+            arreglo.append("\tlet int ").append(arregloActual).append('[').append(parametros.arreglo).append("] = ¿ ");
+            for (int k = 0; k < parametros.arreglo; k++) {
+                if (k > 0) {
+                    arreglo.append(", ");
+                }
+                arreglo.append(azar.nextInt(100));
+            }
+            arreglo.append(" ?$\n");
+            escribir(arreglo.toString());
+        }
+
+        bloque(1, Math.max(0, parametros.profundidad));
+        escribir("\treturn " + expresion() + "$\n?\n\n");
+        cerrarAmbito();
+    }
+
+    private void principal(int funciones) throws IOException {
+        int argumentos = Math.max(1, parametros.argumentos);
+        contadorNombres = 0;
+        arregloActual = null;
+        abrirAmbito();
+        escribir("principal ¿\n\tlet int _total_ = 0$\n");
+        declarar("_total_");
+        for (int f = 0; f < funciones; f++) {
+            StringBuilder llamada = new StringBuilder();
+            llamada.append("\t_total_ = _total_ + ").append(nombreFuncion(f)).append(" є ");
+            for (int a = 0; a < argumentos; a++) {
+                if (a > 0) {
+                    llamada.append(", ");
+                }
+                llamada.append(a % 2 == 0 ? Integer.toString(azar.nextInt(50)) : "_total_");
+            }
+            llamada.append(" э $\n");
+            escribir(llamada.toString());
+        }
+        escribir("\toutput є _total_ э $\n\treturn _total_$\n?\n");
+        cerrarAmbito();
+    }
+
+    /**
+     * Emite M sentencias; si queda profundidad, una de ellas es una estructura
+     * anidada cuyo bloque se genera con profundidad - 1.
+     */
+    private void bloque(int nivel, int profundidad) throws IOException {
+        int sentencias = Math.max(1, parametros.sentencias);
+        int anidada = profundidad > 0 ? azar.nextInt(sentencias) : -1;
+        String sangria = sangria(nivel);
+        for (int s = 0; s < sentencias; s++) {
+            if (s == anidada) {
+                estructura(nivel, profundidad);
+            } else {
+                sentenciaSimple(sangria);
+            }
+        }
+    }
+
+    private void sentenciaSimple(String sangria) throws IOException {
+        int tipo = azar.nextInt(10);
+        if (tipo < 3) {
+            String nombre = nuevoNombre("_v");
+            escribir(sangria + "let int " + nombre + " = " + expresion() + "$\n");
+            declarar(nombre);
+        } else if (tipo < 7) {
+            escribir(sangria + destino() + " = " + expresion() + "$\n");
+        } else if (tipo < 8 && arregloActual != null) {
+            escribir(sangria + arregloActual + "[" + azar.nextInt(parametros.arreglo) + "] = " + expresion() + "$\n");
+        } else {
+            escribir(sangria + "output є " + expresion() + " э $\n");
+        }
+    }
+
+    private void estructura(int nivel, int profundidad) throws IOException {
+        String sangria = sangria(nivel);
+        int tipo = tipoEstructura++ % 3;
+        if (tipo == 0) {
+            escribir(sangria + "decide of\n");
+            escribir(sangria + "\tє " + condicion() + " э -> ¿\n");
+            abrirAmbito();
+            bloque(nivel + 2, profundidad - 1);
+            cerrarAmbito();
+            escribir(sangria + "\t?\n" + sangria + "\telse -> ¿\n");
+            abrirAmbito();
+            bloque(nivel + 2, profundidad - 1);
+            cerrarAmbito();
+            escribir(sangria + "\t?\n" + sangria + "end decide$\n");
+        } else if (tipo == 1) {
+            String contador = nuevoNombre("_c");
+            escribir(sangria + "let int " + contador + " = 0$\n" + sangria + "loop\n");
+            declarar(contador);
+            controles.add(contador);
+            escribir(sangria + "\t" + contador + " = " + contador + " + 1$\n");
+            abrirAmbito();
+            bloque(nivel + 1, profundidad - 1);
+            cerrarAmbito();
+            escribir(sangria + "exit when є " + contador + " >= " + (2 + azar.nextInt(8)) + " э $\n"
+                    + sangria + "end loop$\n");
+        } else {
+            String indice = nuevoNombre("_i");
+            escribir(sangria + "let int " + indice + " = 0$\n");
+            declarar(indice);
+            controles.add(indice);
+            escribir(sangria + "for " + indice + " = 0 step 1 to " + (2 + azar.nextInt(8)) + " do ¿\n");
+            abrirAmbito();
+            bloque(nivel + 1, profundidad - 1);
+            cerrarAmbito();
+            escribir(sangria + "?\n");
+        }
+    }
+
+    private String expresion() {
+        int terminos = 1 + azar.nextInt(4);
+        StringBuilder texto = new StringBuilder(operando());
+        for (int t = 1; t < terminos; t++) {
+            switch (azar.nextInt(4)) {
+                case 0: texto.append(" + "); break;
+                case 1: texto.append(" - "); break;
+                case 2: texto.append(" * "); break;
+                default:
+                    // division solo entre literales distintos de cero
+                    texto.append(" / ").append(1 + azar.nextInt(9));
+                    continue;
+            }
+            texto.append(operando());
+        }
+        return texto.toString();
+    }
+
+    private String operando() {
+        int tipo = azar.nextInt(6);
+        if (tipo < 3) {
+            return variable();
+        }
+        if (tipo == 3 && arregloActual != null) {
+            return arregloActual + "[" + azar.nextInt(parametros.arreglo) + "]";
+        }
+        return Integer.toString(azar.nextInt(100));
+    }
+
+    private String condicion() {
+        String[] relacionales = {">", "<", ">=", "<=", "==", "!="};
+        int partes = 1 + azar.nextInt(3);
+        StringBuilder texto = new StringBuilder();
+        for (int p = 0; p < partes; p++) {
+            if (p > 0) {
+                texto.append(azar.nextBoolean() ? " @ " : " ~ ");
+            }
+            if (azar.nextInt(4) == 0) {
+                texto.append("Σ ");
+            }
+            texto.append(variable()).append(' ')
+                    .append(relacionales[azar.nextInt(relacionales.length)]).append(' ')
+                    .append(azar.nextInt(100));
+        }
+        return texto.toString();
+    }
+
+    private String variable() {
+        int total = 0;
+        for (List<String> ambito : ambitos) {
+            total += ambito.size();
+        }
+        int elegido = azar.nextInt(total);
+        for (List<String> ambito : ambitos) {
+            if (elegido < ambito.size()) {
+                return ambito.get(elegido);
+            }
+            elegido -= ambito.size();
+        }
+        throw new IllegalStateException("sin variables visibles");
+    }
+
+    private String destino() {
+        // siempre hay al menos un parametro o _total_ asignable en el ambito exterior
+        String nombre = variable();
+        while (controles.contains(nombre)) {
+            nombre = variable();
+        }
+        return nombre;
+    }
+
+    private void abrirAmbito() {
+        ambitos.add(new ArrayList<>());
+    }
+
+    private void cerrarAmbito() {
+        ambitos.remove(ambitos.size() - 1);
+    }
+
+    private void declarar(String nombre) {
+        ambitos.get(ambitos.size() - 1).add(nombre);
+    }
+
+    private String nuevoNombre(String prefijo) {
+        return prefijo + (contadorNombres++) + "_";
+    }
+
+    private static String nombreFuncion(int indice) {
+        return "_f" + indice + "_";
+    }
+
+    private static String sangria(int nivel) {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < nivel; i++) {
+            texto.append('\t');
+        }
+        return texto.toString();
+    }
+
+    private void escribir(String texto) throws IOException {
+        salida.write(texto);
+    }
+}
@@ -1,4 +1,5 @@
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -7,13 +8,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
- * Generador de código MIPS simplificado que recorre el Codigo3D línea por línea
- * y emite una salida destino.asm donde cada instrucción queda registrada y, en
- * los casos más comunes, traducida a plantillas MIPS.
+ * Generador de código MIPS simplificado que recorre el Codigo3D cuádruplo por
+ * cuádruplo y emite una salida destino.asm donde cada instrucción queda
+ * registrada y, en los casos más comunes, traducida a plantillas MIPS. Los
+ * cuádruplos llegan directamente del Parser en memoria o se reconstruyen desde
+ * el texto de Codigo3D.txt con Cuadruplo.desdeTexto.
  */
 public class GeneradorMIPS {
 
@@ -21,18 +22,9 @@ public class GeneradorMIPS {
         INT, FLOAT, BOOL, CHAR, STRING, UNKNOWN
     }
 
-    private static final Pattern DECLARE_PATTERN =
-            Pattern.compile("declare\\s+([^:]+):(\\w+)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern DECLARE_ARRAY_PATTERN =
-            Pattern.compile("declare_arr\\s+([\\w]+)\\[(\\d+)\\]\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern ASTORE_PATTERN =
-            Pattern.compile("astore\\s+([^,]+),\\s*([^,]+),\\s*(.+)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern ARR_PAD_PATTERN =
-            Pattern.compile("arr_pad_zero\\s+([^,]+),\\s*([^,]+),\\s*(.+)", Pattern.CASE_INSENSITIVE);
-    private static final String[] SUPPORTED_BIN_OPS = {"+", "-", "*", "/"};
-
-    private final List<String> codigoIntermedio;
+    private final List<Cuadruplo> codigoIntermedio;
     private final Path destinoAsm;
+    private EscritorArtefactos escritor;
 
     private final StringBuilder textSection = new StringBuilder();
     private final StringBuilder dataSection = new StringBuilder(".data\n");
@@ -40,18 +32,19 @@ public class GeneradorMIPS {
     private final Map<String, Tipo> variableTypes = new HashMap<>();
     private final Map<String, Tipo> arrayElementTypes = new HashMap<>();
     private final Map<String, String> literalPool = new HashMap<>();
-    private final List<String> paramBuffer = new ArrayList<>();
+    private final List<Cuadruplo.Operando> paramBuffer = new ArrayList<>();
 
     private int literalCounter = 0;
     private int padLoopCounter = 0;
+    private int powLoopCounter = 0;
 
     /**
      * Objetivo: Inicializar un generador listo para transformar el código 3D a MIPS.
-     * Entradas: codigoIntermedio con cada línea estructurada y destinoAsm con la ruta del archivo destino.
+     * Entradas: codigoIntermedio con los cuádruplos en orden y destinoAsm con la ruta del archivo destino.
      * Salidas: Instancia con buffers y contadores preparados para generar.
      * Restricciones: Se asume que la lista no es nula y que destinoAsm es escribible.
      */
-    private GeneradorMIPS(List<String> codigoIntermedio, Path destinoAsm) {
+    private GeneradorMIPS(List<Cuadruplo> codigoIntermedio, Path destinoAsm) {
         this.codigoIntermedio = codigoIntermedio;
         this.destinoAsm = destinoAsm;
     }
@@ -80,13 +73,69 @@ public class GeneradorMIPS {
                 System.out.println("Codigo3D.txt vacío; no se generó destino.asm.");
                 return;
             }
-            GeneradorMIPS generador = new GeneradorMIPS(lineas, destino);
+            GeneradorMIPS generador = new GeneradorMIPS(Cuadruplo.desdeTexto(lineas), destino);
             generador.generar();
         } catch (IOException e) {
             System.err.println("No se pudo leer Codigo3D.txt: " + e.getMessage());
         }
     }
 
+    /**
+     * Objetivo: Generar destino.asm desde líneas de código 3D en texto, con el formato de Codigo3D.txt.
+     * Entradas: codigo3D con una instrucción por línea y ruta de destino.asm.
+     * Salidas: Archivo destino.asm generado (si había código) y cantidad de líneas emitidas en la sección .text.
+     * Restricciones: Las líneas se convierten a cuádruplos antes de traducir; la lista no se modifica.
+     */
+    public static int generarDesdeCodigo(List<String> codigo3D, Path destinoAsmPath) {
+        return generarDesdeCuadruplos(codigo3D != null ? Cuadruplo.desdeTexto(codigo3D) : null, destinoAsmPath, null);
+    }
+
+    /**
+     * Objetivo: Generar destino.asm directamente desde los cuádruplos en memoria, sin pasar por Codigo3D.txt.
+     * Entradas: cuádruplos emitidos por el Parser (Parser.getCuadruplos()) y ruta de destino.asm.
+     * Salidas: Archivo destino.asm generado (si había código) y cantidad de líneas emitidas en la sección .text.
+     * Restricciones: La lista no se modifica; el directorio destino debe permitir escritura.
+     */
+    public static int generarDesdeCuadruplos(List<Cuadruplo> codigo3D, Path destinoAsmPath) {
+        return generarDesdeCuadruplos(codigo3D, destinoAsmPath, null);
+    }
+
+    /**
+     * Objetivo: Generar destino.asm desde memoria y delegar la escritura del archivo a un hilo de E/S.
+     * Entradas: cuádruplos del Parser, ruta de destino.asm y escritor de la compilación (null escribe de inmediato).
+     * Salidas: Escritura encolada (o archivo escrito) y cantidad de líneas emitidas en la sección .text.
+     * Restricciones: Con escritor, los errores de E/S se informan en EscritorArtefactos.esperar().
+     */
+    public static int generarDesdeCuadruplos(List<Cuadruplo> codigo3D, Path destinoAsmPath, EscritorArtefactos escritor) {
+        Path destino = destinoAsmPath != null
+                ? destinoAsmPath
+                : Paths.get("").toAbsolutePath().resolve("output").resolve("destino.asm");
+        if (codigo3D == null || codigo3D.isEmpty()) {
+            System.out.println("Código 3D vacío; no se generó destino.asm.");
+            return 0;
+        }
+        GeneradorMIPS generador = new GeneradorMIPS(codigo3D, destino);
+        generador.escritor = escritor;
+        generador.generar();
+        return generador.lineasTexto();
+    }
+
+    /**
+     * Objetivo: Contar las líneas emitidas en el segmento de texto (instrucciones, etiquetas y comentarios).
+     * Entradas: Ninguna.
+     * Salidas: Número de saltos de línea en textSection.
+     * Restricciones: Tiene sentido después de generar().
+     */
+    private int lineasTexto() {
+        int lineas = 0;
+        for (int i = 0; i < textSection.length(); i++) {
+            if (textSection.charAt(i) == '\n') {
+                lineas++;
+            }
+        }
+        return lineas;
+    }
+
     /**
      * Objetivo: Ejecutar la secuencia completa de generación (encabezado, traducción y escritura).
      * Entradas: Ninguna, usa el estado almacenado en la instancia.
@@ -112,314 +161,391 @@ public class GeneradorMIPS {
     }
 
     /**
-     * Objetivo: Recorrer cada línea del código intermedio y delegar su traducción a manejadores específicos.
+     * Objetivo: Recorrer cada cuádruplo del código intermedio y delegar su traducción según su operación.
      * Entradas: Lista codigoIntermedio ya cargada.
      * Salidas: Instrucciones MIPS añadidas a textSection.
-     * Restricciones: Las líneas meta o comentarios se omiten; se asume formato estructurado.
+     * Restricciones: Las directivas y comentarios se omiten; las operaciones sin plantilla quedan como comentario.
      */
     private void traducirCodigo() {
-        for (String rawLine : codigoIntermedio) {
-            if (rawLine == null) {
-                continue;
-            }
-            String line = rawLine.trim();
-            if (line.isEmpty()) {
-                continue;
-            }
-            if (line.startsWith("#!")) {
-                continue;
-            }
-            if (line.startsWith("//")) {
-                continue;
-            }
-            if (line.endsWith(":")) {
-                textSection.append(line).append('\n');
-                continue;
+        for (Cuadruplo cuadruplo : codigoIntermedio) {
+            if (cuadruplo != null) {
+                procesarInstruccion(cuadruplo);
             }
-            procesarInstruccion(line);
         }
     }
 
     /**
-     * Objetivo: Clasificar una instrucción del 3D y enviarla al manejador correspondiente.
-     * Entradas: instruction con la línea limpia (sin espacios exteriores).
+     * Objetivo: Enviar un cuádruplo al manejador de su operación.
+     * Entradas: cuadruplo con la operación y sus operandos.
      * Salidas: Mutaciones sobre dataSection o textSection según la instrucción.
-     * Restricciones: Debe recibir cadenas no vacías; escribe advertencias para casos no soportados.
+     * Restricciones: Las operaciones sin plantilla (aload y los marcadores de función) se comentan en el .asm.
      */
-    private void procesarInstruccion(String instruction) {
-        Matcher declareMatcher = DECLARE_PATTERN.matcher(instruction);
-        if (declareMatcher.matches()) {
-            manejarDeclaracion(declareMatcher);
-            return;
-        }
-
-        Matcher declareArrMatcher = DECLARE_ARRAY_PATTERN.matcher(instruction);
-        if (declareArrMatcher.matches()) {
-            manejarDeclaracionArreglo(declareArrMatcher);
-            return;
-        }
-
-        if (instruction.startsWith("if ")) {
-            manejarIf(instruction);
-            return;
-        }
-        if (instruction.startsWith("goto ")) {
-            manejarGoto(instruction);
-            return;
-        }
-        if (instruction.startsWith("print ")) {
-            manejarPrint(instruction);
-            return;
-        }
-        if (instruction.startsWith("read ")) {
-            manejarRead(instruction);
-            return;
-        }
-        if (instruction.startsWith("param ")) {
-            manejarParam(instruction);
-            return;
-        }
-        if (instruction.startsWith("call ")) {
-            manejarCall(instruction);
-            return;
-        }
-        if (instruction.startsWith("return")) {
-            manejarReturn(instruction);
-            return;
-        }
-        if (instruction.startsWith("arr_pad_zero")) {
-            manejarArrPad(instruction);
-            return;
-        }
-        if (instruction.startsWith("astore")) {
-            manejarAstore(instruction);
-            return;
-        }
-        if (instruction.contains("=")) {
-            manejarAsignacion(instruction);
-            return;
+    private void procesarInstruccion(Cuadruplo cuadruplo) {
+        Cuadruplo.Operacion operacion = cuadruplo.operacion();
+        switch (operacion) {
+            case DIRECTIVA:
+            case COMENTARIO:
+                return;
+            case ETIQUETA:
+                textSection.append(texto(cuadruplo.resultado())).append(":\n");
+                return;
+            case DECLARAR:
+                registrarVariable(texto(cuadruplo.resultado()), mapearTipo(cuadruplo.tipo()));
+                return;
+            case DECLARAR_ARREGLO:
+                manejarDeclaracionArreglo(texto(cuadruplo.resultado()), enteroDe(cuadruplo.arg1()),
+                        mapearTipo(cuadruplo.tipo()));
+                return;
+            case SALTO_SI:
+                manejarIf(cuadruplo);
+                return;
+            case SALTO:
+                textSection.append("j ").append(texto(cuadruplo.resultado())).append('\n');
+                return;
+            case IMPRIMIR:
+                manejarPrint(cuadruplo.arg1());
+                return;
+            case LEER:
+                manejarRead(texto(cuadruplo.resultado()));
+                return;
+            case PARAMETRO:
+                manejarParam(cuadruplo.arg1());
+                return;
+            case LLAMADA:
+                ejecutarCall(cuadruplo.resultado(), texto(cuadruplo.arg1()), enteroDe(cuadruplo.arg2()));
+                return;
+            case RETORNO:
+                manejarReturn(cuadruplo.arg1());
+                return;
+            case RELLENO_CEROS:
+                manejarArrPad(texto(cuadruplo.resultado()), cuadruplo.arg1(), cuadruplo.arg2());
+                return;
+            case GUARDA_ARREGLO:
+                manejarAstore(texto(cuadruplo.resultado()), cuadruplo.arg1(), cuadruplo.arg2());
+                return;
+            case SUMA:
+            case RESTA:
+            case MULTIPLICACION:
+            case DIVISION:
+            case MODULO:
+                manejarAsignacionBinaria(cuadruplo.resultado(), cuadruplo.arg1(), operacion, cuadruplo.arg2());
+                return;
+            case POTENCIA:
+                manejarPotencia(cuadruplo.resultado(), cuadruplo.arg1(), cuadruplo.arg2());
+                return;
+            case MAYOR:
+            case MENOR:
+            case MAYOR_IGUAL:
+            case MENOR_IGUAL:
+            case IGUAL:
+            case DISTINTO:
+                manejarComparacion(cuadruplo.resultado(), cuadruplo.arg1(), operacion, cuadruplo.arg2());
+                return;
+            case Y:
+            case O:
+                manejarLogica(cuadruplo.resultado(), cuadruplo.arg1(), operacion, cuadruplo.arg2());
+                return;
+            case NEGATIVO:
+                manejarNegativo(cuadruplo.resultado(), cuadruplo.arg1());
+                return;
+            case NEGACION:
+                manejarNegacion(cuadruplo.resultado(), cuadruplo.arg1());
+                return;
+            case ENTERO_A_FLOTANTE:
+                manejarEnteroAFlotante(cuadruplo.resultado(), cuadruplo.arg1());
+                return;
+            case COPIA:
+                manejarCopia(cuadruplo.resultado(), cuadruplo.arg1());
+                return;
+            default:
+                break;
         }
-
-        textSection.append("# instrucción no traducida: ").append(instruction).append('\n');
+        textSection.append("# instrucción no traducida: ").append(cuadruplo.toString().trim()).append('\n');
     }
 
     /**
-     * Objetivo: Registrar variables escalares declaradas en el 3D para reservar espacio en .data.
-     * Entradas: matcher que coincide con la expresión de declare.
-     * Salidas: Nuevas entradas en variableTypes y dataSection.
-     * Restricciones: El matcher debe contener nombre y tipo válidos.
+     * Objetivo: Obtener el texto de un operando tal como aparece en el código 3D.
+     * Entradas: operando del cuádruplo (puede ser null).
+     * Salidas: Texto sin espacios exteriores o cadena vacía.
+     * Restricciones: Ninguna.
      */
-    private void manejarDeclaracion(Matcher matcher) {
-        String nombre = matcher.group(1).trim();
-        Tipo tipo = mapearTipo(matcher.group(2));
-        registrarVariable(nombre, tipo);
+    private String texto(Cuadruplo.Operando operando) {
+        return operando != null && operando.texto() != null ? operando.texto().trim() : "";
     }
 
     /**
      * Objetivo: Registrar arreglos declarados en el 3D asignando su espacio en memoria.
-     * Entradas: matcher obtenido de DECLARE_ARRAY_PATTERN.
+     * Entradas: nombre del arreglo, longitud y tipo de sus elementos.
      * Salidas: Etiquetas en dataSection y tipado por elemento en arrayElementTypes.
-     * Restricciones: El tamaño debe convertirse correctamente a entero.
+     * Restricciones: La longitud debe ser no negativa.
      */
-    private void manejarDeclaracionArreglo(Matcher matcher) {
-        String nombre = matcher.group(1).trim();
-        int longitud = Integer.parseInt(matcher.group(2).trim());
-        Tipo tipo = mapearTipo(matcher.group(3));
+    private void manejarDeclaracionArreglo(String nombre, int longitud, Tipo tipo) {
         arrayElementTypes.put(nombre, tipo);
         int bytes = longitud * bytesPorTipo(tipo);
         dataSection.append(nombre).append(": .space ").append(bytes).append('\n');
     }
 
     /**
-     * Objetivo: Resolver asignaciones generales del 3D (literals, temporales y llamadas).
-     * Entradas: instruction con la forma "destino = expresión".
-     * Salidas: Instrucciones MIPS que cargan y almacenan el resultado.
-     * Restricciones: Se exige el símbolo '='; en caso contrario se agrega comentario de advertencia.
-     */
-    private void manejarAsignacion(String instruction) {
-        int idx = instruction.indexOf('=');
-        if (idx < 0) {
-            textSection.append("# asignación sin '=': ").append(instruction).append('\n');
-            return;
-        }
-        String destino = instruction.substring(0, idx).trim();
-        String rhs = instruction.substring(idx + 1).trim();
-
-        if (rhs.startsWith("call ")) {
-            manejarAsignacionDesdeCall(destino, rhs.substring(5).trim());
-            return;
-        }
-
-        for (String op : SUPPORTED_BIN_OPS) {
-            String patron = " " + op + " ";
-            int pos = rhs.indexOf(patron);
-            if (pos > 0) {
-                manejarAsignacionBinaria(destino, rhs, op, pos);
-                return;
-            }
-        }
-
-        manejarAsignacionLiteral(destino, rhs);
-    }
-
-    /**
-     * Objetivo: Convertir asignaciones cuyo lado derecho es una llamada a función.
-     * Entradas: destino a almacenar y llamada con el nombre y conteo de parámetros opcional.
-     * Salidas: Secuencia de llamada y almacenamiento del valor de retorno.
-     * Restricciones: El formato debe ser "id, numero" o solo el identificador de la función.
-     */
-    private void manejarAsignacionDesdeCall(String destino, String llamada) {
-        String[] partes = llamada.split(",");
-        String nombre = partes[0].trim();
-        int args = partes.length > 1 ? safeIntParse(partes[1].trim()) : paramBuffer.size();
-        ejecutarCall(destino, nombre, args);
-    }
-
-    /**
-     * Objetivo: Traducir expresiones binarias (+, -, *, /) entre temporales o variables.
-     * Entradas: destino a almacenar, cadena rhs (lado derecho completo de la expresión), operador detectado y posición del operador.
+     * Objetivo: Traducir expresiones aritméticas (+, -, *, /, %) entre temporales, variables o literales.
+     * Entradas: destino a almacenar, operando izquierdo, operación y operando derecho.
      * Salidas: Instrucciones que cargan operandos, ejecutan la operación y guardan el resultado.
-     * Restricciones: Solo se admiten los operadores de SUPPORTED_BIN_OPS; otros se comentan.
+     * Restricciones: Solo se llama con SUMA, RESTA, MULTIPLICACION, DIVISION o MODULO; opera en enteros.
      */
-    private void manejarAsignacionBinaria(String destino, String rhs, String operador, int posOperador) {
-        String izquierda = rhs.substring(0, posOperador).trim();
-        String derecha = rhs.substring(posOperador + operador.length() + 2).trim();
+    private void manejarAsignacionBinaria(Cuadruplo.Operando destino, Cuadruplo.Operando izquierda,
+                                          Cuadruplo.Operacion operacion, Cuadruplo.Operando derecha) {
         cargarOperando(izquierda, "$t0");
         cargarOperando(derecha, "$t1");
 
-        switch (operador) {
-            case "+":
+        switch (operacion) {
+            case SUMA:
                 textSection.append("addu $t2, $t0, $t1\n");
                 break;
-            case "-":
+            case RESTA:
                 textSection.append("subu $t2, $t0, $t1\n");
                 break;
-            case "*":
+            case MULTIPLICACION:
                 textSection.append("mul $t2, $t0, $t1\n");
                 break;
-            case "/":
+            case DIVISION:
                 textSection.append("div $t0, $t1\n");
                 textSection.append("mflo $t2\n");
                 break;
+            case MODULO:
+                textSection.append("div $t0, $t1\n");
+                textSection.append("mfhi $t2\n");
+                break;
             default:
-                textSection.append("# operador no soportado: ").append(operador).append('\n');
+                textSection.append("# operador no soportado: ").append(operacion.simbolo()).append('\n');
                 return;
         }
 
-        registrarVariable(destino, Tipo.INT);
-        textSection.append("sw $t2, ").append(destino).append('\n');
+        guardarResultado(destino, Tipo.INT, "$t2");
     }
 
     /**
-     * Objetivo: Manejar asignaciones donde el lado derecho de la expresión es un literal o referencia directa.
-     * Entradas: destino y el lado derecho ya separados.
-     * Salidas: Cargas inmediatas, copias o referencias a literales en .data.
-     * Restricciones: Usa inferencias simples, por lo que literales complejos no se soportan.
+     * Objetivo: Traducir la potencia entera a ^ b con un ciclo de multiplicaciones.
+     * Entradas: destino, base y exponente.
+     * Salidas: Ciclo MIPS con etiquetas pow_loop_N y el resultado guardado en el destino.
+     * Restricciones: Un exponente cero o negativo produce 1.
      */
-    private void manejarAsignacionLiteral(String destino, String rhs) {
-        Tipo tipoDestino = variableTypes.getOrDefault(destino, inferirTipo(rhs));
-        registrarVariable(destino, tipoDestino);
+    private void manejarPotencia(Cuadruplo.Operando destino, Cuadruplo.Operando base, Cuadruplo.Operando exponente) {
+        String etiquetaLoop = "pow_loop_" + powLoopCounter++;
+        cargarOperando(base, "$t0");
+        cargarOperando(exponente, "$t1");
+        textSection.append("li $t2, 1\n");
+        textSection.append(etiquetaLoop).append(":\n");
+        textSection.append("blez $t1, ").append(etiquetaLoop).append("_end\n");
+        textSection.append("mul $t2, $t2, $t0\n");
+        textSection.append("addi $t1, $t1, -1\n");
+        textSection.append("j ").append(etiquetaLoop).append('\n');
+        textSection.append(etiquetaLoop).append("_end:\n");
+        guardarResultado(destino, Tipo.INT, "$t2");
+    }
 
-        if (esBooleano(rhs) || esEntero(rhs)) {
-            String valor = convertirLiteralEntero(rhs);
-            textSection.append("li $t0, ").append(valor).append('\n');
-            textSection.append("sw $t0, ").append(destino).append('\n');
-            return;
+    /**
+     * Objetivo: Traducir comparaciones que producen un valor booleano (r = a < b, r = a == b, ...).
+     * Entradas: destino, operando izquierdo, operación relacional y operando derecho.
+     * Salidas: slt/sgt/sle/sge/seq/sne sobre los operandos y el 0/1 guardado en el destino.
+     * Restricciones: Compara los valores como enteros con signo, igual que manejarIf.
+     */
+    private void manejarComparacion(Cuadruplo.Operando destino, Cuadruplo.Operando izquierda,
+                                    Cuadruplo.Operacion operacion, Cuadruplo.Operando derecha) {
+        cargarOperando(izquierda, "$t0");
+        cargarOperando(derecha, "$t1");
+        textSection.append(comparacionPara(operacion)).append(" $t2, $t0, $t1\n");
+        guardarResultado(destino, Tipo.BOOL, "$t2");
+    }
+
+    /**
+     * Objetivo: Elegir la instrucción MIPS que deja en un registro el resultado de una relación.
+     * Entradas: operación relacional del cuádruplo.
+     * Salidas: Mnemónico de la comparación.
+     * Restricciones: Solo recibe operaciones relacionales.
+     */
+    private String comparacionPara(Cuadruplo.Operacion relacion) {
+        switch (relacion) {
+            case MAYOR:
+                return "sgt";
+            case MENOR:
+                return "slt";
+            case MAYOR_IGUAL:
+                return "sge";
+            case MENOR_IGUAL:
+                return "sle";
+            case IGUAL:
+                return "seq";
+            default:
+                return "sne";
         }
+    }
 
-        if (variableTypes.containsKey(rhs)) {
-            textSection.append("lw $t0, ").append(rhs).append('\n');
-            textSection.append("sw $t0, ").append(destino).append('\n');
+    /**
+     * Objetivo: Traducir la conjunción y la disyunción de valores booleanos.
+     * Entradas: destino, operando izquierdo, Y u O y operando derecho.
+     * Salidas: and/or entre los operandos y el resultado guardado en el destino.
+     * Restricciones: Los booleanos se representan como 0 y 1; ambos operandos ya están evaluados.
+     */
+    private void manejarLogica(Cuadruplo.Operando destino, Cuadruplo.Operando izquierda,
+                               Cuadruplo.Operacion operacion, Cuadruplo.Operando derecha) {
+        cargarOperando(izquierda, "$t0");
+        cargarOperando(derecha, "$t1");
+        textSection.append(operacion == Cuadruplo.Operacion.Y ? "and" : "or").append(" $t2, $t0, $t1\n");
+        guardarResultado(destino, Tipo.BOOL, "$t2");
+    }
+
+    /**
+     * Objetivo: Traducir el menos unario para enteros y flotantes.
+     * Entradas: destino y operando a negar.
+     * Salidas: neg sobre un registro entero, o mtc1 + neg.s + swc1 si el operando es FLOAT.
+     * Restricciones: Los flotantes se cargan con su patrón de bits y se operan en $f0.
+     */
+    private void manejarNegativo(Cuadruplo.Operando destino, Cuadruplo.Operando valor) {
+        cargarOperando(valor, "$t0");
+        if (tipoDe(valor) == Tipo.FLOAT) {
+            textSection.append("mtc1 $t0, $f0\n");
+            textSection.append("neg.s $f0, $f0\n");
+            registrarVariable(texto(destino), tipoDestino(destino, Tipo.FLOAT));
+            textSection.append("swc1 $f0, ").append(texto(destino)).append('\n');
             return;
         }
+        textSection.append("neg $t2, $t0\n");
+        guardarResultado(destino, Tipo.INT, "$t2");
+    }
+
+    /**
+     * Objetivo: Traducir la negación lógica de un booleano.
+     * Entradas: destino y operando a negar.
+     * Salidas: xori con 1 y el resultado guardado en el destino.
+     * Restricciones: El operando debe valer 0 o 1.
+     */
+    private void manejarNegacion(Cuadruplo.Operando destino, Cuadruplo.Operando valor) {
+        cargarOperando(valor, "$t0");
+        textSection.append("xori $t2, $t0, 1\n");
+        guardarResultado(destino, Tipo.BOOL, "$t2");
+    }
 
-        if (rhs.contains(" ") || tipoDestino == Tipo.STRING) {
-            String literal = registrarLiteral(Tipo.STRING, rhs);
-            textSection.append("la $t0, ").append(literal).append('\n');
-            textSection.append("sw $t0, ").append(destino).append('\n');
+    /**
+     * Objetivo: Traducir la conversión itof de un entero a flotante.
+     * Entradas: destino FLOAT y operando entero.
+     * Salidas: mtc1 + cvt.s.w y el flotante guardado con swc1.
+     * Restricciones: Usa $f0 como registro de trabajo.
+     */
+    private void manejarEnteroAFlotante(Cuadruplo.Operando destino, Cuadruplo.Operando valor) {
+        cargarOperando(valor, "$t0");
+        textSection.append("mtc1 $t0, $f0\n");
+        textSection.append("cvt.s.w $f0, $f0\n");
+        registrarVariable(texto(destino), tipoDestino(destino, Tipo.FLOAT));
+        textSection.append("swc1 $f0, ").append(texto(destino)).append('\n');
+    }
+
+    /**
+     * Objetivo: Manejar copias "destino = valor" de literales, variables o temporales.
+     * Entradas: destino y operando copiado.
+     * Salidas: Carga del valor (li, lw o la según su clase y tipo) y sw en el destino.
+     * Restricciones: Una variable o temporal que nunca se registró se deja comentada en lugar de copiarse.
+     */
+    private void manejarCopia(Cuadruplo.Operando destino, Cuadruplo.Operando valor) {
+        registrarVariable(texto(destino), tipoDestino(destino, tipoDe(valor)));
+        if (valor == null || (!valor.esLiteral() && !variableTypes.containsKey(texto(valor)))) {
+            textSection.append("# copia no soportada: ").append(texto(destino))
+                       .append(" = ").append(texto(valor)).append('\n');
             return;
         }
+        cargarOperando(valor, "$t0");
+        textSection.append("sw $t0, ").append(texto(destino)).append('\n');
+    }
 
-        textSection.append("# asignación literal no soportada: ").append(destino)
-                   .append(" = ").append(rhs).append('\n');
+    /**
+     * Objetivo: Registrar el destino de una operación y guardar en él el registro calculado.
+     * Entradas: destino, tipo a usar si el destino no tiene uno conocido y registro con el valor.
+     * Salidas: Declaración en .data (la primera vez) y sw del registro.
+     * Restricciones: Ninguna.
+     */
+    private void guardarResultado(Cuadruplo.Operando destino, Tipo tipoPorDefecto, String registro) {
+        registrarVariable(texto(destino), tipoDestino(destino, tipoPorDefecto));
+        textSection.append("sw ").append(registro).append(", ").append(texto(destino)).append('\n');
     }
 
     /**
-     * Objetivo: Traducir saltos condicionales tipo "if temp goto label".
-     * Entradas: instruction completa.
-     * Salidas: Instrucción MIPS bnez con la etiqueta destino.
-     * Restricciones: Se requieren al menos cuatro tokens (if, cond, goto, label).
+     * Objetivo: Traducir saltos condicionales "if c goto L" y "if a op b goto L".
+     * Entradas: cuádruplo SALTO_SI con la condición o la relación y sus dos operandos.
+     * Salidas: bnez sobre la condición, o la rama MIPS de la comparación (blt, bgt, ...).
+     * Restricciones: Las comparaciones usan los valores como enteros con signo.
      */
-    private void manejarIf(String instruction) {
-        String[] partes = instruction.split("\\s+");
-        if (partes.length < 4) {
-            textSection.append("# if mal formado: ").append(instruction).append('\n');
+    private void manejarIf(Cuadruplo cuadruplo) {
+        String etiqueta = texto(cuadruplo.resultado());
+        cargarOperando(cuadruplo.arg1(), "$t0");
+        if (cuadruplo.relacion() == null) {
+            textSection.append("bnez $t0, ").append(etiqueta).append('\n');
             return;
         }
-        String condicion = partes[1];
-        String etiqueta = partes[3];
-        cargarOperando(condicion, "$t0");
-        textSection.append("bnez $t0, ").append(etiqueta).append('\n');
+        cargarOperando(cuadruplo.arg2(), "$t1");
+        textSection.append(ramaPara(cuadruplo.relacion())).append(" $t0, $t1, ").append(etiqueta).append('\n');
     }
 
     /**
-     * Objetivo: Emitir saltos incondicionales a etiquetas generadas en el 3D.
-     * Entradas: instruction con prefijo "goto".
-     * Salidas: Instrucción MIPS "j etiqueta".
-     * Restricciones: La etiqueta debe existir en el flujo generado.
+     * Objetivo: Elegir la instrucción de rama MIPS que corresponde a una relación.
+     * Entradas: operación relacional del cuádruplo.
+     * Salidas: Mnemónico de la rama.
+     * Restricciones: Solo recibe operaciones relacionales.
      */
-    private void manejarGoto(String instruction) {
-        String etiqueta = instruction.substring(5).trim();
-        textSection.append("j ").append(etiqueta).append('\n');
+    private String ramaPara(Cuadruplo.Operacion relacion) {
+        switch (relacion) {
+            case MAYOR:
+                return "bgt";
+            case MENOR:
+                return "blt";
+            case MAYOR_IGUAL:
+                return "bge";
+            case MENOR_IGUAL:
+                return "ble";
+            case IGUAL:
+                return "beq";
+            default:
+                return "bne";
+        }
     }
 
     /**
-     * Objetivo: Implementar la primitiva print diferenciando entre strings, chars e ints.
-     * Entradas: instruction tras el prefijo "print".
+     * Objetivo: Implementar la primitiva print diferenciando entre strings, chars, floats e ints.
+     * Entradas: operando del print.
      * Salidas: Llamadas a syscall con los códigos correspondientes.
-     * Restricciones: Los strings inlines se guardan en .data; si no hay argumento se registra advertencia.
+     * Restricciones: Los strings literales se guardan en .data; si no hay argumento se registra advertencia.
      */
-    private void manejarPrint(String instruction) {
-        String argumento = instruction.substring(5).trim();
-        if (argumento.isEmpty()) {
+    private void manejarPrint(Cuadruplo.Operando argumento) {
+        if (argumento == null || texto(argumento).isEmpty()) {
             textSection.append("# print sin argumento\n");
             return;
         }
-        Tipo tipo = tipoDeOperando(argumento);
-        switch (tipo) {
-            case STRING: {
-                String literal = argumento;
-                if (!variableTypes.containsKey(argumento)) {
-                    literal = registrarLiteral(Tipo.STRING, argumento);
-                    textSection.append("la $a0, ").append(literal).append('\n');
-                } else {
-                    textSection.append("lw $a0, ").append(argumento).append('\n');
-                }
+        switch (tipoDe(argumento)) {
+            case STRING:
+                cargarOperando(argumento, "$a0");
                 textSection.append("li $v0, 4\n");
-                textSection.append("syscall\n");
                 break;
-            }
             case CHAR:
                 cargarOperando(argumento, "$a0");
                 textSection.append("li $v0, 11\n");
-                textSection.append("syscall\n");
+                break;
+            case FLOAT:
+                cargarOperando(argumento, "$t0");
+                textSection.append("mtc1 $t0, $f12\n");
+                textSection.append("li $v0, 2\n");
                 break;
             default:
                 cargarOperando(argumento, "$a0");
                 textSection.append("li $v0, 1\n");
-                textSection.append("syscall\n");
                 break;
         }
+        textSection.append("syscall\n");
     }
 
     /**
      * Objetivo: Traducir instrucciones read asignándolas como lecturas enteras por syscall.
-     * Entradas: instruction tras quitar el prefijo "read".
+     * Entradas: variable destino de la lectura.
      * Salidas: Secuencia que invoca syscall 5 y almacena en la variable destino.
      * Restricciones: Solo soporta lecturas enteras; requiere nombre de variable válido.
      */
-    private void manejarRead(String instruction) {
-        String destino = instruction.substring(4).trim();
+    private void manejarRead(String destino) {
         if (destino.isEmpty()) {
             textSection.append("# read sin destino\n");
             return;
@@ -432,42 +558,26 @@ public class GeneradorMIPS {
 
     /**
      * Objetivo: Almacenar argumentos para llamadas subsecuentes.
-     * Entradas: instruction con el operando del param.
+     * Entradas: operando del param.
      * Salidas: Valores acumulados en paramBuffer.
-     * Restricciones: Solo se añade cuando el operando no está vacío; el orden se conserva primero en entrar, primero en salir (first in, first out).
+     * Restricciones: Solo se añade cuando el operando existe; el orden se conserva primero en entrar, primero en salir (first in, first out).
      */
-    private void manejarParam(String instruction) {
-        String argumento = instruction.substring(5).trim();
-        if (!argumento.isEmpty()) {
+    private void manejarParam(Cuadruplo.Operando argumento) {
+        if (argumento != null) {
             paramBuffer.add(argumento);
         }
     }
 
-    /**
-     * Objetivo: Emitir una llamada cuando no hay asignación directa al resultado.
-     * Entradas: instruction con el nombre de la función y un conteo opcional.
-     * Salidas: Código de llamada generado mediante ejecutarCall.
-     * Restricciones: Si no se especifican argumentos se usa la cantidad almacenada en paramBuffer.
-     */
-    private void manejarCall(String instruction) {
-        String resto = instruction.substring(4).trim();
-        String[] partes = resto.split(",");
-        String nombre = partes[0].trim();
-        int args = partes.length > 1 ? safeIntParse(partes[1].trim()) : paramBuffer.size();
-        ejecutarCall(null, nombre, args);
-    }
-
     /**
      * Objetivo: Generar el protocolo de llamada (push de argumentos, jal y limpieza de stack).
      * Entradas: destino opcional, nombre de función y número de argumentos.
      * Salidas: Instrucciones que preparan la pila y guardan el valor de retorno si aplica.
      * Restricciones: Se asume convención simple; no se preservan registros del llamador.
      */
-    private void ejecutarCall(String destino, String nombre, int argCount) {
+    private void ejecutarCall(Cuadruplo.Operando destino, String nombre, int argCount) {
         int inicio = Math.max(0, paramBuffer.size() - argCount);
         for (int i = inicio; i < paramBuffer.size(); i++) {
-            String argumento = paramBuffer.get(i);
-            cargarOperando(argumento, "$t0");
+            cargarOperando(paramBuffer.get(i), "$t0");
             textSection.append("addiu $sp, $sp, -4\n");
             textSection.append("sw $t0, 0($sp)\n");
         }
@@ -477,40 +587,30 @@ public class GeneradorMIPS {
         }
         paramBuffer.clear();
         if (destino != null) {
-            registrarVariable(destino, Tipo.INT);
-            textSection.append("sw $v0, ").append(destino).append('\n');
+            guardarResultado(destino, Tipo.INT, "$v0");
         }
     }
 
     /**
      * Objetivo: Traducir returns ajustando $v0 cuando existe expresión de retorno.
-     * Entradas: instruction completa del return.
+     * Entradas: valor retornado o null para un return sin valor.
      * Salidas: Cargas opcionales en $v0 y salto a jr $ra.
      * Restricciones: No administra limpieza de pila de activación.
      */
-    private void manejarReturn(String instruction) {
-        String resto = instruction.length() > 6 ? instruction.substring(6).trim() : "";
-        if (!resto.isEmpty()) {
-            cargarOperando(resto, "$v0");
+    private void manejarReturn(Cuadruplo.Operando valor) {
+        if (valor != null) {
+            cargarOperando(valor, "$v0");
         }
         textSection.append("jr $ra\n");
     }
 
     /**
      * Objetivo: Simular el relleno con ceros de arreglos parcialmente inicializados.
-     * Entradas: instruction con nombre, índice inicial y tamaño total.
+     * Entradas: nombre del arreglo, índice inicial y tamaño total.
      * Salidas: Bucle MIPS que recorre el rango y escribe cero.
      * Restricciones: Requiere que el arreglo haya sido registrado para conocer el tamaño de elemento.
      */
-    private void manejarArrPad(String instruction) {
-        Matcher matcher = ARR_PAD_PATTERN.matcher(instruction);
-        if (!matcher.matches()) {
-            textSection.append("# arr_pad_zero no reconocido\n");
-            return;
-        }
-        String nombre = matcher.group(1).trim();
-        String inicio = matcher.group(2).trim();
-        String total = matcher.group(3).trim();
+    private void manejarArrPad(String nombre, Cuadruplo.Operando inicio, Cuadruplo.Operando total) {
         int bytes = bytesPorTipo(arrayElementTypes.getOrDefault(nombre, Tipo.INT));
         String etiquetaLoop = "arr_pad_" + padLoopCounter++;
         textSection.append("la $t0, ").append(nombre).append('\n');
@@ -527,19 +627,11 @@ public class GeneradorMIPS {
 
     /**
      * Objetivo: Traducir escrituras individuales sobre arreglos (astore en el 3D).
-     * Entradas: instruction con arreglo, índice y valor.
+     * Entradas: arreglo, índice y valor.
      * Salidas: Código que calcula la dirección y almacena el dato.
      * Restricciones: Solo usa multiplicación por el tamaño del elemento; no valida límites.
      */
-    private void manejarAstore(String instruction) {
-        Matcher matcher = ASTORE_PATTERN.matcher(instruction);
-        if (!matcher.matches()) {
-            textSection.append("# astore no reconocido\n");
-            return;
-        }
-        String arreglo = matcher.group(1).trim();
-        String indice = matcher.group(2).trim();
-        String valor = matcher.group(3).trim();
+    private void manejarAstore(String arreglo, Cuadruplo.Operando indice, Cuadruplo.Operando valor) {
         int bytes = bytesPorTipo(arrayElementTypes.getOrDefault(arreglo, Tipo.INT));
         textSection.append("la $t0, ").append(arreglo).append('\n');
         cargarOperando(indice, "$t1");
@@ -551,34 +643,81 @@ public class GeneradorMIPS {
     }
 
     /**
-     * Objetivo: Cargar un operando arbitrario (literal, variable o string) en un registro destino.
-     * Entradas: operando textual y nombre del registro donde depositarlo.
-     * Salidas: Instrucciones de carga inmediata, lw o la según el caso.
-     * Restricciones: Operandos desconocidos se convierten en cero con comentario aclaratorio.
+     * Objetivo: Cargar un operando (literal, variable, temporal o etiqueta) en un registro destino.
+     * Entradas: operando del cuádruplo y nombre del registro donde depositarlo.
+     * Salidas: Instrucciones li, lw o la según la clase del operando y, en literales, según su tipo.
+     * Restricciones: Variables o temporales nunca registrados se cargan como cero con comentario aclaratorio.
      */
-    private void cargarOperando(String operando, String registro) {
-        operando = operando.trim();
-        if (esBooleano(operando) || esEntero(operando)) {
-            textSection.append("li ").append(registro).append(", ")
-                       .append(convertirLiteralEntero(operando)).append('\n');
+    private void cargarOperando(Cuadruplo.Operando operando, String registro) {
+        if (operando == null) {
+            textSection.append("li ").append(registro).append(", 0 # operando vacío\n");
             return;
         }
-        if (variableTypes.containsKey(operando)) {
-            textSection.append("lw ").append(registro).append(", ")
-                       .append(operando).append('\n');
-            return;
+        String nombre = texto(operando);
+        switch (operando.clase()) {
+            case LITERAL:
+                cargarLiteral(operando, registro);
+                return;
+            case ETIQUETA:
+                textSection.append("la ").append(registro).append(", ").append(nombre).append('\n');
+                return;
+            default:
+                break;
         }
-        if (operando.contains(" ")) {
-            String literal = registrarLiteral(Tipo.STRING, operando);
-            textSection.append("la ").append(registro).append(", ")
-                       .append(literal).append('\n');
+        if (variableTypes.containsKey(nombre)) {
+            textSection.append("lw ").append(registro).append(", ")
+                       .append(nombre).append('\n');
             return;
         }
         textSection.append("li ").append(registro)
-                   .append(", 0 # operando no reconocido: ").append(operando)
+                   .append(", 0 # operando no reconocido: ").append(nombre)
                    .append('\n');
     }
 
+    /**
+     * Objetivo: Cargar un literal según el tipo que le asignó el Parser.
+     * Entradas: operando de clase LITERAL y registro destino.
+     * Salidas: li para enteros (valor del LiteralNumerico), booleanos (1/0) y chars (código del carácter); lw de
+     *          una etiqueta .float para flotantes; la de una etiqueta .asciiz para strings.
+     * Restricciones: Los flotantes quedan en el registro entero con su patrón de bits IEEE; un literal numérico
+     *                sin LiteralNumerico se carga como cero con comentario.
+     */
+    private void cargarLiteral(Cuadruplo.Operando literal, String registro) {
+        String valor = texto(literal);
+        LiteralNumerico numero = literal.valorNumerico();
+        switch (mapearTipo(literal.tipo())) {
+            case BOOL:
+                textSection.append("li ").append(registro).append(", ")
+                           .append("true".equals(valor) ? 1 : 0).append('\n');
+                return;
+            case INT:
+                if (numero == null) {
+                    break;
+                }
+                textSection.append("li ").append(registro).append(", ").append(numero.comoEntero()).append('\n');
+                return;
+            case CHAR:
+                textSection.append("li ").append(registro).append(", ")
+                           .append(valor.isEmpty() ? 0 : (int) valor.charAt(0)).append('\n');
+                return;
+            case FLOAT:
+                if (numero == null) {
+                    break;
+                }
+                textSection.append("lw ").append(registro).append(", ")
+                           .append(registrarFlotante((float) numero.comoReal())).append('\n');
+                return;
+            case STRING:
+                textSection.append("la ").append(registro).append(", ")
+                           .append(registrarLiteral(Tipo.STRING, valor)).append('\n');
+                return;
+            default:
+                break;
+        }
+        textSection.append("li ").append(registro)
+                   .append(", 0 # literal sin valor: ").append(valor).append('\n');
+    }
+
     /**
      * Objetivo: Dar de alta variables escalares en el segmento .data solo una vez.
      * Entradas: nombre de la variable y tipo inferido.
@@ -621,38 +760,30 @@ public class GeneradorMIPS {
     }
 
     /**
-     * Objetivo: Determinar el tipo probable de un literal simple.
-     * Entradas: literal tal como aparece en el 3D.
-     * Salidas: Valor Tipo usado para decisiones posteriores.
-     * Restricciones: Solo reconoce booleanos, enteros, floats con punto y chars de un caracter.
+     * Objetivo: Resolver el tipo de un operando dando prioridad a las variables ya registradas.
+     * Entradas: operando del cuádruplo (puede ser null).
+     * Salidas: Tipo registrado en variableTypes o el que trae el operando.
+     * Restricciones: Los operandos leídos de Codigo3D.txt pueden no traer tipo y dan UNKNOWN.
      */
-    private Tipo inferirTipo(String literal) {
-        if (esBooleano(literal)) {
-            return Tipo.BOOL;
-        }
-        if (esEntero(literal)) {
-            return Tipo.INT;
-        }
-        if (literal != null && literal.contains(".")) {
-            return Tipo.FLOAT;
+    private Tipo tipoDe(Cuadruplo.Operando operando) {
+        if (operando == null) {
+            return Tipo.UNKNOWN;
         }
-        if (literal != null && literal.length() == 1) {
-            return Tipo.CHAR;
+        if (!operando.esLiteral() && variableTypes.containsKey(texto(operando))) {
+            return variableTypes.get(texto(operando));
         }
-        return Tipo.STRING;
+        return mapearTipo(operando.tipo());
     }
 
     /**
-     * Objetivo: Resolver el tipo de un operando dando prioridad a las variables registradas.
-     * Entradas: Nombre del operando o literal.
-     * Salidas: Tipo encontrado en variableTypes o inferido.
-     * Restricciones: Depende de que registrarVariable se haya llamado previamente para las variables usadas.
+     * Objetivo: Elegir el tipo con el que se registra el destino de una instrucción.
+     * Entradas: destino y tipo a usar cuando no se conoce el suyo.
+     * Salidas: Tipo del destino o el tipo por defecto.
+     * Restricciones: Ninguna.
      */
-    private Tipo tipoDeOperando(String operando) {
-        if (variableTypes.containsKey(operando)) {
-            return variableTypes.get(operando);
-        }
-        return inferirTipo(operando);
+    private Tipo tipoDestino(Cuadruplo.Operando destino, Tipo tipoPorDefecto) {
+        Tipo tipo = tipoDe(destino);
+        return tipo != Tipo.UNKNOWN ? tipo : tipoPorDefecto;
     }
 
     /**
@@ -716,6 +847,16 @@ public class GeneradorMIPS {
         return label;
     }
 
+    /**
+     * Objetivo: Guardar un flotante en .data a partir de su valor, no del texto del código 3D.
+     * Entradas: valor de precisión simple.
+     * Salidas: Etiqueta .float compartida por los literales con el mismo valor.
+     * Restricciones: El valor se escribe en decimal sin exponente.
+     */
+    private String registrarFlotante(float valor) {
+        return registrarLiteral(Tipo.FLOAT, new BigDecimal(Float.toString(valor)).toPlainString());
+    }
+
     /**
      * Objetivo: Escapar barras y comillas para strings alojados en .data.
      * Entradas: valor original del literal.
@@ -727,65 +868,30 @@ public class GeneradorMIPS {
     }
 
     /**
-     * Objetivo: Verificar si una cadena representa un entero con signo opcional.
-     * Entradas: token textual.
-     * Salidas: true si coincide con la expresión regular, false en otro caso.
-     * Restricciones: Solo admite dígitos base 10.
-     */
-    private boolean esEntero(String token) {
-        return token.matches("-?\\d+");
-    }
-
-    /**
-     * Objetivo: Detectar literales booleanos en texto plano.
-     * Entradas: token a evaluar.
-     * Salidas: true para "true" o "false" (insensible a mayúsculas), false para lo demás.
-     * Restricciones: No reconoce otras variantes como 0/1.
-     */
-    private boolean esBooleano(String token) {
-        return "true".equalsIgnoreCase(token) || "false".equalsIgnoreCase(token);
-    }
-
-    /**
-     * Objetivo: Convertir literales booleanos a enteros y dejar intactos los enteros recibidos.
-     * Entradas: literal textual.
-     * Salidas: "1", "0" o el mismo literal.
-     * Restricciones: Solo mapea true/false; otros valores se retornan sin validar.
-     */
-    private String convertirLiteralEntero(String literal) {
-        if ("true".equalsIgnoreCase(literal)) {
-            return "1";
-        }
-        if ("false".equalsIgnoreCase(literal)) {
-            return "0";
-        }
-        return literal;
-    }
-
-    /**
-     * Objetivo: Parsear enteros de manera segura para valores auxiliares como conteos de parámetros.
-     * Entradas: value en formato texto.
-     * Salidas: Entero parseado o 0 si ocurre una excepción.
-     * Restricciones: Silencia NumberFormatException, por lo que 0 puede significar error.
+     * Objetivo: Obtener el valor de literales auxiliares como longitudes de arreglo y conteos de parámetros.
+     * Entradas: operando literal INT del cuádruplo.
+     * Salidas: Valor que convirtió el Lexer (o Cuadruplo.desdeTexto), o 0 si el operando no es numérico.
+     * Restricciones: No lee el texto del operando.
      */
-    private int safeIntParse(String value) {
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException ex) {
-            return 0;
-        }
+    private int enteroDe(Cuadruplo.Operando operando) {
+        return operando != null && operando.valorNumerico() != null ? operando.valorNumerico().comoEntero() : 0;
     }
 
     /**
      * Objetivo: Persistir las secciones .data y .text en el archivo destino.
      * Entradas: Ninguna explícita; usa los StringBuilder acumulados.
-     * Salidas: Archivo destino.asm escrito en UTF-8.
+     * Salidas: Archivo destino.asm escrito en UTF-8, o su escritura encolada en el escritor de la compilación.
      * Restricciones: El directorio padre debe poder crearse; captura y reporta errores de E/S.
      */
     private void escribirArchivo() {
         StringBuilder salida = new StringBuilder();
         salida.append(dataSection);
         salida.append('\n').append(textSection);
+        if (escritor != null) {
+            escritor.escribir(destinoAsm, salida.toString(), StandardCharsets.UTF_8,
+                    "Código MIPS guardado en: " + destinoAsm.toAbsolutePath());
+            return;
+        }
         try {
             if (destinoAsm.getParent() != null) {
                 Files.createDirectories(destinoAsm.getParent());
@@ -0,0 +1,114 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader para el Lexer que decodifica UTF-8 directamente desde los bytes del
+ * archivo hacia el buffer que pide el lector (el zzBuffer de JFlex), sin el
+ * paso intermedio de FileReader + BufferedReader. Los archivos grandes se
+ * mapean con FileChannel.map; los pequenos se leen de una vez porque mapearlos
+ * cuesta mas que copiarlos y, en Windows, el mapeo bloquea el archivo hasta
+ * que el recolector lo libera (lo que estorbaria al editarlo en modo --watch).
+ */
+public final class LectorMapeado extends Reader {
+
+    public static final long UMBRAL_MAPEO_BYTES = 256L * 1024;
+
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decodificador = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharBuffer pendientes = CharBuffer.allocate(2);
+    private boolean terminado;
+
+    private LectorMapeado(ByteBuffer bytes) {
+        this.bytes = bytes;
+        pendientes.flip();
+    }
+
+    /**
+     * Proposito: abrir un archivo fuente para el Lexer.
+     * Entradas: ruta del archivo en UTF-8.
+     * Salidas: Reader que entrega los caracteres decodificados; los bytes invalidos se reemplazan igual que con FileReader.
+     * Restricciones: archivos de mas de 2 GB no se pueden mapear en un solo bloque.
+     */
+    public static LectorMapeado abrir(Path ruta) throws IOException {
+        try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            long tamano = canal.size();
+            if (tamano < UMBRAL_MAPEO_BYTES) {
+                return new LectorMapeado(ByteBuffer.wrap(Files.readAllBytes(ruta)));
+            }
+            if (tamano > Integer.MAX_VALUE) {
+                throw new IOException("Archivo fuente demasiado grande para mapearlo: " + ruta);
+            }
+            // El mapeo sigue valido despues de cerrar el canal
+            MappedByteBuffer mapeado = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamano);
+            return new LectorMapeado(mapeado);
+        }
+    }
+
+    /**
+     * Proposito: decodificar tantos caracteres como quepan en el rango pedido.
+     * Entradas: arreglo destino, desplazamiento y cantidad maxima.
+     * Salidas: caracteres escritos, o -1 al terminar el archivo.
+     * Restricciones: nunca devuelve 0 cuando len es positivo (JFlex lo trata como error); un par sustituto
+     *                que no cabe en un espacio de 1 se entrega en dos llamadas.
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (pendientes.hasRemaining()) {
+            int n = Math.min(len, pendientes.remaining());
+            pendientes.get(cbuf, off, n);
+            return n;
+        }
+        if (terminado) {
+            return -1;
+        }
+        CharBuffer destino = CharBuffer.wrap(cbuf, off, len);
+        decodificar(destino);
+        int escritos = destino.position() - off;
+        if (escritos > 0) {
+            return escritos;
+        }
+        if (terminado) {
+            return -1;
+        }
+        // El siguiente caracter ocupa dos char y solo habia espacio para uno
+        pendientes.clear();
+        decodificar(pendientes);
+        pendientes.flip();
+        return read(cbuf, off, len);
+    }
+
+    private void decodificar(CharBuffer destino) throws IOException {
+        CoderResult resultado = decodificador.decode(bytes, destino, true);
+        if (resultado.isError()) {
+            resultado.throwException();
+        }
+        if (resultado.isUnderflow()) {
+            resultado = decodificador.flush(destino);
+            if (resultado.isUnderflow()) {
+                terminado = true;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        terminado = true;
+        pendientes.position(pendientes.limit());
+    }
+}
@@ -16,7 +16,7 @@ class Lexer implements java_cup.runtime.Scanner {
   public static final int YYEOF = -1;
 
   /** Initial size of the lookahead buffer. */
-  private static final int ZZ_BUFFERSIZE = 16384;
+  private static final int ZZ_BUFFERSIZE = 65536;
 
   // Lexical states.
   public static final int YYINITIAL = 0;
@@ -437,7 +437,6 @@ class Lexer implements java_cup.runtime.Scanner {
   private int yycolumn;
 
   /** Number of characters up to the start of the matched text. */
-  @SuppressWarnings("unused")
   private long yychar;
 
   /** Whether the scanner is currently at the beginning of a line. */
@@ -452,20 +451,57 @@ class Lexer implements java_cup.runtime.Scanner {
 
   private Symbol symbol(int type) {
     // attach current lexer line/column so CUP actions get left/right
-    return new Symbol(type, yyline, yycolumn, null);
+    return notificar(new Symbol(type, yyline, yycolumn, null));
   }
   private Symbol symbol(int type, Object value) {
     // attach current lexer line/column and carry the value
-    return new Symbol(type, yyline, yycolumn, value);
+    return notificar(new Symbol(type, yyline, yycolumn, value));
   }
   // helper when lexer wants to supply line/column info
   private Symbol symbol(int type, int left, int right) {
     // create a Symbol with location but no value
-    return new Symbol(type, left, right, null);
+    return notificar(new Symbol(type, left, right, null));
   }
 
   private Symbol symbol(int type, int left, int right, Object value) {
-    return new Symbol(type, left, right, value);
+    return notificar(new Symbol(type, left, right, value));
+  }
+
+  // Observador opcional; sin listener cada token solo paga esta comparacion con null
+  private LexerListener listener;
+
+  public void setListener(LexerListener listener) {
+    this.listener = listener;
+  }
+
+  private Symbol notificar(Symbol token) {
+    if (listener != null) {
+      listener.token(token, yytext());
+    }
+    return token;
+  }
+
+  private void cambiarEstado(int estado) {
+    if (listener != null && estado != yystate()) {
+      listener.cambioEstado(nombreEstado(yystate()), nombreEstado(estado), yyline, yycolumn);
+    }
+    yybegin(estado);
+  }
+
+  private RuntimeException errorLexico(String mensaje) {
+    if (listener != null) {
+      listener.error(mensaje, yyline, yycolumn);
+    }
+    return new RuntimeException(mensaje);
+  }
+
+  private static String nombreEstado(int estado) {
+    switch (estado) {
+      case STRING: return "STRING";
+      case CHARSTR: return "CHARSTR";
+      case COMMENT_BLOCK: return "COMMENT_BLOCK";
+      default: return "YYINITIAL";
+    }
   }
 
   // expose current position and yytext to callers
@@ -477,8 +513,307 @@ class Lexer implements java_cup.runtime.Scanner {
     return yycolumn;
   }
 
+  // Desplazamiento en caracteres desde el inicio de la entrada (LexicoIncremental)
+  public int getPosicion() {
+    return (int) yychar;
+  }
+
   public String getYYText() {
-    return yytext();
+    return lexemaInternado();
+  }
+
+  // Lexemas internados: cada identificador distinto se crea una sola vez por Lexer
+  private final TablaIdentificadores identificadores = new TablaIdentificadores();
+
+  private String lexemaInternado() {
+    return identificadores.internar(zzBuffer, zzStartRead, zzMarkedPos - zzStartRead);
+  }
+
+  // Los enteros se convierten desde el buffer; el texto internado se conserva para TOKENS.txt
+  private LiteralNumerico literalEntero() {
+    return LiteralNumerico.entero(zzBuffer, zzStartRead, zzMarkedPos - zzStartRead, lexemaInternado());
+  }
+
+  // Modo fragmento (LexicoParalelo): el trozo puede empezar en cualquier estado y terminar dentro de un
+  // comentario de bloque sin que eso sea un error; quien une los trozos decide si lo es
+  private boolean fragmento;
+
+  public void iniciarFragmento(int estado) {
+    fragmento = true;
+    yybegin(estado);
+  }
+
+  public int getEstado() {
+    return yystate();
+  }
+
+  // Modo resumen (--comentarios-resumidos): cada comentario de bloque completo llega al parser como un
+  // solo token BLOCK_COMMENT con su texto, en vez de INIT_COMMENT, un COMMENT por tramo y END_COMMENT
+  private boolean resumirComentarios;
+  private int lineaComentario;
+  private int columnaComentario;
+
+  public void setResumirComentarios(boolean resumir) {
+    this.resumirComentarios = resumir;
+  }
+
+  public boolean isResumirComentarios() {
+    return resumirComentarios;
+  }
+
+  private void iniciarResumen() {
+    lineaComentario = yyline;
+    columnaComentario = yycolumn;
+    string.setLength(0);
+    acumularComentario();
+  }
+
+  // Copia el tramo reconocido directo del buffer, sin crear un String por tramo
+  private void acumularComentario() {
+    string.append(zzBuffer, zzStartRead, zzMarkedPos - zzStartRead);
+  }
+
+  private Symbol cerrarResumen() {
+    acumularComentario();
+    return symbol(sym.BLOCK_COMMENT, lineaComentario, columnaComentario, string.toString());
+  }
+
+  public TablaIdentificadores getTablaIdentificadores() {
+    return identificadores;
+  }
+  // Via rapida ASCII: en YYINITIAL los tokens mas frecuentes (espacios, identificadores, enteros y
+  // signos de un caracter) se reconocen con una tabla plana de 128 clases, sin el mapa Unicode de dos
+  // niveles ni las transiciones del automata. Todo lo demas (caracteres no ASCII, palabras en
+  // minusculas que pueden ser reservadas, operadores de dos caracteres, numeros con punto o cero
+  // inicial, comentarios, cadenas y tokens que tocan el final del buffer) lo resuelve el automata.
+  private static final byte ASCII_OTRO = 0;
+  private static final byte ASCII_ESPACIO = 1;
+  private static final byte ASCII_MINUSCULA = 2;
+  private static final byte ASCII_PALABRA = 3;
+  private static final byte ASCII_DIGITO = 4;
+  private static final byte ASCII_SIGNO = 5;
+  private static final byte[] CLASE_ASCII = new byte[128];
+  private static final int[] SIGNO_ASCII = new int[128];
+  // Segundo caracter que convierte al signo en otro token ("==", "--", "->", "++", "<=", ">=")
+  private static final String[] CONTINUACION_ASCII = new String[128];
+
+  static {
+    for (char c : " \t\n\r\f".toCharArray()) CLASE_ASCII[c] = ASCII_ESPACIO;
+    for (char c = 'a'; c <= 'z'; c++) CLASE_ASCII[c] = ASCII_MINUSCULA;
+    for (char c = 'A'; c <= 'Z'; c++) CLASE_ASCII[c] = ASCII_PALABRA;
+    CLASE_ASCII['_'] = ASCII_PALABRA;
+    for (char c = '0'; c <= '9'; c++) CLASE_ASCII[c] = ASCII_DIGITO;
+    signoAscii('$', sym.DOLLAR, "");
+    signoAscii('(', sym.PARENTS, "");
+    signoAscii(')', sym.PARENTC, "");
+    signoAscii('[', sym.SQUARES, "");
+    signoAscii(']', sym.SQUAREC, "");
+    signoAscii(',', sym.COMA, "");
+    signoAscii('?', sym.END_BLOCK, "");
+    signoAscii('@', sym.AND, "");
+    signoAscii('~', sym.OR, "");
+    signoAscii('^', sym.POTENCIA, "");
+    signoAscii('%', sym.FLOAT_DIV, "");
+    signoAscii('*', sym.MULTI, "");
+    signoAscii('=', sym.EQ, "=");
+    signoAscii('-', sym.MENOS, "->");
+    signoAscii('+', sym.MAS, "+");
+    signoAscii('<', sym.LOWER, "=");
+    signoAscii('>', sym.GREATHER, "=");
+  }
+
+  private static void signoAscii(char c, int tipo, String continuacion) {
+    CLASE_ASCII[c] = ASCII_SIGNO;
+    SIGNO_ASCII[c] = tipo;
+    CONTINUACION_ASCII[c] = continuacion;
+  }
+
+  private boolean viaRapida = true;
+  // El token actual salio de la via rapida y no tiene saltos de linea: su contabilidad es sumar su largo
+  private boolean tokenSinSaltos;
+
+  // Solo para comparar contra el automata (LexerBenchmark); los tokens son los mismos con o sin via rapida
+  public void setViaRapida(boolean activa) {
+    this.viaRapida = activa;
+  }
+
+  public java_cup.runtime.Symbol next_token() throws java.io.IOException {
+    if (tokenSinSaltos) {
+      int largo = zzMarkedPos - zzStartRead;
+      yychar += largo;
+      yycolumn += largo;
+      zzStartRead = zzMarkedPos;
+      tokenSinSaltos = false;
+    }
+    if (viaRapida && zzLexicalState == YYINITIAL) {
+      Symbol token = tokenAscii();
+      if (token != null) {
+        return token;
+      }
+    }
+    return siguienteTokenAutomata();
+  }
+
+  // Devuelve null cuando el siguiente token no es de la via rapida; a lo sumo consume los espacios previos
+  private Symbol tokenAscii() {
+    if (!contabilizarCoincidencia()) {
+      return null;
+    }
+    char[] buffer = zzBuffer;
+    int fin = zzEndRead;
+    int inicio = zzMarkedPos;
+    int i = inicio;
+    while (i < fin && buffer[i] < 128 && CLASE_ASCII[buffer[i]] == ASCII_ESPACIO) {
+      i++;
+    }
+    if (i == fin) {
+      // La serie de espacios (o el token) puede seguir despues del buffer
+      return null;
+    }
+    if (i > inicio) {
+      contarEspacios(buffer, inicio, i);
+      inicio = i;
+    }
+    char c = buffer[inicio];
+    if (c >= 128) {
+      return null;
+    }
+    i = inicio + 1;
+    int tipo;
+    switch (CLASE_ASCII[c]) {
+      case ASCII_MINUSCULA:
+      case ASCII_PALABRA: {
+        // Todas las palabras reservadas son solo minusculas; con otro caracter es identificador seguro
+        boolean reservable = CLASE_ASCII[c] == ASCII_MINUSCULA;
+        byte clase;
+        while (i < fin && buffer[i] < 128
+               && ((clase = CLASE_ASCII[buffer[i]]) == ASCII_MINUSCULA || clase == ASCII_PALABRA || clase == ASCII_DIGITO)) {
+          reservable &= clase == ASCII_MINUSCULA;
+          i++;
+        }
+        if (i == fin || reservable) {
+          return null;
+        }
+        tipo = sym.IDENTIFIER;
+        break;
+      }
+      case ASCII_DIGITO:
+        while (i < fin && buffer[i] >= '0' && buffer[i] <= '9') {
+          i++;
+        }
+        // "1.5" es flotante y "007" lo toma {floatNum} por ser mas largo que el entero "0"
+        if (i == fin || buffer[i] == '.' || (c == '0' && i > inicio + 1)) {
+          return null;
+        }
+        tipo = sym.INT_LITERAL;
+        break;
+      case ASCII_SIGNO:
+        if (!CONTINUACION_ASCII[c].isEmpty() && (i == fin || CONTINUACION_ASCII[c].indexOf(buffer[i]) >= 0)) {
+          return null;
+        }
+        tipo = SIGNO_ASCII[c];
+        break;
+      default:
+        return null;
+    }
+    zzStartRead = inicio;
+    zzMarkedPos = i;
+    tokenSinSaltos = true;
+    if (tipo == sym.IDENTIFIER) {
+      return symbol(sym.IDENTIFIER, lexemaInternado());
+    }
+    if (tipo == sym.INT_LITERAL) {
+      return symbol(sym.INT_LITERAL, literalEntero());
+    }
+    return symbol(tipo);
+  }
+
+  // Espacios ignorados [desde, hasta) con el caracter siguiente ya en el buffer (no es '\n'): se cuentan
+  // como lo haria el automata y se descartan
+  private void contarEspacios(char[] buffer, int desde, int hasta) {
+    boolean retorno = false;
+    for (int i = desde; i < hasta; i++) {
+      char c = buffer[i];
+      if (c == '\n') {
+        if (!retorno) {
+          yyline++;
+          yycolumn = 0;
+        }
+        retorno = false;
+      } else if (c == '\r' || c == '\f') {
+        yyline++;
+        yycolumn = 0;
+        retorno = c == '\r';
+      } else {
+        yycolumn++;
+        retorno = false;
+      }
+    }
+    yychar += hasta - desde;
+    zzStartRead = hasta;
+    zzMarkedPos = hasta;
+  }
+
+  // Misma contabilidad que hace el automata al empezar cada llamada: avanza yychar, yyline y yycolumn
+  // sobre la coincidencia anterior [zzStartRead, zzMarkedPos). Si la coincidencia termina en '\r' y el
+  // caracter siguiente aun no esta en el buffer, no toca nada y deja que el automata recargue.
+  private boolean contabilizarCoincidencia() {
+    char[] buffer = zzBuffer;
+    int desde = zzStartRead;
+    int hasta = zzMarkedPos;
+    if (desde == hasta) {
+      return true;
+    }
+    if (buffer[hasta - 1] == '\r' && hasta >= zzEndRead && !zzAtEOF) {
+      return false;
+    }
+    yychar += hasta - desde;
+    boolean retorno = false;
+    int i = desde;
+    while (i < hasta) {
+      char c = buffer[i];
+      if (c > '\r' && c < '\u0085') {
+        yycolumn++;
+        retorno = false;
+        i++;
+        continue;
+      }
+      int punto = Character.codePointAt(buffer, i, hasta);
+      int largo = Character.charCount(punto);
+      switch (punto) {
+        case '\u000B':
+        case '\u000C':
+        case '\u0085':
+        case '\u2028':
+        case '\u2029':
+          yyline++;
+          yycolumn = 0;
+          retorno = false;
+          break;
+        case '\r':
+          yyline++;
+          yycolumn = 0;
+          retorno = true;
+          break;
+        case '\n':
+          if (retorno) {
+            retorno = false;
+          } else {
+            yyline++;
+            yycolumn = 0;
+          }
+          break;
+        default:
+          retorno = false;
+          yycolumn += largo;
+      }
+      i += largo;
+    }
+    if (retorno && hasta < zzEndRead && buffer[hasta] == '\n') {
+      yyline--;
+    }
+    zzStartRead = hasta;
+    return true;
   }
 
 
@@ -763,7 +1098,7 @@ class Lexer implements java_cup.runtime.Scanner {
    * @return the next token.
    * @exception java.io.IOException if any I/O-Error occurs.
    */
-  @Override  public java_cup.runtime.Symbol next_token() throws java.io.IOException
+  public java_cup.runtime.Symbol siguienteTokenAutomata() throws java.io.IOException
   {
     int zzInput;
     int zzAction;
@@ -781,6 +1116,8 @@ class Lexer implements java_cup.runtime.Scanner {
     while (true) {
       zzMarkedPosL = zzMarkedPos;
 
+      yychar+= zzMarkedPosL-zzStartRead;
+
       boolean zzR = false;
       int zzCh;
       int zzCharCount;
@@ -903,17 +1240,18 @@ class Lexer implements java_cup.runtime.Scanner {
             zzDoEOF();
             switch (zzLexicalState) {
             case COMMENT_BLOCK: {
-              throw new RuntimeException("Comentario de bloque sin cierre");
+              if (fragmento) { return new Symbol(sym.EOF); } throw errorLexico("Comentario de bloque sin cierre");
             }  // fall though
             case 198: break;
             default:
-          { return new java_cup.runtime.Symbol(sym.EOF); }
+          {   return new java_cup.runtime.Symbol(sym.EOF);
+ }
         }
       }
       else {
         switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
           case 1:
-            { throw new RuntimeException("Carácter no válido: " + yytext());
+            { throw errorLexico("Carácter no válido: " + yytext());
             }
           // fall through
           case 83: break;
@@ -923,7 +1261,7 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 84: break;
           case 3:
-            { string.setLength(0); yybegin(STRING);
+            { string.setLength(0); cambiarEstado(STRING);
             }
           // fall through
           case 85: break;
@@ -938,7 +1276,7 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 87: break;
           case 6:
-            { string.setLength(0); yybegin(CHARSTR);
+            { string.setLength(0); cambiarEstado(CHARSTR);
             }
           // fall through
           case 88: break;
@@ -973,7 +1311,7 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 94: break;
           case 13:
-            { System.out.println("punto"); return symbol(sym.DOT, yyline, yycolumn, yytext());
+            { return symbol(sym.DOT, yyline, yycolumn, yytext());
             }
           // fall through
           case 95: break;
@@ -983,7 +1321,7 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 96: break;
           case 15:
-            { return symbol(sym.INT_LITERAL, yytext());
+            { return symbol(sym.INT_LITERAL, literalEntero());
             }
           // fall through
           case 97: break;
@@ -1013,7 +1351,7 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 102: break;
           case 21:
-            { return symbol(sym.IDENTIFIER, yytext());
+            { return symbol(sym.IDENTIFIER, lexemaInternado());
             }
           // fall through
           case 103: break;
@@ -1043,7 +1381,7 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 108: break;
           case 27:
-            { yybegin(COMMENT_BLOCK); return symbol(sym.INIT_COMMENT);
+            { cambiarEstado(COMMENT_BLOCK); if (resumirComentarios) { iniciarResumen(); } else { return symbol(sym.INIT_COMMENT); }
             }
           // fall through
           case 109: break;
@@ -1073,12 +1411,13 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 114: break;
           case 33:
-            { /* ignore whitespace */
+            { /* ignore whitespace (dentro de un comentario resumido forma parte de su texto) */
+                                 if (resumirComentarios && yystate() == COMMENT_BLOCK) { acumularComentario(); }
             }
           // fall through
           case 115: break;
           case 34:
-            { yybegin(YYINITIAL); 
+            { cambiarEstado(YYINITIAL); 
                                    return symbol(sym.STRING_LITERAL, 
                                    string.toString());
             }
@@ -1090,19 +1429,19 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 117: break;
           case 36:
-            { yybegin(YYINITIAL); 
+            { cambiarEstado(YYINITIAL); 
                                    return symbol(sym.CHARSTR,
                                    string.toString());
             }
           // fall through
           case 118: break;
           case 37:
-            { return symbol(sym.COMMENT, yytext());
+            { if (resumirComentarios) { acumularComentario(); } else { return symbol(sym.COMMENT, yytext()); }
             }
           // fall through
           case 119: break;
           case 38:
-            { yybegin(YYINITIAL); return symbol(sym.END_COMMENT);
+            { cambiarEstado(YYINITIAL); if (resumirComentarios) { return cerrarResumen(); } return symbol(sym.END_COMMENT);
             }
           // fall through
           case 120: break;
@@ -1127,7 +1466,7 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 124: break;
           case 43:
-            { System.out.println("flotante"); return symbol(sym.FLOAT, yytext());
+            { return symbol(sym.FLOAT, LiteralNumerico.flotante(yytext()));
             }
           // fall through
           case 125: break;
@@ -1237,7 +1576,7 @@ class Lexer implements java_cup.runtime.Scanner {
           // fall through
           case 146: break;
           case 65:
-            { System.out.println("true"); return symbol(sym.TRUE);
+            { return symbol(sym.TRUE);
             }
           // fall through
           case 147: break;
@@ -0,0 +1,62 @@
+import java_cup.runtime.Symbol;
+
+/**
+ * Observador opcional del Lexer. Se instala con Lexer.setListener y recibe
+ * cada token emitido, los errores lexicos y los cambios de estado (cadenas,
+ * caracteres y comentarios de bloque). Sin listener instalado el lexer solo
+ * paga una comparacion con null por token; las trazas de depuracion que antes
+ * se imprimian siempre viven ahora en Traza y se activan con --traza-lexer.
+ */
+public interface LexerListener {
+
+    /**
+     * Proposito: observar un token recien reconocido, antes de entregarlo al consumidor.
+     * Entradas: Symbol con linea y columna base 0 y el texto que reconocio la regla.
+     * Salidas: ninguna.
+     * Restricciones: no debe modificar el Symbol.
+     */
+    void token(Symbol token, String texto);
+
+    /**
+     * Proposito: observar un error lexico justo antes de que el lexer lance su excepcion.
+     * Entradas: mensaje, linea y columna base 0.
+     * Salidas: ninguna.
+     * Restricciones: el lexer lanza la excepcion de todas formas.
+     */
+    void error(String mensaje, int linea, int columna);
+
+    /**
+     * Proposito: observar un cambio de estado del lexer (yybegin).
+     * Entradas: nombres del estado anterior y del nuevo, linea y columna base 0.
+     * Salidas: ninguna.
+     * Restricciones: ninguna.
+     */
+    void cambioEstado(String anterior, String nuevo, int linea, int columna);
+
+    /**
+     * Trazas de depuracion del lexer en stdout: los mensajes "punto", "flotante"
+     * y "true" que el lexer imprimia siempre, mas los errores y cambios de estado.
+     */
+    final class Traza implements LexerListener {
+        @Override
+        public void token(Symbol token, String texto) {
+            if (token.sym == sym.DOT) {
+                System.out.println("punto");
+            } else if (token.sym == sym.FLOAT && token.value instanceof LiteralNumerico) {
+                System.out.println("flotante");
+            } else if (token.sym == sym.TRUE) {
+                System.out.println("true");
+            }
+        }
+
+        @Override
+        public void error(String mensaje, int linea, int columna) {
+            System.out.println("lexer: " + mensaje + " en " + (linea + 1) + ":" + (columna + 1));
+        }
+
+        @Override
+        public void cambioEstado(String anterior, String nuevo, int linea, int columna) {
+            System.out.println("lexer: " + anterior + " -> " + nuevo + " en " + (linea + 1) + ":" + (columna + 1));
+        }
+    }
+}
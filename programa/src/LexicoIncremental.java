@@ -0,0 +1,512 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java_cup.runtime.Symbol;
+
+/**
+ * Re-escaneo incremental para integrarse con un editor. Mantiene el texto y
+ * sus tokens; ante cada edicion (posicion, caracteres eliminados, texto
+ * insertado) vuelve a pasar el Lexer solo desde el ultimo punto de reinicio
+ * seguro antes de la edicion hasta que los tokens nuevos vuelven a coincidir
+ * con los viejos, y los tokens posteriores se conservan corriendo sus
+ * posiciones.
+ *
+ * Punto de reinicio seguro: el inicio de un token que el lexer reconocio en
+ * YYINITIAL (no una cadena, caracter ni parte de un comentario de bloque)
+ * a por lo menos dos caracteres de la edicion, porque el automata puede
+ * haber leido hasta un caracter mas alla del final de cada token para
+ * decidir la coincidencia mas larga. La excepcion es un "/*" sin cierre: el
+ * automata lo sigue hasta EOF buscando el cierre, asi que ninguna edicion
+ * posterior puede reiniciar despues de el.
+ *
+ * Tanto el texto como los tokens viven en buffers con hueco ubicado en la
+ * ultima edicion; los tokens despues del hueco guardan su posicion y linea
+ * sin el corrimiento acumulado, que se aplica al leerlos. Asi una edicion
+ * cuesta en proporcion a lo que se re-escanea y a la distancia desde la
+ * edicion anterior, no al tamano del archivo.
+ */
+public final class LexicoIncremental {
+
+    // Todo token se decide mirando a lo sumo un caracter despues de su final
+    private static final int ALCANCE_LECTURA = 2;
+    // Caracteres por lectura del lexer, para no copiar de mas despues del punto de coincidencia
+    private static final int LECTURA_MAXIMA = 4096;
+    private static final int CON_VALOR = 1 << 8;
+    private static final int MASCARA_TIPO = 0xFF;
+    private static final int CAPACIDAD_INICIAL = 1024;
+    // Lexemas internados que se toleran antes de vaciar la tabla del lexer, si superan el doble de los tokens
+    private static final int LIMITE_IDENTIFICADORES = 4096;
+
+    /**
+     * Resumen de una edicion, en indices de token: los tokens viejos
+     * [primerToken, primerToken + eliminados) se reemplazaron por los nuevos
+     * [primerToken, primerToken + insertados); los demas solo se corrieron.
+     */
+    public static final class Cambio {
+        public final int primerToken;
+        public final int eliminados;
+        public final int insertados;
+        public final int caracteresEscaneados;
+
+        Cambio(int primerToken, int eliminados, int insertados, int caracteresEscaneados) {
+            this.primerToken = primerToken;
+            this.eliminados = eliminados;
+            this.insertados = insertados;
+            this.caracteresEscaneados = caracteresEscaneados;
+        }
+
+        @Override
+        public String toString() {
+            return "tokens " + primerToken + " -" + eliminados + " +" + insertados
+                    + " (" + caracteresEscaneados + " caracteres escaneados)";
+        }
+    }
+
+    // Texto: [0, inicioHueco) y [finHueco, texto.length)
+    private char[] texto;
+    private int inicioHueco;
+    private int finHueco;
+
+    // Tokens: [0, inicioHuecoTokens) con valores reales y [finHuecoTokens, capacidad) sin el corrimiento
+    private int[] palabras = new int[CAPACIDAD_INICIAL];
+    private int[] posiciones = new int[CAPACIDAD_INICIAL];
+    private int[] lineas = new int[CAPACIDAD_INICIAL];
+    private int[] columnas = new int[CAPACIDAD_INICIAL];
+    private Object[] lexemas = new Object[CAPACIDAD_INICIAL];
+    private int inicioHuecoTokens;
+    private int finHuecoTokens = CAPACIDAD_INICIAL;
+    private int corrimientoPosicion;
+    private int corrimientoLinea;
+
+    // Posicion del primer "/*" sin cierre (DIV seguido de MULTI), o -1
+    private int aperturaSinCierre = -1;
+    private String error;
+
+    // Un solo Lexer reutilizado con yyreset: conserva su buffer; su tabla de identificadores se vacia en
+    // escanearTodo y cuando acumula lexemas de tokens que las ediciones ya borraron (ver liberarIdentificadores)
+    private final Lexer lexer = new Lexer(Reader.nullReader());
+
+    /**
+     * Proposito: escanear un texto completo y dejarlo listo para editarse.
+     * Entradas: contenido inicial del documento.
+     * Salidas: instancia con los tokens del texto, o sin tokens y con getError() si hay un error lexico.
+     * Restricciones: ninguna.
+     */
+    public LexicoIncremental(CharSequence inicial) {
+        texto = new char[Math.max(CAPACIDAD_INICIAL, inicial.length() * 2)];
+        for (int i = 0; i < inicial.length(); i++) {
+            texto[i] = inicial.charAt(i);
+        }
+        inicioHueco = inicial.length();
+        finHueco = texto.length;
+        escanearTodo();
+    }
+
+    /**
+     * Proposito: aplicar una edicion del documento y actualizar los tokens.
+     * Entradas: posicion de la edicion, cantidad de caracteres eliminados desde ahi y texto insertado.
+     * Salidas: Cambio con el rango de tokens reemplazado.
+     * Restricciones: si el texto resultante tiene un error lexico queda sin tokens y getError() lo describe;
+     *                la siguiente edicion vuelve a escanear todo el documento.
+     */
+    public Cambio aplicar(int posicion, int eliminados, CharSequence insertado) {
+        if (posicion < 0 || eliminados < 0 || posicion + eliminados > longitud()) {
+            throw new IllegalArgumentException("Edicion fuera del documento: " + posicion + "+" + eliminados
+                    + " en " + longitud() + " caracteres");
+        }
+        if (error != null) {
+            int anteriores = size();
+            editarTexto(posicion, eliminados, insertado);
+            int escaneados = escanearTodo();
+            return new Cambio(0, anteriores, size(), escaneados);
+        }
+
+        int primero = puntoDeReinicio(posicion);
+        int inicio = primero < size() ? posicion(primero) : 0;
+        int lineaInicio = primero < size() ? linea(primero) : 0;
+        int columnaInicio = primero < size() ? columna(primero) : 0;
+        if (primero == size()) {
+            // Sin tokens seguros antes de la edicion: se escanea desde el principio
+            primero = 0;
+            inicio = 0;
+            lineaInicio = 0;
+            columnaInicio = 0;
+        }
+        liberarIdentificadores();
+        moverHuecoTokens(primero);
+        editarTexto(posicion, eliminados, insertado);
+
+        int diferencia = insertado.length() - eliminados;
+        int finEdicion = posicion + insertado.length();
+        int aperturaVieja = aperturaSinCierre;
+        if (aperturaSinCierre >= inicio) {
+            aperturaSinCierre = -1;
+        }
+        int descartados = 0;
+        int insertados = 0;
+        lexer.yyreset(new Lector(inicio));
+        try {
+            Symbol token = lexer.next_token();
+            while (token.sym != sym.EOF) {
+                int nuevaPosicion = inicio + lexer.getPosicion();
+                int nuevaLinea = lineaInicio + token.left;
+                int nuevaColumna = token.left == 0 ? columnaInicio + token.right : token.right;
+                if (esReinicioSeguro(token.sym) && nuevaPosicion >= finEdicion) {
+                    int posicionVieja = nuevaPosicion - diferencia;
+                    while (finHuecoTokens < palabras.length && posiciones[finHuecoTokens] + corrimientoPosicion < posicionVieja) {
+                        finHuecoTokens++;
+                        descartados++;
+                    }
+                    if (finHuecoTokens < palabras.length
+                            && posiciones[finHuecoTokens] + corrimientoPosicion == posicionVieja
+                            && esReinicioSeguro(palabras[finHuecoTokens] & MASCARA_TIPO)) {
+                        sincronizar(nuevaPosicion, nuevaLinea, nuevaColumna, diferencia, aperturaVieja, posicion + eliminados);
+                        return new Cambio(primero, descartados, insertados, nuevaPosicion - inicio);
+                    }
+                }
+                boolean conValor = token.value != null;
+                agregarAntesDelHueco(token.sym, nuevaPosicion, nuevaLinea, nuevaColumna, conValor,
+                        conValor ? token.value : lexer.getYYText());
+                insertados++;
+                token = lexer.next_token();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            return invalidar(e, primero, descartados, insertados);
+        }
+        // Se llego a EOF sin coincidir: los tokens viejos restantes ya no existen
+        descartados += palabras.length - finHuecoTokens;
+        finHuecoTokens = palabras.length;
+        return new Cambio(primero, descartados, insertados, longitud() - inicio);
+    }
+
+    /**
+     * Busca el ultimo token seguro que empieza a ALCANCE_LECTURA o mas de la
+     * edicion (y no despues de un "/*" sin cierre); size() si no hay ninguno.
+     */
+    private int puntoDeReinicio(int posicion) {
+        int limite = posicion - ALCANCE_LECTURA;
+        if (aperturaSinCierre >= 0 && aperturaSinCierre <= limite) {
+            limite = aperturaSinCierre;
+        }
+        int bajo = 0;
+        int alto = size() - 1;
+        int candidato = -1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (posicion(medio) <= limite) {
+                candidato = medio;
+                bajo = medio + 1;
+            } else {
+                alto = medio - 1;
+            }
+        }
+        while (candidato >= 0 && !esReinicioSeguro(tipo(candidato))) {
+            candidato--;
+        }
+        return candidato < 0 ? size() : candidato;
+    }
+
+    // El token nuevo en nuevaPosicion es el mismo token viejo que sigue al hueco; los demas se corren
+    private void sincronizar(int nuevaPosicion, int nuevaLinea, int nuevaColumna, int diferencia,
+            int aperturaVieja, int finEliminado) {
+        int lineaVieja = lineas[finHuecoTokens] + corrimientoLinea;
+        int diferenciaColumna = nuevaColumna - columnas[finHuecoTokens];
+        if (diferenciaColumna != 0) {
+            // Solo los tokens de la misma linea cambian de columna
+            for (int i = finHuecoTokens; i < palabras.length && lineas[i] + corrimientoLinea == lineaVieja; i++) {
+                columnas[i] += diferenciaColumna;
+            }
+        }
+        if (aperturaSinCierre < 0) {
+            if (inicioHuecoTokens > 0 && (palabras[inicioHuecoTokens - 1] & MASCARA_TIPO) == sym.DIV
+                    && posiciones[inicioHuecoTokens - 1] == nuevaPosicion - 1
+                    && (palabras[finHuecoTokens] & MASCARA_TIPO) == sym.MULTI) {
+                aperturaSinCierre = nuevaPosicion - 1;
+            } else if (aperturaVieja >= finEliminado) {
+                aperturaSinCierre = aperturaVieja + diferencia;
+            } else if (aperturaVieja >= 0) {
+                // La apertura vieja quedo dentro de lo re-escaneado; puede haber otra mas adelante
+                aperturaSinCierre = buscarApertura(finHuecoTokens, diferencia);
+            }
+        }
+        corrimientoPosicion += diferencia;
+        corrimientoLinea += nuevaLinea - lineaVieja;
+    }
+
+    private int buscarApertura(int desde, int diferencia) {
+        for (int i = desde; i + 1 < palabras.length; i++) {
+            if ((palabras[i] & MASCARA_TIPO) == sym.DIV && (palabras[i + 1] & MASCARA_TIPO) == sym.MULTI
+                    && posiciones[i + 1] == posiciones[i] + 1) {
+                return posiciones[i] + corrimientoPosicion + diferencia;
+            }
+        }
+        return -1;
+    }
+
+    private Cambio invalidar(RuntimeException e, int primero, int descartados, int insertados) {
+        error = e.getMessage();
+        descartados += palabras.length - finHuecoTokens + primero;
+        inicioHuecoTokens = 0;
+        finHuecoTokens = palabras.length;
+        Arrays.fill(lexemas, null);
+        aperturaSinCierre = -1;
+        return new Cambio(0, descartados, 0, longitud());
+    }
+
+    /**
+     * Vacia la tabla de identificadores del lexer cuando guarda mas del doble
+     * de lexemas que tokens tiene el documento: cada token aporta a lo sumo
+     * un lexema, asi que la mayoria son de texto ya editado. Los tokens
+     * guardados conservan sus String; los que se re-escaneen despues reciben
+     * instancias nuevas, y FlujoTokens compara lexemas con equals.
+     */
+    private void liberarIdentificadores() {
+        TablaIdentificadores tabla = lexer.getTablaIdentificadores();
+        if (tabla.tamano() > Math.max(LIMITE_IDENTIFICADORES, 2 * size())) {
+            tabla.vaciar();
+        }
+    }
+
+    private int escanearTodo() {
+        // Todo el documento se vuelve a escanear: ningun lexema anterior hace falta
+        lexer.getTablaIdentificadores().vaciar();
+        inicioHuecoTokens = 0;
+        finHuecoTokens = palabras.length;
+        corrimientoPosicion = 0;
+        corrimientoLinea = 0;
+        aperturaSinCierre = -1;
+        error = null;
+        lexer.yyreset(new Lector(0));
+        try {
+            Symbol token = lexer.next_token();
+            while (token.sym != sym.EOF) {
+                boolean conValor = token.value != null;
+                agregarAntesDelHueco(token.sym, lexer.getPosicion(), token.left, token.right, conValor,
+                        conValor ? token.value : lexer.getYYText());
+                token = lexer.next_token();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            invalidar(e, 0, 0, 0);
+        }
+        return longitud();
+    }
+
+    private static boolean esReinicioSeguro(int tipo) {
+        return tipo != sym.STRING_LITERAL && tipo != sym.CHARSTR && tipo != sym.COMMENT && tipo != sym.END_COMMENT;
+    }
+
+    private void agregarAntesDelHueco(int tipo, int posicion, int linea, int columna, boolean conValor, Object lexema) {
+        if (inicioHuecoTokens == finHuecoTokens) {
+            crecerTokens();
+        }
+        int i = inicioHuecoTokens++;
+        palabras[i] = tipo | (conValor ? CON_VALOR : 0);
+        posiciones[i] = posicion;
+        lineas[i] = linea;
+        columnas[i] = columna;
+        lexemas[i] = lexema;
+        if (aperturaSinCierre < 0 && tipo == sym.MULTI && i > 0
+                && (palabras[i - 1] & MASCARA_TIPO) == sym.DIV && posiciones[i - 1] == posicion - 1) {
+            aperturaSinCierre = posicion - 1;
+        }
+    }
+
+    private void crecerTokens() {
+        int capacidad = palabras.length;
+        int nueva = capacidad * 2;
+        int despues = capacidad - finHuecoTokens;
+        palabras = crecer(palabras, nueva, despues);
+        posiciones = crecer(posiciones, nueva, despues);
+        lineas = crecer(lineas, nueva, despues);
+        columnas = crecer(columnas, nueva, despues);
+        Object[] otros = new Object[nueva];
+        System.arraycopy(lexemas, 0, otros, 0, inicioHuecoTokens);
+        System.arraycopy(lexemas, finHuecoTokens, otros, nueva - despues, despues);
+        lexemas = otros;
+        finHuecoTokens = nueva - despues;
+    }
+
+    private int[] crecer(int[] arreglo, int nueva, int despues) {
+        int[] otro = new int[nueva];
+        System.arraycopy(arreglo, 0, otro, 0, inicioHuecoTokens);
+        System.arraycopy(arreglo, finHuecoTokens, otro, nueva - despues, despues);
+        return otro;
+    }
+
+    // Deja los tokens [0, indice) antes del hueco, con valores reales, y el resto despues
+    private void moverHuecoTokens(int indice) {
+        while (inicioHuecoTokens > indice) {
+            inicioHuecoTokens--;
+            finHuecoTokens--;
+            moverToken(inicioHuecoTokens, finHuecoTokens, -corrimientoPosicion, -corrimientoLinea);
+        }
+        while (inicioHuecoTokens < indice) {
+            moverToken(finHuecoTokens, inicioHuecoTokens, corrimientoPosicion, corrimientoLinea);
+            inicioHuecoTokens++;
+            finHuecoTokens++;
+        }
+    }
+
+    private void moverToken(int desde, int hacia, int sumaPosicion, int sumaLinea) {
+        palabras[hacia] = palabras[desde];
+        posiciones[hacia] = posiciones[desde] + sumaPosicion;
+        lineas[hacia] = lineas[desde] + sumaLinea;
+        columnas[hacia] = columnas[desde];
+        lexemas[hacia] = lexemas[desde];
+        lexemas[desde] = null;
+    }
+
+    private void editarTexto(int posicion, int eliminados, CharSequence insertado) {
+        if (posicion < inicioHueco) {
+            int cuantos = inicioHueco - posicion;
+            System.arraycopy(texto, posicion, texto, finHueco - cuantos, cuantos);
+            inicioHueco -= cuantos;
+            finHueco -= cuantos;
+        } else if (posicion > inicioHueco) {
+            int cuantos = posicion - inicioHueco;
+            System.arraycopy(texto, finHueco, texto, inicioHueco, cuantos);
+            inicioHueco += cuantos;
+            finHueco += cuantos;
+        }
+        finHueco += eliminados;
+        if (finHueco - inicioHueco < insertado.length()) {
+            int despues = texto.length - finHueco;
+            char[] otro = new char[Math.max(texto.length * 2, longitud() + insertado.length() + CAPACIDAD_INICIAL)];
+            System.arraycopy(texto, 0, otro, 0, inicioHueco);
+            System.arraycopy(texto, finHueco, otro, otro.length - despues, despues);
+            finHueco = otro.length - despues;
+            texto = otro;
+        }
+        for (int i = 0; i < insertado.length(); i++) {
+            texto[inicioHueco++] = insertado.charAt(i);
+        }
+    }
+
+    /**
+     * Proposito: consultar cuantos caracteres tiene el documento.
+     * Entradas: ninguna.
+     * Salidas: longitud del texto actual.
+     * Restricciones: ninguna.
+     */
+    public int longitud() {
+        return texto.length - (finHueco - inicioHueco);
+    }
+
+    /**
+     * Proposito: obtener el texto actual del documento.
+     * Entradas: ninguna.
+     * Salidas: copia completa del texto.
+     * Restricciones: recorre todo el documento; pensado para depurar o compilar, no para cada tecla.
+     */
+    public String texto() {
+        StringBuilder sb = new StringBuilder(longitud());
+        sb.append(texto, 0, inicioHueco);
+        sb.append(texto, finHueco, texto.length - finHueco);
+        return sb.toString();
+    }
+
+    /**
+     * Proposito: consultar el error lexico del texto actual.
+     * Entradas: ninguna.
+     * Salidas: mensaje del error, o null si el texto se escaneo completo.
+     * Restricciones: mientras hay error no hay tokens.
+     */
+    public String getError() {
+        return error;
+    }
+
+    public int size() {
+        return inicioHuecoTokens + (palabras.length - finHuecoTokens);
+    }
+
+    public int tipo(int indice) {
+        return palabras[fisico(indice)] & MASCARA_TIPO;
+    }
+
+    /**
+     * Proposito: consultar el desplazamiento en caracteres de un token.
+     * Entradas: indice entre 0 y size()-1.
+     * Salidas: posicion donde empieza el token; para cadenas y caracteres, la de la comilla de cierre,
+     *          igual que su linea y columna.
+     * Restricciones: ninguna.
+     */
+    public int posicion(int indice) {
+        return indice < inicioHuecoTokens ? posiciones[indice] : posiciones[fisico(indice)] + corrimientoPosicion;
+    }
+
+    public int linea(int indice) {
+        return indice < inicioHuecoTokens ? lineas[indice] : lineas[fisico(indice)] + corrimientoLinea;
+    }
+
+    public int columna(int indice) {
+        return columnas[fisico(indice)];
+    }
+
+    public String lexema(int indice) {
+        return lexemas[fisico(indice)].toString();
+    }
+
+    /**
+     * Proposito: armar un FlujoTokens con los tokens actuales para parsear el documento.
+     * Entradas: ninguna.
+     * Salidas: flujo equivalente al de FlujoTokens.grabar sobre texto().
+     * Restricciones: recorre todos los tokens; falla si el texto tiene un error lexico.
+     */
+    public FlujoTokens flujo() {
+        if (error != null) {
+            throw new IllegalStateException("El documento tiene un error lexico: " + error);
+        }
+        FlujoTokens flujo = new FlujoTokens();
+        for (int i = 0; i < size(); i++) {
+            int fisico = fisico(i);
+            flujo.agregar(tipo(i), linea(i), columna(i), (palabras[fisico] & CON_VALOR) != 0, lexemas[fisico]);
+        }
+        flujo.terminar(new Symbol(sym.EOF));
+        return flujo;
+    }
+
+    private int fisico(int indice) {
+        return indice < inicioHuecoTokens ? indice : indice + (finHuecoTokens - inicioHuecoTokens);
+    }
+
+    /**
+     * Lector sobre el buffer con hueco a partir de una posicion; entrega
+     * trozos cortos para que el lexer no copie mucho mas alla de donde
+     * vuelve a coincidir con los tokens viejos.
+     */
+    private final class Lector extends Reader {
+        private int posicion;
+
+        Lector(int posicion) {
+            this.posicion = posicion;
+        }
+
+        @Override
+        public int read(char[] destino, int desde, int cuantos) {
+            int restantes = longitud() - posicion;
+            if (restantes <= 0) {
+                return -1;
+            }
+            int leidos = Math.min(Math.min(cuantos, restantes), LECTURA_MAXIMA);
+            int antesDelHueco = Math.max(0, Math.min(leidos, inicioHueco - posicion));
+            if (antesDelHueco > 0) {
+                System.arraycopy(texto, posicion, destino, desde, antesDelHueco);
+            }
+            if (leidos > antesDelHueco) {
+                int origen = posicion + antesDelHueco + (finHueco - inicioHueco);
+                System.arraycopy(texto, origen, destino, desde + antesDelHueco, leidos - antesDelHueco);
+            }
+            posicion += leidos;
+            return leidos;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
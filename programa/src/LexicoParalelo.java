@@ -0,0 +1,248 @@
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Analisis lexico en paralelo para fuentes muy grandes. La fuente se parte en
+ * trozos que empiezan al inicio de una linea, cada trozo se escanea con su
+ * propio Lexer en el ForkJoinPool comun suponiendo que empieza en YYINITIAL,
+ * y luego se recorren los trozos en orden para corregir las suposiciones:
+ *
+ * - si el trozo anterior termino dentro de un comentario de bloque, el trozo
+ *   se vuelve a escanear empezando en COMMENT_BLOCK;
+ * - si termino dentro de una cadena o caracter (cuyo texto acumulado no se
+ *   puede trasladar) o puede tener un comentario de barra y asterisco sin
+ *   cerrar, ese borde no es seguro y los dos trozos se escanean juntos;
+ * - si el trozo termina con un error lexico y no es el ultimo, el error
+ *   puede venir de un token que el borde corto (por ejemplo un comentario de
+ *   barra y asterisco cuyo texto se escaneo como codigo), asi que el resto de
+ *   la fuente se vuelve a escanear de una vez antes de reportarlo.
+ *
+ * El resultado es un unico FlujoTokens con las mismas lineas, columnas,
+ * lexemas y errores que produce FlujoTokens.grabar sobre el archivo completo.
+ */
+public final class LexicoParalelo {
+
+    /** Fuentes de al menos este tamano se escanean en paralelo desde grabarTokens. */
+    public static final long UMBRAL_BYTES = 1024L * 1024;
+
+    // Trozos mas pequenos no compensan crear un Lexer (su buffer ocupa 64K caracteres)
+    private static final int TAMANO_MINIMO_TROZO = 128 * 1024;
+
+    private LexicoParalelo() {
+    }
+
+    /**
+     * Resultado de escanear un rango de la fuente a partir de un estado supuesto.
+     */
+    private static final class Trozo {
+        final int inicio;
+        final int fin;
+        final int estadoInicial;
+        FlujoTokens flujo;
+        int lineas;
+        int estadoFinal;
+        Exception error;
+
+        Trozo(int inicio, int fin, int estadoInicial) {
+            this.inicio = inicio;
+            this.fin = fin;
+            this.estadoInicial = estadoInicial;
+        }
+    }
+
+    /**
+     * Proposito: escanear un archivo fuente en paralelo.
+     * Entradas: ruta del archivo en UTF-8.
+     * Salidas: flujo de tokens equivalente al de FlujoTokens.grabar.
+     * Restricciones: carga el archivo completo en memoria; los bytes invalidos se reemplazan como en LectorMapeado.
+     */
+    public static FlujoTokens grabar(Path ruta) throws IOException {
+        return grabar(ruta, false);
+    }
+
+    /**
+     * Proposito: escanear un archivo fuente en paralelo, opcionalmente con los comentarios de bloque resumidos.
+     * Entradas: ruta del archivo en UTF-8 y si cada comentario de bloque debe llegar como un solo BLOCK_COMMENT.
+     * Salidas: flujo de tokens equivalente al de un Lexer con la misma opcion.
+     * Restricciones: las mismas que grabar(Path).
+     */
+    public static FlujoTokens grabar(Path ruta, boolean resumirComentarios) throws IOException {
+        char[] fuente = new String(Files.readAllBytes(ruta), StandardCharsets.UTF_8).toCharArray();
+        return grabar(fuente, ForkJoinPool.commonPool().getParallelism(), resumirComentarios);
+    }
+
+    /**
+     * Proposito: escanear un texto en paralelo.
+     * Entradas: caracteres de la fuente y cantidad de trozos deseada por hilo disponible.
+     * Salidas: flujo de tokens equivalente al de FlujoTokens.grabar.
+     * Restricciones: propaga el primer error lexico en orden de la fuente, igual que el escaneo secuencial.
+     */
+    public static FlujoTokens grabar(char[] fuente, int hilos) throws IOException {
+        return grabar(fuente, hilos, false);
+    }
+
+    /**
+     * Proposito: escanear un texto en paralelo con la opcion de comentarios resumidos.
+     * Entradas: caracteres de la fuente, cantidad de trozos deseada por hilo y si se resumen los comentarios de bloque.
+     * Salidas: flujo de tokens equivalente al escaneo secuencial con la misma opcion.
+     * Restricciones: un comentario resumido no puede partirse, asi que un trozo que termina dentro de uno se une al siguiente.
+     */
+    public static FlujoTokens grabar(char[] fuente, int hilos, boolean resumirComentarios) throws IOException {
+        int[] cortes = cortes(fuente, Math.max(1, hilos) * 4);
+        List<Callable<Trozo>> tareas = new ArrayList<>();
+        for (int i = 0; i + 1 < cortes.length; i++) {
+            int inicio = cortes[i];
+            int fin = cortes[i + 1];
+            tareas.add(() -> escanear(fuente, inicio, fin, Lexer.YYINITIAL, resumirComentarios));
+        }
+        List<Trozo> trozos = new ArrayList<>();
+        for (Future<Trozo> futuro : ForkJoinPool.commonPool().invokeAll(tareas)) {
+            try {
+                trozos.add(futuro.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrumpido durante el analisis lexico", e);
+            } catch (ExecutionException e) {
+                throw new IOException("Fallo el analisis lexico de un trozo", e.getCause());
+            }
+        }
+        return unir(fuente, trozos, resumirComentarios);
+    }
+
+    /**
+     * Recorre los trozos en orden con el estado real del lexer y vuelve a
+     * escanear los que se escanearon con una suposicion equivocada.
+     */
+    private static FlujoTokens unir(char[] fuente, List<Trozo> trozos, boolean resumirComentarios) throws IOException {
+        List<FlujoTokens> partes = new ArrayList<>();
+        List<Integer> lineasPrevias = new ArrayList<>();
+        int estado = Lexer.YYINITIAL;
+        int lineas = 0;
+        int i = 0;
+        while (i < trozos.size()) {
+            Trozo trozo = trozos.get(i);
+            if (trozo.estadoInicial != estado) {
+                trozo = escanear(fuente, trozo.inicio, trozo.fin, estado, resumirComentarios);
+            }
+            int ultimo = i;
+            while (trozo.error == null && ultimo + 1 < trozos.size() && !bordeSeguro(fuente, trozo, resumirComentarios)) {
+                ultimo++;
+                trozo = escanear(fuente, trozo.inicio, trozos.get(ultimo).fin, estado, resumirComentarios);
+            }
+            if (trozo.error != null && ultimo + 1 < trozos.size()) {
+                // Solo el escaneo hasta el final de la fuente dice si el error es real y cual es el primero
+                ultimo = trozos.size() - 1;
+                trozo = escanear(fuente, trozo.inicio, fuente.length, estado, resumirComentarios);
+            }
+            if (trozo.error instanceof IOException) {
+                throw (IOException) trozo.error;
+            }
+            if (trozo.error != null) {
+                throw (RuntimeException) trozo.error;
+            }
+            partes.add(trozo.flujo);
+            lineasPrevias.add(lineas);
+            lineas += trozo.lineas;
+            estado = trozo.estadoFinal;
+            i = ultimo + 1;
+        }
+        if (estado == Lexer.COMMENT_BLOCK) {
+            throw new RuntimeException("Comentario de bloque sin cierre");
+        }
+        int[] desplazamientos = new int[lineasPrevias.size()];
+        for (int p = 0; p < desplazamientos.length; p++) {
+            desplazamientos[p] = lineasPrevias.get(p);
+        }
+        return FlujoTokens.unir(partes, desplazamientos);
+    }
+
+    private static Trozo escanear(char[] fuente, int inicio, int fin, int estado, boolean resumirComentarios) {
+        Trozo trozo = new Trozo(inicio, fin, estado);
+        Lexer lex = new Lexer(new CharArrayReader(fuente, inicio, fin - inicio));
+        lex.setResumirComentarios(resumirComentarios);
+        lex.iniciarFragmento(estado);
+        try {
+            trozo.flujo = FlujoTokens.grabar(lex);
+            trozo.lineas = lex.getLine();
+            trozo.estadoFinal = lex.getEstado();
+        } catch (IOException | RuntimeException e) {
+            trozo.error = e;
+        }
+        return trozo;
+    }
+
+    /**
+     * El siguiente trozo puede empezar donde termina este si el lexer quedo en
+     * YYINITIAL o COMMENT_BLOCK (estados sin datos acumulados) y no hay un
+     * comentario de barra y asterisco abierto al final, porque ese comentario
+     * es un solo patron que puede cruzar lineas. La revision es conservadora:
+     * ante la duda el borde se trata como inseguro y los trozos se unen. Con
+     * los comentarios resumidos COMMENT_BLOCK tampoco es seguro, porque el
+     * texto acumulado del comentario no pasa al trozo siguiente.
+     */
+    private static boolean bordeSeguro(char[] fuente, Trozo trozo, boolean resumirComentarios) {
+        if (trozo.estadoFinal != Lexer.YYINITIAL
+                && (trozo.estadoFinal != Lexer.COMMENT_BLOCK || resumirComentarios)) {
+            return false;
+        }
+        int apertura = -1;
+        for (int i = trozo.inicio; i + 1 < trozo.fin; i++) {
+            if (fuente[i] == '/' && fuente[i + 1] == '*') {
+                apertura = i;
+            }
+        }
+        if (apertura < 0) {
+            return true;
+        }
+        for (int i = apertura + 2; i + 1 < trozo.fin; i++) {
+            if (fuente[i] == '*' && fuente[i + 1] == '/') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Posiciones de corte: cada trozo (salvo el ultimo) termina justo despues
+     * de un '\n' seguido de un caracter que no es espacio ni fin de linea, para
+     * no partir un "\r\n" ni una serie de espacios y saltos, que dentro de un
+     * comentario de bloque pueden formar un solo token.
+     */
+    private static int[] cortes(char[] fuente, int trozosDeseados) {
+        int tamano = Math.max(TAMANO_MINIMO_TROZO, fuente.length / Math.max(1, trozosDeseados));
+        List<Integer> cortes = new ArrayList<>();
+        cortes.add(0);
+        int posicion = tamano;
+        while (posicion < fuente.length) {
+            int corte = posicion;
+            while (corte < fuente.length
+                    && !(fuente[corte - 1] == '\n' && !esEspacio(fuente[corte]))) {
+                corte++;
+            }
+            if (corte >= fuente.length) {
+                break;
+            }
+            cortes.add(corte);
+            posicion = corte + tamano;
+        }
+        cortes.add(fuente.length);
+        int[] resultado = new int[cortes.size()];
+        for (int i = 0; i < resultado.length; i++) {
+            resultado[i] = cortes.get(i);
+        }
+        return resultado;
+    }
+
+    private static boolean esEspacio(char c) {
+        return c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n' || c == '\u000B';
+    }
+}
@@ -0,0 +1,155 @@
+import java.math.BigDecimal;
+
+/**
+ * Valor de un literal numerico ya convertido por el Lexer. Acompana al token
+ * INT_LITERAL o FLOAT (como value del Symbol) y de ahi pasa a ExprAttr y al
+ * Operando literal de cada cuadruplo, asi que ni el Parser (tamanos de
+ * arreglo, indices constantes, plegado) ni GeneradorMIPS vuelven a convertir
+ * los digitos. toString() devuelve el texto original
+ * para que TOKENS.txt y el codigo 3D no cambien.
+ */
+public final class LiteralNumerico {
+
+    // -2147483648 (Integer.MIN_VALUE) solo puede escribirse como menos unario aplicado a este literal
+    private static final long MAXIMO_NEGADO = 2147483648L;
+
+    private final String texto;
+    private final boolean flotante;
+    private final long entero;
+    private final double real;
+    private final boolean desbordado;
+
+    private LiteralNumerico(String texto, boolean flotante, long entero, double real, boolean desbordado) {
+        this.texto = texto;
+        this.flotante = flotante;
+        this.entero = entero;
+        this.real = real;
+        this.desbordado = desbordado;
+    }
+
+    /**
+     * Proposito: convertir los digitos de un literal entero directamente desde el buffer del lexer.
+     * Entradas: buffer de caracteres, inicio y largo del lexema, y el texto ya internado.
+     * Salidas: literal INT; si excede Integer.MAX_VALUE queda marcado como desbordado, con valor 0 salvo
+     *          2147483648, que conserva su valor para poder escribirse negado.
+     * Restricciones: el rango debe contener solo digitos decimales (lo garantiza {DecIntegerLiteral}).
+     */
+    public static LiteralNumerico entero(char[] buffer, int inicio, int largo, String texto) {
+        long valor = 0;
+        for (int i = 0; i < largo; i++) {
+            valor = valor * 10 + (buffer[inicio + i] - '0');
+            if (valor > MAXIMO_NEGADO) {
+                return new LiteralNumerico(texto, false, 0, 0, true);
+            }
+        }
+        return new LiteralNumerico(texto, false, valor, valor, valor > Integer.MAX_VALUE);
+    }
+
+    /**
+     * Proposito: convertir un literal entero escrito en un listado de codigo 3D, donde puede llevar signo.
+     * Entradas: texto con un '-' opcional seguido de digitos decimales.
+     * Salidas: literal INT; queda desbordado si el valor no cabe en 32 bits con signo.
+     * Restricciones: el texto debe haberse validado como entero (lo hace Cuadruplo.desdeTexto).
+     */
+    public static LiteralNumerico entero(String texto) {
+        int inicio = texto.startsWith("-") ? 1 : 0;
+        LiteralNumerico magnitud = entero(texto.toCharArray(), inicio, texto.length() - inicio, texto);
+        if (inicio == 0) {
+            return magnitud;
+        }
+        if (!magnitud.cabeNegado()) {
+            return new LiteralNumerico(texto, false, 0, 0, true);
+        }
+        return new LiteralNumerico(texto, false, -magnitud.entero, -magnitud.entero, false);
+    }
+
+    /**
+     * Proposito: convertir un literal flotante.
+     * Entradas: texto del lexema (digitos con punto opcional).
+     * Salidas: literal FLOAT; queda desbordado si no cabe en un .float de precision simple de MIPS.
+     * Restricciones: ninguna.
+     */
+    public static LiteralNumerico flotante(String texto) {
+        double valor = Double.parseDouble(texto);
+        boolean fueraDeRango = Double.isInfinite(valor) || Math.abs(valor) > Float.MAX_VALUE;
+        return new LiteralNumerico(texto, true, (long) valor, valor, fueraDeRango);
+    }
+
+    /**
+     * Proposito: crear el literal de un valor INT calculado en compilacion (plegado de constantes).
+     * Entradas: valor entero ya calculado con aritmetica de 32 bits.
+     * Salidas: literal INT cuyo texto es el valor en decimal (con signo si es negativo).
+     * Restricciones: nunca queda desbordado.
+     */
+    public static LiteralNumerico entero(int valor) {
+        return new LiteralNumerico(Integer.toString(valor), false, valor, valor, false);
+    }
+
+    /**
+     * Proposito: crear el literal de un valor FLOAT calculado en compilacion (plegado de constantes).
+     * Entradas: valor de precision simple, la misma que usa .float en MIPS.
+     * Salidas: literal FLOAT con texto decimal sin exponente y con al menos un decimal.
+     * Restricciones: quien llama debe descartar NaN e infinitos.
+     */
+    public static LiteralNumerico flotante(float valor) {
+        String texto = new BigDecimal(Float.toString(valor)).toPlainString();
+        if (texto.indexOf('.') < 0) {
+            texto = texto + ".0";
+        }
+        return new LiteralNumerico(texto, true, (long) valor, valor, false);
+    }
+
+    public boolean esFlotante() {
+        return flotante;
+    }
+
+    public boolean desbordado() {
+        return desbordado;
+    }
+
+    /**
+     * Proposito: saber si el literal es valido como operando directo de un menos unario.
+     * Entradas: ninguna.
+     * Salidas: true si no desbordo o si es el INT 2147483648, cuyo negado es Integer.MIN_VALUE.
+     * Restricciones: comoEntero() del literal 2147483648 devuelve Integer.MIN_VALUE, que negado en 32 bits es el mismo valor.
+     */
+    public boolean cabeNegado() {
+        return !desbordado || (!flotante && entero == MAXIMO_NEGADO);
+    }
+
+    /**
+     * Proposito: obtener el valor entero del literal.
+     * Entradas: ninguna.
+     * Salidas: valor convertido (0 si desbordo).
+     * Restricciones: para literales FLOAT devuelve la parte entera.
+     */
+    public int comoEntero() {
+        return (int) entero;
+    }
+
+    public double comoReal() {
+        return real;
+    }
+
+    @Override
+    public boolean equals(Object otro) {
+        if (this == otro) {
+            return true;
+        }
+        if (!(otro instanceof LiteralNumerico)) {
+            return false;
+        }
+        LiteralNumerico literal = (LiteralNumerico) otro;
+        return flotante == literal.flotante && texto.equals(literal.texto);
+    }
+
+    @Override
+    public int hashCode() {
+        return texto.hashCode() * 31 + (flotante ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return texto;
+    }
+}
@@ -0,0 +1,129 @@
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Modo vigilancia del compilador: mantiene una sola JVM viva, observa la
+ * carpeta de fuentes con un WatchService y recompila solo los archivos que
+ * cambiaron. Los eventos que llegan seguidos (un editor suele guardar en varios
+ * pasos) se agrupan en una sola recompilacion. Cada fuente escribe en
+ * output/<fuente>/, igual que en el modo lote.
+ */
+public final class ModoVigilancia {
+
+    public static final long ESPERA_AGRUPAR_MS = 200;
+
+    private final Path carpetaFuentes;
+    private final Path salidaBase;
+    private final int hilos;
+    private final OpcionesCompilacion opciones;
+
+    /**
+     * Proposito: configurar la vigilancia de una carpeta de fuentes.
+     * Entradas: carpeta observada, carpeta output base, hilos para recompilar y opciones de compilacion (con su cache, si la hay).
+     * Salidas: instancia lista para ejecutar().
+     * Restricciones: no observa subcarpetas, igual que recolectarFuentes del modo lote.
+     */
+    public ModoVigilancia(Path carpetaFuentes, Path salidaBase, int hilos, OpcionesCompilacion opciones) {
+        this.carpetaFuentes = carpetaFuentes;
+        this.salidaBase = salidaBase;
+        this.hilos = hilos;
+        this.opciones = opciones;
+    }
+
+    /**
+     * Proposito: compilar todas las fuentes una vez y despues recompilar las que cambien hasta que se detenga el proceso.
+     * Entradas: ninguna.
+     * Salidas: artefactos actualizados en salidaBase y un resumen por cada ronda; bloquea el hilo que lo invoca.
+     * Restricciones: la carpeta debe existir; un desbordamiento de eventos provoca una recompilacion completa.
+     */
+    public void ejecutar() throws Exception {
+        if (!Files.isDirectory(carpetaFuentes)) {
+            throw new IOException("La carpeta a vigilar no existe: " + carpetaFuentes);
+        }
+        try (WatchService vigilante = FileSystems.getDefault().newWatchService()) {
+            carpetaFuentes.register(vigilante,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            recompilar(null);
+            System.out.println("[VIGILANCIA] Observando " + carpetaFuentes.toAbsolutePath() + " (Ctrl+C para salir)");
+
+            while (true) {
+                WatchKey clave;
+                try {
+                    clave = vigilante.take();
+                } catch (ClosedWatchServiceException | InterruptedException e) {
+                    return;
+                }
+                Set<Path> cambiados = new LinkedHashSet<>();
+                boolean desbordado = false;
+                // Agrupar los eventos que sigan llegando hasta que haya una pausa de ESPERA_AGRUPAR_MS
+                while (clave != null) {
+                    desbordado |= recolectarEventos(clave, cambiados);
+                    if (!clave.reset()) {
+                        System.err.println("[VIGILANCIA] La carpeta observada ya no esta disponible");
+                        return;
+                    }
+                    clave = vigilante.poll(ESPERA_AGRUPAR_MS, TimeUnit.MILLISECONDS);
+                }
+                recompilar(desbordado ? null : cambiados);
+            }
+        }
+    }
+
+    /**
+     * Proposito: agregar al conjunto los archivos fuente mencionados por los eventos de una clave.
+     * Entradas: clave del WatchService y conjunto acumulado de rutas cambiadas.
+     * Salidas: true si el sistema descarto eventos (OVERFLOW) y hace falta recompilar todo.
+     * Restricciones: ignora archivos que no son .txt ni .c.
+     */
+    private boolean recolectarEventos(WatchKey clave, Set<Path> cambiados) {
+        boolean desbordado = false;
+        for (WatchEvent<?> evento : clave.pollEvents()) {
+            if (evento.kind() == StandardWatchEventKinds.OVERFLOW) {
+                desbordado = true;
+                continue;
+            }
+            Path archivo = carpetaFuentes.resolve((Path) evento.context());
+            if (CompilacionLote.esFuente(archivo)) {
+                cambiados.add(archivo);
+            }
+        }
+        return desbordado;
+    }
+
+    /**
+     * Proposito: recompilar las fuentes indicadas conservando la carpeta de salida que les toca en la carpeta completa.
+     * Entradas: rutas cambiadas, o null para recompilar todas las fuentes de la carpeta.
+     * Salidas: artefactos regenerados y resumen del lote en consola.
+     * Restricciones: las rutas que ya no existen (archivo borrado o renombrado) se omiten.
+     */
+    private void recompilar(Set<Path> cambiados) throws Exception {
+        List<Path> todas = CompilacionLote.recolectarFuentes(Collections.singletonList(carpetaFuentes.toString()), carpetaFuentes);
+        List<Path> carpetas = CompilacionLote.asignarCarpetas(todas, salidaBase);
+        List<Path> fuentes = new ArrayList<>();
+        List<Path> destinos = new ArrayList<>();
+        for (int i = 0; i < todas.size(); i++) {
+            if (cambiados == null || cambiados.contains(todas.get(i))) {
+                fuentes.add(todas.get(i));
+                destinos.add(carpetas.get(i));
+            }
+        }
+        if (fuentes.isEmpty()) {
+            return;
+        }
+        CompilacionLote.compilar(fuentes, destinos, salidaBase, hilos, opciones);
+    }
+}
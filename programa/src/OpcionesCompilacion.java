@@ -0,0 +1,144 @@
+/**
+ * Opciones de una compilacion, aparte de la carpeta de salida: escritura de
+ * Codigo3D.txt, eco de tokens en consola, trazas del lexer, comentarios de
+ * bloque resumidos, construccion del AST, cache de artefactos y medicion por
+ * fase. Es inmutable, asi que una misma instancia puede compartirse entre
+ * hilos y cada compilacion (por ejemplo cada peticion del servidor) puede
+ * recibir la suya. La excepcion son las estadisticas: EstadisticasFases mide
+ * un solo hilo, por lo que unas opciones con estadisticas sirven para una
+ * sola compilacion.
+ */
+public final class OpcionesCompilacion {
+
+    /** Opciones sin ninguna bandera activa: escribe Codigo3D.txt, sin cache y sin estadisticas. */
+    public static final OpcionesCompilacion PREDETERMINADAS =
+            new OpcionesCompilacion(true, false, false, false, false, null, null);
+
+    private static final LexerListener TRAZA = new LexerListener.Traza();
+
+    private final boolean escribirCodigo3D;
+    private final boolean tokensEnConsola;
+    private final boolean trazaLexer;
+    private final boolean comentariosResumidos;
+    private final boolean construirAst;
+    private final CacheArtefactos cache;
+    private final EstadisticasFases estadisticas;
+
+    private OpcionesCompilacion(boolean escribirCodigo3D, boolean tokensEnConsola, boolean trazaLexer,
+                                boolean comentariosResumidos, boolean construirAst, CacheArtefactos cache,
+                                EstadisticasFases estadisticas) {
+        this.escribirCodigo3D = escribirCodigo3D;
+        this.tokensEnConsola = tokensEnConsola;
+        this.trazaLexer = trazaLexer;
+        this.comentariosResumidos = comentariosResumidos;
+        this.construirAst = construirAst;
+        this.cache = cache;
+        this.estadisticas = estadisticas;
+    }
+
+    /**
+     * Proposito: saber si un argumento de la linea de comandos es una de estas opciones.
+     * Entradas: argumento tal como se escribio.
+     * Salidas: true para --sin-codigo3d, --tokens-consola, --traza-lexer, --comentarios-resumidos y --ast.
+     * Restricciones: la cache y las estadisticas tienen argumentos propios y se fijan con conCache y
+     *                conEstadisticas.
+     */
+    public static boolean esOpcion(String arg) {
+        return "--sin-codigo3d".equals(arg) || "--tokens-consola".equals(arg) || "--traza-lexer".equals(arg)
+                || "--comentarios-resumidos".equals(arg) || "--ast".equals(arg);
+    }
+
+    /**
+     * Proposito: obtener una copia con una opcion mas activada.
+     * Entradas: argumento aceptado por esOpcion.
+     * Salidas: nuevas opciones; la instancia actual no cambia.
+     * Restricciones: lanza IllegalArgumentException si el argumento no es una opcion conocida.
+     */
+    public OpcionesCompilacion con(String arg) {
+        if ("--sin-codigo3d".equals(arg)) {
+            return new OpcionesCompilacion(false, tokensEnConsola, trazaLexer, comentariosResumidos, construirAst,
+                    cache, estadisticas);
+        } else if ("--tokens-consola".equals(arg)) {
+            return new OpcionesCompilacion(escribirCodigo3D, true, trazaLexer, comentariosResumidos, construirAst,
+                    cache, estadisticas);
+        } else if ("--traza-lexer".equals(arg)) {
+            return new OpcionesCompilacion(escribirCodigo3D, tokensEnConsola, true, comentariosResumidos, construirAst,
+                    cache, estadisticas);
+        } else if ("--comentarios-resumidos".equals(arg)) {
+            return new OpcionesCompilacion(escribirCodigo3D, tokensEnConsola, trazaLexer, true, construirAst,
+                    cache, estadisticas);
+        } else if ("--ast".equals(arg)) {
+            return new OpcionesCompilacion(escribirCodigo3D, tokensEnConsola, trazaLexer, comentariosResumidos, true,
+                    cache, estadisticas);
+        }
+        throw new IllegalArgumentException("Opcion desconocida: " + arg);
+    }
+
+    /**
+     * Proposito: obtener una copia que consulta y llena una cache de artefactos.
+     * Entradas: cache compartida (null la desactiva).
+     * Salidas: nuevas opciones; la instancia actual no cambia.
+     * Restricciones: CacheArtefactos sincroniza el desalojo, asi que la misma cache sirve a varios hilos.
+     */
+    public OpcionesCompilacion conCache(CacheArtefactos cache) {
+        return new OpcionesCompilacion(escribirCodigo3D, tokensEnConsola, trazaLexer, comentariosResumidos,
+                construirAst, cache, estadisticas);
+    }
+
+    /**
+     * Proposito: obtener una copia que mide cada fase de la compilacion.
+     * Entradas: estadisticas donde se registran las fases (null no mide).
+     * Salidas: nuevas opciones; la instancia actual no cambia.
+     * Restricciones: las opciones resultantes son de una sola compilacion, en el hilo que creo las estadisticas;
+     *                con estadisticas la cache no se consulta, para medir una compilacion real.
+     */
+    public OpcionesCompilacion conEstadisticas(EstadisticasFases estadisticas) {
+        return new OpcionesCompilacion(escribirCodigo3D, tokensEnConsola, trazaLexer, comentariosResumidos,
+                construirAst, cache, estadisticas);
+    }
+
+    public boolean escribirCodigo3D() {
+        return escribirCodigo3D;
+    }
+
+    public boolean tokensEnConsola() {
+        return tokensEnConsola;
+    }
+
+    /**
+     * Proposito: obtener el observador que debe instalarse en el lexer.
+     * Entradas: ninguna.
+     * Salidas: LexerListener.Traza compartido con --traza-lexer; null sin trazas.
+     * Restricciones: la traza no guarda estado, por eso se comparte entre compilaciones.
+     */
+    public LexerListener listenerLexer() {
+        return trazaLexer ? TRAZA : null;
+    }
+
+    public boolean comentariosResumidos() {
+        return comentariosResumidos;
+    }
+
+    public boolean construirAst() {
+        return construirAst;
+    }
+
+    public CacheArtefactos cache() {
+        return cache;
+    }
+
+    public EstadisticasFases estadisticas() {
+        return estadisticas;
+    }
+
+    /**
+     * Proposito: describir las opciones que afectan los artefactos, para la clave de la cache.
+     * Entradas: ninguna.
+     * Salidas: texto estable con Codigo3D.txt, los comentarios y el AST (el eco y las trazas solo van a la consola).
+     * Restricciones: mantener el formato; cambiarlo invalida las entradas guardadas.
+     */
+    public String claveCache() {
+        return "codigo3d=" + escribirCodigo3D + ",comentarios=" + (comentariosResumidos ? "resumidos" : "completos")
+                + ",ast=" + construirAst;
+    }
+}
@@ -5,6 +5,7 @@
 
 import java_cup.runtime.*;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Deque;
@@ -44,7 +45,7 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** Production table. */
   protected static final short _production_table[][] = 
     unpackFromStrings(new String[] {
-    "\000\316\000\002\002\004\000\002\075\002\000\002\003" +
+    "\000\322\000\002\002\004\000\002\076\002\000\002\003" +
     "\004\000\002\047\004\000\002\047\003\000\002\047\004" +
     "\000\002\047\003\000\002\047\005\000\002\047\004\000" +
     "\002\047\005\000\002\047\004\000\002\047\005\000\002" +
@@ -66,48 +67,49 @@ public class Parser extends java_cup.runtime.lr_parser {
     "\002\006\003\000\002\006\003\000\002\006\003\000\002" +
     "\006\004\000\002\006\004\000\002\006\005\000\002\006" +
     "\004\000\002\006\003\000\002\006\003\000\002\006\003" +
-    "\000\002\065\005\000\002\065\004\000\002\066\004\000" +
-    "\002\066\003\000\002\024\003\000\002\024\003\000\002" +
-    "\007\003\000\002\007\005\000\002\007\005\000\002\011" +
-    "\003\000\002\011\005\000\002\011\005\000\002\011\005" +
-    "\000\002\011\005\000\002\010\003\000\002\010\004\000" +
-    "\002\010\003\000\002\010\003\000\002\010\003\000\002" +
-    "\010\004\000\002\010\004\000\002\010\006\000\002\010" +
-    "\003\000\002\010\006\000\002\010\005\000\002\010\003" +
-    "\000\002\010\003\000\002\036\007\000\002\041\003\000" +
-    "\002\042\005\000\002\042\005\000\002\042\003\000\002" +
-    "\043\004\000\002\043\004\000\002\072\004\000\002\072" +
-    "\002\000\002\073\004\000\002\073\002\000\002\074\004" +
-    "\000\002\074\004\000\002\074\004\000\002\074\004\000" +
-    "\002\074\004\000\002\074\004\000\002\067\003\000\002" +
-    "\067\003\000\002\067\003\000\002\067\003\000\002\067" +
-    "\003\000\002\005\006\000\002\005\006\000\002\005\005" +
-    "\000\002\004\005\000\002\025\007\000\002\051\006\000" +
-    "\002\052\004\000\002\053\004\000\002\040\004\000\002" +
-    "\040\004\000\002\040\004\000\002\040\004\000\002\040" +
-    "\004\000\002\040\004\000\002\076\002\000\002\012\010" +
-    "\000\002\055\005\000\002\055\004\000\002\055\002\000" +
-    "\002\056\003\000\002\056\002\000\002\057\003\000\002" +
-    "\057\005\000\002\060\004\000\002\060\004\000\002\060" +
-    "\004\000\002\060\004\000\002\060\004\000\002\015\004" +
-    "\000\002\016\003\000\002\016\002\000\002\061\003\000" +
-    "\002\061\002\000\002\062\003\000\002\062\005\000\002" +
-    "\077\002\000\002\013\010\000\002\037\003\000\002\100" +
-    "\002\000\002\031\011\000\002\027\004\000\002\027\003" +
-    "\000\002\101\002\000\002\030\010\000\002\102\002\000" +
-    "\002\030\010\000\002\035\003\000\002\103\002\000\002" +
-    "\104\002\000\002\032\016\000\002\017\003\000\002\017" +
-    "\003\000\002\033\007\000\002\033\002\000\002\105\002" +
-    "\000\002\034\015\000\002\106\002\000\002\034\015\000" +
-    "\002\063\005\000\002\063\005\000\002\064\003\000\002" +
-    "\020\010\000\002\020\010\000\002\050\011\000\002\050" +
-    "\011\000\002\026\010\000\002\026\012\000\002\021\010" +
-    "\000\002\021\007\000\002\023\005\000\002\023\003\000" +
-    "\002\070\005\000\002\070\004\000\002\071\005\000\002" +
-    "\071\003\000\002\022\004\000\002\054\004\000\002\044" +
-    "\006\000\002\045\005\000\002\045\005\000\002\045\005" +
-    "\000\002\045\005\000\002\045\005\000\002\046\004\000" +
-    "\002\046\003\000\002\014\006" });
+    "\000\002\065\005\000\002\065\004\000\002\065\003\000" +
+    "\002\066\004\000\002\066\003\000\002\024\003\000\002" +
+    "\024\003\000\002\007\003\000\002\007\005\000\002\007" +
+    "\005\000\002\011\003\000\002\011\005\000\002\011\005" +
+    "\000\002\011\005\000\002\011\005\000\002\010\003\000" +
+    "\002\010\004\000\002\010\004\000\002\010\003\000\002" +
+    "\010\003\000\002\010\003\000\002\010\004\000\002\010" +
+    "\004\000\002\010\006\000\002\010\003\000\002\010\006" +
+    "\000\002\010\005\000\002\010\003\000\002\010\003\000" +
+    "\002\036\007\000\002\041\003\000\002\042\006\000\002" +
+    "\042\006\000\002\042\003\000\002\075\002\000\002\043" +
+    "\004\000\002\043\004\000\002\072\004\000\002\072\002" +
+    "\000\002\073\004\000\002\073\002\000\002\074\004\000" +
+    "\002\074\004\000\002\074\004\000\002\074\004\000\002" +
+    "\074\004\000\002\074\004\000\002\067\003\000\002\067" +
+    "\003\000\002\067\003\000\002\067\003\000\002\067\003" +
+    "\000\002\005\006\000\002\005\006\000\002\005\005\000" +
+    "\002\004\005\000\002\025\007\000\002\051\006\000\002" +
+    "\052\004\000\002\053\004\000\002\040\004\000\002\040" +
+    "\004\000\002\040\004\000\002\040\004\000\002\040\004" +
+    "\000\002\040\004\000\002\077\002\000\002\012\010\000" +
+    "\002\055\005\000\002\055\004\000\002\055\002\000\002" +
+    "\056\003\000\002\056\002\000\002\057\003\000\002\057" +
+    "\005\000\002\060\004\000\002\060\004\000\002\060\004" +
+    "\000\002\060\004\000\002\060\004\000\002\015\004\000" +
+    "\002\016\003\000\002\016\002\000\002\061\003\000\002" +
+    "\061\002\000\002\062\003\000\002\062\005\000\002\100" +
+    "\002\000\002\013\010\000\002\037\003\000\002\101\002" +
+    "\000\002\031\011\000\002\027\004\000\002\027\003\000" +
+    "\002\102\002\000\002\030\010\000\002\103\002\000\002" +
+    "\030\010\000\002\035\003\000\002\104\002\000\002\105" +
+    "\002\000\002\032\016\000\002\017\003\000\002\017\003" +
+    "\000\002\106\002\000\002\033\010\000\002\033\002\000" +
+    "\002\107\002\000\002\034\015\000\002\110\002\000\002" +
+    "\034\015\000\002\063\005\000\002\063\005\000\002\064" +
+    "\003\000\002\020\010\000\002\020\010\000\002\050\011" +
+    "\000\002\050\011\000\002\026\010\000\002\026\012\000" +
+    "\002\021\010\000\002\021\007\000\002\023\005\000\002" +
+    "\023\003\000\002\070\005\000\002\070\004\000\002\071" +
+    "\005\000\002\071\003\000\002\022\004\000\002\054\004" +
+    "\000\002\044\006\000\002\045\005\000\002\045\005\000" +
+    "\002\045\005\000\002\045\005\000\002\045\005\000\002" +
+    "\046\004\000\002\046\003\000\002\014\006" });
 
   /** Access to production table. */
   public short[][] production_table() {return _production_table;}
@@ -115,805 +117,839 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** Parse-action table. */
   protected static final short[][] _action_table = 
     unpackFromStrings(new String[] {
-    "\000\u017b\000\030\003\000\020\000\040\000\041\000\042" +
+    "\000\u0180\000\032\003\000\020\000\040\000\041\000\042" +
     "\000\043\000\044\000\045\000\047\000\050\000\052\000" +
-    "\001\002\000\030\003\025\020\032\040\012\041\017\042" +
-    "\013\043\031\044\016\045\033\047\030\050\027\052\022" +
-    "\001\002\000\004\002\006\001\002\000\004\002\001\001" +
-    "\002\000\006\016\uff77\101\271\001\002\000\032\002\uffeb" +
-    "\003\025\020\032\040\012\041\017\042\013\043\031\044" +
-    "\016\045\033\047\030\050\027\052\022\001\002\000\004" +
-    "\105\u0176\001\002\000\004\004\u0152\001\002\000\004\004" +
-    "\u015f\001\002\000\006\016\uff77\101\271\001\002\000\032" +
-    "\002\uffef\003\025\020\032\040\012\041\017\042\013\043" +
-    "\031\044\016\045\033\047\030\050\027\052\022\001\002" +
-    "\000\004\004\267\001\002\000\004\004\266\001\002\000" +
-    "\004\002\uffff\001\002\000\010\004\253\026\251\105\254" +
-    "\001\002\000\006\016\uff64\101\uff64\001\002\000\032\002" +
-    "\ufffb\003\025\020\032\040\012\041\017\042\013\043\031" +
-    "\044\016\045\033\047\030\050\027\052\022\001\002\000" +
-    "\032\002\ufffd\003\025\020\032\040\012\041\017\042\013" +
-    "\043\031\044\016\045\033\047\030\050\027\052\022\001" +
-    "\002\000\030\003\025\020\032\040\012\041\017\042\013" +
-    "\043\031\044\016\045\033\047\030\050\027\052\022\001" +
-    "\002\000\004\105\243\001\002\000\014\040\221\041\220" +
-    "\042\217\043\216\044\214\001\002\000\010\040\201\042" +
-    "\200\050\177\001\002\000\004\004\176\001\002\000\006" +
-    "\021\172\022\171\001\002\000\004\004\170\001\002\000" +
-    "\004\105\166\001\002\000\032\002\ufff1\003\025\020\032" +
-    "\040\012\041\017\042\013\043\031\044\016\045\033\047" +
-    "\030\050\027\052\022\001\002\000\010\004\040\026\037" +
-    "\105\042\001\002\000\004\077\161\001\002\000\004\026" +
-    "\044\001\002\000\100\002\uff3d\003\uff3d\004\uff3d\006\uff3d" +
-    "\015\uff3d\017\uff3d\020\uff3d\025\uff3d\026\uff3d\037\uff3d\040" +
-    "\uff3d\041\uff3d\042\uff3d\043\uff3d\044\uff3d\045\uff3d\047\uff3d" +
-    "\050\uff3d\052\uff3d\053\uff3d\054\uff3d\056\uff3d\057\uff3d\061" +
-    "\uff3d\063\uff3d\071\uff3d\072\uff3d\073\uff3d\074\uff3d\101\uff3d" +
-    "\104\uff3d\001\002\000\032\002\ufff9\003\025\020\032\040" +
-    "\012\041\017\042\013\043\031\044\016\045\033\047\030" +
-    "\050\027\052\022\001\002\000\004\002\ufffa\001\002\000" +
-    "\004\077\045\001\002\000\024\004\061\006\047\015\052" +
-    "\025\054\041\064\053\051\054\057\101\062\104\055\001" +
-    "\002\000\064\005\uffa4\006\uffa4\011\uffa4\012\uffa4\013\uffa4" +
-    "\014\uffa4\017\uffa4\024\uffa4\027\uffa4\030\uffa4\031\uffa4\032" +
-    "\uffa4\033\uffa4\034\uffa4\035\uffa4\036\uffa4\063\uffa4\065\uffa4" +
-    "\066\uffa4\067\uffa4\070\uffa4\100\uffa4\102\uffa4\103\uffa4\105" +
-    "\uffa4\001\002\000\010\015\052\041\064\101\156\001\002" +
-    "\000\064\005\uffb4\006\uffb4\011\124\012\123\013\121\014" +
-    "\122\017\uffb4\024\uffb4\027\uffb4\030\uffb4\031\uffb4\032\uffb4" +
+    "\106\000\001\002\000\032\003\025\020\031\040\012\041" +
+    "\017\042\013\043\032\044\016\045\034\047\030\050\027" +
+    "\052\022\106\033\001\002\000\004\002\006\001\002\000" +
+    "\004\002\001\001\002\000\034\002\uffeb\003\025\020\031" +
+    "\040\012\041\017\042\013\043\032\044\016\045\034\047" +
+    "\030\050\027\052\022\106\033\001\002\000\006\016\uff74" +
+    "\101\275\001\002\000\004\105\u017b\001\002\000\004\004" +
+    "\u0157\001\002\000\004\004\u0164\001\002\000\006\016\uff74" +
+    "\101\275\001\002\000\034\002\uffef\003\025\020\031\040" +
+    "\012\041\017\042\013\043\032\044\016\045\034\047\030" +
+    "\050\027\052\022\106\033\001\002\000\004\004\273\001" +
+    "\002\000\004\004\272\001\002\000\004\002\uffff\001\002" +
+    "\000\010\004\257\026\255\105\260\001\002\000\006\016" +
+    "\uff61\101\uff61\001\002\000\034\002\ufffb\003\025\020\031" +
+    "\040\012\041\017\042\013\043\032\044\016\045\034\047" +
+    "\030\050\027\052\022\106\033\001\002\000\034\002\ufffd" +
+    "\003\025\020\031\040\012\041\017\042\013\043\032\044" +
+    "\016\045\034\047\030\050\027\052\022\106\033\001\002" +
+    "\000\032\003\025\020\031\040\012\041\017\042\013\043" +
+    "\032\044\016\045\034\047\030\050\027\052\022\106\033" +
+    "\001\002\000\004\105\247\001\002\000\014\040\225\041" +
+    "\224\042\223\043\222\044\220\001\002\000\010\040\205" +
+    "\042\204\050\203\001\002\000\006\021\177\022\176\001" +
+    "\002\000\004\004\175\001\002\000\102\002\uffb8\003\uffb8" +
+    "\004\uffb8\006\uffb8\015\uffb8\017\uffb8\020\uffb8\025\uffb8\026" +
+    "\uffb8\037\uffb8\040\uffb8\041\uffb8\042\uffb8\043\uffb8\044\uffb8" +
+    "\045\uffb8\047\uffb8\050\uffb8\052\uffb8\053\uffb8\054\uffb8\056" +
+    "\uffb8\057\uffb8\061\uffb8\063\uffb8\071\uffb8\072\uffb8\073\uffb8" +
+    "\074\uffb8\101\uffb8\104\uffb8\106\uffb8\001\002\000\004\004" +
+    "\174\001\002\000\004\105\172\001\002\000\034\002\ufff1" +
+    "\003\025\020\031\040\012\041\017\042\013\043\032\044" +
+    "\016\045\034\047\030\050\027\052\022\106\033\001\002" +
+    "\000\010\004\041\026\040\105\042\001\002\000\004\077" +
+    "\165\001\002\000\004\026\045\001\002\000\034\002\ufff9" +
+    "\003\025\020\031\040\012\041\017\042\013\043\032\044" +
+    "\016\045\034\047\030\050\027\052\022\106\033\001\002" +
+    "\000\102\002\uff39\003\uff39\004\uff39\006\uff39\015\uff39\017" +
+    "\uff39\020\uff39\025\uff39\026\uff39\037\uff39\040\uff39\041\uff39" +
+    "\042\uff39\043\uff39\044\uff39\045\uff39\047\uff39\050\uff39\052" +
+    "\uff39\053\uff39\054\uff39\056\uff39\057\uff39\061\uff39\063\uff39" +
+    "\071\uff39\072\uff39\073\uff39\074\uff39\101\uff39\104\uff39\106" +
+    "\uff39\001\002\000\004\002\ufffa\001\002\000\004\077\046" +
+    "\001\002\000\024\004\062\006\050\015\053\025\054\041" +
+    "\065\053\052\054\060\101\063\104\056\001\002\000\064" +
+    "\005\uffa2\006\uffa2\011\uffa2\012\uffa2\013\uffa2\014\uffa2\017" +
+    "\uffa2\024\uffa2\027\uffa2\030\uffa2\031\uffa2\032\uffa2\033\uffa2" +
+    "\034\uffa2\035\uffa2\036\uffa2\063\uffa2\065\uffa2\066\uffa2\067" +
+    "\uffa2\070\uffa2\100\uffa2\102\uffa2\103\uffa2\105\uffa2\001\002" +
+    "\000\010\015\160\041\162\101\161\001\002\000\064\005" +
+    "\uffb3\006\uffb3\011\127\012\126\013\124\014\125\017\uffb3" +
+    "\024\uffb3\027\uffb3\030\uffb3\031\uffb3\032\uffb3\033\uffb3\034" +
+    "\uffb3\035\uffb3\036\uffb3\063\uffb3\065\uffb3\066\uffb3\067\uffb3" +
+    "\070\uffb3\100\uffb3\102\uffb3\103\uffb3\105\uffb3\001\002\000" +
+    "\064\005\uff9f\006\uff9f\011\uff9f\012\uff9f\013\uff9f\014\uff9f" +
+    "\017\uff9f\024\uff9f\027\uff9f\030\uff9f\031\uff9f\032\uff9f\033" +
+    "\uff9f\034\uff9f\035\uff9f\036\uff9f\063\uff9f\065\uff9f\066\uff9f" +
+    "\067\uff9f\070\uff9f\100\uff9f\102\uff9f\103\uff9f\105\uff9f\001" +
+    "\002\000\064\005\uffb5\006\uffb5\011\uffb5\012\uffb5\013\uffb5" +
+    "\014\uffb5\017\uffb5\024\uffb5\027\uffb5\030\uffb5\031\uffb5\032" +
+    "\uffb5\033\uffb5\034\uffb5\035\uffb5\036\uffb5\063\uffb5\065\uffb5" +
+    "\066\uffb5\067\uffb5\070\uffb5\100\uffb5\102\uffb5\103\uffb5\105" +
+    "\uffb5\001\002\000\064\005\uffa8\006\uffa8\011\uffa8\012\uffa8" +
+    "\013\uffa8\014\uffa8\017\uffa8\024\uffa8\027\uffa8\030\uffa8\031" +
+    "\uffa8\032\uffa8\033\uffa8\034\uffa8\035\uffa8\036\uffa8\063\uffa8" +
+    "\065\uffa8\066\uffa8\067\uffa8\070\uffa8\100\uffa8\102\uffa8\103" +
+    "\uffa8\105\uffa8\001\002\000\012\005\105\006\103\024\156" +
+    "\100\uff3f\001\002\000\064\005\uffa7\006\uffa7\011\uffa7\012" +
+    "\uffa7\013\uffa7\014\uffa7\017\uffa7\024\uffa7\027\uffa7\030\uffa7" +
+    "\031\uffa7\032\uffa7\033\uffa7\034\uffa7\035\uffa7\036\uffa7\063" +
+    "\uffa7\065\uffa7\066\uffa7\067\uffa7\070\uffa7\100\uffa7\102\uffa7" +
+    "\103\uffa7\105\uffa7\001\002\000\004\100\154\001\002\000" +
+    "\064\005\uff9e\006\uff9e\011\uff9e\012\uff9e\013\uff9e\014\uff9e" +
+    "\017\uff9e\024\uff9e\027\uff9e\030\uff9e\031\uff9e\032\uff9e\033" +
+    "\uff9e\034\uff9e\035\uff9e\036\uff9e\063\uff9e\065\uff9e\066\uff9e" +
+    "\067\uff9e\070\uff9e\100\uff9e\102\uff9e\103\uff9e\105\uff9e\001" +
+    "\002\000\064\005\uffb0\006\uffb0\011\uffb0\012\uffb0\013\uffb0" +
+    "\014\uffb0\017\uffb0\024\uffb0\027\uffb0\030\uffb0\031\uffb0\032" +
+    "\uffb0\033\uffb0\034\uffb0\035\uffb0\036\uffb0\063\uffb0\065\uffb0" +
+    "\066\uffb0\067\uffb0\070\uffb0\100\uffb0\102\uffb0\103\uffb0\105" +
+    "\uffb0\001\002\000\074\005\uffa6\006\uffa6\007\140\010\142" +
+    "\011\uffa6\012\uffa6\013\uffa6\014\uffa6\017\uffa6\024\uffa6\027" +
+    "\uffa6\030\uffa6\031\uffa6\032\uffa6\033\uffa6\034\uffa6\035\uffa6" +
+    "\036\uffa6\063\uffa6\065\uffa6\066\uffa6\067\uffa6\070\uffa6\077" +
+    "\143\100\uffa6\101\141\102\uffa6\103\uffa6\105\uffa6\001\002" +
+    "\000\026\004\062\006\050\015\053\025\054\037\070\041" +
+    "\065\053\052\054\060\101\063\104\056\001\002\000\064" +
+    "\005\uffab\006\uffab\011\uffab\012\uffab\013\uffab\014\uffab\017" +
+    "\uffab\024\uffab\027\uffab\030\uffab\031\uffab\032\uffab\033\uffab" +
+    "\034\uffab\035\uffab\036\uffab\063\uffab\065\uffab\066\uffab\067" +
+    "\uffab\070\uffab\100\uffab\102\uffab\103\uffab\105\uffab\001\002" +
+    "\000\064\005\uffb4\006\uffb4\011\uffb4\012\uffb4\013\uffb4\014" +
+    "\uffb4\017\uffb4\024\uffb4\027\uffb4\030\uffb4\031\uffb4\032\uffb4" +
     "\033\uffb4\034\uffb4\035\uffb4\036\uffb4\063\uffb4\065\uffb4\066" +
     "\uffb4\067\uffb4\070\uffb4\100\uffb4\102\uffb4\103\uffb4\105\uffb4" +
-    "\001\002\000\064\005\uffa1\006\uffa1\011\uffa1\012\uffa1\013" +
-    "\uffa1\014\uffa1\017\uffa1\024\uffa1\027\uffa1\030\uffa1\031\uffa1" +
-    "\032\uffa1\033\uffa1\034\uffa1\035\uffa1\036\uffa1\063\uffa1\065" +
-    "\uffa1\066\uffa1\067\uffa1\070\uffa1\100\uffa1\102\uffa1\103\uffa1" +
-    "\105\uffa1\001\002\000\064\005\uffb6\006\uffb6\011\uffb6\012" +
-    "\uffb6\013\uffb6\014\uffb6\017\uffb6\024\uffb6\027\uffb6\030\uffb6" +
-    "\031\uffb6\032\uffb6\033\uffb6\034\uffb6\035\uffb6\036\uffb6\063" +
-    "\uffb6\065\uffb6\066\uffb6\067\uffb6\070\uffb6\100\uffb6\102\uffb6" +
-    "\103\uffb6\105\uffb6\001\002\000\012\005\102\006\100\024" +
-    "\153\100\uff43\001\002\000\064\005\uffaa\006\uffaa\011\uffaa" +
-    "\012\uffaa\013\uffaa\014\uffaa\017\uffaa\024\uffaa\027\uffaa\030" +
-    "\uffaa\031\uffaa\032\uffaa\033\uffaa\034\uffaa\035\uffaa\036\uffaa" +
-    "\063\uffaa\065\uffaa\066\uffaa\067\uffaa\070\uffaa\100\uffaa\102" +
-    "\uffaa\103\uffaa\105\uffaa\001\002\000\064\005\uffa9\006\uffa9" +
-    "\011\uffa9\012\uffa9\013\uffa9\014\uffa9\017\uffa9\024\uffa9\027" +
-    "\uffa9\030\uffa9\031\uffa9\032\uffa9\033\uffa9\034\uffa9\035\uffa9" +
-    "\036\uffa9\063\uffa9\065\uffa9\066\uffa9\067\uffa9\070\uffa9\100" +
-    "\uffa9\102\uffa9\103\uffa9\105\uffa9\001\002\000\004\100\151" +
-    "\001\002\000\064\005\uffa0\006\uffa0\011\uffa0\012\uffa0\013" +
-    "\uffa0\014\uffa0\017\uffa0\024\uffa0\027\uffa0\030\uffa0\031\uffa0" +
-    "\032\uffa0\033\uffa0\034\uffa0\035\uffa0\036\uffa0\063\uffa0\065" +
-    "\uffa0\066\uffa0\067\uffa0\070\uffa0\100\uffa0\102\uffa0\103\uffa0" +
-    "\105\uffa0\001\002\000\064\005\uffb1\006\uffb1\011\uffb1\012" +
-    "\uffb1\013\uffb1\014\uffb1\017\uffb1\024\uffb1\027\uffb1\030\uffb1" +
-    "\031\uffb1\032\uffb1\033\uffb1\034\uffb1\035\uffb1\036\uffb1\063" +
-    "\uffb1\065\uffb1\066\uffb1\067\uffb1\070\uffb1\100\uffb1\102\uffb1" +
-    "\103\uffb1\105\uffb1\001\002\000\074\005\uffa8\006\uffa8\007" +
-    "\135\010\137\011\uffa8\012\uffa8\013\uffa8\014\uffa8\017\uffa8" +
-    "\024\uffa8\027\uffa8\030\uffa8\031\uffa8\032\uffa8\033\uffa8\034" +
-    "\uffa8\035\uffa8\036\uffa8\063\uffa8\065\uffa8\066\uffa8\067\uffa8" +
-    "\070\uffa8\077\140\100\uffa8\101\136\102\uffa8\103\uffa8\105" +
-    "\uffa8\001\002\000\026\004\061\006\047\015\052\025\054" +
-    "\037\067\041\064\053\051\054\057\101\062\104\055\001" +
+    "\001\002\000\004\102\137\001\002\000\052\005\105\006" +
+    "\103\017\uff94\024\uff94\027\104\030\102\031\106\032\110" +
+    "\033\111\034\112\035\uff94\036\uff94\063\uff94\065\uff94\066" +
+    "\uff94\067\uff94\070\uff94\102\uff94\103\uff94\105\uff94\001\002" +
+    "\000\026\004\062\006\050\015\053\025\054\037\070\041" +
+    "\065\053\052\054\060\101\063\104\056\001\002\000\032" +
+    "\017\uff99\024\uff99\035\uff99\036\uff99\063\uff99\065\uff99\066" +
+    "\uff99\067\uff99\070\uff99\102\uff99\103\uff99\105\uff99\001\002" +
+    "\000\032\017\uff9c\024\uff9c\035\073\036\074\063\uff9c\065" +
+    "\uff9c\066\uff9c\067\uff9c\070\uff9c\102\uff9c\103\uff9c\105\uff9c" +
+    "\001\002\000\026\004\uff98\006\uff98\015\uff98\025\uff98\037" +
+    "\uff98\041\uff98\053\uff98\054\uff98\101\uff98\104\uff98\001\002" +
+    "\000\026\004\uff98\006\uff98\015\uff98\025\uff98\037\uff98\041" +
+    "\uff98\053\uff98\054\uff98\101\uff98\104\uff98\001\002\000\026" +
+    "\004\062\006\050\015\053\025\054\037\070\041\065\053" +
+    "\052\054\060\101\063\104\056\001\002\000\032\017\uff9a" +
+    "\024\uff9a\035\uff9a\036\uff9a\063\uff9a\065\uff9a\066\uff9a\067" +
+    "\uff9a\070\uff9a\102\uff9a\103\uff9a\105\uff9a\001\002\000\026" +
+    "\004\062\006\050\015\053\025\054\037\070\041\065\053" +
+    "\052\054\060\101\063\104\056\001\002\000\032\017\uff9b" +
+    "\024\uff9b\035\uff9b\036\uff9b\063\uff9b\065\uff9b\066\uff9b\067" +
+    "\uff9b\070\uff9b\102\uff9b\103\uff9b\105\uff9b\001\002\000\032" +
+    "\017\uff96\024\uff96\035\uff96\036\uff96\063\uff96\065\uff96\066" +
+    "\uff96\067\uff96\070\uff96\102\uff96\103\uff96\105\uff96\001\002" +
+    "\000\024\004\062\006\050\015\053\025\054\041\065\053" +
+    "\052\054\060\101\063\104\056\001\002\000\024\004\062" +
+    "\006\050\015\053\025\054\041\065\053\052\054\060\101" +
+    "\063\104\056\001\002\000\024\004\062\006\050\015\053" +
+    "\025\054\041\065\053\052\054\060\101\063\104\056\001" +
+    "\002\000\024\004\062\006\050\015\053\025\054\041\065" +
+    "\053\052\054\060\101\063\104\056\001\002\000\024\004" +
+    "\062\006\050\015\053\025\054\041\065\053\052\054\060" +
+    "\101\063\104\056\001\002\000\046\017\uff92\024\uff92\027" +
+    "\104\030\102\031\106\032\110\033\111\034\112\035\uff92" +
+    "\036\uff92\063\uff92\065\uff92\066\uff92\067\uff92\070\uff92\102" +
+    "\uff92\103\uff92\105\uff92\001\002\000\024\004\062\006\050" +
+    "\015\053\025\054\041\065\053\052\054\060\101\063\104" +
+    "\056\001\002\000\024\004\062\006\050\015\053\025\054" +
+    "\041\065\053\052\054\060\101\063\104\056\001\002\000" +
+    "\024\004\062\006\050\015\053\025\054\041\065\053\052" +
+    "\054\060\101\063\104\056\001\002\000\032\017\uff97\024" +
+    "\uff97\035\uff97\036\uff97\063\uff97\065\uff97\066\uff97\067\uff97" +
+    "\070\uff97\102\uff97\103\uff97\105\uff97\001\002\000\052\005" +
+    "\105\006\103\017\uff8d\024\uff8d\027\uff8d\030\uff8d\031\uff8d" +
+    "\032\uff8d\033\uff8d\034\uff8d\035\uff8d\036\uff8d\063\uff8d\065" +
+    "\uff8d\066\uff8d\067\uff8d\070\uff8d\102\uff8d\103\uff8d\105\uff8d" +
+    "\001\002\000\052\005\105\006\103\017\uff8c\024\uff8c\027" +
+    "\uff8c\030\uff8c\031\uff8c\032\uff8c\033\uff8c\034\uff8c\035\uff8c" +
+    "\036\uff8c\063\uff8c\065\uff8c\066\uff8c\067\uff8c\070\uff8c\102" +
+    "\uff8c\103\uff8c\105\uff8c\001\002\000\052\005\105\006\103" +
+    "\017\uff90\024\uff90\027\uff90\030\uff90\031\uff90\032\uff90\033" +
+    "\uff90\034\uff90\035\uff90\036\uff90\063\uff90\065\uff90\066\uff90" +
+    "\067\uff90\070\uff90\102\uff90\103\uff90\105\uff90\001\002\000" +
+    "\046\017\uff92\024\uff92\027\104\030\102\031\106\032\110" +
+    "\033\111\034\112\035\uff92\036\uff92\063\uff92\065\uff92\066" +
+    "\uff92\067\uff92\070\uff92\102\uff92\103\uff92\105\uff92\001\002" +
+    "\000\032\017\uff95\024\uff95\035\uff95\036\uff95\063\uff95\065" +
+    "\uff95\066\uff95\067\uff95\070\uff95\102\uff95\103\uff95\105\uff95" +
+    "\001\002\000\032\017\uff93\024\uff93\035\uff93\036\uff93\063" +
+    "\uff93\065\uff93\066\uff93\067\uff93\070\uff93\102\uff93\103\uff93" +
+    "\105\uff93\001\002\000\052\005\105\006\103\017\uff8f\024" +
+    "\uff8f\027\uff8f\030\uff8f\031\uff8f\032\uff8f\033\uff8f\034\uff8f" +
+    "\035\uff8f\036\uff8f\063\uff8f\065\uff8f\066\uff8f\067\uff8f\070" +
+    "\uff8f\102\uff8f\103\uff8f\105\uff8f\001\002\000\064\005\uffb2" +
+    "\006\uffb2\011\127\012\126\013\124\014\125\017\uffb2\024" +
+    "\uffb2\027\uffb2\030\uffb2\031\uffb2\032\uffb2\033\uffb2\034\uffb2" +
+    "\035\uffb2\036\uffb2\063\uffb2\065\uffb2\066\uffb2\067\uffb2\070" +
+    "\uffb2\100\uffb2\102\uffb2\103\uffb2\105\uffb2\001\002\000\024" +
+    "\004\062\006\050\015\053\025\054\041\065\053\052\054" +
+    "\060\101\063\104\056\001\002\000\024\004\062\006\050" +
+    "\015\053\025\054\041\065\053\052\054\060\101\063\104" +
+    "\056\001\002\000\024\004\062\006\050\015\053\025\054" +
+    "\041\065\053\052\054\060\101\063\104\056\001\002\000" +
+    "\024\004\062\006\050\015\053\025\054\041\065\053\052" +
+    "\054\060\101\063\104\056\001\002\000\064\005\uffaf\006" +
+    "\uffaf\011\uffaf\012\uffaf\013\uffaf\014\uffaf\017\uffaf\024\uffaf" +
+    "\027\uffaf\030\uffaf\031\uffaf\032\uffaf\033\uffaf\034\uffaf\035" +
+    "\uffaf\036\uffaf\063\uffaf\065\uffaf\066\uffaf\067\uffaf\070\uffaf" +
+    "\100\uffaf\102\uffaf\103\uffaf\105\uffaf\001\002\000\064\005" +
+    "\uffae\006\uffae\011\uffae\012\uffae\013\uffae\014\uffae\017\uffae" +
+    "\024\uffae\027\uffae\030\uffae\031\uffae\032\uffae\033\uffae\034" +
+    "\uffae\035\uffae\036\uffae\063\uffae\065\uffae\066\uffae\067\uffae" +
+    "\070\uffae\100\uffae\102\uffae\103\uffae\105\uffae\001\002\000" +
+    "\064\005\uffad\006\uffad\011\uffad\012\uffad\013\uffad\014\uffad" +
+    "\017\uffad\024\uffad\027\uffad\030\uffad\031\uffad\032\uffad\033" +
+    "\uffad\034\uffad\035\uffad\036\uffad\063\uffad\065\uffad\066\uffad" +
+    "\067\uffad\070\uffad\100\uffad\102\uffad\103\uffad\105\uffad\001" +
     "\002\000\064\005\uffac\006\uffac\011\uffac\012\uffac\013\uffac" +
     "\014\uffac\017\uffac\024\uffac\027\uffac\030\uffac\031\uffac\032" +
     "\uffac\033\uffac\034\uffac\035\uffac\036\uffac\063\uffac\065\uffac" +
     "\066\uffac\067\uffac\070\uffac\100\uffac\102\uffac\103\uffac\105" +
-    "\uffac\001\002\000\064\005\uffb5\006\uffb5\011\uffb5\012\uffb5" +
-    "\013\uffb5\014\uffb5\017\uffb5\024\uffb5\027\uffb5\030\uffb5\031" +
-    "\uffb5\032\uffb5\033\uffb5\034\uffb5\035\uffb5\036\uffb5\063\uffb5" +
-    "\065\uffb5\066\uffb5\067\uffb5\070\uffb5\100\uffb5\102\uffb5\103" +
-    "\uffb5\105\uffb5\001\002\000\004\102\134\001\002\000\052" +
-    "\005\102\006\100\017\uff97\024\uff97\027\101\030\077\031" +
-    "\103\032\105\033\106\034\107\035\uff97\036\uff97\063\uff97" +
-    "\065\uff97\066\uff97\067\uff97\070\uff97\102\uff97\103\uff97\105" +
-    "\uff97\001\002\000\026\004\061\006\047\015\052\025\054" +
-    "\037\067\041\064\053\051\054\057\101\062\104\055\001" +
-    "\002\000\032\017\uff9b\024\uff9b\035\uff9b\036\uff9b\063\uff9b" +
-    "\065\uff9b\066\uff9b\067\uff9b\070\uff9b\102\uff9b\103\uff9b\105" +
-    "\uff9b\001\002\000\032\017\uff9e\024\uff9e\035\072\036\073" +
-    "\063\uff9e\065\uff9e\066\uff9e\067\uff9e\070\uff9e\102\uff9e\103" +
-    "\uff9e\105\uff9e\001\002\000\026\004\061\006\047\015\052" +
-    "\025\054\037\067\041\064\053\051\054\057\101\062\104" +
-    "\055\001\002\000\026\004\061\006\047\015\052\025\054" +
-    "\037\067\041\064\053\051\054\057\101\062\104\055\001" +
-    "\002\000\032\017\uff9c\024\uff9c\035\uff9c\036\uff9c\063\uff9c" +
-    "\065\uff9c\066\uff9c\067\uff9c\070\uff9c\102\uff9c\103\uff9c\105" +
-    "\uff9c\001\002\000\032\017\uff9d\024\uff9d\035\uff9d\036\uff9d" +
-    "\063\uff9d\065\uff9d\066\uff9d\067\uff9d\070\uff9d\102\uff9d\103" +
-    "\uff9d\105\uff9d\001\002\000\032\017\uff99\024\uff99\035\uff99" +
-    "\036\uff99\063\uff99\065\uff99\066\uff99\067\uff99\070\uff99\102" +
-    "\uff99\103\uff99\105\uff99\001\002\000\024\004\061\006\047" +
-    "\015\052\025\054\041\064\053\051\054\057\101\062\104" +
-    "\055\001\002\000\024\004\061\006\047\015\052\025\054" +
-    "\041\064\053\051\054\057\101\062\104\055\001\002\000" +
-    "\024\004\061\006\047\015\052\025\054\041\064\053\051" +
-    "\054\057\101\062\104\055\001\002\000\024\004\061\006" +
-    "\047\015\052\025\054\041\064\053\051\054\057\101\062" +
-    "\104\055\001\002\000\024\004\061\006\047\015\052\025" +
-    "\054\041\064\053\051\054\057\101\062\104\055\001\002" +
-    "\000\046\017\uff95\024\uff95\027\101\030\077\031\103\032" +
-    "\105\033\106\034\107\035\uff95\036\uff95\063\uff95\065\uff95" +
-    "\066\uff95\067\uff95\070\uff95\102\uff95\103\uff95\105\uff95\001" +
-    "\002\000\024\004\061\006\047\015\052\025\054\041\064" +
-    "\053\051\054\057\101\062\104\055\001\002\000\024\004" +
-    "\061\006\047\015\052\025\054\041\064\053\051\054\057" +
-    "\101\062\104\055\001\002\000\024\004\061\006\047\015" +
-    "\052\025\054\041\064\053\051\054\057\101\062\104\055" +
-    "\001\002\000\032\017\uff9a\024\uff9a\035\uff9a\036\uff9a\063" +
-    "\uff9a\065\uff9a\066\uff9a\067\uff9a\070\uff9a\102\uff9a\103\uff9a" +
-    "\105\uff9a\001\002\000\052\005\102\006\100\017\uff90\024" +
-    "\uff90\027\uff90\030\uff90\031\uff90\032\uff90\033\uff90\034\uff90" +
-    "\035\uff90\036\uff90\063\uff90\065\uff90\066\uff90\067\uff90\070" +
-    "\uff90\102\uff90\103\uff90\105\uff90\001\002\000\052\005\102" +
-    "\006\100\017\uff8f\024\uff8f\027\uff8f\030\uff8f\031\uff8f\032" +
-    "\uff8f\033\uff8f\034\uff8f\035\uff8f\036\uff8f\063\uff8f\065\uff8f" +
-    "\066\uff8f\067\uff8f\070\uff8f\102\uff8f\103\uff8f\105\uff8f\001" +
-    "\002\000\052\005\102\006\100\017\uff93\024\uff93\027\uff93" +
-    "\030\uff93\031\uff93\032\uff93\033\uff93\034\uff93\035\uff93\036" +
-    "\uff93\063\uff93\065\uff93\066\uff93\067\uff93\070\uff93\102\uff93" +
-    "\103\uff93\105\uff93\001\002\000\046\017\uff95\024\uff95\027" +
-    "\101\030\077\031\103\032\105\033\106\034\107\035\uff95" +
-    "\036\uff95\063\uff95\065\uff95\066\uff95\067\uff95\070\uff95\102" +
-    "\uff95\103\uff95\105\uff95\001\002\000\032\017\uff98\024\uff98" +
-    "\035\uff98\036\uff98\063\uff98\065\uff98\066\uff98\067\uff98\070" +
-    "\uff98\102\uff98\103\uff98\105\uff98\001\002\000\032\017\uff96" +
-    "\024\uff96\035\uff96\036\uff96\063\uff96\065\uff96\066\uff96\067" +
-    "\uff96\070\uff96\102\uff96\103\uff96\105\uff96\001\002\000\052" +
-    "\005\102\006\100\017\uff92\024\uff92\027\uff92\030\uff92\031" +
-    "\uff92\032\uff92\033\uff92\034\uff92\035\uff92\036\uff92\063\uff92" +
-    "\065\uff92\066\uff92\067\uff92\070\uff92\102\uff92\103\uff92\105" +
-    "\uff92\001\002\000\064\005\uffb3\006\uffb3\011\124\012\123" +
-    "\013\121\014\122\017\uffb3\024\uffb3\027\uffb3\030\uffb3\031" +
-    "\uffb3\032\uffb3\033\uffb3\034\uffb3\035\uffb3\036\uffb3\063\uffb3" +
-    "\065\uffb3\066\uffb3\067\uffb3\070\uffb3\100\uffb3\102\uffb3\103" +
-    "\uffb3\105\uffb3\001\002\000\024\004\061\006\047\015\052" +
-    "\025\054\041\064\053\051\054\057\101\062\104\055\001" +
-    "\002\000\024\004\061\006\047\015\052\025\054\041\064" +
-    "\053\051\054\057\101\062\104\055\001\002\000\024\004" +
-    "\061\006\047\015\052\025\054\041\064\053\051\054\057" +
-    "\101\062\104\055\001\002\000\024\004\061\006\047\015" +
-    "\052\025\054\041\064\053\051\054\057\101\062\104\055" +
-    "\001\002\000\064\005\uffb0\006\uffb0\011\uffb0\012\uffb0\013" +
-    "\uffb0\014\uffb0\017\uffb0\024\uffb0\027\uffb0\030\uffb0\031\uffb0" +
-    "\032\uffb0\033\uffb0\034\uffb0\035\uffb0\036\uffb0\063\uffb0\065" +
-    "\uffb0\066\uffb0\067\uffb0\070\uffb0\100\uffb0\102\uffb0\103\uffb0" +
-    "\105\uffb0\001\002\000\064\005\uffaf\006\uffaf\011\uffaf\012" +
-    "\uffaf\013\uffaf\014\uffaf\017\uffaf\024\uffaf\027\uffaf\030\uffaf" +
-    "\031\uffaf\032\uffaf\033\uffaf\034\uffaf\035\uffaf\036\uffaf\063" +
-    "\uffaf\065\uffaf\066\uffaf\067\uffaf\070\uffaf\100\uffaf\102\uffaf" +
-    "\103\uffaf\105\uffaf\001\002\000\064\005\uffae\006\uffae\011" +
-    "\uffae\012\uffae\013\uffae\014\uffae\017\uffae\024\uffae\027\uffae" +
-    "\030\uffae\031\uffae\032\uffae\033\uffae\034\uffae\035\uffae\036" +
-    "\uffae\063\uffae\065\uffae\066\uffae\067\uffae\070\uffae\100\uffae" +
-    "\102\uffae\103\uffae\105\uffae\001\002\000\064\005\uffad\006" +
-    "\uffad\011\uffad\012\uffad\013\uffad\014\uffad\017\uffad\024\uffad" +
-    "\027\uffad\030\uffad\031\uffad\032\uffad\033\uffad\034\uffad\035" +
-    "\uffad\036\uffad\063\uffad\065\uffad\066\uffad\067\uffad\070\uffad" +
-    "\100\uffad\102\uffad\103\uffad\105\uffad\001\002\000\052\005" +
-    "\102\006\100\017\uff94\024\uff94\027\uff94\030\uff94\031\uff94" +
-    "\032\uff94\033\uff94\034\uff94\035\uff94\036\uff94\063\uff94\065" +
-    "\uff94\066\uff94\067\uff94\070\uff94\102\uff94\103\uff94\105\uff94" +
-    "\001\002\000\064\005\uffb2\006\uffb2\011\124\012\123\013" +
-    "\121\014\122\017\uffb2\024\uffb2\027\uffb2\030\uffb2\031\uffb2" +
-    "\032\uffb2\033\uffb2\034\uffb2\035\uffb2\036\uffb2\063\uffb2\065" +
-    "\uffb2\066\uffb2\067\uffb2\070\uffb2\100\uffb2\102\uffb2\103\uffb2" +
-    "\105\uffb2\001\002\000\052\005\102\006\100\017\uff91\024" +
-    "\uff91\027\uff91\030\uff91\031\uff91\032\uff91\033\uff91\034\uff91" +
-    "\035\uff91\036\uff91\063\uff91\065\uff91\066\uff91\067\uff91\070" +
-    "\uff91\102\uff91\103\uff91\105\uff91\001\002\000\064\005\uffa2" +
-    "\006\uffa2\011\uffa2\012\uffa2\013\uffa2\014\uffa2\017\uffa2\024" +
-    "\uffa2\027\uffa2\030\uffa2\031\uffa2\032\uffa2\033\uffa2\034\uffa2" +
-    "\035\uffa2\036\uffa2\063\uffa2\065\uffa2\066\uffa2\067\uffa2\070" +
-    "\uffa2\100\uffa2\102\uffa2\103\uffa2\105\uffa2\001\002\000\064" +
-    "\005\uffa7\006\uffa7\011\uffa7\012\uffa7\013\uffa7\014\uffa7\017" +
-    "\uffa7\024\uffa7\027\uffa7\030\uffa7\031\uffa7\032\uffa7\033\uffa7" +
-    "\034\uffa7\035\uffa7\036\uffa7\063\uffa7\065\uffa7\066\uffa7\067" +
-    "\uffa7\070\uffa7\100\uffa7\102\uffa7\103\uffa7\105\uffa7\001\002" +
-    "\000\030\004\061\006\047\015\052\025\054\037\067\041" +
-    "\064\053\051\054\057\101\062\102\uff69\104\055\001\002" +
-    "\000\064\005\uffa6\006\uffa6\011\uffa6\012\uffa6\013\uffa6\014" +
-    "\uffa6\017\uffa6\024\uffa6\027\uffa6\030\uffa6\031\uffa6\032\uffa6" +
-    "\033\uffa6\034\uffa6\035\uffa6\036\uffa6\063\uffa6\065\uffa6\066" +
-    "\uffa6\067\uffa6\070\uffa6\100\uffa6\102\uffa6\103\uffa6\105\uffa6" +
-    "\001\002\000\024\004\061\006\047\015\052\025\054\041" +
-    "\064\053\051\054\057\101\062\104\055\001\002\000\010" +
-    "\005\102\006\100\100\142\001\002\000\066\005\uff3c\006" +
-    "\uff3c\011\uff3c\012\uff3c\013\uff3c\014\uff3c\017\uff3c\024\uff3c" +
-    "\026\uff3c\027\uff3c\030\uff3c\031\uff3c\032\uff3c\033\uff3c\034" +
-    "\uff3c\035\uff3c\036\uff3c\063\uff3c\065\uff3c\066\uff3c\067\uff3c" +
-    "\070\uff3c\100\uff3c\102\uff3c\103\uff3c\105\uff3c\001\002\000" +
-    "\006\024\147\102\uff68\001\002\000\004\102\uff6a\001\002" +
-    "\000\004\102\146\001\002\000\064\005\uffa5\006\uffa5\011" +
-    "\uffa5\012\uffa5\013\uffa5\014\uffa5\017\uffa5\024\uffa5\027\uffa5" +
-    "\030\uffa5\031\uffa5\032\uffa5\033\uffa5\034\uffa5\035\uffa5\036" +
-    "\uffa5\063\uffa5\065\uffa5\066\uffa5\067\uffa5\070\uffa5\100\uffa5" +
-    "\102\uffa5\103\uffa5\105\uffa5\001\002\000\026\004\061\006" +
-    "\047\015\052\025\054\037\067\041\064\053\051\054\057" +
-    "\101\062\104\055\001\002\000\004\102\uff67\001\002\000" +
-    "\004\105\152\001\002\000\100\002\uff46\003\uff46\004\uff46" +
-    "\006\uff46\015\uff46\017\uff46\020\uff46\025\uff46\026\uff46\037" +
-    "\uff46\040\uff46\041\uff46\042\uff46\043\uff46\044\uff46\045\uff46" +
-    "\047\uff46\050\uff46\052\uff46\053\uff46\054\uff46\056\uff46\057" +
-    "\uff46\061\uff46\063\uff46\071\uff46\072\uff46\073\uff46\074\uff46" +
-    "\101\uff46\104\uff46\001\002\000\024\004\061\006\047\015" +
-    "\052\025\054\041\064\053\051\054\057\101\062\104\055" +
-    "\001\002\000\004\100\uff44\001\002\000\064\005\uffab\006" +
-    "\uffab\011\uffab\012\uffab\013\uffab\014\uffab\017\uffab\024\uffab" +
-    "\027\uffab\030\uffab\031\uffab\032\uffab\033\uffab\034\uffab\035" +
-    "\uffab\036\uffab\063\uffab\065\uffab\066\uffab\067\uffab\070\uffab" +
-    "\100\uffab\102\uffab\103\uffab\105\uffab\001\002\000\026\004" +
-    "\061\006\047\015\052\025\054\037\067\041\064\053\051" +
-    "\054\057\101\062\104\055\001\002\000\004\102\160\001" +
-    "\002\000\064\005\uffa3\006\uffa3\011\uffa3\012\uffa3\013\uffa3" +
-    "\014\uffa3\017\uffa3\024\uffa3\027\uffa3\030\uffa3\031\uffa3\032" +
-    "\uffa3\033\uffa3\034\uffa3\035\uffa3\036\uffa3\063\uffa3\065\uffa3" +
-    "\066\uffa3\067\uffa3\070\uffa3\100\uffa3\102\uffa3\103\uffa3\105" +
-    "\uffa3\001\002\000\024\004\061\006\047\015\052\025\054" +
-    "\041\064\053\051\054\057\101\062\104\055\001\002\000" +
-    "\004\100\163\001\002\000\004\105\164\001\002\000\100" +
-    "\002\uff45\003\uff45\004\uff45\006\uff45\015\uff45\017\uff45\020" +
-    "\uff45\025\uff45\026\uff45\037\uff45\040\uff45\041\uff45\042\uff45" +
-    "\043\uff45\044\uff45\045\uff45\047\uff45\050\uff45\052\uff45\053" +
-    "\uff45\054\uff45\056\uff45\057\uff45\061\uff45\063\uff45\071\uff45" +
-    "\072\uff45\073\uff45\074\uff45\101\uff45\104\uff45\001\002\000" +
-    "\004\002\ufff2\001\002\000\032\002\uffed\003\025\020\032" +
-    "\040\012\041\017\042\013\043\031\044\016\045\033\047" +
-    "\030\050\027\052\022\001\002\000\004\002\uffee\001\002" +
-    "\000\006\016\uff7c\101\uff7c\001\002\000\006\021\uffb7\022" +
-    "\uffb7\001\002\000\100\002\uffb9\003\uffb9\004\uffb9\006\uffb9" +
-    "\015\uffb9\017\uffb9\020\uffb9\025\uffb9\026\uffb9\037\uffb9\040" +
-    "\uffb9\041\uffb9\042\uffb9\043\uffb9\044\uffb9\045\uffb9\047\uffb9" +
-    "\050\uffb9\052\uffb9\053\uffb9\054\uffb9\056\uffb9\057\uffb9\061" +
-    "\uffb9\063\uffb9\071\uffb9\072\uffb9\073\uffb9\074\uffb9\101\uffb9" +
-    "\104\uffb9\001\002\000\006\021\175\022\174\001\002\000" +
-    "\006\021\uffb8\022\uffb8\001\002\000\100\002\uffba\003\uffba" +
-    "\004\uffba\006\uffba\015\uffba\017\uffba\020\uffba\025\uffba\026" +
-    "\uffba\037\uffba\040\uffba\041\uffba\042\uffba\043\uffba\044\uffba" +
-    "\045\uffba\047\uffba\050\uffba\052\uffba\053\uffba\054\uffba\056" +
-    "\uffba\057\uffba\061\uffba\063\uffba\071\uffba\072\uffba\073\uffba" +
-    "\074\uffba\101\uffba\104\uffba\001\002\000\006\016\uff7f\101" +
-    "\uff7f\001\002\000\014\040\221\041\220\042\217\043\216" +
-    "\044\214\001\002\000\004\046\207\001\002\000\004\046" +
-    "\202\001\002\000\004\004\203\001\002\000\004\077\204" +
-    "\001\002\000\004\015\205\001\002\000\004\100\206\001" +
-    "\002\000\010\004\uff4a\026\uff4a\105\uff4a\001\002\000\004" +
-    "\004\210\001\002\000\004\077\211\001\002\000\004\015" +
-    "\212\001\002\000\004\100\213\001\002\000\010\004\uff49" +
-    "\026\uff49\105\uff49\001\002\000\004\004\uff8a\001\002\000" +
-    "\004\004\222\001\002\000\004\004\uff8b\001\002\000\004" +
-    "\004\uff8d\001\002\000\004\004\uff8c\001\002\000\004\004" +
-    "\uff8e\001\002\000\010\004\uff84\026\uff84\105\uff84\001\002" +
-    "\000\004\004\224\001\002\000\012\004\uff86\026\225\077" +
-    "\226\105\uff86\001\002\000\026\004\061\006\047\015\052" +
-    "\025\054\037\067\041\064\053\051\054\057\101\062\104" +
-    "\055\001\002\000\004\015\227\001\002\000\004\100\230" +
-    "\001\002\000\006\026\231\105\uff48\001\002\000\004\016" +
-    "\233\001\002\000\004\105\uff47\001\002\000\030\004\061" +
-    "\006\047\015\052\017\235\025\054\037\067\041\064\053" +
-    "\051\054\057\101\062\104\055\001\002\000\006\017\uff3f" +
-    "\024\240\001\002\000\004\105\uff41\001\002\000\004\017" +
-    "\237\001\002\000\004\105\uff42\001\002\000\026\004\061" +
-    "\006\047\015\052\025\054\037\067\041\064\053\051\054" +
-    "\057\101\062\104\055\001\002\000\004\017\uff40\001\002" +
-    "\000\004\105\uff85\001\002\000\032\002\ufff3\003\025\020" +
-    "\032\040\012\041\017\042\013\043\031\044\016\045\033" +
-    "\047\030\050\027\052\022\001\002\000\004\002\ufff4\001" +
-    "\002\000\004\002\uffea\001\002\000\004\002\ufffe\001\002" +
-    "\000\004\002\ufffc\001\002\000\100\002\uff82\003\uff82\004" +
-    "\uff82\006\uff82\015\uff82\017\uff82\020\uff82\025\uff82\026\uff82" +
-    "\037\uff82\040\uff82\041\uff82\042\uff82\043\uff82\044\uff82\045" +
-    "\uff82\047\uff82\050\uff82\052\uff82\053\uff82\054\uff82\056\uff82" +
-    "\057\uff82\061\uff82\063\uff82\071\uff82\072\uff82\073\uff82\074" +
-    "\uff82\101\uff82\104\uff82\001\002\000\026\004\061\006\047" +
-    "\015\052\025\054\037\067\041\064\053\051\054\057\101" +
-    "\062\104\055\001\002\000\004\026\261\001\002\000\006" +
-    "\026\256\077\140\001\002\000\032\002\ufff7\003\025\020" +
-    "\032\040\012\041\017\042\013\043\031\044\016\045\033" +
-    "\047\030\050\027\052\022\001\002\000\004\002\ufff8\001" +
-    "\002\000\026\004\061\006\047\015\052\025\054\037\067" +
-    "\041\064\053\051\054\057\101\062\104\055\001\002\000" +
-    "\004\105\260\001\002\000\100\002\uff89\003\uff89\004\uff89" +
-    "\006\uff89\015\uff89\017\uff89\020\uff89\025\uff89\026\uff89\037" +
-    "\uff89\040\uff89\041\uff89\042\uff89\043\uff89\044\uff89\045\uff89" +
-    "\047\uff89\050\uff89\052\uff89\053\uff89\054\uff89\056\uff89\057" +
-    "\uff89\061\uff89\063\uff89\071\uff89\072\uff89\073\uff89\074\uff89" +
-    "\101\uff89\104\uff89\001\002\000\026\004\061\006\047\015" +
-    "\052\025\054\037\067\041\064\053\051\054\057\101\062" +
-    "\104\055\001\002\000\004\105\263\001\002\000\100\002" +
-    "\uff88\003\uff88\004\uff88\006\uff88\015\uff88\017\uff88\020\uff88" +
-    "\025\uff88\026\uff88\037\uff88\040\uff88\041\uff88\042\uff88\043" +
-    "\uff88\044\uff88\045\uff88\047\uff88\050\uff88\052\uff88\053\uff88" +
-    "\054\uff88\056\uff88\057\uff88\061\uff88\063\uff88\071\uff88\072" +
-    "\uff88\073\uff88\074\uff88\101\uff88\104\uff88\001\002\000\004" +
-    "\105\265\001\002\000\100\002\uff87\003\uff87\004\uff87\006" +
-    "\uff87\015\uff87\017\uff87\020\uff87\025\uff87\026\uff87\037\uff87" +
-    "\040\uff87\041\uff87\042\uff87\043\uff87\044\uff87\045\uff87\047" +
-    "\uff87\050\uff87\052\uff87\053\uff87\054\uff87\056\uff87\057\uff87" +
-    "\061\uff87\063\uff87\071\uff87\072\uff87\073\uff87\074\uff87\101" +
-    "\uff87\104\uff87\001\002\000\006\016\uff7d\101\uff7d\001\002" +
-    "\000\006\016\uff7e\101\uff7e\001\002\000\004\002\ufff0\001" +
-    "\002\000\020\016\uff75\040\u0166\041\u016d\042\u016c\043\u0168" +
-    "\044\u0169\102\u016a\001\002\000\004\016\uff66\001\002\000" +
-    "\004\016\275\001\002\000\072\003\322\004\341\006\047" +
-    "\015\052\020\032\025\054\026\251\037\067\040\304\041" +
-    "\332\042\300\043\031\044\016\045\033\047\030\050\027" +
-    "\052\022\053\051\054\057\056\307\057\313\061\315\071" +
-    "\324\072\316\073\302\074\301\101\062\104\055\001\002" +
-    "\000\074\003\uff6b\004\uff6b\006\uff6b\015\uff6b\020\uff6b\025" +
-    "\uff6b\026\uff6b\037\uff6b\040\uff6b\041\uff6b\042\uff6b\043\uff6b" +
-    "\044\uff6b\045\uff6b\047\uff6b\050\uff6b\052\uff6b\053\uff6b\054" +
-    "\uff6b\056\uff6b\057\uff6b\061\uff6b\071\uff6b\072\uff6b\073\uff6b" +
-    "\074\uff6b\101\uff6b\102\276\104\uff6b\001\002\000\072\003" +
-    "\uff6c\004\uff6c\006\uff6c\015\uff6c\020\uff6c\025\uff6c\026\uff6c" +
-    "\037\uff6c\040\uff6c\041\uff6c\042\uff6c\043\uff6c\044\uff6c\045" +
-    "\uff6c\047\uff6c\050\uff6c\052\uff6c\053\uff6c\054\uff6c\056\uff6c" +
-    "\057\uff6c\061\uff6c\071\uff6c\072\uff6c\073\uff6c\074\uff6c\101" +
-    "\uff6c\104\uff6c\001\002\000\072\003\uff6d\004\uff6d\006\uff6d" +
-    "\015\uff6d\020\uff6d\025\uff6d\026\uff6d\037\uff6d\040\uff6d\041" +
-    "\uff6d\042\uff6d\043\uff6d\044\uff6d\045\uff6d\047\uff6d\050\uff6d" +
-    "\052\uff6d\053\uff6d\054\uff6d\056\uff6d\057\uff6d\061\uff6d\071" +
-    "\uff6d\072\uff6d\073\uff6d\074\uff6d\101\uff6d\104\uff6d\001\002" +
-    "\000\006\004\u015f\046\u0160\001\002\000\004\101\u015c\001" +
-    "\002\000\004\101\u0158\001\002\000\074\004\uffcd\006\uffcd" +
-    "\015\uffcd\017\uffcd\020\uffcd\025\uffcd\026\uffcd\037\uffcd\040" +
-    "\uffcd\041\uffcd\042\uffcd\043\uffcd\044\uffcd\045\uffcd\047\uffcd" +
-    "\050\uffcd\052\uffcd\053\uffcd\054\uffcd\056\uffcd\057\uffcd\061" +
-    "\uffcd\063\uffcd\071\uffcd\072\uffcd\073\uffcd\074\uffcd\101\uffcd" +
-    "\104\uffcd\001\002\000\006\004\u0152\046\u0153\001\002\000" +
-    "\074\004\uffc8\006\uffc8\015\uffc8\017\uffc8\020\uffc8\025\uffc8" +
-    "\026\uffc8\037\uffc8\040\uffc8\041\uffc8\042\uffc8\043\uffc8\044" +
-    "\uffc8\045\uffc8\047\uffc8\050\uffc8\052\uffc8\053\uffc8\054\uffc8" +
-    "\056\uffc8\057\uffc8\061\uffc8\063\uffc8\071\uffc8\072\uffc8\073" +
-    "\uffc8\074\uffc8\101\uffc8\104\uffc8\001\002\000\074\004\uffc3" +
-    "\006\uffc3\015\uffc3\017\uffc3\020\uffc3\025\uffc3\026\uffc3\037" +
-    "\uffc3\040\uffc3\041\uffc3\042\uffc3\043\uffc3\044\uffc3\045\uffc3" +
-    "\047\uffc3\050\uffc3\052\uffc3\053\uffc3\054\uffc3\056\uffc3\057" +
-    "\uffc3\061\uffc3\063\uffc3\071\uffc3\072\uffc3\073\uffc3\074\uffc3" +
-    "\101\uffc3\104\uffc3\001\002\000\004\004\u013c\001\002\000" +
-    "\074\004\uffcf\006\uffcf\015\uffcf\017\uffcf\020\uffcf\025\uffcf" +
-    "\026\uffcf\037\uffcf\040\uffcf\041\uffcf\042\uffcf\043\uffcf\044" +
-    "\uffcf\045\uffcf\047\uffcf\050\uffcf\052\uffcf\053\uffcf\054\uffcf" +
-    "\056\uffcf\057\uffcf\061\uffcf\063\uffcf\071\uffcf\072\uffcf\073" +
-    "\uffcf\074\uffcf\101\uffcf\104\uffcf\001\002\000\010\004\040" +
-    "\026\037\105\u0139\001\002\000\004\105\u0138\001\002\000" +
-    "\004\060\u0123\001\002\000\072\004\341\006\047\015\052" +
-    "\017\u0122\020\032\025\054\026\251\037\067\040\304\041" +
-    "\332\042\300\043\031\044\016\045\033\047\030\050\027" +
-    "\052\022\053\051\054\057\056\307\057\313\061\315\071" +
-    "\u010a\072\u0106\073\302\074\301\101\062\104\055\001\002" +
-    "\000\072\003\uff5a\004\uff5a\006\uff5a\015\uff5a\020\uff5a\025" +
-    "\uff5a\026\uff5a\037\uff5a\040\uff5a\041\uff5a\042\uff5a\043\uff5a" +
-    "\044\uff5a\045\uff5a\047\uff5a\050\uff5a\052\uff5a\053\uff5a\054" +
-    "\uff5a\056\uff5a\057\uff5a\061\uff5a\071\uff5a\072\uff5a\073\uff5a" +
-    "\074\uff5a\101\uff5a\104\uff5a\001\002\000\030\004\061\006" +
-    "\047\015\052\025\054\037\067\041\064\053\051\054\057" +
-    "\101\062\104\055\105\352\001\002\000\074\004\uffc2\006" +
-    "\uffc2\015\uffc2\017\uffc2\020\uffc2\025\uffc2\026\uffc2\037\uffc2" +
-    "\040\uffc2\041\uffc2\042\uffc2\043\uffc2\044\uffc2\045\uffc2\047" +
-    "\uffc2\050\uffc2\052\uffc2\053\uffc2\054\uffc2\056\uffc2\057\uffc2" +
-    "\061\uffc2\063\uffc2\071\uffc2\072\uffc2\073\uffc2\074\uffc2\101" +
-    "\uffc2\104\uffc2\001\002\000\074\004\uffc9\006\uffc9\015\uffc9" +
+    "\uffac\001\002\000\052\005\105\006\103\017\uff91\024\uff91" +
+    "\027\uff91\030\uff91\031\uff91\032\uff91\033\uff91\034\uff91\035" +
+    "\uff91\036\uff91\063\uff91\065\uff91\066\uff91\067\uff91\070\uff91" +
+    "\102\uff91\103\uff91\105\uff91\001\002\000\064\005\uffb1\006" +
+    "\uffb1\011\127\012\126\013\124\014\125\017\uffb1\024\uffb1" +
+    "\027\uffb1\030\uffb1\031\uffb1\032\uffb1\033\uffb1\034\uffb1\035" +
+    "\uffb1\036\uffb1\063\uffb1\065\uffb1\066\uffb1\067\uffb1\070\uffb1" +
+    "\100\uffb1\102\uffb1\103\uffb1\105\uffb1\001\002\000\052\005" +
+    "\105\006\103\017\uff8e\024\uff8e\027\uff8e\030\uff8e\031\uff8e" +
+    "\032\uff8e\033\uff8e\034\uff8e\035\uff8e\036\uff8e\063\uff8e\065" +
+    "\uff8e\066\uff8e\067\uff8e\070\uff8e\102\uff8e\103\uff8e\105\uff8e" +
+    "\001\002\000\064\005\uffa0\006\uffa0\011\uffa0\012\uffa0\013" +
+    "\uffa0\014\uffa0\017\uffa0\024\uffa0\027\uffa0\030\uffa0\031\uffa0" +
+    "\032\uffa0\033\uffa0\034\uffa0\035\uffa0\036\uffa0\063\uffa0\065" +
+    "\uffa0\066\uffa0\067\uffa0\070\uffa0\100\uffa0\102\uffa0\103\uffa0" +
+    "\105\uffa0\001\002\000\064\005\uffa5\006\uffa5\011\uffa5\012" +
+    "\uffa5\013\uffa5\014\uffa5\017\uffa5\024\uffa5\027\uffa5\030\uffa5" +
+    "\031\uffa5\032\uffa5\033\uffa5\034\uffa5\035\uffa5\036\uffa5\063" +
+    "\uffa5\065\uffa5\066\uffa5\067\uffa5\070\uffa5\100\uffa5\102\uffa5" +
+    "\103\uffa5\105\uffa5\001\002\000\030\004\062\006\050\015" +
+    "\053\025\054\037\070\041\065\053\052\054\060\101\063" +
+    "\102\uff66\104\056\001\002\000\064\005\uffa4\006\uffa4\011" +
+    "\uffa4\012\uffa4\013\uffa4\014\uffa4\017\uffa4\024\uffa4\027\uffa4" +
+    "\030\uffa4\031\uffa4\032\uffa4\033\uffa4\034\uffa4\035\uffa4\036" +
+    "\uffa4\063\uffa4\065\uffa4\066\uffa4\067\uffa4\070\uffa4\100\uffa4" +
+    "\102\uffa4\103\uffa4\105\uffa4\001\002\000\024\004\062\006" +
+    "\050\015\053\025\054\041\065\053\052\054\060\101\063" +
+    "\104\056\001\002\000\010\005\105\006\103\100\145\001" +
+    "\002\000\066\005\uff38\006\uff38\011\uff38\012\uff38\013\uff38" +
+    "\014\uff38\017\uff38\024\uff38\026\uff38\027\uff38\030\uff38\031" +
+    "\uff38\032\uff38\033\uff38\034\uff38\035\uff38\036\uff38\063\uff38" +
+    "\065\uff38\066\uff38\067\uff38\070\uff38\100\uff38\102\uff38\103" +
+    "\uff38\105\uff38\001\002\000\006\024\152\102\uff65\001\002" +
+    "\000\004\102\uff67\001\002\000\004\102\151\001\002\000" +
+    "\064\005\uffa3\006\uffa3\011\uffa3\012\uffa3\013\uffa3\014\uffa3" +
+    "\017\uffa3\024\uffa3\027\uffa3\030\uffa3\031\uffa3\032\uffa3\033" +
+    "\uffa3\034\uffa3\035\uffa3\036\uffa3\063\uffa3\065\uffa3\066\uffa3" +
+    "\067\uffa3\070\uffa3\100\uffa3\102\uffa3\103\uffa3\105\uffa3\001" +
+    "\002\000\026\004\062\006\050\015\053\025\054\037\070" +
+    "\041\065\053\052\054\060\101\063\104\056\001\002\000" +
+    "\004\102\uff64\001\002\000\004\105\155\001\002\000\102" +
+    "\002\uff42\003\uff42\004\uff42\006\uff42\015\uff42\017\uff42\020" +
+    "\uff42\025\uff42\026\uff42\037\uff42\040\uff42\041\uff42\042\uff42" +
+    "\043\uff42\044\uff42\045\uff42\047\uff42\050\uff42\052\uff42\053" +
+    "\uff42\054\uff42\056\uff42\057\uff42\061\uff42\063\uff42\071\uff42" +
+    "\072\uff42\073\uff42\074\uff42\101\uff42\104\uff42\106\uff42\001" +
+    "\002\000\024\004\062\006\050\015\053\025\054\041\065" +
+    "\053\052\054\060\101\063\104\056\001\002\000\004\100" +
+    "\uff40\001\002\000\064\005\uffaa\006\uffaa\011\uffaa\012\uffaa" +
+    "\013\uffaa\014\uffaa\017\uffaa\024\uffaa\027\uffaa\030\uffaa\031" +
+    "\uffaa\032\uffaa\033\uffaa\034\uffaa\035\uffaa\036\uffaa\063\uffaa" +
+    "\065\uffaa\066\uffaa\067\uffaa\070\uffaa\100\uffaa\102\uffaa\103" +
+    "\uffaa\105\uffaa\001\002\000\026\004\062\006\050\015\053" +
+    "\025\054\037\070\041\065\053\052\054\060\101\063\104" +
+    "\056\001\002\000\064\005\uffa9\006\uffa9\011\uffa9\012\uffa9" +
+    "\013\uffa9\014\uffa9\017\uffa9\024\uffa9\027\uffa9\030\uffa9\031" +
+    "\uffa9\032\uffa9\033\uffa9\034\uffa9\035\uffa9\036\uffa9\063\uffa9" +
+    "\065\uffa9\066\uffa9\067\uffa9\070\uffa9\100\uffa9\102\uffa9\103" +
+    "\uffa9\105\uffa9\001\002\000\004\102\164\001\002\000\064" +
+    "\005\uffa1\006\uffa1\011\uffa1\012\uffa1\013\uffa1\014\uffa1\017" +
+    "\uffa1\024\uffa1\027\uffa1\030\uffa1\031\uffa1\032\uffa1\033\uffa1" +
+    "\034\uffa1\035\uffa1\036\uffa1\063\uffa1\065\uffa1\066\uffa1\067" +
+    "\uffa1\070\uffa1\100\uffa1\102\uffa1\103\uffa1\105\uffa1\001\002" +
+    "\000\024\004\062\006\050\015\053\025\054\041\065\053" +
+    "\052\054\060\101\063\104\056\001\002\000\004\100\167" +
+    "\001\002\000\004\105\170\001\002\000\102\002\uff41\003" +
+    "\uff41\004\uff41\006\uff41\015\uff41\017\uff41\020\uff41\025\uff41" +
+    "\026\uff41\037\uff41\040\uff41\041\uff41\042\uff41\043\uff41\044" +
+    "\uff41\045\uff41\047\uff41\050\uff41\052\uff41\053\uff41\054\uff41" +
+    "\056\uff41\057\uff41\061\uff41\063\uff41\071\uff41\072\uff41\073" +
+    "\uff41\074\uff41\101\uff41\104\uff41\106\uff41\001\002\000\004" +
+    "\002\ufff2\001\002\000\034\002\uffed\003\025\020\031\040" +
+    "\012\041\017\042\013\043\032\044\016\045\034\047\030" +
+    "\050\027\052\022\106\033\001\002\000\004\002\uffee\001" +
+    "\002\000\006\016\uff79\101\uff79\001\002\000\006\016\uff7c" +
+    "\101\uff7c\001\002\000\006\021\uffb6\022\uffb6\001\002\000" +
+    "\102\002\uffb9\003\uffb9\004\uffb9\006\uffb9\015\uffb9\017\uffb9" +
+    "\020\uffb9\025\uffb9\026\uffb9\037\uffb9\040\uffb9\041\uffb9\042" +
+    "\uffb9\043\uffb9\044\uffb9\045\uffb9\047\uffb9\050\uffb9\052\uffb9" +
+    "\053\uffb9\054\uffb9\056\uffb9\057\uffb9\061\uffb9\063\uffb9\071" +
+    "\uffb9\072\uffb9\073\uffb9\074\uffb9\101\uffb9\104\uffb9\106\uffb9" +
+    "\001\002\000\006\021\202\022\201\001\002\000\006\021" +
+    "\uffb7\022\uffb7\001\002\000\102\002\uffba\003\uffba\004\uffba" +
+    "\006\uffba\015\uffba\017\uffba\020\uffba\025\uffba\026\uffba\037" +
+    "\uffba\040\uffba\041\uffba\042\uffba\043\uffba\044\uffba\045\uffba" +
+    "\047\uffba\050\uffba\052\uffba\053\uffba\054\uffba\056\uffba\057" +
+    "\uffba\061\uffba\063\uffba\071\uffba\072\uffba\073\uffba\074\uffba" +
+    "\101\uffba\104\uffba\106\uffba\001\002\000\014\040\225\041" +
+    "\224\042\223\043\222\044\220\001\002\000\004\046\213" +
+    "\001\002\000\004\046\206\001\002\000\004\004\207\001" +
+    "\002\000\004\077\210\001\002\000\004\015\211\001\002" +
+    "\000\004\100\212\001\002\000\010\004\uff46\026\uff46\105" +
+    "\uff46\001\002\000\004\004\214\001\002\000\004\077\215" +
+    "\001\002\000\004\015\216\001\002\000\004\100\217\001" +
+    "\002\000\010\004\uff45\026\uff45\105\uff45\001\002\000\004" +
+    "\004\uff87\001\002\000\004\004\226\001\002\000\004\004" +
+    "\uff88\001\002\000\004\004\uff8a\001\002\000\004\004\uff89" +
+    "\001\002\000\004\004\uff8b\001\002\000\010\004\uff81\026" +
+    "\uff81\105\uff81\001\002\000\004\004\230\001\002\000\012" +
+    "\004\uff83\026\231\077\232\105\uff83\001\002\000\026\004" +
+    "\062\006\050\015\053\025\054\037\070\041\065\053\052" +
+    "\054\060\101\063\104\056\001\002\000\004\015\233\001" +
+    "\002\000\004\100\234\001\002\000\006\026\235\105\uff44" +
+    "\001\002\000\004\016\237\001\002\000\004\105\uff43\001" +
+    "\002\000\030\004\062\006\050\015\053\017\241\025\054" +
+    "\037\070\041\065\053\052\054\060\101\063\104\056\001" +
+    "\002\000\006\017\uff3b\024\244\001\002\000\004\105\uff3d" +
+    "\001\002\000\004\017\243\001\002\000\004\105\uff3e\001" +
+    "\002\000\026\004\062\006\050\015\053\025\054\037\070" +
+    "\041\065\053\052\054\060\101\063\104\056\001\002\000" +
+    "\004\017\uff3c\001\002\000\004\105\uff82\001\002\000\034" +
+    "\002\ufff3\003\025\020\031\040\012\041\017\042\013\043" +
+    "\032\044\016\045\034\047\030\050\027\052\022\106\033" +
+    "\001\002\000\004\002\ufff4\001\002\000\004\002\uffea\001" +
+    "\002\000\004\002\ufffe\001\002\000\004\002\ufffc\001\002" +
+    "\000\102\002\uff7f\003\uff7f\004\uff7f\006\uff7f\015\uff7f\017" +
+    "\uff7f\020\uff7f\025\uff7f\026\uff7f\037\uff7f\040\uff7f\041\uff7f" +
+    "\042\uff7f\043\uff7f\044\uff7f\045\uff7f\047\uff7f\050\uff7f\052" +
+    "\uff7f\053\uff7f\054\uff7f\056\uff7f\057\uff7f\061\uff7f\063\uff7f" +
+    "\071\uff7f\072\uff7f\073\uff7f\074\uff7f\101\uff7f\104\uff7f\106" +
+    "\uff7f\001\002\000\026\004\062\006\050\015\053\025\054" +
+    "\037\070\041\065\053\052\054\060\101\063\104\056\001" +
+    "\002\000\004\026\265\001\002\000\006\026\262\077\143" +
+    "\001\002\000\034\002\ufff7\003\025\020\031\040\012\041" +
+    "\017\042\013\043\032\044\016\045\034\047\030\050\027" +
+    "\052\022\106\033\001\002\000\004\002\ufff8\001\002\000" +
+    "\026\004\062\006\050\015\053\025\054\037\070\041\065" +
+    "\053\052\054\060\101\063\104\056\001\002\000\004\105" +
+    "\264\001\002\000\102\002\uff86\003\uff86\004\uff86\006\uff86" +
+    "\015\uff86\017\uff86\020\uff86\025\uff86\026\uff86\037\uff86\040" +
+    "\uff86\041\uff86\042\uff86\043\uff86\044\uff86\045\uff86\047\uff86" +
+    "\050\uff86\052\uff86\053\uff86\054\uff86\056\uff86\057\uff86\061" +
+    "\uff86\063\uff86\071\uff86\072\uff86\073\uff86\074\uff86\101\uff86" +
+    "\104\uff86\106\uff86\001\002\000\026\004\062\006\050\015" +
+    "\053\025\054\037\070\041\065\053\052\054\060\101\063" +
+    "\104\056\001\002\000\004\105\267\001\002\000\102\002" +
+    "\uff85\003\uff85\004\uff85\006\uff85\015\uff85\017\uff85\020\uff85" +
+    "\025\uff85\026\uff85\037\uff85\040\uff85\041\uff85\042\uff85\043" +
+    "\uff85\044\uff85\045\uff85\047\uff85\050\uff85\052\uff85\053\uff85" +
+    "\054\uff85\056\uff85\057\uff85\061\uff85\063\uff85\071\uff85\072" +
+    "\uff85\073\uff85\074\uff85\101\uff85\104\uff85\106\uff85\001\002" +
+    "\000\004\105\271\001\002\000\102\002\uff84\003\uff84\004" +
+    "\uff84\006\uff84\015\uff84\017\uff84\020\uff84\025\uff84\026\uff84" +
+    "\037\uff84\040\uff84\041\uff84\042\uff84\043\uff84\044\uff84\045" +
+    "\uff84\047\uff84\050\uff84\052\uff84\053\uff84\054\uff84\056\uff84" +
+    "\057\uff84\061\uff84\063\uff84\071\uff84\072\uff84\073\uff84\074" +
+    "\uff84\101\uff84\104\uff84\106\uff84\001\002\000\006\016\uff7a" +
+    "\101\uff7a\001\002\000\006\016\uff7b\101\uff7b\001\002\000" +
+    "\004\002\ufff0\001\002\000\020\016\uff72\040\u016b\041\u0172" +
+    "\042\u0171\043\u016d\044\u016e\102\u016f\001\002\000\004\016" +
+    "\uff63\001\002\000\004\016\301\001\002\000\074\003\326" +
+    "\004\345\006\050\015\053\020\031\025\054\026\255\037" +
+    "\070\040\310\041\336\042\304\043\032\044\016\045\034" +
+    "\047\030\050\027\052\022\053\052\054\060\056\313\057" +
+    "\317\061\321\071\330\072\322\073\306\074\305\101\063" +
+    "\104\056\106\033\001\002\000\076\003\uff68\004\uff68\006" +
+    "\uff68\015\uff68\020\uff68\025\uff68\026\uff68\037\uff68\040\uff68" +
+    "\041\uff68\042\uff68\043\uff68\044\uff68\045\uff68\047\uff68\050" +
+    "\uff68\052\uff68\053\uff68\054\uff68\056\uff68\057\uff68\061\uff68" +
+    "\071\uff68\072\uff68\073\uff68\074\uff68\101\uff68\102\302\104" +
+    "\uff68\106\uff68\001\002\000\074\003\uff69\004\uff69\006\uff69" +
+    "\015\uff69\020\uff69\025\uff69\026\uff69\037\uff69\040\uff69\041" +
+    "\uff69\042\uff69\043\uff69\044\uff69\045\uff69\047\uff69\050\uff69" +
+    "\052\uff69\053\uff69\054\uff69\056\uff69\057\uff69\061\uff69\071" +
+    "\uff69\072\uff69\073\uff69\074\uff69\101\uff69\104\uff69\106\uff69" +
+    "\001\002\000\074\003\uff6a\004\uff6a\006\uff6a\015\uff6a\020" +
+    "\uff6a\025\uff6a\026\uff6a\037\uff6a\040\uff6a\041\uff6a\042\uff6a" +
+    "\043\uff6a\044\uff6a\045\uff6a\047\uff6a\050\uff6a\052\uff6a\053" +
+    "\uff6a\054\uff6a\056\uff6a\057\uff6a\061\uff6a\071\uff6a\072\uff6a" +
+    "\073\uff6a\074\uff6a\101\uff6a\104\uff6a\106\uff6a\001\002\000" +
+    "\006\004\u0164\046\u0165\001\002\000\004\101\u0161\001\002" +
+    "\000\004\101\u015d\001\002\000\076\004\uffcd\006\uffcd\015" +
+    "\uffcd\017\uffcd\020\uffcd\025\uffcd\026\uffcd\037\uffcd\040\uffcd" +
+    "\041\uffcd\042\uffcd\043\uffcd\044\uffcd\045\uffcd\047\uffcd\050" +
+    "\uffcd\052\uffcd\053\uffcd\054\uffcd\056\uffcd\057\uffcd\061\uffcd" +
+    "\063\uffcd\071\uffcd\072\uffcd\073\uffcd\074\uffcd\101\uffcd\104" +
+    "\uffcd\106\uffcd\001\002\000\006\004\u0157\046\u0158\001\002" +
+    "\000\076\004\uffc8\006\uffc8\015\uffc8\017\uffc8\020\uffc8\025" +
+    "\uffc8\026\uffc8\037\uffc8\040\uffc8\041\uffc8\042\uffc8\043\uffc8" +
+    "\044\uffc8\045\uffc8\047\uffc8\050\uffc8\052\uffc8\053\uffc8\054" +
+    "\uffc8\056\uffc8\057\uffc8\061\uffc8\063\uffc8\071\uffc8\072\uffc8" +
+    "\073\uffc8\074\uffc8\101\uffc8\104\uffc8\106\uffc8\001\002\000" +
+    "\076\004\uffc3\006\uffc3\015\uffc3\017\uffc3\020\uffc3\025\uffc3" +
+    "\026\uffc3\037\uffc3\040\uffc3\041\uffc3\042\uffc3\043\uffc3\044" +
+    "\uffc3\045\uffc3\047\uffc3\050\uffc3\052\uffc3\053\uffc3\054\uffc3" +
+    "\056\uffc3\057\uffc3\061\uffc3\063\uffc3\071\uffc3\072\uffc3\073" +
+    "\uffc3\074\uffc3\101\uffc3\104\uffc3\106\uffc3\001\002\000\004" +
+    "\004\u0141\001\002\000\076\004\uffcf\006\uffcf\015\uffcf\017" +
+    "\uffcf\020\uffcf\025\uffcf\026\uffcf\037\uffcf\040\uffcf\041\uffcf" +
+    "\042\uffcf\043\uffcf\044\uffcf\045\uffcf\047\uffcf\050\uffcf\052" +
+    "\uffcf\053\uffcf\054\uffcf\056\uffcf\057\uffcf\061\uffcf\063\uffcf" +
+    "\071\uffcf\072\uffcf\073\uffcf\074\uffcf\101\uffcf\104\uffcf\106" +
+    "\uffcf\001\002\000\010\004\041\026\040\105\u013e\001\002" +
+    "\000\004\105\u013d\001\002\000\004\060\u0128\001\002\000" +
+    "\074\004\345\006\050\015\053\017\u0127\020\031\025\054" +
+    "\026\255\037\070\040\310\041\336\042\304\043\032\044" +
+    "\016\045\034\047\030\050\027\052\022\053\052\054\060" +
+    "\056\313\057\317\061\321\071\u010f\072\u010b\073\306\074" +
+    "\305\101\063\104\056\106\033\001\002\000\074\003\uff57" +
+    "\004\uff57\006\uff57\015\uff57\020\uff57\025\uff57\026\uff57\037" +
+    "\uff57\040\uff57\041\uff57\042\uff57\043\uff57\044\uff57\045\uff57" +
+    "\047\uff57\050\uff57\052\uff57\053\uff57\054\uff57\056\uff57\057" +
+    "\uff57\061\uff57\071\uff57\072\uff57\073\uff57\074\uff57\101\uff57" +
+    "\104\uff57\106\uff57\001\002\000\030\004\062\006\050\015" +
+    "\053\025\054\037\070\041\065\053\052\054\060\101\063" +
+    "\104\056\105\356\001\002\000\076\004\uffc2\006\uffc2\015" +
+    "\uffc2\017\uffc2\020\uffc2\025\uffc2\026\uffc2\037\uffc2\040\uffc2" +
+    "\041\uffc2\042\uffc2\043\uffc2\044\uffc2\045\uffc2\047\uffc2\050" +
+    "\uffc2\052\uffc2\053\uffc2\054\uffc2\056\uffc2\057\uffc2\061\uffc2" +
+    "\063\uffc2\071\uffc2\072\uffc2\073\uffc2\074\uffc2\101\uffc2\104" +
+    "\uffc2\106\uffc2\001\002\000\076\004\uffc9\006\uffc9\015\uffc9" +
     "\017\uffc9\020\uffc9\025\uffc9\026\uffc9\037\uffc9\040\uffc9\041" +
     "\uffc9\042\uffc9\043\uffc9\044\uffc9\045\uffc9\047\uffc9\050\uffc9" +
     "\052\uffc9\053\uffc9\054\uffc9\056\uffc9\057\uffc9\061\uffc9\063" +
     "\uffc9\071\uffc9\072\uffc9\073\uffc9\074\uffc9\101\uffc9\104\uffc9" +
-    "\001\002\000\074\004\uffca\006\uffca\015\uffca\017\uffca\020" +
-    "\uffca\025\uffca\026\uffca\037\uffca\040\uffca\041\uffca\042\uffca" +
-    "\043\uffca\044\uffca\045\uffca\047\uffca\050\uffca\052\uffca\053" +
-    "\uffca\054\uffca\056\uffca\057\uffca\061\uffca\063\uffca\071\uffca" +
-    "\072\uffca\073\uffca\074\uffca\101\uffca\104\uffca\001\002\000" +
-    "\074\004\uffbb\006\uffbb\015\uffbb\017\uffbb\020\uffbb\025\uffbb" +
-    "\026\uffbb\037\uffbb\040\uffbb\041\uffbb\042\uffbb\043\uffbb\044" +
-    "\uffbb\045\uffbb\047\uffbb\050\uffbb\052\uffbb\053\uffbb\054\uffbb" +
-    "\056\uffbb\057\uffbb\061\uffbb\063\uffbb\071\uffbb\072\uffbb\073" +
-    "\uffbb\074\uffbb\101\uffbb\104\uffbb\001\002\000\010\004\253" +
-    "\026\251\105\351\001\002\000\004\105\347\001\002\000" +
-    "\004\105\346\001\002\000\074\004\uffbd\006\uffbd\015\uffbd" +
-    "\017\uffbd\020\uffbd\025\uffbd\026\uffbd\037\uffbd\040\uffbd\041" +
-    "\uffbd\042\uffbd\043\uffbd\044\uffbd\045\uffbd\047\uffbd\050\uffbd" +
-    "\052\uffbd\053\uffbd\054\uffbd\056\uffbd\057\uffbd\061\uffbd\063" +
-    "\uffbd\071\uffbd\072\uffbd\073\uffbd\074\uffbd\101\uffbd\104\uffbd" +
-    "\001\002\000\074\004\uffce\006\uffce\015\uffce\017\uffce\020" +
-    "\uffce\025\uffce\026\uffce\037\uffce\040\uffce\041\uffce\042\uffce" +
-    "\043\uffce\044\uffce\045\uffce\047\uffce\050\uffce\052\uffce\053" +
-    "\uffce\054\uffce\056\uffce\057\uffce\061\uffce\063\uffce\071\uffce" +
-    "\072\uffce\073\uffce\074\uffce\101\uffce\104\uffce\001\002\000" +
-    "\044\005\uffa4\006\uffa4\011\uffa4\012\uffa4\013\uffa4\014\uffa4" +
-    "\026\261\027\uffa4\030\uffa4\031\uffa4\032\uffa4\033\uffa4\034" +
-    "\uffa4\035\uffa4\036\uffa4\063\uffa4\105\uffa4\001\002\000\074" +
-    "\004\uffd0\006\uffd0\015\uffd0\017\uffd0\020\uffd0\025\uffd0\026" +
-    "\uffd0\037\uffd0\040\uffd0\041\uffd0\042\uffd0\043\uffd0\044\uffd0" +
-    "\045\uffd0\047\uffd0\050\uffd0\052\uffd0\053\uffd0\054\uffd0\056" +
-    "\uffd0\057\uffd0\061\uffd0\063\uffd0\071\uffd0\072\uffd0\073\uffd0" +
-    "\074\uffd0\101\uffd0\104\uffd0\001\002\000\044\004\266\005" +
-    "\uffb5\006\uffb5\011\uffb5\012\uffb5\013\uffb5\014\uffb5\027\uffb5" +
-    "\030\uffb5\031\uffb5\032\uffb5\033\uffb5\034\uffb5\035\uffb5\036" +
-    "\uffb5\063\uffb5\105\uffb5\001\002\000\010\004\253\026\251" +
-    "\105\345\001\002\000\010\004\040\026\037\105\344\001" +
-    "\002\000\074\004\uffbc\006\uffbc\015\uffbc\017\uffbc\020\uffbc" +
-    "\025\uffbc\026\uffbc\037\uffbc\040\uffbc\041\uffbc\042\uffbc\043" +
-    "\uffbc\044\uffbc\045\uffbc\047\uffbc\050\uffbc\052\uffbc\053\uffbc" +
-    "\054\uffbc\056\uffbc\057\uffbc\061\uffbc\063\uffbc\071\uffbc\072" +
-    "\uffbc\073\uffbc\074\uffbc\101\uffbc\104\uffbc\001\002\000\004" +
-    "\105\343\001\002\000\004\105\342\001\002\000\074\004" +
-    "\uffc4\006\uffc4\015\uffc4\017\uffc4\020\uffc4\025\uffc4\026\uffc4" +
-    "\037\uffc4\040\uffc4\041\uffc4\042\uffc4\043\uffc4\044\uffc4\045" +
-    "\uffc4\047\uffc4\050\uffc4\052\uffc4\053\uffc4\054\uffc4\056\uffc4" +
-    "\057\uffc4\061\uffc4\063\uffc4\071\uffc4\072\uffc4\073\uffc4\074" +
-    "\uffc4\101\uffc4\104\uffc4\001\002\000\054\005\uffa8\006\uffa8" +
-    "\007\135\010\137\011\uffa8\012\uffa8\013\uffa8\014\uffa8\026" +
-    "\256\027\uffa8\030\uffa8\031\uffa8\032\uffa8\033\uffa8\034\uffa8" +
-    "\035\uffa8\036\uffa8\063\uffa8\077\140\101\136\105\uffa8\001" +
-    "\002\000\074\004\uffc6\006\uffc6\015\uffc6\017\uffc6\020\uffc6" +
-    "\025\uffc6\026\uffc6\037\uffc6\040\uffc6\041\uffc6\042\uffc6\043" +
-    "\uffc6\044\uffc6\045\uffc6\047\uffc6\050\uffc6\052\uffc6\053\uffc6" +
-    "\054\uffc6\056\uffc6\057\uffc6\061\uffc6\063\uffc6\071\uffc6\072" +
-    "\uffc6\073\uffc6\074\uffc6\101\uffc6\104\uffc6\001\002\000\074" +
-    "\004\uffc5\006\uffc5\015\uffc5\017\uffc5\020\uffc5\025\uffc5\026" +
-    "\uffc5\037\uffc5\040\uffc5\041\uffc5\042\uffc5\043\uffc5\044\uffc5" +
-    "\045\uffc5\047\uffc5\050\uffc5\052\uffc5\053\uffc5\054\uffc5\056" +
-    "\uffc5\057\uffc5\061\uffc5\063\uffc5\071\uffc5\072\uffc5\073\uffc5" +
-    "\074\uffc5\101\uffc5\104\uffc5\001\002\000\074\004\uffcc\006" +
-    "\uffcc\015\uffcc\017\uffcc\020\uffcc\025\uffcc\026\uffcc\037\uffcc" +
-    "\040\uffcc\041\uffcc\042\uffcc\043\uffcc\044\uffcc\045\uffcc\047" +
-    "\uffcc\050\uffcc\052\uffcc\053\uffcc\054\uffcc\056\uffcc\057\uffcc" +
-    "\061\uffcc\063\uffcc\071\uffcc\072\uffcc\073\uffcc\074\uffcc\101" +
-    "\uffcc\104\uffcc\001\002\000\074\004\uffcb\006\uffcb\015\uffcb" +
-    "\017\uffcb\020\uffcb\025\uffcb\026\uffcb\037\uffcb\040\uffcb\041" +
-    "\uffcb\042\uffcb\043\uffcb\044\uffcb\045\uffcb\047\uffcb\050\uffcb" +
-    "\052\uffcb\053\uffcb\054\uffcb\056\uffcb\057\uffcb\061\uffcb\063" +
-    "\uffcb\071\uffcb\072\uffcb\073\uffcb\074\uffcb\101\uffcb\104\uffcb" +
-    "\001\002\000\074\004\uffd2\006\uffd2\015\uffd2\017\uffd2\020" +
-    "\uffd2\025\uffd2\026\uffd2\037\uffd2\040\uffd2\041\uffd2\042\uffd2" +
-    "\043\uffd2\044\uffd2\045\uffd2\047\uffd2\050\uffd2\052\uffd2\053" +
-    "\uffd2\054\uffd2\056\uffd2\057\uffd2\061\uffd2\063\uffd2\071\uffd2" +
-    "\072\uffd2\073\uffd2\074\uffd2\101\uffd2\104\uffd2\001\002\000" +
-    "\074\004\uffc0\006\uffc0\015\uffc0\017\uffc0\020\uffc0\025\uffc0" +
+    "\106\uffc9\001\002\000\076\004\uffca\006\uffca\015\uffca\017" +
+    "\uffca\020\uffca\025\uffca\026\uffca\037\uffca\040\uffca\041\uffca" +
+    "\042\uffca\043\uffca\044\uffca\045\uffca\047\uffca\050\uffca\052" +
+    "\uffca\053\uffca\054\uffca\056\uffca\057\uffca\061\uffca\063\uffca" +
+    "\071\uffca\072\uffca\073\uffca\074\uffca\101\uffca\104\uffca\106" +
+    "\uffca\001\002\000\076\004\uffbb\006\uffbb\015\uffbb\017\uffbb" +
+    "\020\uffbb\025\uffbb\026\uffbb\037\uffbb\040\uffbb\041\uffbb\042" +
+    "\uffbb\043\uffbb\044\uffbb\045\uffbb\047\uffbb\050\uffbb\052\uffbb" +
+    "\053\uffbb\054\uffbb\056\uffbb\057\uffbb\061\uffbb\063\uffbb\071" +
+    "\uffbb\072\uffbb\073\uffbb\074\uffbb\101\uffbb\104\uffbb\106\uffbb" +
+    "\001\002\000\010\004\257\026\255\105\355\001\002\000" +
+    "\004\105\353\001\002\000\004\105\352\001\002\000\076" +
+    "\004\uffbd\006\uffbd\015\uffbd\017\uffbd\020\uffbd\025\uffbd\026" +
+    "\uffbd\037\uffbd\040\uffbd\041\uffbd\042\uffbd\043\uffbd\044\uffbd" +
+    "\045\uffbd\047\uffbd\050\uffbd\052\uffbd\053\uffbd\054\uffbd\056" +
+    "\uffbd\057\uffbd\061\uffbd\063\uffbd\071\uffbd\072\uffbd\073\uffbd" +
+    "\074\uffbd\101\uffbd\104\uffbd\106\uffbd\001\002\000\076\004" +
+    "\uffce\006\uffce\015\uffce\017\uffce\020\uffce\025\uffce\026\uffce" +
+    "\037\uffce\040\uffce\041\uffce\042\uffce\043\uffce\044\uffce\045" +
+    "\uffce\047\uffce\050\uffce\052\uffce\053\uffce\054\uffce\056\uffce" +
+    "\057\uffce\061\uffce\063\uffce\071\uffce\072\uffce\073\uffce\074" +
+    "\uffce\101\uffce\104\uffce\106\uffce\001\002\000\076\004\uffd0" +
+    "\006\uffd0\015\uffd0\017\uffd0\020\uffd0\025\uffd0\026\uffd0\037" +
+    "\uffd0\040\uffd0\041\uffd0\042\uffd0\043\uffd0\044\uffd0\045\uffd0" +
+    "\047\uffd0\050\uffd0\052\uffd0\053\uffd0\054\uffd0\056\uffd0\057" +
+    "\uffd0\061\uffd0\063\uffd0\071\uffd0\072\uffd0\073\uffd0\074\uffd0" +
+    "\101\uffd0\104\uffd0\106\uffd0\001\002\000\044\005\uffa2\006" +
+    "\uffa2\011\uffa2\012\uffa2\013\uffa2\014\uffa2\026\265\027\uffa2" +
+    "\030\uffa2\031\uffa2\032\uffa2\033\uffa2\034\uffa2\035\uffa2\036" +
+    "\uffa2\063\uffa2\105\uffa2\001\002\000\044\004\272\005\uffb4" +
+    "\006\uffb4\011\uffb4\012\uffb4\013\uffb4\014\uffb4\027\uffb4\030" +
+    "\uffb4\031\uffb4\032\uffb4\033\uffb4\034\uffb4\035\uffb4\036\uffb4" +
+    "\063\uffb4\105\uffb4\001\002\000\010\004\257\026\255\105" +
+    "\351\001\002\000\010\004\041\026\040\105\350\001\002" +
+    "\000\076\004\uffbc\006\uffbc\015\uffbc\017\uffbc\020\uffbc\025" +
+    "\uffbc\026\uffbc\037\uffbc\040\uffbc\041\uffbc\042\uffbc\043\uffbc" +
+    "\044\uffbc\045\uffbc\047\uffbc\050\uffbc\052\uffbc\053\uffbc\054" +
+    "\uffbc\056\uffbc\057\uffbc\061\uffbc\063\uffbc\071\uffbc\072\uffbc" +
+    "\073\uffbc\074\uffbc\101\uffbc\104\uffbc\106\uffbc\001\002\000" +
+    "\004\105\347\001\002\000\004\105\346\001\002\000\076" +
+    "\004\uffc4\006\uffc4\015\uffc4\017\uffc4\020\uffc4\025\uffc4\026" +
+    "\uffc4\037\uffc4\040\uffc4\041\uffc4\042\uffc4\043\uffc4\044\uffc4" +
+    "\045\uffc4\047\uffc4\050\uffc4\052\uffc4\053\uffc4\054\uffc4\056" +
+    "\uffc4\057\uffc4\061\uffc4\063\uffc4\071\uffc4\072\uffc4\073\uffc4" +
+    "\074\uffc4\101\uffc4\104\uffc4\106\uffc4\001\002\000\054\005" +
+    "\uffa6\006\uffa6\007\140\010\142\011\uffa6\012\uffa6\013\uffa6" +
+    "\014\uffa6\026\262\027\uffa6\030\uffa6\031\uffa6\032\uffa6\033" +
+    "\uffa6\034\uffa6\035\uffa6\036\uffa6\063\uffa6\077\143\101\141" +
+    "\105\uffa6\001\002\000\076\004\uffc6\006\uffc6\015\uffc6\017" +
+    "\uffc6\020\uffc6\025\uffc6\026\uffc6\037\uffc6\040\uffc6\041\uffc6" +
+    "\042\uffc6\043\uffc6\044\uffc6\045\uffc6\047\uffc6\050\uffc6\052" +
+    "\uffc6\053\uffc6\054\uffc6\056\uffc6\057\uffc6\061\uffc6\063\uffc6" +
+    "\071\uffc6\072\uffc6\073\uffc6\074\uffc6\101\uffc6\104\uffc6\106" +
+    "\uffc6\001\002\000\076\004\uffc5\006\uffc5\015\uffc5\017\uffc5" +
+    "\020\uffc5\025\uffc5\026\uffc5\037\uffc5\040\uffc5\041\uffc5\042" +
+    "\uffc5\043\uffc5\044\uffc5\045\uffc5\047\uffc5\050\uffc5\052\uffc5" +
+    "\053\uffc5\054\uffc5\056\uffc5\057\uffc5\061\uffc5\063\uffc5\071" +
+    "\uffc5\072\uffc5\073\uffc5\074\uffc5\101\uffc5\104\uffc5\106\uffc5" +
+    "\001\002\000\076\004\uffcc\006\uffcc\015\uffcc\017\uffcc\020" +
+    "\uffcc\025\uffcc\026\uffcc\037\uffcc\040\uffcc\041\uffcc\042\uffcc" +
+    "\043\uffcc\044\uffcc\045\uffcc\047\uffcc\050\uffcc\052\uffcc\053" +
+    "\uffcc\054\uffcc\056\uffcc\057\uffcc\061\uffcc\063\uffcc\071\uffcc" +
+    "\072\uffcc\073\uffcc\074\uffcc\101\uffcc\104\uffcc\106\uffcc\001" +
+    "\002\000\076\004\uffcb\006\uffcb\015\uffcb\017\uffcb\020\uffcb" +
+    "\025\uffcb\026\uffcb\037\uffcb\040\uffcb\041\uffcb\042\uffcb\043" +
+    "\uffcb\044\uffcb\045\uffcb\047\uffcb\050\uffcb\052\uffcb\053\uffcb" +
+    "\054\uffcb\056\uffcb\057\uffcb\061\uffcb\063\uffcb\071\uffcb\072" +
+    "\uffcb\073\uffcb\074\uffcb\101\uffcb\104\uffcb\106\uffcb\001\002" +
+    "\000\076\004\uffd2\006\uffd2\015\uffd2\017\uffd2\020\uffd2\025" +
+    "\uffd2\026\uffd2\037\uffd2\040\uffd2\041\uffd2\042\uffd2\043\uffd2" +
+    "\044\uffd2\045\uffd2\047\uffd2\050\uffd2\052\uffd2\053\uffd2\054" +
+    "\uffd2\056\uffd2\057\uffd2\061\uffd2\063\uffd2\071\uffd2\072\uffd2" +
+    "\073\uffd2\074\uffd2\101\uffd2\104\uffd2\106\uffd2\001\002\000" +
+    "\076\004\uffc0\006\uffc0\015\uffc0\017\uffc0\020\uffc0\025\uffc0" +
     "\026\uffc0\037\uffc0\040\uffc0\041\uffc0\042\uffc0\043\uffc0\044" +
     "\uffc0\045\uffc0\047\uffc0\050\uffc0\052\uffc0\053\uffc0\054\uffc0" +
     "\056\uffc0\057\uffc0\061\uffc0\063\uffc0\071\uffc0\072\uffc0\073" +
-    "\uffc0\074\uffc0\101\uffc0\104\uffc0\001\002\000\074\004\uff83" +
-    "\006\uff83\015\uff83\017\uff83\020\uff83\025\uff83\026\uff83\037" +
-    "\uff83\040\uff83\041\uff83\042\uff83\043\uff83\044\uff83\045\uff83" +
-    "\047\uff83\050\uff83\052\uff83\053\uff83\054\uff83\056\uff83\057" +
-    "\uff83\061\uff83\063\uff83\071\uff83\072\uff83\073\uff83\074\uff83" +
-    "\101\uff83\104\uff83\001\002\000\074\004\uffc7\006\uffc7\015" +
-    "\uffc7\017\uffc7\020\uffc7\025\uffc7\026\uffc7\037\uffc7\040\uffc7" +
-    "\041\uffc7\042\uffc7\043\uffc7\044\uffc7\045\uffc7\047\uffc7\050" +
-    "\uffc7\052\uffc7\053\uffc7\054\uffc7\056\uffc7\057\uffc7\061\uffc7" +
-    "\063\uffc7\071\uffc7\072\uffc7\073\uffc7\074\uffc7\101\uffc7\104" +
-    "\uffc7\001\002\000\074\004\uffbe\006\uffbe\015\uffbe\017\uffbe" +
-    "\020\uffbe\025\uffbe\026\uffbe\037\uffbe\040\uffbe\041\uffbe\042" +
-    "\uffbe\043\uffbe\044\uffbe\045\uffbe\047\uffbe\050\uffbe\052\uffbe" +
-    "\053\uffbe\054\uffbe\056\uffbe\057\uffbe\061\uffbe\063\uffbe\071" +
-    "\uffbe\072\uffbe\073\uffbe\074\uffbe\101\uffbe\104\uffbe\001\002" +
-    "\000\004\105\354\001\002\000\074\004\uffbf\006\uffbf\015" +
-    "\uffbf\017\uffbf\020\uffbf\025\uffbf\026\uffbf\037\uffbf\040\uffbf" +
-    "\041\uffbf\042\uffbf\043\uffbf\044\uffbf\045\uffbf\047\uffbf\050" +
-    "\uffbf\052\uffbf\053\uffbf\054\uffbf\056\uffbf\057\uffbf\061\uffbf" +
-    "\063\uffbf\071\uffbf\072\uffbf\073\uffbf\074\uffbf\101\uffbf\104" +
-    "\uffbf\001\002\000\072\003\322\004\341\006\047\015\052" +
-    "\020\032\025\054\026\251\037\067\040\304\041\332\042" +
-    "\300\043\031\044\016\045\033\047\030\050\027\052\022" +
-    "\053\051\054\057\056\307\057\313\061\315\071\324\072" +
-    "\316\073\302\074\301\101\062\104\055\001\002\000\072" +
-    "\004\341\006\047\015\052\020\032\025\054\026\251\037" +
-    "\067\040\304\041\332\042\300\043\031\044\016\045\033" +
-    "\047\030\050\027\052\022\053\051\054\057\056\307\057" +
-    "\313\061\315\063\uff56\071\u010a\072\u0106\073\302\074\301" +
-    "\101\062\104\055\001\002\000\006\063\uff57\105\346\001" +
-    "\002\000\004\063\361\001\002\000\004\064\362\001\002" +
-    "\000\026\004\061\006\047\015\052\025\054\037\067\041" +
-    "\064\053\051\054\057\101\062\104\055\001\002\000\004" +
-    "\105\364\001\002\000\004\062\365\001\002\000\004\061" +
-    "\366\001\002\000\004\105\367\001\002\000\076\004\uff59" +
-    "\006\uff59\015\uff59\017\uff59\020\uff59\025\uff59\026\uff59\037" +
-    "\uff59\040\uff59\041\uff59\042\uff59\043\uff59\044\uff59\045\uff59" +
-    "\047\uff59\050\uff59\052\uff59\053\uff59\054\uff59\055\uff59\056" +
-    "\uff59\057\uff59\061\uff59\063\uff59\071\uff59\072\uff59\073\uff59" +
-    "\074\uff59\101\uff59\104\uff59\001\002\000\076\004\uff54\006" +
-    "\uff54\015\uff54\017\uff54\020\uff54\025\uff54\026\uff54\037\uff54" +
-    "\040\uff54\041\uff54\042\uff54\043\uff54\044\uff54\045\uff54\047" +
-    "\uff54\050\uff54\052\uff54\053\uff54\054\uff54\055\371\056\uff54" +
-    "\057\uff54\061\uff54\063\uff54\071\uff54\072\uff54\073\uff54\074" +
-    "\uff54\101\uff54\104\uff54\001\002\000\004\103\373\001\002" +
-    "\000\074\004\uff58\006\uff58\015\uff58\017\uff58\020\uff58\025" +
-    "\uff58\026\uff58\037\uff58\040\uff58\041\uff58\042\uff58\043\uff58" +
-    "\044\uff58\045\uff58\047\uff58\050\uff58\052\uff58\053\uff58\054" +
-    "\uff58\056\uff58\057\uff58\061\uff58\063\uff58\071\uff58\072\uff58" +
-    "\073\uff58\074\uff58\101\uff58\104\uff58\001\002\000\004\016" +
-    "\374\001\002\000\072\003\322\004\341\006\047\015\052" +
-    "\020\032\025\054\026\251\037\067\040\304\041\332\042" +
-    "\300\043\031\044\016\045\033\047\030\050\027\052\022" +
-    "\053\051\054\057\056\307\057\313\061\315\071\324\072" +
-    "\316\073\302\074\301\101\062\104\055\001\002\000\072" +
-    "\004\341\006\047\015\052\017\376\020\032\025\054\026" +
-    "\251\037\067\040\304\041\332\042\300\043\031\044\016" +
-    "\045\033\047\030\050\027\052\022\053\051\054\057\056" +
-    "\307\057\313\061\315\071\u010a\072\u0106\073\302\074\301" +
-    "\101\062\104\055\001\002\000\074\004\uff55\006\uff55\015" +
-    "\uff55\017\uff55\020\uff55\025\uff55\026\uff55\037\uff55\040\uff55" +
-    "\041\uff55\042\uff55\043\uff55\044\uff55\045\uff55\047\uff55\050" +
-    "\uff55\052\uff55\053\uff55\054\uff55\056\uff55\057\uff55\061\uff55" +
-    "\063\uff55\071\uff55\072\uff55\073\uff55\074\uff55\101\uff55\104" +
-    "\uff55\001\002\000\074\004\uffe8\006\uffe8\015\uffe8\017\uffe8" +
-    "\020\uffe8\025\uffe8\026\uffe8\037\uffe8\040\uffe8\041\uffe8\042" +
-    "\uffe8\043\uffe8\044\uffe8\045\uffe8\047\uffe8\050\uffe8\052\uffe8" +
-    "\053\uffe8\054\uffe8\056\uffe8\057\uffe8\061\uffe8\063\uffe8\071" +
-    "\uffe8\072\uffe8\073\uffe8\074\uffe8\101\uffe8\104\uffe8\001\002" +
-    "\000\074\004\uffda\006\uffda\015\uffda\017\uffda\020\uffda\025" +
-    "\uffda\026\uffda\037\uffda\040\uffda\041\uffda\042\uffda\043\uffda" +
-    "\044\uffda\045\uffda\047\uffda\050\uffda\052\uffda\053\uffda\054" +
-    "\uffda\056\uffda\057\uffda\061\uffda\063\uffda\071\uffda\072\uffda" +
-    "\073\uffda\074\uffda\101\uffda\104\uffda\001\002\000\074\004" +
-    "\uffdd\006\uffdd\015\uffdd\017\uffdd\020\uffdd\025\uffdd\026\uffdd" +
-    "\037\uffdd\040\uffdd\041\uffdd\042\uffdd\043\uffdd\044\uffdd\045" +
-    "\uffdd\047\uffdd\050\uffdd\052\uffdd\053\uffdd\054\uffdd\056\uffdd" +
-    "\057\uffdd\061\uffdd\063\uffdd\071\uffdd\072\uffdd\073\uffdd\074" +
-    "\uffdd\101\uffdd\104\uffdd\001\002\000\074\004\uffe3\006\uffe3" +
-    "\015\uffe3\017\uffe3\020\uffe3\025\uffe3\026\uffe3\037\uffe3\040" +
-    "\uffe3\041\uffe3\042\uffe3\043\uffe3\044\uffe3\045\uffe3\047\uffe3" +
-    "\050\uffe3\052\uffe3\053\uffe3\054\uffe3\056\uffe3\057\uffe3\061" +
-    "\uffe3\063\uffe3\071\uffe3\072\uffe3\073\uffe3\074\uffe3\101\uffe3" +
-    "\104\uffe3\001\002\000\010\004\040\026\037\105\u0121\001" +
-    "\002\000\004\105\u011f\001\002\000\074\004\uffde\006\uffde" +
-    "\015\uffde\017\uffde\020\uffde\025\uffde\026\uffde\037\uffde\040" +
-    "\uffde\041\uffde\042\uffde\043\uffde\044\uffde\045\uffde\047\uffde" +
-    "\050\uffde\052\uffde\053\uffde\054\uffde\056\uffde\057\uffde\061" +
-    "\uffde\063\uffde\071\uffde\072\uffde\073\uffde\074\uffde\101\uffde" +
-    "\104\uffde\001\002\000\030\004\061\006\047\015\052\025" +
-    "\054\037\067\041\064\053\051\054\057\101\062\104\055" +
-    "\105\u011c\001\002\000\074\004\uffe4\006\uffe4\015\uffe4\017" +
-    "\uffe4\020\uffe4\025\uffe4\026\uffe4\037\uffe4\040\uffe4\041\uffe4" +
-    "\042\uffe4\043\uffe4\044\uffe4\045\uffe4\047\uffe4\050\uffe4\052" +
-    "\uffe4\053\uffe4\054\uffe4\056\uffe4\057\uffe4\061\uffe4\063\uffe4" +
-    "\071\uffe4\072\uffe4\073\uffe4\074\uffe4\101\uffe4\104\uffe4\001" +
-    "\002\000\074\004\uffe5\006\uffe5\015\uffe5\017\uffe5\020\uffe5" +
-    "\025\uffe5\026\uffe5\037\uffe5\040\uffe5\041\uffe5\042\uffe5\043" +
-    "\uffe5\044\uffe5\045\uffe5\047\uffe5\050\uffe5\052\uffe5\053\uffe5" +
-    "\054\uffe5\056\uffe5\057\uffe5\061\uffe5\063\uffe5\071\uffe5\072" +
-    "\uffe5\073\uffe5\074\uffe5\101\uffe5\104\uffe5\001\002\000\010" +
-    "\004\253\026\251\105\u011b\001\002\000\004\105\u011a\001" +
-    "\002\000\004\105\u0119\001\002\000\074\004\uffd8\006\uffd8" +
-    "\015\uffd8\017\uffd8\020\uffd8\025\uffd8\026\uffd8\037\uffd8\040" +
-    "\uffd8\041\uffd8\042\uffd8\043\uffd8\044\uffd8\045\uffd8\047\uffd8" +
-    "\050\uffd8\052\uffd8\053\uffd8\054\uffd8\056\uffd8\057\uffd8\061" +
-    "\uffd8\063\uffd8\071\uffd8\072\uffd8\073\uffd8\074\uffd8\101\uffd8" +
-    "\104\uffd8\001\002\000\074\004\uffe2\006\uffe2\015\uffe2\017" +
+    "\uffc0\074\uffc0\101\uffc0\104\uffc0\106\uffc0\001\002\000\076" +
+    "\004\uff80\006\uff80\015\uff80\017\uff80\020\uff80\025\uff80\026" +
+    "\uff80\037\uff80\040\uff80\041\uff80\042\uff80\043\uff80\044\uff80" +
+    "\045\uff80\047\uff80\050\uff80\052\uff80\053\uff80\054\uff80\056" +
+    "\uff80\057\uff80\061\uff80\063\uff80\071\uff80\072\uff80\073\uff80" +
+    "\074\uff80\101\uff80\104\uff80\106\uff80\001\002\000\076\004" +
+    "\uffc7\006\uffc7\015\uffc7\017\uffc7\020\uffc7\025\uffc7\026\uffc7" +
+    "\037\uffc7\040\uffc7\041\uffc7\042\uffc7\043\uffc7\044\uffc7\045" +
+    "\uffc7\047\uffc7\050\uffc7\052\uffc7\053\uffc7\054\uffc7\056\uffc7" +
+    "\057\uffc7\061\uffc7\063\uffc7\071\uffc7\072\uffc7\073\uffc7\074" +
+    "\uffc7\101\uffc7\104\uffc7\106\uffc7\001\002\000\076\004\uffbe" +
+    "\006\uffbe\015\uffbe\017\uffbe\020\uffbe\025\uffbe\026\uffbe\037" +
+    "\uffbe\040\uffbe\041\uffbe\042\uffbe\043\uffbe\044\uffbe\045\uffbe" +
+    "\047\uffbe\050\uffbe\052\uffbe\053\uffbe\054\uffbe\056\uffbe\057" +
+    "\uffbe\061\uffbe\063\uffbe\071\uffbe\072\uffbe\073\uffbe\074\uffbe" +
+    "\101\uffbe\104\uffbe\106\uffbe\001\002\000\004\105\360\001" +
+    "\002\000\076\004\uffbf\006\uffbf\015\uffbf\017\uffbf\020\uffbf" +
+    "\025\uffbf\026\uffbf\037\uffbf\040\uffbf\041\uffbf\042\uffbf\043" +
+    "\uffbf\044\uffbf\045\uffbf\047\uffbf\050\uffbf\052\uffbf\053\uffbf" +
+    "\054\uffbf\056\uffbf\057\uffbf\061\uffbf\063\uffbf\071\uffbf\072" +
+    "\uffbf\073\uffbf\074\uffbf\101\uffbf\104\uffbf\106\uffbf\001\002" +
+    "\000\074\003\326\004\345\006\050\015\053\020\031\025" +
+    "\054\026\255\037\070\040\310\041\336\042\304\043\032" +
+    "\044\016\045\034\047\030\050\027\052\022\053\052\054" +
+    "\060\056\313\057\317\061\321\071\330\072\322\073\306" +
+    "\074\305\101\063\104\056\106\033\001\002\000\074\004" +
+    "\345\006\050\015\053\020\031\025\054\026\255\037\070" +
+    "\040\310\041\336\042\304\043\032\044\016\045\034\047" +
+    "\030\050\027\052\022\053\052\054\060\056\313\057\317" +
+    "\061\321\063\uff53\071\u010f\072\u010b\073\306\074\305\101" +
+    "\063\104\056\106\033\001\002\000\006\063\uff54\105\352" +
+    "\001\002\000\004\063\365\001\002\000\004\064\366\001" +
+    "\002\000\026\004\062\006\050\015\053\025\054\037\070" +
+    "\041\065\053\052\054\060\101\063\104\056\001\002\000" +
+    "\004\105\370\001\002\000\004\062\371\001\002\000\004" +
+    "\061\372\001\002\000\004\105\373\001\002\000\100\004" +
+    "\uff56\006\uff56\015\uff56\017\uff56\020\uff56\025\uff56\026\uff56" +
+    "\037\uff56\040\uff56\041\uff56\042\uff56\043\uff56\044\uff56\045" +
+    "\uff56\047\uff56\050\uff56\052\uff56\053\uff56\054\uff56\055\uff56" +
+    "\056\uff56\057\uff56\061\uff56\063\uff56\071\uff56\072\uff56\073" +
+    "\uff56\074\uff56\101\uff56\104\uff56\106\uff56\001\002\000\100" +
+    "\004\uff50\006\uff50\015\uff50\017\uff50\020\uff50\025\uff50\026" +
+    "\uff50\037\uff50\040\uff50\041\uff50\042\uff50\043\uff50\044\uff50" +
+    "\045\uff50\047\uff50\050\uff50\052\uff50\053\uff50\054\uff50\055" +
+    "\375\056\uff50\057\uff50\061\uff50\063\uff50\071\uff50\072\uff50" +
+    "\073\uff50\074\uff50\101\uff50\104\uff50\106\uff50\001\002\000" +
+    "\004\103\377\001\002\000\076\004\uff55\006\uff55\015\uff55" +
+    "\017\uff55\020\uff55\025\uff55\026\uff55\037\uff55\040\uff55\041" +
+    "\uff55\042\uff55\043\uff55\044\uff55\045\uff55\047\uff55\050\uff55" +
+    "\052\uff55\053\uff55\054\uff55\056\uff55\057\uff55\061\uff55\063" +
+    "\uff55\071\uff55\072\uff55\073\uff55\074\uff55\101\uff55\104\uff55" +
+    "\106\uff55\001\002\000\004\016\u0100\001\002\000\074\003" +
+    "\uff52\004\uff52\006\uff52\015\uff52\020\uff52\025\uff52\026\uff52" +
+    "\037\uff52\040\uff52\041\uff52\042\uff52\043\uff52\044\uff52\045" +
+    "\uff52\047\uff52\050\uff52\052\uff52\053\uff52\054\uff52\056\uff52" +
+    "\057\uff52\061\uff52\071\uff52\072\uff52\073\uff52\074\uff52\101" +
+    "\uff52\104\uff52\106\uff52\001\002\000\074\003\326\004\345" +
+    "\006\050\015\053\020\031\025\054\026\255\037\070\040" +
+    "\310\041\336\042\304\043\032\044\016\045\034\047\030" +
+    "\050\027\052\022\053\052\054\060\056\313\057\317\061" +
+    "\321\071\330\072\322\073\306\074\305\101\063\104\056" +
+    "\106\033\001\002\000\074\004\345\006\050\015\053\017" +
+    "\u0103\020\031\025\054\026\255\037\070\040\310\041\336" +
+    "\042\304\043\032\044\016\045\034\047\030\050\027\052" +
+    "\022\053\052\054\060\056\313\057\317\061\321\071\u010f" +
+    "\072\u010b\073\306\074\305\101\063\104\056\106\033\001" +
+    "\002\000\076\004\uff51\006\uff51\015\uff51\017\uff51\020\uff51" +
+    "\025\uff51\026\uff51\037\uff51\040\uff51\041\uff51\042\uff51\043" +
+    "\uff51\044\uff51\045\uff51\047\uff51\050\uff51\052\uff51\053\uff51" +
+    "\054\uff51\056\uff51\057\uff51\061\uff51\063\uff51\071\uff51\072" +
+    "\uff51\073\uff51\074\uff51\101\uff51\104\uff51\106\uff51\001\002" +
+    "\000\076\004\uffe8\006\uffe8\015\uffe8\017\uffe8\020\uffe8\025" +
+    "\uffe8\026\uffe8\037\uffe8\040\uffe8\041\uffe8\042\uffe8\043\uffe8" +
+    "\044\uffe8\045\uffe8\047\uffe8\050\uffe8\052\uffe8\053\uffe8\054" +
+    "\uffe8\056\uffe8\057\uffe8\061\uffe8\063\uffe8\071\uffe8\072\uffe8" +
+    "\073\uffe8\074\uffe8\101\uffe8\104\uffe8\106\uffe8\001\002\000" +
+    "\076\004\uffda\006\uffda\015\uffda\017\uffda\020\uffda\025\uffda" +
+    "\026\uffda\037\uffda\040\uffda\041\uffda\042\uffda\043\uffda\044" +
+    "\uffda\045\uffda\047\uffda\050\uffda\052\uffda\053\uffda\054\uffda" +
+    "\056\uffda\057\uffda\061\uffda\063\uffda\071\uffda\072\uffda\073" +
+    "\uffda\074\uffda\101\uffda\104\uffda\106\uffda\001\002\000\076" +
+    "\004\uffdd\006\uffdd\015\uffdd\017\uffdd\020\uffdd\025\uffdd\026" +
+    "\uffdd\037\uffdd\040\uffdd\041\uffdd\042\uffdd\043\uffdd\044\uffdd" +
+    "\045\uffdd\047\uffdd\050\uffdd\052\uffdd\053\uffdd\054\uffdd\056" +
+    "\uffdd\057\uffdd\061\uffdd\063\uffdd\071\uffdd\072\uffdd\073\uffdd" +
+    "\074\uffdd\101\uffdd\104\uffdd\106\uffdd\001\002\000\076\004" +
+    "\uffe3\006\uffe3\015\uffe3\017\uffe3\020\uffe3\025\uffe3\026\uffe3" +
+    "\037\uffe3\040\uffe3\041\uffe3\042\uffe3\043\uffe3\044\uffe3\045" +
+    "\uffe3\047\uffe3\050\uffe3\052\uffe3\053\uffe3\054\uffe3\056\uffe3" +
+    "\057\uffe3\061\uffe3\063\uffe3\071\uffe3\072\uffe3\073\uffe3\074" +
+    "\uffe3\101\uffe3\104\uffe3\106\uffe3\001\002\000\010\004\041" +
+    "\026\040\105\u0126\001\002\000\004\105\u0124\001\002\000" +
+    "\076\004\uffde\006\uffde\015\uffde\017\uffde\020\uffde\025\uffde" +
+    "\026\uffde\037\uffde\040\uffde\041\uffde\042\uffde\043\uffde\044" +
+    "\uffde\045\uffde\047\uffde\050\uffde\052\uffde\053\uffde\054\uffde" +
+    "\056\uffde\057\uffde\061\uffde\063\uffde\071\uffde\072\uffde\073" +
+    "\uffde\074\uffde\101\uffde\104\uffde\106\uffde\001\002\000\030" +
+    "\004\062\006\050\015\053\025\054\037\070\041\065\053" +
+    "\052\054\060\101\063\104\056\105\u0121\001\002\000\076" +
+    "\004\uffe4\006\uffe4\015\uffe4\017\uffe4\020\uffe4\025\uffe4\026" +
+    "\uffe4\037\uffe4\040\uffe4\041\uffe4\042\uffe4\043\uffe4\044\uffe4" +
+    "\045\uffe4\047\uffe4\050\uffe4\052\uffe4\053\uffe4\054\uffe4\056" +
+    "\uffe4\057\uffe4\061\uffe4\063\uffe4\071\uffe4\072\uffe4\073\uffe4" +
+    "\074\uffe4\101\uffe4\104\uffe4\106\uffe4\001\002\000\076\004" +
+    "\uffe5\006\uffe5\015\uffe5\017\uffe5\020\uffe5\025\uffe5\026\uffe5" +
+    "\037\uffe5\040\uffe5\041\uffe5\042\uffe5\043\uffe5\044\uffe5\045" +
+    "\uffe5\047\uffe5\050\uffe5\052\uffe5\053\uffe5\054\uffe5\056\uffe5" +
+    "\057\uffe5\061\uffe5\063\uffe5\071\uffe5\072\uffe5\073\uffe5\074" +
+    "\uffe5\101\uffe5\104\uffe5\106\uffe5\001\002\000\010\004\257" +
+    "\026\255\105\u0120\001\002\000\004\105\u011f\001\002\000" +
+    "\004\105\u011e\001\002\000\076\004\uffd8\006\uffd8\015\uffd8" +
+    "\017\uffd8\020\uffd8\025\uffd8\026\uffd8\037\uffd8\040\uffd8\041" +
+    "\uffd8\042\uffd8\043\uffd8\044\uffd8\045\uffd8\047\uffd8\050\uffd8" +
+    "\052\uffd8\053\uffd8\054\uffd8\056\uffd8\057\uffd8\061\uffd8\063" +
+    "\uffd8\071\uffd8\072\uffd8\073\uffd8\074\uffd8\101\uffd8\104\uffd8" +
+    "\106\uffd8\001\002\000\076\004\uffe2\006\uffe2\015\uffe2\017" +
     "\uffe2\020\uffe2\025\uffe2\026\uffe2\037\uffe2\040\uffe2\041\uffe2" +
     "\042\uffe2\043\uffe2\044\uffe2\045\uffe2\047\uffe2\050\uffe2\052" +
     "\uffe2\053\uffe2\054\uffe2\056\uffe2\057\uffe2\061\uffe2\063\uffe2" +
-    "\071\uffe2\072\uffe2\073\uffe2\074\uffe2\101\uffe2\104\uffe2\001" +
-    "\002\000\074\004\uffd9\006\uffd9\015\uffd9\017\uffd9\020\uffd9" +
-    "\025\uffd9\026\uffd9\037\uffd9\040\uffd9\041\uffd9\042\uffd9\043" +
-    "\uffd9\044\uffd9\045\uffd9\047\uffd9\050\uffd9\052\uffd9\053\uffd9" +
-    "\054\uffd9\056\uffd9\057\uffd9\061\uffd9\063\uffd9\071\uffd9\072" +
-    "\uffd9\073\uffd9\074\uffd9\101\uffd9\104\uffd9\001\002\000\010" +
-    "\004\253\026\251\105\u0118\001\002\000\010\004\040\026" +
-    "\037\105\u0117\001\002\000\074\004\uffd3\006\uffd3\015\uffd3" +
-    "\017\uffd3\020\uffd3\025\uffd3\026\uffd3\037\uffd3\040\uffd3\041" +
-    "\uffd3\042\uffd3\043\uffd3\044\uffd3\045\uffd3\047\uffd3\050\uffd3" +
-    "\052\uffd3\053\uffd3\054\uffd3\056\uffd3\057\uffd3\061\uffd3\063" +
-    "\uffd3\071\uffd3\072\uffd3\073\uffd3\074\uffd3\101\uffd3\104\uffd3" +
-    "\001\002\000\004\105\u0116\001\002\000\004\105\u0115\001" +
-    "\002\000\074\004\uffdf\006\uffdf\015\uffdf\017\uffdf\020\uffdf" +
-    "\025\uffdf\026\uffdf\037\uffdf\040\uffdf\041\uffdf\042\uffdf\043" +
-    "\uffdf\044\uffdf\045\uffdf\047\uffdf\050\uffdf\052\uffdf\053\uffdf" +
-    "\054\uffdf\056\uffdf\057\uffdf\061\uffdf\063\uffdf\071\uffdf\072" +
-    "\uffdf\073\uffdf\074\uffdf\101\uffdf\104\uffdf\001\002\000\074" +
-    "\004\uffe0\006\uffe0\015\uffe0\017\uffe0\020\uffe0\025\uffe0\026" +
-    "\uffe0\037\uffe0\040\uffe0\041\uffe0\042\uffe0\043\uffe0\044\uffe0" +
-    "\045\uffe0\047\uffe0\050\uffe0\052\uffe0\053\uffe0\054\uffe0\056" +
-    "\uffe0\057\uffe0\061\uffe0\063\uffe0\071\uffe0\072\uffe0\073\uffe0" +
-    "\074\uffe0\101\uffe0\104\uffe0\001\002\000\074\004\uffdb\006" +
-    "\uffdb\015\uffdb\017\uffdb\020\uffdb\025\uffdb\026\uffdb\037\uffdb" +
-    "\040\uffdb\041\uffdb\042\uffdb\043\uffdb\044\uffdb\045\uffdb\047" +
-    "\uffdb\050\uffdb\052\uffdb\053\uffdb\054\uffdb\056\uffdb\057\uffdb" +
-    "\061\uffdb\063\uffdb\071\uffdb\072\uffdb\073\uffdb\074\uffdb\101" +
-    "\uffdb\104\uffdb\001\002\000\074\004\uffe7\006\uffe7\015\uffe7" +
-    "\017\uffe7\020\uffe7\025\uffe7\026\uffe7\037\uffe7\040\uffe7\041" +
-    "\uffe7\042\uffe7\043\uffe7\044\uffe7\045\uffe7\047\uffe7\050\uffe7" +
-    "\052\uffe7\053\uffe7\054\uffe7\056\uffe7\057\uffe7\061\uffe7\063" +
-    "\uffe7\071\uffe7\072\uffe7\073\uffe7\074\uffe7\101\uffe7\104\uffe7" +
-    "\001\002\000\074\004\uffe6\006\uffe6\015\uffe6\017\uffe6\020" +
-    "\uffe6\025\uffe6\026\uffe6\037\uffe6\040\uffe6\041\uffe6\042\uffe6" +
-    "\043\uffe6\044\uffe6\045\uffe6\047\uffe6\050\uffe6\052\uffe6\053" +
-    "\uffe6\054\uffe6\056\uffe6\057\uffe6\061\uffe6\063\uffe6\071\uffe6" +
-    "\072\uffe6\073\uffe6\074\uffe6\101\uffe6\104\uffe6\001\002\000" +
-    "\074\004\uffe9\006\uffe9\015\uffe9\017\uffe9\020\uffe9\025\uffe9" +
-    "\026\uffe9\037\uffe9\040\uffe9\041\uffe9\042\uffe9\043\uffe9\044" +
-    "\uffe9\045\uffe9\047\uffe9\050\uffe9\052\uffe9\053\uffe9\054\uffe9" +
-    "\056\uffe9\057\uffe9\061\uffe9\063\uffe9\071\uffe9\072\uffe9\073" +
-    "\uffe9\074\uffe9\101\uffe9\104\uffe9\001\002\000\074\004\uffd6" +
-    "\006\uffd6\015\uffd6\017\uffd6\020\uffd6\025\uffd6\026\uffd6\037" +
-    "\uffd6\040\uffd6\041\uffd6\042\uffd6\043\uffd6\044\uffd6\045\uffd6" +
-    "\047\uffd6\050\uffd6\052\uffd6\053\uffd6\054\uffd6\056\uffd6\057" +
-    "\uffd6\061\uffd6\063\uffd6\071\uffd6\072\uffd6\073\uffd6\074\uffd6" +
-    "\101\uffd6\104\uffd6\001\002\000\074\004\uffe1\006\uffe1\015" +
-    "\uffe1\017\uffe1\020\uffe1\025\uffe1\026\uffe1\037\uffe1\040\uffe1" +
-    "\041\uffe1\042\uffe1\043\uffe1\044\uffe1\045\uffe1\047\uffe1\050" +
-    "\uffe1\052\uffe1\053\uffe1\054\uffe1\056\uffe1\057\uffe1\061\uffe1" +
-    "\063\uffe1\071\uffe1\072\uffe1\073\uffe1\074\uffe1\101\uffe1\104" +
-    "\uffe1\001\002\000\074\004\uffd4\006\uffd4\015\uffd4\017\uffd4" +
-    "\020\uffd4\025\uffd4\026\uffd4\037\uffd4\040\uffd4\041\uffd4\042" +
-    "\uffd4\043\uffd4\044\uffd4\045\uffd4\047\uffd4\050\uffd4\052\uffd4" +
-    "\053\uffd4\054\uffd4\056\uffd4\057\uffd4\061\uffd4\063\uffd4\071" +
-    "\uffd4\072\uffd4\073\uffd4\074\uffd4\101\uffd4\104\uffd4\001\002" +
-    "\000\004\105\u011e\001\002\000\074\004\uffd5\006\uffd5\015" +
-    "\uffd5\017\uffd5\020\uffd5\025\uffd5\026\uffd5\037\uffd5\040\uffd5" +
-    "\041\uffd5\042\uffd5\043\uffd5\044\uffd5\045\uffd5\047\uffd5\050" +
-    "\uffd5\052\uffd5\053\uffd5\054\uffd5\056\uffd5\057\uffd5\061\uffd5" +
-    "\063\uffd5\071\uffd5\072\uffd5\073\uffd5\074\uffd5\101\uffd5\104" +
-    "\uffd5\001\002\000\074\004\uffd7\006\uffd7\015\uffd7\017\uffd7" +
+    "\071\uffe2\072\uffe2\073\uffe2\074\uffe2\101\uffe2\104\uffe2\106" +
+    "\uffe2\001\002\000\076\004\uffd9\006\uffd9\015\uffd9\017\uffd9" +
+    "\020\uffd9\025\uffd9\026\uffd9\037\uffd9\040\uffd9\041\uffd9\042" +
+    "\uffd9\043\uffd9\044\uffd9\045\uffd9\047\uffd9\050\uffd9\052\uffd9" +
+    "\053\uffd9\054\uffd9\056\uffd9\057\uffd9\061\uffd9\063\uffd9\071" +
+    "\uffd9\072\uffd9\073\uffd9\074\uffd9\101\uffd9\104\uffd9\106\uffd9" +
+    "\001\002\000\010\004\257\026\255\105\u011d\001\002\000" +
+    "\010\004\041\026\040\105\u011c\001\002\000\076\004\uffd3" +
+    "\006\uffd3\015\uffd3\017\uffd3\020\uffd3\025\uffd3\026\uffd3\037" +
+    "\uffd3\040\uffd3\041\uffd3\042\uffd3\043\uffd3\044\uffd3\045\uffd3" +
+    "\047\uffd3\050\uffd3\052\uffd3\053\uffd3\054\uffd3\056\uffd3\057" +
+    "\uffd3\061\uffd3\063\uffd3\071\uffd3\072\uffd3\073\uffd3\074\uffd3" +
+    "\101\uffd3\104\uffd3\106\uffd3\001\002\000\004\105\u011b\001" +
+    "\002\000\004\105\u011a\001\002\000\076\004\uffdf\006\uffdf" +
+    "\015\uffdf\017\uffdf\020\uffdf\025\uffdf\026\uffdf\037\uffdf\040" +
+    "\uffdf\041\uffdf\042\uffdf\043\uffdf\044\uffdf\045\uffdf\047\uffdf" +
+    "\050\uffdf\052\uffdf\053\uffdf\054\uffdf\056\uffdf\057\uffdf\061" +
+    "\uffdf\063\uffdf\071\uffdf\072\uffdf\073\uffdf\074\uffdf\101\uffdf" +
+    "\104\uffdf\106\uffdf\001\002\000\076\004\uffe0\006\uffe0\015" +
+    "\uffe0\017\uffe0\020\uffe0\025\uffe0\026\uffe0\037\uffe0\040\uffe0" +
+    "\041\uffe0\042\uffe0\043\uffe0\044\uffe0\045\uffe0\047\uffe0\050" +
+    "\uffe0\052\uffe0\053\uffe0\054\uffe0\056\uffe0\057\uffe0\061\uffe0" +
+    "\063\uffe0\071\uffe0\072\uffe0\073\uffe0\074\uffe0\101\uffe0\104" +
+    "\uffe0\106\uffe0\001\002\000\076\004\uffdb\006\uffdb\015\uffdb" +
+    "\017\uffdb\020\uffdb\025\uffdb\026\uffdb\037\uffdb\040\uffdb\041" +
+    "\uffdb\042\uffdb\043\uffdb\044\uffdb\045\uffdb\047\uffdb\050\uffdb" +
+    "\052\uffdb\053\uffdb\054\uffdb\056\uffdb\057\uffdb\061\uffdb\063" +
+    "\uffdb\071\uffdb\072\uffdb\073\uffdb\074\uffdb\101\uffdb\104\uffdb" +
+    "\106\uffdb\001\002\000\076\004\uffe7\006\uffe7\015\uffe7\017" +
+    "\uffe7\020\uffe7\025\uffe7\026\uffe7\037\uffe7\040\uffe7\041\uffe7" +
+    "\042\uffe7\043\uffe7\044\uffe7\045\uffe7\047\uffe7\050\uffe7\052" +
+    "\uffe7\053\uffe7\054\uffe7\056\uffe7\057\uffe7\061\uffe7\063\uffe7" +
+    "\071\uffe7\072\uffe7\073\uffe7\074\uffe7\101\uffe7\104\uffe7\106" +
+    "\uffe7\001\002\000\076\004\uffe6\006\uffe6\015\uffe6\017\uffe6" +
+    "\020\uffe6\025\uffe6\026\uffe6\037\uffe6\040\uffe6\041\uffe6\042" +
+    "\uffe6\043\uffe6\044\uffe6\045\uffe6\047\uffe6\050\uffe6\052\uffe6" +
+    "\053\uffe6\054\uffe6\056\uffe6\057\uffe6\061\uffe6\063\uffe6\071" +
+    "\uffe6\072\uffe6\073\uffe6\074\uffe6\101\uffe6\104\uffe6\106\uffe6" +
+    "\001\002\000\076\004\uffe9\006\uffe9\015\uffe9\017\uffe9\020" +
+    "\uffe9\025\uffe9\026\uffe9\037\uffe9\040\uffe9\041\uffe9\042\uffe9" +
+    "\043\uffe9\044\uffe9\045\uffe9\047\uffe9\050\uffe9\052\uffe9\053" +
+    "\uffe9\054\uffe9\056\uffe9\057\uffe9\061\uffe9\063\uffe9\071\uffe9" +
+    "\072\uffe9\073\uffe9\074\uffe9\101\uffe9\104\uffe9\106\uffe9\001" +
+    "\002\000\076\004\uffd6\006\uffd6\015\uffd6\017\uffd6\020\uffd6" +
+    "\025\uffd6\026\uffd6\037\uffd6\040\uffd6\041\uffd6\042\uffd6\043" +
+    "\uffd6\044\uffd6\045\uffd6\047\uffd6\050\uffd6\052\uffd6\053\uffd6" +
+    "\054\uffd6\056\uffd6\057\uffd6\061\uffd6\063\uffd6\071\uffd6\072" +
+    "\uffd6\073\uffd6\074\uffd6\101\uffd6\104\uffd6\106\uffd6\001\002" +
+    "\000\076\004\uffe1\006\uffe1\015\uffe1\017\uffe1\020\uffe1\025" +
+    "\uffe1\026\uffe1\037\uffe1\040\uffe1\041\uffe1\042\uffe1\043\uffe1" +
+    "\044\uffe1\045\uffe1\047\uffe1\050\uffe1\052\uffe1\053\uffe1\054" +
+    "\uffe1\056\uffe1\057\uffe1\061\uffe1\063\uffe1\071\uffe1\072\uffe1" +
+    "\073\uffe1\074\uffe1\101\uffe1\104\uffe1\106\uffe1\001\002\000" +
+    "\076\004\uffd4\006\uffd4\015\uffd4\017\uffd4\020\uffd4\025\uffd4" +
+    "\026\uffd4\037\uffd4\040\uffd4\041\uffd4\042\uffd4\043\uffd4\044" +
+    "\uffd4\045\uffd4\047\uffd4\050\uffd4\052\uffd4\053\uffd4\054\uffd4" +
+    "\056\uffd4\057\uffd4\061\uffd4\063\uffd4\071\uffd4\072\uffd4\073" +
+    "\uffd4\074\uffd4\101\uffd4\104\uffd4\106\uffd4\001\002\000\004" +
+    "\105\u0123\001\002\000\076\004\uffd5\006\uffd5\015\uffd5\017" +
+    "\uffd5\020\uffd5\025\uffd5\026\uffd5\037\uffd5\040\uffd5\041\uffd5" +
+    "\042\uffd5\043\uffd5\044\uffd5\045\uffd5\047\uffd5\050\uffd5\052" +
+    "\uffd5\053\uffd5\054\uffd5\056\uffd5\057\uffd5\061\uffd5\063\uffd5" +
+    "\071\uffd5\072\uffd5\073\uffd5\074\uffd5\101\uffd5\104\uffd5\106" +
+    "\uffd5\001\002\000\076\004\uffd7\006\uffd7\015\uffd7\017\uffd7" +
     "\020\uffd7\025\uffd7\026\uffd7\037\uffd7\040\uffd7\041\uffd7\042" +
     "\uffd7\043\uffd7\044\uffd7\045\uffd7\047\uffd7\050\uffd7\052\uffd7" +
     "\053\uffd7\054\uffd7\056\uffd7\057\uffd7\061\uffd7\063\uffd7\071" +
-    "\uffd7\072\uffd7\073\uffd7\074\uffd7\101\uffd7\104\uffd7\001\002" +
-    "\000\074\004\uff3e\006\uff3e\015\uff3e\017\uff3e\020\uff3e\025" +
-    "\uff3e\026\uff3e\037\uff3e\040\uff3e\041\uff3e\042\uff3e\043\uff3e" +
-    "\044\uff3e\045\uff3e\047\uff3e\050\uff3e\052\uff3e\053\uff3e\054" +
-    "\uff3e\056\uff3e\057\uff3e\061\uff3e\063\uff3e\071\uff3e\072\uff3e" +
-    "\073\uff3e\074\uff3e\101\uff3e\104\uff3e\001\002\000\074\004" +
-    "\uffdc\006\uffdc\015\uffdc\017\uffdc\020\uffdc\025\uffdc\026\uffdc" +
-    "\037\uffdc\040\uffdc\041\uffdc\042\uffdc\043\uffdc\044\uffdc\045" +
-    "\uffdc\047\uffdc\050\uffdc\052\uffdc\053\uffdc\054\uffdc\056\uffdc" +
-    "\057\uffdc\061\uffdc\063\uffdc\071\uffdc\072\uffdc\073\uffdc\074" +
-    "\uffdc\101\uffdc\104\uffdc\001\002\000\100\002\uff65\003\uff65" +
-    "\004\uff65\006\uff65\015\uff65\017\uff65\020\uff65\025\uff65\026" +
-    "\uff65\037\uff65\040\uff65\041\uff65\042\uff65\043\uff65\044\uff65" +
-    "\045\uff65\047\uff65\050\uff65\052\uff65\053\uff65\054\uff65\056" +
-    "\uff65\057\uff65\061\uff65\063\uff65\071\uff65\072\uff65\073\uff65" +
-    "\074\uff65\101\uff65\104\uff65\001\002\000\030\004\uff63\006" +
-    "\uff63\015\uff63\025\uff63\037\uff63\041\uff63\053\uff63\054\uff63" +
-    "\055\uff63\101\uff63\104\uff63\001\002\000\030\004\061\006" +
-    "\047\015\052\025\054\037\067\041\064\053\051\054\057" +
-    "\055\u0125\101\062\104\055\001\002\000\004\103\u0133\001" +
-    "\002\000\032\004\061\006\047\015\052\025\054\037\067" +
-    "\041\064\053\051\054\057\055\u0125\062\u012f\101\062\104" +
-    "\055\001\002\000\004\103\uff5b\001\002\000\032\004\uff60" +
-    "\006\uff60\015\uff60\025\uff60\037\uff60\041\uff60\053\uff60\054" +
-    "\uff60\055\uff60\062\uff60\101\uff60\104\uff60\001\002\000\004" +
-    "\103\u012a\001\002\000\004\016\u012b\001\002\000\072\003" +
-    "\uff5f\004\uff5f\006\uff5f\015\uff5f\020\uff5f\025\uff5f\026\uff5f" +
-    "\037\uff5f\040\uff5f\041\uff5f\042\uff5f\043\uff5f\044\uff5f\045" +
-    "\uff5f\047\uff5f\050\uff5f\052\uff5f\053\uff5f\054\uff5f\056\uff5f" +
-    "\057\uff5f\061\uff5f\071\uff5f\072\uff5f\073\uff5f\074\uff5f\101" +
-    "\uff5f\104\uff5f\001\002\000\072\003\322\004\341\006\047" +
-    "\015\052\020\032\025\054\026\251\037\067\040\304\041" +
-    "\332\042\300\043\031\044\016\045\033\047\030\050\027" +
-    "\052\022\053\051\054\057\056\307\057\313\061\315\071" +
-    "\324\072\316\073\302\074\301\101\062\104\055\001\002" +
-    "\000\072\004\341\006\047\015\052\017\u012e\020\032\025" +
-    "\054\026\251\037\067\040\304\041\332\042\300\043\031" +
-    "\044\016\045\033\047\030\050\027\052\022\053\051\054" +
-    "\057\056\307\057\313\061\315\071\u010a\072\u0106\073\302" +
-    "\074\301\101\062\104\055\001\002\000\032\004\uff5e\006" +
-    "\uff5e\015\uff5e\025\uff5e\037\uff5e\041\uff5e\053\uff5e\054\uff5e" +
-    "\055\uff5e\062\uff5e\101\uff5e\104\uff5e\001\002\000\004\057" +
-    "\u0131\001\002\000\032\004\uff61\006\uff61\015\uff61\025\uff61" +
-    "\037\uff61\041\uff61\053\uff61\054\uff61\055\uff61\062\uff61\101" +
-    "\uff61\104\uff61\001\002\000\004\105\u0132\001\002\000\074" +
-    "\004\uff62\006\uff62\015\uff62\017\uff62\020\uff62\025\uff62\026" +
-    "\uff62\037\uff62\040\uff62\041\uff62\042\uff62\043\uff62\044\uff62" +
-    "\045\uff62\047\uff62\050\uff62\052\uff62\053\uff62\054\uff62\056" +
-    "\uff62\057\uff62\061\uff62\063\uff62\071\uff62\072\uff62\073\uff62" +
-    "\074\uff62\101\uff62\104\uff62\001\002\000\004\016\u0134\001" +
-    "\002\000\072\003\uff5d\004\uff5d\006\uff5d\015\uff5d\020\uff5d" +
-    "\025\uff5d\026\uff5d\037\uff5d\040\uff5d\041\uff5d\042\uff5d\043" +
-    "\uff5d\044\uff5d\045\uff5d\047\uff5d\050\uff5d\052\uff5d\053\uff5d" +
-    "\054\uff5d\056\uff5d\057\uff5d\061\uff5d\071\uff5d\072\uff5d\073" +
-    "\uff5d\074\uff5d\101\uff5d\104\uff5d\001\002\000\072\003\322" +
-    "\004\341\006\047\015\052\020\032\025\054\026\251\037" +
-    "\067\040\304\041\332\042\300\043\031\044\016\045\033" +
-    "\047\030\050\027\052\022\053\051\054\057\056\307\057" +
-    "\313\061\315\071\324\072\316\073\302\074\301\101\062" +
-    "\104\055\001\002\000\072\004\341\006\047\015\052\017" +
-    "\u0137\020\032\025\054\026\251\037\067\040\304\041\332" +
-    "\042\300\043\031\044\016\045\033\047\030\050\027\052" +
-    "\022\053\051\054\057\056\307\057\313\061\315\071\u010a" +
-    "\072\u0106\073\302\074\301\101\062\104\055\001\002\000" +
-    "\032\004\uff5c\006\uff5c\015\uff5c\025\uff5c\037\uff5c\041\uff5c" +
-    "\053\uff5c\054\uff5c\055\uff5c\062\uff5c\101\uff5c\104\uff5c\001" +
-    "\002\000\074\004\uffc1\006\uffc1\015\uffc1\017\uffc1\020\uffc1" +
-    "\025\uffc1\026\uffc1\037\uffc1\040\uffc1\041\uffc1\042\uffc1\043" +
-    "\uffc1\044\uffc1\045\uffc1\047\uffc1\050\uffc1\052\uffc1\053\uffc1" +
-    "\054\uffc1\056\uffc1\057\uffc1\061\uffc1\063\uffc1\071\uffc1\072" +
-    "\uffc1\073\uffc1\074\uffc1\101\uffc1\104\uffc1\001\002\000\074" +
-    "\004\uffd1\006\uffd1\015\uffd1\017\uffd1\020\uffd1\025\uffd1\026" +
-    "\uffd1\037\uffd1\040\uffd1\041\uffd1\042\uffd1\043\uffd1\044\uffd1" +
-    "\045\uffd1\047\uffd1\050\uffd1\052\uffd1\053\uffd1\054\uffd1\056" +
-    "\uffd1\057\uffd1\061\uffd1\063\uffd1\071\uffd1\072\uffd1\073\uffd1" +
-    "\074\uffd1\101\uffd1\104\uffd1\001\002\000\004\065\u0141\001" +
-    "\002\000\004\026\u013f\001\002\000\006\026\u013d\077\140" +
-    "\001\002\000\026\004\061\006\047\015\052\025\054\037" +
-    "\067\041\064\053\051\054\057\101\062\104\055\001\002" +
-    "\000\004\065\uff4f\001\002\000\026\004\061\006\047\015" +
-    "\052\025\054\037\067\041\064\053\051\054\057\101\062" +
-    "\104\055\001\002\000\004\065\uff4e\001\002\000\026\004" +
-    "\061\006\047\015\052\025\054\037\067\041\064\053\051" +
-    "\054\057\101\062\104\055\001\002\000\006\066\uff4d\067" +
-    "\uff4d\001\002\000\006\066\u0144\067\u0145\001\002\000\026" +
-    "\004\061\006\047\015\052\025\054\037\067\041\064\053" +
-    "\051\054\057\101\062\104\055\001\002\000\026\004\061" +
-    "\006\047\015\052\025\054\037\067\041\064\053\051\054" +
-    "\057\101\062\104\055\001\002\000\004\070\u0147\001\002" +
-    "\000\004\016\uff51\001\002\000\004\016\275\001\002\000" +
-    "\072\003\322\004\341\006\047\015\052\020\032\025\054" +
-    "\026\251\037\067\040\304\041\332\042\300\043\031\044" +
-    "\016\045\033\047\030\050\027\052\022\053\051\054\057" +
-    "\056\307\057\313\061\315\071\324\072\316\073\302\074" +
-    "\301\101\062\104\055\001\002\000\072\004\341\006\047" +
-    "\015\052\017\u014b\020\032\025\054\026\251\037\067\040" +
-    "\304\041\332\042\300\043\031\044\016\045\033\047\030" +
-    "\050\027\052\022\053\051\054\057\056\307\057\313\061" +
-    "\315\071\u010a\072\u0106\073\302\074\301\101\062\104\055" +
-    "\001\002\000\074\004\uff50\006\uff50\015\uff50\017\uff50\020" +
-    "\uff50\025\uff50\026\uff50\037\uff50\040\uff50\041\uff50\042\uff50" +
-    "\043\uff50\044\uff50\045\uff50\047\uff50\050\uff50\052\uff50\053" +
-    "\uff50\054\uff50\056\uff50\057\uff50\061\uff50\063\uff50\071\uff50" +
-    "\072\uff50\073\uff50\074\uff50\101\uff50\104\uff50\001\002\000" +
-    "\004\070\u014d\001\002\000\004\016\uff53\001\002\000\004" +
-    "\016\275\001\002\000\072\003\322\004\341\006\047\015" +
-    "\052\020\032\025\054\026\251\037\067\040\304\041\332" +
-    "\042\300\043\031\044\016\045\033\047\030\050\027\052" +
-    "\022\053\051\054\057\056\307\057\313\061\315\071\324" +
-    "\072\316\073\302\074\301\101\062\104\055\001\002\000" +
-    "\072\004\341\006\047\015\052\017\u0151\020\032\025\054" +
-    "\026\251\037\067\040\304\041\332\042\300\043\031\044" +
-    "\016\045\033\047\030\050\027\052\022\053\051\054\057" +
-    "\056\307\057\313\061\315\071\u010a\072\u0106\073\302\074" +
-    "\301\101\062\104\055\001\002\000\074\004\uff52\006\uff52" +
-    "\015\uff52\017\uff52\020\uff52\025\uff52\026\uff52\037\uff52\040" +
-    "\uff52\041\uff52\042\uff52\043\uff52\044\uff52\045\uff52\047\uff52" +
-    "\050\uff52\052\uff52\053\uff52\054\uff52\056\uff52\057\uff52\061" +
-    "\uff52\063\uff52\071\uff52\072\uff52\073\uff52\074\uff52\101\uff52" +
-    "\104\uff52\001\002\000\006\016\uff81\101\uff81\001\002\000" +
-    "\004\004\u0154\001\002\000\004\077\u0155\001\002\000\004" +
-    "\015\u0156\001\002\000\004\100\u0157\001\002\000\010\004" +
-    "\uff4c\026\uff4c\105\uff4c\001\002\000\004\004\u0159\001\002" +
-    "\000\004\102\u015a\001\002\000\004\105\u015b\001\002\000" +
-    "\074\004\uff9f\006\uff9f\015\uff9f\017\uff9f\020\uff9f\025\uff9f" +
-    "\026\uff9f\037\uff9f\040\uff9f\041\uff9f\042\uff9f\043\uff9f\044" +
-    "\uff9f\045\uff9f\047\uff9f\050\uff9f\052\uff9f\053\uff9f\054\uff9f" +
-    "\056\uff9f\057\uff9f\061\uff9f\063\uff9f\071\uff9f\072\uff9f\073" +
-    "\uff9f\074\uff9f\101\uff9f\104\uff9f\001\002\000\026\004\061" +
-    "\006\047\015\052\025\054\037\067\041\064\053\051\054" +
-    "\057\101\062\104\055\001\002\000\004\102\u015e\001\002" +
-    "\000\004\105\uff34\001\002\000\006\016\uff80\101\uff80\001" +
-    "\002\000\004\004\u0161\001\002\000\004\077\u0162\001\002" +
-    "\000\004\015\u0163\001\002\000\004\100\u0164\001\002\000" +
-    "\010\004\uff4b\026\uff4b\105\uff4b\001\002\000\006\016\uff75" +
-    "\102\u016a\001\002\000\004\004\u0174\001\002\000\010\016" +
-    "\uff74\024\u0172\102\uff74\001\002\000\004\004\u0171\001\002" +
-    "\000\004\004\u0170\001\002\000\004\016\uff76\001\002\000" +
-    "\004\016\uff78\001\002\000\004\004\u016f\001\002\000\004" +
-    "\004\u016e\001\002\000\010\016\uff70\024\uff70\102\uff70\001" +
-    "\002\000\010\016\uff71\024\uff71\102\uff71\001\002\000\010" +
-    "\016\uff6e\024\uff6e\102\uff6e\001\002\000\010\016\uff6f\024" +
-    "\uff6f\102\uff6f\001\002\000\014\040\u0166\041\u016d\042\u016c" +
-    "\043\u0168\044\u0169\001\002\000\006\016\uff73\102\uff73\001" +
-    "\002\000\010\016\uff72\024\uff72\102\uff72\001\002\000\004" +
-    "\016\uff79\001\002\000\032\002\ufff5\003\025\020\032\040" +
-    "\012\041\017\042\013\043\031\044\016\045\033\047\030" +
-    "\050\027\052\022\001\002\000\004\002\ufff6\001\002\000" +
-    "\004\002\uffec\001\002\000\004\016\uff7b\001\002\000\004" +
-    "\016\275\001\002\000\072\003\322\004\341\006\047\015" +
-    "\052\020\032\025\054\026\251\037\067\040\304\041\332" +
-    "\042\300\043\031\044\016\045\033\047\030\050\027\052" +
-    "\022\053\051\054\057\056\307\057\313\061\315\071\324" +
-    "\072\316\073\302\074\301\101\062\104\055\001\002\000" +
-    "\072\004\341\006\047\015\052\017\u017d\020\032\025\054" +
-    "\026\251\037\067\040\304\041\332\042\300\043\031\044" +
-    "\016\045\033\047\030\050\027\052\022\053\051\054\057" +
-    "\056\307\057\313\061\315\071\u010a\072\u0106\073\302\074" +
-    "\301\101\062\104\055\001\002\000\100\002\uff7a\003\uff7a" +
-    "\004\uff7a\006\uff7a\015\uff7a\017\uff7a\020\uff7a\025\uff7a\026" +
-    "\uff7a\037\uff7a\040\uff7a\041\uff7a\042\uff7a\043\uff7a\044\uff7a" +
-    "\045\uff7a\047\uff7a\050\uff7a\052\uff7a\053\uff7a\054\uff7a\056" +
-    "\uff7a\057\uff7a\061\uff7a\063\uff7a\071\uff7a\072\uff7a\073\uff7a" +
-    "\074\uff7a\101\uff7a\104\uff7a\001\002" });
+    "\uffd7\072\uffd7\073\uffd7\074\uffd7\101\uffd7\104\uffd7\106\uffd7" +
+    "\001\002\000\076\004\uff3a\006\uff3a\015\uff3a\017\uff3a\020" +
+    "\uff3a\025\uff3a\026\uff3a\037\uff3a\040\uff3a\041\uff3a\042\uff3a" +
+    "\043\uff3a\044\uff3a\045\uff3a\047\uff3a\050\uff3a\052\uff3a\053" +
+    "\uff3a\054\uff3a\056\uff3a\057\uff3a\061\uff3a\063\uff3a\071\uff3a" +
+    "\072\uff3a\073\uff3a\074\uff3a\101\uff3a\104\uff3a\106\uff3a\001" +
+    "\002\000\076\004\uffdc\006\uffdc\015\uffdc\017\uffdc\020\uffdc" +
+    "\025\uffdc\026\uffdc\037\uffdc\040\uffdc\041\uffdc\042\uffdc\043" +
+    "\uffdc\044\uffdc\045\uffdc\047\uffdc\050\uffdc\052\uffdc\053\uffdc" +
+    "\054\uffdc\056\uffdc\057\uffdc\061\uffdc\063\uffdc\071\uffdc\072" +
+    "\uffdc\073\uffdc\074\uffdc\101\uffdc\104\uffdc\106\uffdc\001\002" +
+    "\000\102\002\uff62\003\uff62\004\uff62\006\uff62\015\uff62\017" +
+    "\uff62\020\uff62\025\uff62\026\uff62\037\uff62\040\uff62\041\uff62" +
+    "\042\uff62\043\uff62\044\uff62\045\uff62\047\uff62\050\uff62\052" +
+    "\uff62\053\uff62\054\uff62\056\uff62\057\uff62\061\uff62\063\uff62" +
+    "\071\uff62\072\uff62\073\uff62\074\uff62\101\uff62\104\uff62\106" +
+    "\uff62\001\002\000\030\004\uff60\006\uff60\015\uff60\025\uff60" +
+    "\037\uff60\041\uff60\053\uff60\054\uff60\055\uff60\101\uff60\104" +
+    "\uff60\001\002\000\030\004\062\006\050\015\053\025\054" +
+    "\037\070\041\065\053\052\054\060\055\u012a\101\063\104" +
+    "\056\001\002\000\004\103\u0138\001\002\000\032\004\062" +
+    "\006\050\015\053\025\054\037\070\041\065\053\052\054" +
+    "\060\055\u012a\062\u0134\101\063\104\056\001\002\000\004" +
+    "\103\uff58\001\002\000\032\004\uff5d\006\uff5d\015\uff5d\025" +
+    "\uff5d\037\uff5d\041\uff5d\053\uff5d\054\uff5d\055\uff5d\062\uff5d" +
+    "\101\uff5d\104\uff5d\001\002\000\004\103\u012f\001\002\000" +
+    "\004\016\u0130\001\002\000\074\003\uff5c\004\uff5c\006\uff5c" +
+    "\015\uff5c\020\uff5c\025\uff5c\026\uff5c\037\uff5c\040\uff5c\041" +
+    "\uff5c\042\uff5c\043\uff5c\044\uff5c\045\uff5c\047\uff5c\050\uff5c" +
+    "\052\uff5c\053\uff5c\054\uff5c\056\uff5c\057\uff5c\061\uff5c\071" +
+    "\uff5c\072\uff5c\073\uff5c\074\uff5c\101\uff5c\104\uff5c\106\uff5c" +
+    "\001\002\000\074\003\326\004\345\006\050\015\053\020" +
+    "\031\025\054\026\255\037\070\040\310\041\336\042\304" +
+    "\043\032\044\016\045\034\047\030\050\027\052\022\053" +
+    "\052\054\060\056\313\057\317\061\321\071\330\072\322" +
+    "\073\306\074\305\101\063\104\056\106\033\001\002\000" +
+    "\074\004\345\006\050\015\053\017\u0133\020\031\025\054" +
+    "\026\255\037\070\040\310\041\336\042\304\043\032\044" +
+    "\016\045\034\047\030\050\027\052\022\053\052\054\060" +
+    "\056\313\057\317\061\321\071\u010f\072\u010b\073\306\074" +
+    "\305\101\063\104\056\106\033\001\002\000\032\004\uff5b" +
+    "\006\uff5b\015\uff5b\025\uff5b\037\uff5b\041\uff5b\053\uff5b\054" +
+    "\uff5b\055\uff5b\062\uff5b\101\uff5b\104\uff5b\001\002\000\004" +
+    "\057\u0136\001\002\000\032\004\uff5e\006\uff5e\015\uff5e\025" +
+    "\uff5e\037\uff5e\041\uff5e\053\uff5e\054\uff5e\055\uff5e\062\uff5e" +
+    "\101\uff5e\104\uff5e\001\002\000\004\105\u0137\001\002\000" +
+    "\076\004\uff5f\006\uff5f\015\uff5f\017\uff5f\020\uff5f\025\uff5f" +
+    "\026\uff5f\037\uff5f\040\uff5f\041\uff5f\042\uff5f\043\uff5f\044" +
+    "\uff5f\045\uff5f\047\uff5f\050\uff5f\052\uff5f\053\uff5f\054\uff5f" +
+    "\056\uff5f\057\uff5f\061\uff5f\063\uff5f\071\uff5f\072\uff5f\073" +
+    "\uff5f\074\uff5f\101\uff5f\104\uff5f\106\uff5f\001\002\000\004" +
+    "\016\u0139\001\002\000\074\003\uff5a\004\uff5a\006\uff5a\015" +
+    "\uff5a\020\uff5a\025\uff5a\026\uff5a\037\uff5a\040\uff5a\041\uff5a" +
+    "\042\uff5a\043\uff5a\044\uff5a\045\uff5a\047\uff5a\050\uff5a\052" +
+    "\uff5a\053\uff5a\054\uff5a\056\uff5a\057\uff5a\061\uff5a\071\uff5a" +
+    "\072\uff5a\073\uff5a\074\uff5a\101\uff5a\104\uff5a\106\uff5a\001" +
+    "\002\000\074\003\326\004\345\006\050\015\053\020\031" +
+    "\025\054\026\255\037\070\040\310\041\336\042\304\043" +
+    "\032\044\016\045\034\047\030\050\027\052\022\053\052" +
+    "\054\060\056\313\057\317\061\321\071\330\072\322\073" +
+    "\306\074\305\101\063\104\056\106\033\001\002\000\074" +
+    "\004\345\006\050\015\053\017\u013c\020\031\025\054\026" +
+    "\255\037\070\040\310\041\336\042\304\043\032\044\016" +
+    "\045\034\047\030\050\027\052\022\053\052\054\060\056" +
+    "\313\057\317\061\321\071\u010f\072\u010b\073\306\074\305" +
+    "\101\063\104\056\106\033\001\002\000\032\004\uff59\006" +
+    "\uff59\015\uff59\025\uff59\037\uff59\041\uff59\053\uff59\054\uff59" +
+    "\055\uff59\062\uff59\101\uff59\104\uff59\001\002\000\076\004" +
+    "\uffc1\006\uffc1\015\uffc1\017\uffc1\020\uffc1\025\uffc1\026\uffc1" +
+    "\037\uffc1\040\uffc1\041\uffc1\042\uffc1\043\uffc1\044\uffc1\045" +
+    "\uffc1\047\uffc1\050\uffc1\052\uffc1\053\uffc1\054\uffc1\056\uffc1" +
+    "\057\uffc1\061\uffc1\063\uffc1\071\uffc1\072\uffc1\073\uffc1\074" +
+    "\uffc1\101\uffc1\104\uffc1\106\uffc1\001\002\000\076\004\uffd1" +
+    "\006\uffd1\015\uffd1\017\uffd1\020\uffd1\025\uffd1\026\uffd1\037" +
+    "\uffd1\040\uffd1\041\uffd1\042\uffd1\043\uffd1\044\uffd1\045\uffd1" +
+    "\047\uffd1\050\uffd1\052\uffd1\053\uffd1\054\uffd1\056\uffd1\057" +
+    "\uffd1\061\uffd1\063\uffd1\071\uffd1\072\uffd1\073\uffd1\074\uffd1" +
+    "\101\uffd1\104\uffd1\106\uffd1\001\002\000\004\065\u0146\001" +
+    "\002\000\004\026\u0144\001\002\000\006\026\u0142\077\143" +
+    "\001\002\000\026\004\062\006\050\015\053\025\054\037" +
+    "\070\041\065\053\052\054\060\101\063\104\056\001\002" +
+    "\000\004\065\uff4b\001\002\000\026\004\062\006\050\015" +
+    "\053\025\054\037\070\041\065\053\052\054\060\101\063" +
+    "\104\056\001\002\000\004\065\uff4a\001\002\000\026\004" +
+    "\062\006\050\015\053\025\054\037\070\041\065\053\052" +
+    "\054\060\101\063\104\056\001\002\000\006\066\uff49\067" +
+    "\uff49\001\002\000\006\066\u0149\067\u014a\001\002\000\026" +
+    "\004\062\006\050\015\053\025\054\037\070\041\065\053" +
+    "\052\054\060\101\063\104\056\001\002\000\026\004\062" +
+    "\006\050\015\053\025\054\037\070\041\065\053\052\054" +
+    "\060\101\063\104\056\001\002\000\004\070\u014c\001\002" +
+    "\000\004\016\uff4d\001\002\000\004\016\301\001\002\000" +
+    "\074\003\326\004\345\006\050\015\053\020\031\025\054" +
+    "\026\255\037\070\040\310\041\336\042\304\043\032\044" +
+    "\016\045\034\047\030\050\027\052\022\053\052\054\060" +
+    "\056\313\057\317\061\321\071\330\072\322\073\306\074" +
+    "\305\101\063\104\056\106\033\001\002\000\074\004\345" +
+    "\006\050\015\053\017\u0150\020\031\025\054\026\255\037" +
+    "\070\040\310\041\336\042\304\043\032\044\016\045\034" +
+    "\047\030\050\027\052\022\053\052\054\060\056\313\057" +
+    "\317\061\321\071\u010f\072\u010b\073\306\074\305\101\063" +
+    "\104\056\106\033\001\002\000\076\004\uff4c\006\uff4c\015" +
+    "\uff4c\017\uff4c\020\uff4c\025\uff4c\026\uff4c\037\uff4c\040\uff4c" +
+    "\041\uff4c\042\uff4c\043\uff4c\044\uff4c\045\uff4c\047\uff4c\050" +
+    "\uff4c\052\uff4c\053\uff4c\054\uff4c\056\uff4c\057\uff4c\061\uff4c" +
+    "\063\uff4c\071\uff4c\072\uff4c\073\uff4c\074\uff4c\101\uff4c\104" +
+    "\uff4c\106\uff4c\001\002\000\004\070\u0152\001\002\000\004" +
+    "\016\uff4f\001\002\000\004\016\301\001\002\000\074\003" +
+    "\326\004\345\006\050\015\053\020\031\025\054\026\255" +
+    "\037\070\040\310\041\336\042\304\043\032\044\016\045" +
+    "\034\047\030\050\027\052\022\053\052\054\060\056\313" +
+    "\057\317\061\321\071\330\072\322\073\306\074\305\101" +
+    "\063\104\056\106\033\001\002\000\074\004\345\006\050" +
+    "\015\053\017\u0156\020\031\025\054\026\255\037\070\040" +
+    "\310\041\336\042\304\043\032\044\016\045\034\047\030" +
+    "\050\027\052\022\053\052\054\060\056\313\057\317\061" +
+    "\321\071\u010f\072\u010b\073\306\074\305\101\063\104\056" +
+    "\106\033\001\002\000\076\004\uff4e\006\uff4e\015\uff4e\017" +
+    "\uff4e\020\uff4e\025\uff4e\026\uff4e\037\uff4e\040\uff4e\041\uff4e" +
+    "\042\uff4e\043\uff4e\044\uff4e\045\uff4e\047\uff4e\050\uff4e\052" +
+    "\uff4e\053\uff4e\054\uff4e\056\uff4e\057\uff4e\061\uff4e\063\uff4e" +
+    "\071\uff4e\072\uff4e\073\uff4e\074\uff4e\101\uff4e\104\uff4e\106" +
+    "\uff4e\001\002\000\006\016\uff7e\101\uff7e\001\002\000\004" +
+    "\004\u0159\001\002\000\004\077\u015a\001\002\000\004\015" +
+    "\u015b\001\002\000\004\100\u015c\001\002\000\010\004\uff48" +
+    "\026\uff48\105\uff48\001\002\000\004\004\u015e\001\002\000" +
+    "\004\102\u015f\001\002\000\004\105\u0160\001\002\000\076" +
+    "\004\uff9d\006\uff9d\015\uff9d\017\uff9d\020\uff9d\025\uff9d\026" +
+    "\uff9d\037\uff9d\040\uff9d\041\uff9d\042\uff9d\043\uff9d\044\uff9d" +
+    "\045\uff9d\047\uff9d\050\uff9d\052\uff9d\053\uff9d\054\uff9d\056" +
+    "\uff9d\057\uff9d\061\uff9d\063\uff9d\071\uff9d\072\uff9d\073\uff9d" +
+    "\074\uff9d\101\uff9d\104\uff9d\106\uff9d\001\002\000\026\004" +
+    "\062\006\050\015\053\025\054\037\070\041\065\053\052" +
+    "\054\060\101\063\104\056\001\002\000\004\102\u0163\001" +
+    "\002\000\004\105\uff30\001\002\000\006\016\uff7d\101\uff7d" +
+    "\001\002\000\004\004\u0166\001\002\000\004\077\u0167\001" +
+    "\002\000\004\015\u0168\001\002\000\004\100\u0169\001\002" +
+    "\000\010\004\uff47\026\uff47\105\uff47\001\002\000\006\016" +
+    "\uff72\102\u016f\001\002\000\004\004\u0179\001\002\000\010" +
+    "\016\uff71\024\u0177\102\uff71\001\002\000\004\004\u0176\001" +
+    "\002\000\004\004\u0175\001\002\000\004\016\uff73\001\002" +
+    "\000\004\016\uff75\001\002\000\004\004\u0174\001\002\000" +
+    "\004\004\u0173\001\002\000\010\016\uff6d\024\uff6d\102\uff6d" +
+    "\001\002\000\010\016\uff6e\024\uff6e\102\uff6e\001\002\000" +
+    "\010\016\uff6b\024\uff6b\102\uff6b\001\002\000\010\016\uff6c" +
+    "\024\uff6c\102\uff6c\001\002\000\014\040\u016b\041\u0172\042" +
+    "\u0171\043\u016d\044\u016e\001\002\000\006\016\uff70\102\uff70" +
+    "\001\002\000\010\016\uff6f\024\uff6f\102\uff6f\001\002\000" +
+    "\004\016\uff76\001\002\000\034\002\ufff5\003\025\020\031" +
+    "\040\012\041\017\042\013\043\032\044\016\045\034\047" +
+    "\030\050\027\052\022\106\033\001\002\000\004\002\ufff6" +
+    "\001\002\000\004\016\uff78\001\002\000\004\016\301\001" +
+    "\002\000\074\003\326\004\345\006\050\015\053\020\031" +
+    "\025\054\026\255\037\070\040\310\041\336\042\304\043" +
+    "\032\044\016\045\034\047\030\050\027\052\022\053\052" +
+    "\054\060\056\313\057\317\061\321\071\330\072\322\073" +
+    "\306\074\305\101\063\104\056\106\033\001\002\000\074" +
+    "\004\345\006\050\015\053\017\u0181\020\031\025\054\026" +
+    "\255\037\070\040\310\041\336\042\304\043\032\044\016" +
+    "\045\034\047\030\050\027\052\022\053\052\054\060\056" +
+    "\313\057\317\061\321\071\u010f\072\u010b\073\306\074\305" +
+    "\101\063\104\056\106\033\001\002\000\102\002\uff77\003" +
+    "\uff77\004\uff77\006\uff77\015\uff77\017\uff77\020\uff77\025\uff77" +
+    "\026\uff77\037\uff77\040\uff77\041\uff77\042\uff77\043\uff77\044" +
+    "\uff77\045\uff77\047\uff77\050\uff77\052\uff77\053\uff77\054\uff77" +
+    "\056\uff77\057\uff77\061\uff77\063\uff77\071\uff77\072\uff77\073" +
+    "\uff77\074\uff77\101\uff77\104\uff77\106\uff77\001\002\000\004" +
+    "\002\uffec\001\002" });
 
   /** Access to parse-action table. */
   public short[][] action_table() {return _action_table;}
@@ -921,270 +957,272 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = 
     unpackFromStrings(new String[] {
-    "\000\u017b\000\006\003\004\075\003\001\001\000\034\004" +
-    "\025\012\022\013\023\025\010\026\033\037\013\040\006" +
-    "\047\017\050\035\051\020\053\034\054\014\065\007\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\055\u0178" +
-    "\001\001\000\034\004\025\012\022\013\023\025\010\026" +
-    "\033\037\013\040\006\047\u0177\050\035\051\020\053\034" +
-    "\054\014\065\007\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\004\055\271\001\001\000\034" +
-    "\004\025\012\022\013\023\025\010\026\033\037\013\040" +
-    "\006\047\267\050\035\051\020\053\034\054\014\065\007" +
+    "\000\u0180\000\006\003\004\076\003\001\001\000\034\004" +
+    "\025\012\022\013\023\025\010\026\034\037\013\040\007" +
+    "\047\017\050\036\051\020\053\035\054\014\065\006\001" +
+    "\001\000\002\001\001\000\002\001\001\000\034\004\025" +
+    "\012\022\013\023\025\010\026\034\037\013\040\007\047" +
+    "\u0181\050\036\051\020\053\035\054\014\065\006\001\001" +
+    "\000\004\055\u017c\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\055\275\001\001\000\034" +
+    "\004\025\012\022\013\023\025\010\026\034\037\013\040" +
+    "\007\047\273\050\036\051\020\053\035\054\014\065\006" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\006\005\247\044\251\001\001\000\002\001\001" +
-    "\000\034\004\025\012\022\013\023\025\010\026\033\037" +
-    "\013\040\006\047\246\050\035\051\020\053\034\054\014" +
-    "\065\007\001\001\000\034\004\025\012\022\013\023\025" +
-    "\010\026\033\037\013\040\006\047\245\050\035\051\020" +
-    "\053\034\054\014\065\007\001\001\000\034\004\025\012" +
-    "\022\013\023\025\010\026\033\037\013\040\006\047\244" +
-    "\050\035\051\020\053\034\054\014\065\007\001\001\000" +
-    "\002\001\001\000\004\067\222\001\001\000\002\001\001" +
-    "\000\002\001\001\000\004\066\172\001\001\000\002\001" +
-    "\001\000\002\001\001\000\034\004\025\012\022\013\023" +
-    "\025\010\026\033\037\013\040\006\047\164\050\035\051" +
-    "\020\053\034\054\014\065\007\001\001\000\004\021\040" +
+    "\001\000\006\005\253\044\255\001\001\000\002\001\001" +
+    "\000\034\004\025\012\022\013\023\025\010\026\034\037" +
+    "\013\040\007\047\252\050\036\051\020\053\035\054\014" +
+    "\065\006\001\001\000\034\004\025\012\022\013\023\025" +
+    "\010\026\034\037\013\040\007\047\251\050\036\051\020" +
+    "\053\035\054\014\065\006\001\001\000\034\004\025\012" +
+    "\022\013\023\025\010\026\034\037\013\040\007\047\250" +
+    "\050\036\051\020\053\035\054\014\065\006\001\001\000" +
+    "\002\001\001\000\004\067\226\001\001\000\002\001\001" +
+    "\000\004\066\177\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\034\004\025" +
+    "\012\022\013\023\025\010\026\034\037\013\040\007\047" +
+    "\170\050\036\051\020\053\035\054\014\065\006\001\001" +
+    "\000\004\021\042\001\001\000\002\001\001\000\002\001" +
+    "\001\000\034\004\025\012\022\013\023\025\010\026\034" +
+    "\037\013\040\007\047\043\050\036\051\020\053\035\054" +
+    "\014\065\006\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\016\007\054\010\060\011\050\023" +
+    "\056\024\063\044\046\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\034\004\025\012\022\013\023\025\010\026\033" +
-    "\037\013\040\006\047\042\050\035\051\020\053\034\054" +
-    "\014\065\007\001\001\000\002\001\001\000\002\001\001" +
-    "\000\016\007\052\010\057\011\047\023\055\024\062\044" +
-    "\045\001\001\000\002\001\001\000\004\024\154\001\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\002\001\001\000\022\007\066\010\060\011\050\024\063" +
+    "\041\065\042\071\043\070\044\046\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\006\072\112" +
+    "\074\106\001\001\000\016\007\066\010\060\011\050\024" +
+    "\063\043\100\044\046\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\075\076\001\001\000\004\075\074\001" +
+    "\001\000\016\007\066\010\060\011\050\024\063\043\075" +
+    "\044\046\001\001\000\002\001\001\000\016\007\066\010" +
+    "\060\011\050\024\063\043\077\044\046\001\001\000\002" +
+    "\001\001\000\002\001\001\000\014\007\135\010\060\011" +
+    "\050\024\063\044\046\001\001\000\012\010\060\011\134" +
+    "\024\063\044\046\001\001\000\014\007\133\010\060\011" +
+    "\050\024\063\044\046\001\001\000\012\010\060\011\122" +
+    "\024\063\044\046\001\001\000\014\007\121\010\060\011" +
+    "\050\024\063\044\046\001\001\000\006\073\117\074\116" +
+    "\001\001\000\014\007\115\010\060\011\050\024\063\044" +
+    "\046\001\001\000\014\007\114\010\060\011\050\024\063" +
+    "\044\046\001\001\000\014\007\113\010\060\011\050\024" +
+    "\063\044\046\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\006\073\120\074" +
+    "\116\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\010\010\132\024\063\044" +
+    "\046\001\001\000\010\010\131\024\063\044\046\001\001" +
+    "\000\010\010\130\024\063\044\046\001\001\000\010\010" +
+    "\127\024\063\044\046\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\022\007\065\010\057\011\047\024\062\041\064" +
-    "\042\070\043\067\044\045\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\006\072\107\074\103" +
-    "\001\001\000\016\007\065\010\057\011\047\024\062\043" +
-    "\075\044\045\001\001\000\002\001\001\000\002\001\001" +
-    "\000\016\007\065\010\057\011\047\024\062\043\074\044" +
-    "\045\001\001\000\016\007\065\010\057\011\047\024\062" +
-    "\043\073\044\045\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\014\007\132\010\057\011\047" +
-    "\024\062\044\045\001\001\000\012\010\057\011\131\024" +
-    "\062\044\045\001\001\000\014\007\130\010\057\011\047" +
-    "\024\062\044\045\001\001\000\012\010\057\011\117\024" +
-    "\062\044\045\001\001\000\014\007\116\010\057\011\047" +
-    "\024\062\044\045\001\001\000\006\073\114\074\113\001" +
-    "\001\000\014\007\112\010\057\011\047\024\062\044\045" +
-    "\001\001\000\014\007\111\010\057\011\047\024\062\044" +
-    "\045\001\001\000\014\007\110\010\057\011\047\024\062" +
-    "\044\045\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\006\073\115\074\113" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\026\007\066\010\060\011\050\024" +
+    "\063\041\145\042\071\043\070\044\046\061\147\062\146" +
+    "\001\001\000\002\001\001\000\014\007\143\010\060\011" +
+    "\050\024\063\044\046\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\010\010\127\024\062\044\045" +
-    "\001\001\000\010\010\126\024\062\044\045\001\001\000" +
-    "\010\010\125\024\062\044\045\001\001\000\010\010\124" +
-    "\024\062\044\045\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\024\007\066\010\060\011\050" +
+    "\024\063\041\145\042\071\043\070\044\046\062\152\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\026\007\065\010\057\011\047\024\062" +
-    "\041\142\042\070\043\067\044\045\061\144\062\143\001" +
-    "\001\000\002\001\001\000\014\007\140\010\057\011\047" +
-    "\024\062\044\045\001\001\000\002\001\001\000\002\001" +
+    "\000\016\007\054\010\060\011\050\023\156\024\063\044" +
+    "\046\001\001\000\002\001\001\000\002\001\001\000\022" +
+    "\007\066\010\060\011\050\024\063\041\162\042\071\043" +
+    "\070\044\046\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\016\007\054\010\060\011\050\023" +
+    "\165\024\063\044\046\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\034\004" +
+    "\025\012\022\013\023\025\010\026\034\037\013\040\007" +
+    "\047\172\050\036\051\020\053\035\054\014\065\006\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\024\007\065\010\057\011\047\024" +
-    "\062\041\142\042\070\043\067\044\045\062\147\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\016\007\052\010\057\011\047\023\153\024\062\044\045" +
-    "\001\001\000\002\001\001\000\002\001\001\000\022\007" +
-    "\065\010\057\011\047\024\062\041\156\042\070\043\067" +
-    "\044\045\001\001\000\002\001\001\000\002\001\001\000" +
-    "\016\007\052\010\057\011\047\023\161\024\062\044\045" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\034\004\025\012\022\013\023" +
-    "\025\010\026\033\037\013\040\006\047\166\050\035\051" +
-    "\020\053\034\054\014\065\007\001\001\000\002\001\001" +
+    "\002\001\001\000\002\001\001\000\004\067\220\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\004\067\214\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\022\007\065\010\057\011\047\024\062\041\241" +
-    "\042\070\043\067\044\045\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\070\231\001\001" +
-    "\000\002\001\001\000\024\007\065\010\057\011\047\024" +
-    "\062\041\233\042\070\043\067\044\045\071\235\001\001" +
+    "\001\001\000\002\001\001\000\022\007\066\010\060\011" +
+    "\050\024\063\041\245\042\071\043\070\044\046\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\024\007\065\010\057\011\047\024\062" +
-    "\041\233\042\070\043\067\044\045\071\240\001\001\000" +
-    "\002\001\001\000\002\001\001\000\034\004\025\012\022" +
-    "\013\023\025\010\026\033\037\013\040\006\047\243\050" +
-    "\035\051\020\053\034\054\014\065\007\001\001\000\002" +
+    "\004\070\235\001\001\000\002\001\001\000\024\007\066" +
+    "\010\060\011\050\024\063\041\237\042\071\043\070\044" +
+    "\046\071\241\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\024\007\066\010" +
+    "\060\011\050\024\063\041\237\042\071\043\070\044\046" +
+    "\071\244\001\001\000\002\001\001\000\002\001\001\000" +
+    "\034\004\025\012\022\013\023\025\010\026\034\037\013" +
+    "\040\007\047\247\050\036\051\020\053\035\054\014\065" +
+    "\006\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\022\007" +
+    "\066\010\060\011\050\024\063\041\267\042\071\043\070" +
+    "\044\046\001\001\000\002\001\001\000\002\001\001\000" +
+    "\034\004\025\012\022\013\023\025\010\026\034\037\013" +
+    "\040\007\047\260\050\036\051\020\053\035\054\014\065" +
+    "\006\001\001\000\002\001\001\000\022\007\066\010\060" +
+    "\011\050\024\063\041\262\042\071\043\070\044\046\001" +
+    "\001\000\002\001\001\000\002\001\001\000\022\007\066" +
+    "\010\060\011\050\024\063\041\265\042\071\043\070\044" +
+    "\046\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\022\007\065\010\057\011\047" +
-    "\024\062\041\263\042\070\043\067\044\045\001\001\000" +
-    "\002\001\001\000\002\001\001\000\034\004\025\012\022" +
-    "\013\023\025\010\026\033\037\013\040\006\047\254\050" +
-    "\035\051\020\053\034\054\014\065\007\001\001\000\002" +
-    "\001\001\000\022\007\065\010\057\011\047\024\062\041" +
-    "\256\042\070\043\067\044\045\001\001\000\002\001\001" +
-    "\000\002\001\001\000\022\007\065\010\057\011\047\024" +
-    "\062\041\261\042\070\043\067\044\045\001\001\000\002" +
+    "\001\000\002\001\001\000\010\056\u016f\057\u0169\060\u016b" +
+    "\001\001\000\004\100\276\001\001\000\004\015\277\001" +
+    "\001\000\076\004\326\005\306\006\317\007\066\010\060" +
+    "\011\050\012\332\013\313\014\315\020\314\022\333\024" +
+    "\063\025\342\026\341\031\343\032\322\034\311\036\331" +
+    "\037\013\040\007\041\330\042\071\043\070\044\334\050" +
+    "\337\051\336\052\310\053\324\054\323\065\340\001\001" +
+    "\000\004\016\302\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\044\u013f\063\u013e\001\001\000\002" +
+    "\001\001\000\004\021\u0124\001\001\000\002\001\001\000" +
+    "\002\001\001\000\074\004\u010d\005\u0103\007\066\010\060" +
+    "\011\050\012\u0111\013\u0106\014\u0108\020\u0107\022\u0112\024" +
+    "\063\025\u0117\026\u0116\031\u0118\032\u0109\034\u0105\036\u0110" +
+    "\037\013\040\007\041\u010f\042\071\043\070\044\334\050" +
+    "\u0114\051\u0113\052\u0104\053\u010c\054\u010b\065\u0115\001\001" +
+    "\000\004\104\360\001\001\000\022\007\066\010\060\011" +
+    "\050\024\063\041\356\042\071\043\070\044\046\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\005\353\044\255\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\010\056\u016a\057\u0164\060\u0166\001\001\000\004\077" +
-    "\272\001\001\000\004\015\273\001\001\000\076\004\322" +
-    "\005\302\006\313\007\065\010\057\011\047\012\326\013" +
-    "\307\014\311\020\310\022\330\024\062\025\336\026\335" +
-    "\031\337\032\316\034\305\036\325\037\013\040\006\041" +
-    "\324\042\070\043\067\044\327\050\333\051\332\052\304" +
-    "\053\320\054\317\065\334\001\001\000\004\016\276\001" +
+    "\000\006\005\253\044\255\001\001\000\004\021\042\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
-    "\044\u013a\063\u0139\001\001\000\002\001\001\000\004\021" +
-    "\u011f\001\001\000\002\001\001\000\002\001\001\000\074" +
-    "\004\u0108\005\376\007\065\010\057\011\047\012\u010c\013" +
-    "\u0101\014\u0103\020\u0102\022\u010d\024\062\025\u0112\026\u0111" +
-    "\031\u0113\032\u0104\034\u0100\036\u010b\037\013\040\006\041" +
-    "\u010a\042\070\043\067\044\327\050\u010f\051\u010e\052\377" +
-    "\053\u0107\054\u0106\065\u0110\001\001\000\004\103\354\001" +
-    "\001\000\022\007\065\010\057\011\047\024\062\041\352" +
-    "\042\070\043\067\044\045\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
-    "\005\347\044\251\001\001\000\002\001\001\000\002\001" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\006\005\247\044" +
-    "\251\001\001\000\004\021\040\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\000\100\004\326\005\306\006\361\007\066\010\060\011" +
+    "\050\012\332\013\313\014\315\017\363\020\314\022\333" +
+    "\024\063\025\342\026\341\031\343\032\322\034\311\036" +
+    "\331\037\013\040\007\041\362\042\071\043\070\044\334" +
+    "\050\337\051\336\052\310\053\324\054\323\065\340\001" +
+    "\001\000\074\004\u010d\005\u0103\007\066\010\060\011\050" +
+    "\012\u0111\013\u0106\014\u0108\020\u0107\022\u0112\024\063\025" +
+    "\u0117\026\u0116\031\u0118\032\u0109\034\u0105\036\u0110\037\013" +
+    "\040\007\041\u010f\042\071\043\070\044\334\050\u0114\051" +
+    "\u0113\052\u0104\053\u010c\054\u010b\065\u0115\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\022\007" +
+    "\066\010\060\011\050\024\063\041\366\042\071\043\070" +
+    "\044\046\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\105\373\001\001" +
+    "\000\004\033\375\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\106\u0100\001\001\000\076" +
+    "\004\326\005\306\006\u0101\007\066\010\060\011\050\012" +
+    "\332\013\313\014\315\020\314\022\333\024\063\025\342" +
+    "\026\341\031\343\032\322\034\311\036\331\037\013\040" +
+    "\007\041\330\042\071\043\070\044\334\050\337\051\336" +
+    "\052\310\053\324\054\323\065\340\001\001\000\074\004" +
+    "\u010d\005\u0103\007\066\010\060\011\050\012\u0111\013\u0106" +
+    "\014\u0108\020\u0107\022\u0112\024\063\025\u0117\026\u0116\031" +
+    "\u0118\032\u0109\034\u0105\036\u0110\037\013\040\007\041\u010f" +
+    "\042\071\043\070\044\334\050\u0114\051\u0113\052\u0104\053" +
+    "\u010c\054\u010b\065\u0115\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\021\u0124\001\001\000\002\001\001\000\002" +
+    "\001\001\000\022\007\066\010\060\011\050\024\063\041" +
+    "\u0121\042\071\043\070\044\046\001\001\000\002\001\001" +
+    "\000\002\001\001\000\006\005\353\044\255\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\006\005\253\044\255\001" +
+    "\001\000\004\021\042\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\100\004\322\005" +
-    "\302\006\355\007\065\010\057\011\047\012\326\013\307" +
-    "\014\311\017\357\020\310\022\330\024\062\025\336\026" +
-    "\335\031\337\032\316\034\305\036\325\037\013\040\006" +
-    "\041\356\042\070\043\067\044\327\050\333\051\332\052" +
-    "\304\053\320\054\317\065\334\001\001\000\074\004\u0108" +
-    "\005\376\007\065\010\057\011\047\012\u010c\013\u0101\014" +
-    "\u0103\020\u0102\022\u010d\024\062\025\u0112\026\u0111\031\u0113" +
-    "\032\u0104\034\u0100\036\u010b\037\013\040\006\041\u010a\042" +
-    "\070\043\067\044\327\050\u010f\051\u010e\052\377\053\u0107" +
-    "\054\u0106\065\u0110\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\022\007\065\010\057\011\047" +
-    "\024\062\041\362\042\070\043\067\044\045\001\001\000" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\004\104\367\001\001\000\004\033\371\001" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\101\u0128\001\001\000\030\007\066\010\060" +
+    "\011\050\024\063\027\u012a\030\u012c\035\u012d\041\u012b\042" +
+    "\071\043\070\044\046\001\001\000\002\001\001\000\026" +
+    "\007\066\010\060\011\050\024\063\030\u0134\035\u012d\041" +
+    "\u012b\042\071\043\070\044\046\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\102\u0130\001\001\000\076\004\326\005\306\006\u0131" +
+    "\007\066\010\060\011\050\012\332\013\313\014\315\020" +
+    "\314\022\333\024\063\025\342\026\341\031\343\032\322" +
+    "\034\311\036\331\037\013\040\007\041\330\042\071\043" +
+    "\070\044\334\050\337\051\336\052\310\053\324\054\323" +
+    "\065\340\001\001\000\074\004\u010d\005\u0103\007\066\010" +
+    "\060\011\050\012\u0111\013\u0106\014\u0108\020\u0107\022\u0112" +
+    "\024\063\025\u0117\026\u0116\031\u0118\032\u0109\034\u0105\036" +
+    "\u0110\037\013\040\007\041\u010f\042\071\043\070\044\334" +
+    "\050\u0114\051\u0113\052\u0104\053\u010c\054\u010b\065\u0115\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\076\004\322\005\302\006\374\007\065\010\057\011" +
-    "\047\012\326\013\307\014\311\020\310\022\330\024\062" +
-    "\025\336\026\335\031\337\032\316\034\305\036\325\037" +
-    "\013\040\006\041\324\042\070\043\067\044\327\050\333" +
-    "\051\332\052\304\053\320\054\317\065\334\001\001\000" +
-    "\074\004\u0108\005\376\007\065\010\057\011\047\012\u010c" +
-    "\013\u0101\014\u0103\020\u0102\022\u010d\024\062\025\u0112\026" +
-    "\u0111\031\u0113\032\u0104\034\u0100\036\u010b\037\013\040\006" +
-    "\041\u010a\042\070\043\067\044\327\050\u010f\051\u010e\052" +
-    "\377\053\u0107\054\u0106\065\u0110\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\004\021\u011f\001\001\000\002\001\001" +
-    "\000\002\001\001\000\022\007\065\010\057\011\047\024" +
-    "\062\041\u011c\042\070\043\067\044\045\001\001\000\002" +
-    "\001\001\000\002\001\001\000\006\005\347\044\251\001" +
+    "\004\103\u0139\001\001\000\076\004\326\005\306\006\u013a" +
+    "\007\066\010\060\011\050\012\332\013\313\014\315\020" +
+    "\314\022\333\024\063\025\342\026\341\031\343\032\322" +
+    "\034\311\036\331\037\013\040\007\041\330\042\071\043" +
+    "\070\044\334\050\337\051\336\052\310\053\324\054\323" +
+    "\065\340\001\001\000\074\004\u010d\005\u0103\007\066\010" +
+    "\060\011\050\012\u0111\013\u0106\014\u0108\020\u0107\022\u0112" +
+    "\024\063\025\u0117\026\u0116\031\u0118\032\u0109\034\u0105\036" +
+    "\u0110\037\013\040\007\041\u010f\042\071\043\070\044\334" +
+    "\050\u0114\051\u0113\052\u0104\053\u010c\054\u010b\065\u0115\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\006\005\247\044" +
-    "\251\001\001\000\004\021\040\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\022\007\066\010\060\011\050\024\063\041\u0142\042\071" +
+    "\043\070\044\046\001\001\000\002\001\001\000\022\007" +
+    "\066\010\060\011\050\024\063\041\u0144\042\071\043\070" +
+    "\044\046\001\001\000\002\001\001\000\024\007\066\010" +
+    "\060\011\050\024\063\041\u0146\042\071\043\070\044\046" +
+    "\064\u0147\001\001\000\002\001\001\000\002\001\001\000" +
+    "\022\007\066\010\060\011\050\024\063\041\u0150\042\071" +
+    "\043\070\044\046\001\001\000\022\007\066\010\060\011" +
+    "\050\024\063\041\u014a\042\071\043\070\044\046\001\001" +
+    "\000\002\001\001\000\004\110\u014c\001\001\000\004\015" +
+    "\u014d\001\001\000\076\004\326\005\306\006\u014e\007\066" +
+    "\010\060\011\050\012\332\013\313\014\315\020\314\022" +
+    "\333\024\063\025\342\026\341\031\343\032\322\034\311" +
+    "\036\331\037\013\040\007\041\330\042\071\043\070\044" +
+    "\334\050\337\051\336\052\310\053\324\054\323\065\340" +
+    "\001\001\000\074\004\u010d\005\u0103\007\066\010\060\011" +
+    "\050\012\u0111\013\u0106\014\u0108\020\u0107\022\u0112\024\063" +
+    "\025\u0117\026\u0116\031\u0118\032\u0109\034\u0105\036\u0110\037" +
+    "\013\040\007\041\u010f\042\071\043\070\044\334\050\u0114" +
+    "\051\u0113\052\u0104\053\u010c\054\u010b\065\u0115\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\107\u0152\001\001" +
+    "\000\004\015\u0153\001\001\000\076\004\326\005\306\006" +
+    "\u0154\007\066\010\060\011\050\012\332\013\313\014\315" +
+    "\020\314\022\333\024\063\025\342\026\341\031\343\032" +
+    "\322\034\311\036\331\037\013\040\007\041\330\042\071" +
+    "\043\070\044\334\050\337\051\336\052\310\053\324\054" +
+    "\323\065\340\001\001\000\074\004\u010d\005\u0103\007\066" +
+    "\010\060\011\050\012\u0111\013\u0106\014\u0108\020\u0107\022" +
+    "\u0112\024\063\025\u0117\026\u0116\031\u0118\032\u0109\034\u0105" +
+    "\036\u0110\037\013\040\007\041\u010f\042\071\043\070\044" +
+    "\334\050\u0114\051\u0113\052\u0104\053\u010c\054\u010b\065\u0115" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\004\100\u0123\001\001\000\030\007\065" +
-    "\010\057\011\047\024\062\027\u0125\030\u0127\035\u0128\041" +
-    "\u0126\042\070\043\067\044\045\001\001\000\002\001\001" +
-    "\000\026\007\065\010\057\011\047\024\062\030\u012f\035" +
-    "\u0128\041\u0126\042\070\043\067\044\045\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\004\101\u012b\001\001\000\076\004\322\005\302" +
-    "\006\u012c\007\065\010\057\011\047\012\326\013\307\014" +
-    "\311\020\310\022\330\024\062\025\336\026\335\031\337" +
-    "\032\316\034\305\036\325\037\013\040\006\041\324\042" +
-    "\070\043\067\044\327\050\333\051\332\052\304\053\320" +
-    "\054\317\065\334\001\001\000\074\004\u0108\005\376\007" +
-    "\065\010\057\011\047\012\u010c\013\u0101\014\u0103\020\u0102" +
-    "\022\u010d\024\062\025\u0112\026\u0111\031\u0113\032\u0104\034" +
-    "\u0100\036\u010b\037\013\040\006\041\u010a\042\070\043\067" +
-    "\044\327\050\u010f\051\u010e\052\377\053\u0107\054\u0106\065" +
-    "\u0110\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\004\102\u0134\001\001\000\076\004\322\005\302" +
-    "\006\u0135\007\065\010\057\011\047\012\326\013\307\014" +
-    "\311\020\310\022\330\024\062\025\336\026\335\031\337" +
-    "\032\316\034\305\036\325\037\013\040\006\041\324\042" +
-    "\070\043\067\044\327\050\333\051\332\052\304\053\320" +
-    "\054\317\065\334\001\001\000\074\004\u0108\005\376\007" +
-    "\065\010\057\011\047\012\u010c\013\u0101\014\u0103\020\u0102" +
-    "\022\u010d\024\062\025\u0112\026\u0111\031\u0113\032\u0104\034" +
-    "\u0100\036\u010b\037\013\040\006\041\u010a\042\070\043\067" +
-    "\044\327\050\u010f\051\u010e\052\377\053\u0107\054\u0106\065" +
-    "\u0110\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\022\007\065\010\057\011\047\024\062\041\u013d" +
-    "\042\070\043\067\044\045\001\001\000\002\001\001\000" +
-    "\022\007\065\010\057\011\047\024\062\041\u013f\042\070" +
-    "\043\067\044\045\001\001\000\002\001\001\000\024\007" +
-    "\065\010\057\011\047\024\062\041\u0141\042\070\043\067" +
-    "\044\045\064\u0142\001\001\000\002\001\001\000\002\001" +
-    "\001\000\022\007\065\010\057\011\047\024\062\041\u014b" +
-    "\042\070\043\067\044\045\001\001\000\022\007\065\010" +
-    "\057\011\047\024\062\041\u0145\042\070\043\067\044\045" +
-    "\001\001\000\002\001\001\000\004\106\u0147\001\001\000" +
-    "\004\015\u0148\001\001\000\076\004\322\005\302\006\u0149" +
-    "\007\065\010\057\011\047\012\326\013\307\014\311\020" +
-    "\310\022\330\024\062\025\336\026\335\031\337\032\316" +
-    "\034\305\036\325\037\013\040\006\041\324\042\070\043" +
-    "\067\044\327\050\333\051\332\052\304\053\320\054\317" +
-    "\065\334\001\001\000\074\004\u0108\005\376\007\065\010" +
-    "\057\011\047\012\u010c\013\u0101\014\u0103\020\u0102\022\u010d" +
-    "\024\062\025\u0112\026\u0111\031\u0113\032\u0104\034\u0100\036" +
-    "\u010b\037\013\040\006\041\u010a\042\070\043\067\044\327" +
-    "\050\u010f\051\u010e\052\377\053\u0107\054\u0106\065\u0110\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\105\u014d" +
-    "\001\001\000\004\015\u014e\001\001\000\076\004\322\005" +
-    "\302\006\u014f\007\065\010\057\011\047\012\326\013\307" +
-    "\014\311\020\310\022\330\024\062\025\336\026\335\031" +
-    "\337\032\316\034\305\036\325\037\013\040\006\041\324" +
-    "\042\070\043\067\044\327\050\333\051\332\052\304\053" +
-    "\320\054\317\065\334\001\001\000\074\004\u0108\005\376" +
-    "\007\065\010\057\011\047\012\u010c\013\u0101\014\u0103\020" +
-    "\u0102\022\u010d\024\062\025\u0112\026\u0111\031\u0113\032\u0104" +
-    "\034\u0100\036\u010b\037\013\040\006\041\u010a\042\070\043" +
-    "\067\044\327\050\u010f\051\u010e\052\377\053\u0107\054\u0106" +
-    "\065\u0110\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\022\007\065" +
-    "\010\057\011\047\024\062\041\u015c\042\070\043\067\044" +
-    "\045\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\056\u0174" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\002\001\001\000\002\001\001\000\022\007\066\010\060" +
+    "\011\050\024\063\041\u0161\042\071\043\070\044\046\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
-    "\057\u0172\060\u0166\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\034\004\025\012\022\013\023" +
-    "\025\010\026\033\037\013\040\006\047\u0176\050\035\051" +
-    "\020\053\034\054\014\065\007\001\001\000\002\001\001" +
-    "\000\002\001\001\000\004\076\u0179\001\001\000\004\015" +
-    "\u017a\001\001\000\076\004\322\005\302\006\u017b\007\065" +
-    "\010\057\011\047\012\326\013\307\014\311\020\310\022" +
-    "\330\024\062\025\336\026\335\031\337\032\316\034\305" +
-    "\036\325\037\013\040\006\041\324\042\070\043\067\044" +
-    "\327\050\333\051\332\052\304\053\320\054\317\065\334" +
-    "\001\001\000\074\004\u0108\005\376\007\065\010\057\011" +
-    "\047\012\u010c\013\u0101\014\u0103\020\u0102\022\u010d\024\062" +
-    "\025\u0112\026\u0111\031\u0113\032\u0104\034\u0100\036\u010b\037" +
-    "\013\040\006\041\u010a\042\070\043\067\044\327\050\u010f" +
-    "\051\u010e\052\377\053\u0107\054\u0106\065\u0110\001\001\000" +
-    "\002\001\001" });
+    "\002\001\001\000\002\001\001\000\004\056\u0179\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\006\057\u0177" +
+    "\060\u016b\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\034\004\025\012\022\013\023\025\010" +
+    "\026\034\037\013\040\007\047\u017b\050\036\051\020\053" +
+    "\035\054\014\065\006\001\001\000\002\001\001\000\004" +
+    "\077\u017d\001\001\000\004\015\u017e\001\001\000\076\004" +
+    "\326\005\306\006\u017f\007\066\010\060\011\050\012\332" +
+    "\013\313\014\315\020\314\022\333\024\063\025\342\026" +
+    "\341\031\343\032\322\034\311\036\331\037\013\040\007" +
+    "\041\330\042\071\043\070\044\334\050\337\051\336\052" +
+    "\310\053\324\054\323\065\340\001\001\000\074\004\u010d" +
+    "\005\u0103\007\066\010\060\011\050\012\u0111\013\u0106\014" +
+    "\u0108\020\u0107\022\u0112\024\063\025\u0117\026\u0116\031\u0118" +
+    "\032\u0109\034\u0105\036\u0110\037\013\040\007\041\u010f\042" +
+    "\071\043\070\044\334\050\u0114\051\u0113\052\u0104\053\u010c" +
+    "\054\u010b\065\u0115\001\001\000\002\001\001\000\002\001" +
+    "\001" });
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {return _reduce_table;}
@@ -1232,11 +1270,13 @@ public class Parser extends java_cup.runtime.lr_parser {
   public java_cup.runtime.Symbol scan()
     throws java.lang.Exception
     {
-return lex.next_token();
+return tokenSource.next_token();
     }
 
 
     Lexer lex;
+    FlujoTokens flujo;
+    java_cup.runtime.Scanner tokenSource;
     HashMap<String, ArrayList<String>> scopePrograma = new HashMap<>();
     HashMap<String, LinkedHashMap<String, SymbolInfo>> semanticScopes = new HashMap<>();
     HashMap<String, FunctionInfo> functionTable = new HashMap<>();
@@ -1245,13 +1285,29 @@ return lex.next_token();
     ArrayDeque<String> loopStartStack = new ArrayDeque<>();
     ArrayDeque<String> loopEndStack = new ArrayDeque<>();
     ArrayList<String> semanticErrors = new ArrayList<>();
-    StringBuilder cod3D = new StringBuilder();
+    ArrayList<String> advertencias = new ArrayList<>();   // de AnalisisFlujo; no cuentan como errores
+    int syntaxErrors = 0;                                // errores reportados por syntax_error y unrecovered_syntax_error
+    ArrayList<Cuadruplo> cod3D = new ArrayList<>();
     String currentHash;
+    ArrayList<String> enclosingScopes = new ArrayList<>(); // alcance vigente al abrir cada funcion (null fuera de funciones)
     String globalHash = "SCOPE GLOBAL";
     int tempCounter = 0;
+    HashMap<String, ArrayDeque<Cuadruplo.Operando>> freeTemps = new HashMap<>(); // temporales liberados por tipo, de la funcion actual
+    HashSet<String> tempsInUse = new HashSet<>();       // temporales entregados y aun no liberados
+    ArrayDeque<HashMap<String, ArrayDeque<Cuadruplo.Operando>>> savedFreeTemps = new ArrayDeque<>(); // pools de las funciones que encierran a la actual
+    ArrayDeque<HashSet<String>> savedTempsInUse = new ArrayDeque<>();
     int labelCounter = 0;
     boolean artifactsExported = false;
+    boolean exportarCodigo3DArchivo = true;
+    Path directorioSalida;
+    EstadisticasFases estadisticas;
+    EscritorArtefactos escritor;
     boolean ciHeaderEmitted = false;
+    Ast.Program ast;                                    // arbol tipado; null salvo con setConstruirAst(true)
+    ArrayDeque<List<Ast.Stmt>> astBlocks = new ArrayDeque<>(); // bloque que recibe las sentencias reducidas
+    ArrayDeque<Ast.Stmt> astAbiertos = new ArrayDeque<>();     // FuncDecl/Decide/Loop/For en construccion
+    Ast.Loop astUltimoLoop;                             // loop recien cerrado, por si sigue su rama else
+    Ast.Assign astForInit;                              // variable y valor inicial del for que se esta leyendo
 
     static class SymbolInfo {
         final String name;
@@ -1303,26 +1359,59 @@ return lex.next_token();
         }
     }
 
+    // Como se obtuvo un valor BOOL en cod3D, para reescribirlo como codigo de saltos cuando es una condicion
+    static class JumpCond {
+        final String operator;  // "&&", "||", "!" o null para una comparacion
+        final ExprAttr left;    // operando izquierdo, o el unico de "!"
+        final ExprAttr right;
+        final int rightStart;   // indice de cod3D donde empieza el codigo del operando derecho
+        final int at;           // indice de la instruccion "t = ..." que calcula el valor
+
+        JumpCond(String operator, ExprAttr left, ExprAttr right, int rightStart, int at) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.rightStart = rightStart;
+            this.at = at;
+        }
+    }
+
     static class ExprAttr {
         final String place;
         final String type;
         final boolean constant;
+        final Cuadruplo.Operando operand; // place como operando del codigo intermedio (temporal, variable o literal)
         final String location;      // describe el l-value (por ejemplo arr[idx]) cuando aplica
         final SymbolInfo symbolInfo; // referencia al simbolo propietario (para arreglos)
-        final String indexPlace;    // expresion que se usa para indexar arreglos
+        final Cuadruplo.Operando indexPlace; // expresion que se usa para indexar arreglos
+        final LiteralNumerico literal; // valor del operando cuando la expresion es un literal numerico
+        Ast.Expr node;                 // nodo del arbol tipado; solo se asigna en modo AST
+        JumpCond jump;                 // comparaciones y operaciones logicas aun no plegadas
 
+        // Las constantes son literales y el resto variables; los temporales llegan como Operando desde newTemp
         ExprAttr(String place, String type, boolean constant) {
-            this(place, type, constant, null, null, null);
+            this(constant ? Cuadruplo.Operando.literal(place, type) : Cuadruplo.Operando.variable(place, type),
+                 constant, null, null, null);
         }
 
-        ExprAttr(String place, String type, boolean constant, String location,
-                 SymbolInfo symbolInfo, String indexPlace) {
-            this.place = place;
-            this.type = type;
+        ExprAttr(Cuadruplo.Operando temp) {
+            this(temp, false, null, null, null);
+        }
+
+        ExprAttr(LiteralNumerico literal) {
+            this(Cuadruplo.Operando.literal(literal), true, null, null, null);
+        }
+
+        ExprAttr(Cuadruplo.Operando operand, boolean constant, String location,
+                 SymbolInfo symbolInfo, Cuadruplo.Operando indexPlace) {
+            this.place = operand.texto();
+            this.type = operand.tipo();
             this.constant = constant;
+            this.operand = operand;
             this.location = location;
             this.symbolInfo = symbolInfo;
             this.indexPlace = indexPlace;
+            this.literal = operand.valorNumerico();
         }
 
         static ExprAttr invalid() {
@@ -1347,7 +1436,7 @@ return lex.next_token();
     }
 
     static class ForContext {
-        final String target;
+        final Cuadruplo.Operando target;
         final String type;
         final ExprAttr step;
         final ExprAttr limit;
@@ -1355,7 +1444,7 @@ return lex.next_token();
         final String condLabel;
         final String endLabel;
 
-        ForContext(String target, String type, ExprAttr step, ExprAttr limit, boolean downto, String condLabel, String endLabel) {
+        ForContext(Cuadruplo.Operando target, String type, ExprAttr step, ExprAttr limit, boolean downto, String condLabel, String endLabel) {
             this.target = target;
             this.type = type;
             this.step = step;
@@ -1377,10 +1466,35 @@ return lex.next_token();
     @SuppressWarnings("deprecation")
     public Parser(Lexer lex) {
         this.lex = lex;
+        this.tokenSource = lex;
         this.symbolFactory = new DefaultSymbolFactory();
         initializeGlobalScope();
     }
 
+    /**
+     * Proposito: construir el parser sobre un flujo de tokens ya grabado para no volver a escanear la fuente.
+     * Entradas: FlujoTokens producido por FlujoTokens.grabar.
+     * Salidas: parser listo que reproduce los tokens grabados en lugar de invocar al lexer.
+     * Restricciones: el flujo no debe ser nulo; se consume desde la posicion actual de su cursor.
+     */
+    @SuppressWarnings("deprecation")
+    public Parser(FlujoTokens flujo) {
+        this.flujo = flujo;
+        this.tokenSource = flujo;
+        this.symbolFactory = new DefaultSymbolFactory();
+        initializeGlobalScope();
+    }
+
+    /**
+     * Proposito: obtener el texto del token actual sin importar si la fuente es el lexer o un flujo grabado.
+     * Entradas: ninguna.
+     * Salidas: lexema del ultimo token leido.
+     * Restricciones: usado solo para diagnosticos de errores sintacticos.
+     */
+    private String textoTokenActual() {
+        return flujo != null ? flujo.textoActual() : lex.yytext();
+    }
+
     /**
      * Proposito: garantizar que el alcance global exista antes de cualquier declaracion.
      * Entradas: ninguna; usa los campos internos del parser.
@@ -1476,6 +1590,26 @@ return lex.next_token();
         return cwd;
     }
 
+    /**
+     * Proposito: determinar la carpeta donde se escriben TablaSimbolos.txt y Codigo3D.txt.
+     * Entradas: ninguna; usa directorioSalida si fue configurado.
+     * Salidas: la carpeta configurada o output/ dentro del directorio base del proyecto.
+     * Restricciones: no crea la carpeta; eso lo hacen los exportadores.
+     */
+    private Path directorioSalida() {
+        return directorioSalida != null ? directorioSalida : resolveProjectBaseDir().resolve("output");
+    }
+
+    /**
+     * Proposito: redirigir los artefactos del parser a una carpeta propia (por ejemplo, una por fuente en modo lote).
+     * Entradas: ruta de la carpeta destino o null para volver al output/ por defecto.
+     * Salidas: ninguna; ajusta el destino usado por imprimirscopePrograma y exportarCodigo3D.
+     * Restricciones: debe llamarse antes de parse() para que aplique a todas las exportaciones.
+     */
+    public void setDirectorioSalida(Path directorio) {
+        this.directorioSalida = directorio;
+    }
+
     /**
      * Proposito: obtener la tabla semantica de un alcance, creandola si no existe.
      * Entradas: nombre textual del alcance solicitado.
@@ -1590,21 +1724,18 @@ return lex.next_token();
             reportSemanticError("El indice para '" + name + "' debe ser de tipo INT", idxSym != null ? idxSym : idSym);
             return ExprAttr.invalid();
         }
-        if (info.arraySize > 0 && index.constant) {
-            try {
-                int idxVal = Integer.parseInt(index.place);
-                if (idxVal < 0 || idxVal >= info.arraySize) {
-                    reportSemanticError("Indice fuera de rango para '" + name + "' (0.." + (info.arraySize - 1) + ")", idxSym != null ? idxSym : idSym);
-                }
-            } catch (NumberFormatException ignore) {
-                // Si no se puede evaluar en tiempo de compilacion no se aplica la verificacion
+        // Solo los literales tienen valor conocido en compilacion; el lexer ya lo convirtio
+        if (info.arraySize > 0 && index.literal != null) {
+            int idxVal = index.literal.comoEntero();
+            if (idxVal < 0 || idxVal >= info.arraySize) {
+                reportSemanticError("Indice fuera de rango para '" + name + "' (0.." + (info.arraySize - 1) + ")", idxSym != null ? idxSym : idSym);
             }
         }
 
-        String loadTemp = newTemp(info.type);
-        emit("aload " + loadTemp + ", " + name + ", " + index.place);
+        Cuadruplo.Operando loadTemp = newTemp(info.type);
+        emit(Cuadruplo.cargaArreglo(loadTemp, Cuadruplo.Operando.variable(name, info.type), index.operand));
         String location = name + "[" + index.place + "]";
-        return new ExprAttr(loadTemp, info.type, false, location, info, index.place);
+        return new ExprAttr(loadTemp, false, location, info, index.operand);
     }
 
     /**
@@ -1626,7 +1757,9 @@ return lex.next_token();
             reportSemanticError("Tipos incompatibles al asignar a arreglo: se esperaba '" + target.type + "' y se recibio '" + value.type + "'", token);
             return;
         }
-        emit("astore " + target.symbolInfo.name + ", " + target.indexPlace + ", " + value.place);
+        emit(Cuadruplo.guardaArreglo(arrayOperand(target.symbolInfo), target.indexPlace, value.operand));
+        releaseTemps(target);
+        releaseTemps(value);
     }
 
     /**
@@ -1687,16 +1820,25 @@ return lex.next_token();
                     reportSemanticError("Elemento no compatible para arreglo '" + info.name + "'", token);
                     continue;
                 }
-                emit("astore " + info.name + ", " + i + ", " + expr.place);
+                emit(Cuadruplo.guardaArreglo(arrayOperand(info), intLiteral(i), expr.operand));
+                releaseTemps(expr);
             }
             if (info.arraySize > 0 && values.size() < info.arraySize) {
-                emit("arr_pad_zero " + info.name + ", " + values.size() + ", " + info.arraySize);
+                emit(Cuadruplo.rellenoCeros(arrayOperand(info), intLiteral(values.size()), intLiteral(info.arraySize)));
             }
         } else if (info.arraySize > 0) {
-            emit("arr_pad_zero " + info.name + ", 0, " + info.arraySize);
+            emit(Cuadruplo.rellenoCeros(arrayOperand(info), intLiteral(0), intLiteral(info.arraySize)));
         }
     }
 
+    private Cuadruplo.Operando arrayOperand(SymbolInfo info) {
+        return Cuadruplo.Operando.variable(info.name, info.type);
+    }
+
+    private Cuadruplo.Operando intLiteral(int value) {
+        return Cuadruplo.Operando.literal(LiteralNumerico.entero(value));
+    }
+
     /**
      * Proposito: realizar las validaciones semanticas de una llamada e imprimir el codigo 3D correspondiente.
      * Entradas: nombre de la funcion, lista de argumentos evaluados y simbolo del sitio de llamada.
@@ -1729,23 +1871,29 @@ return lex.next_token();
         }
         for (ExprAttr expr : args) {
             if (expr != null && expr.isValid()) {
-                emit("param " + expr.place);
+                emit(Cuadruplo.parametro(expr.operand));
             }
         }
-        String temp = newTemp(fun.returnType);
-        emit(temp + " = call " + name + ", " + args.size());
-        return new ExprAttr(temp, fun.returnType, false);
+        for (ExprAttr expr : args) {
+            releaseTemps(expr);
+        }
+        Cuadruplo.Operando temp = newTemp(fun.returnType);
+        emit(Cuadruplo.llamada(temp, name, args.size()));
+        return new ExprAttr(temp);
     }
 
     /**
      * Proposito: preparar las estructuras internas para una nueva declaracion de funcion.
      * Entradas: nombre de la funcion, tipo de retorno y simbolo de declaracion.
      * Salidas: registros en functionTable/scopePrograma y emision del bloque begin_func.
-     * Restricciones: reporta error si la funcion ya existia.
+     * Restricciones: reporta error si la funcion ya existia; una funcion anidada recuerda el alcance de la
+     *                que la encierra para recuperarlo en closeCurrentScope.
      */
     private void startFunctionScope(String name, String returnType, Symbol token) {
+        enclosingScopes.add(currentHash);
         if (functionTable.containsKey(name)) {
             reportSemanticError("La funcion '" + name + "' ya fue declarada", token);
+            currentHash = null;
             return;
         }
         FunctionInfo info = new FunctionInfo(name, returnType);
@@ -1760,11 +1908,11 @@ return lex.next_token();
     /**
      * Proposito: abandonar el alcance de funcion en el que se estaba trabajando.
      * Entradas: ninguna (usa currentHash).
-     * Salidas: restablece currentHash para que las declaraciones regresen al alcance global.
+     * Salidas: restablece currentHash al alcance de la funcion que encierra a la actual, o al global.
      * Restricciones: debe invocarse una sola vez por startFunctionScope.
      */
     private void closeCurrentScope() {
-        currentHash = null;
+        currentHash = enclosingScopes.isEmpty() ? null : enclosingScopes.remove(enclosingScopes.size() - 1);
     }
 
     /**
@@ -1793,6 +1941,9 @@ return lex.next_token();
         if (fun != null && info != null) {
             fun.params.add(info);
         }
+        if (ast != null && astAbiertos.peek() instanceof Ast.FuncDecl) {
+            ((Ast.FuncDecl)astAbiertos.peek()).params.add(new Ast.Param(nombre, tipo, left + 1, right + 1));
+        }
     }
 
     /**
@@ -1810,17 +1961,44 @@ return lex.next_token();
         for (SymbolInfo param : fun.params) {
             descriptors.add(param.type + "_" + param.name);
         }
-        emit("Parametros_funcion_" + fun.name + ": [" + String.join(", ", descriptors) + "]");
+        emit(Cuadruplo.parametrosFuncion(fun.name, descriptors));
         fun.paramsMetadataEmitted = true;
     }
 
     /**
      * Proposito: encapsular literales o valores por defecto dentro de un ExprAttr.
      * Entradas: simbolo CUP (puede ser null), texto por defecto y tipo semantico.
-     * Salidas: ExprAttr marcado como constante con el place/type correspondiente.
-     * Restricciones: quien llama debe asegurarse de que el tipo sea compatible con el lenguaje.
+     * Salidas: ExprAttr marcado como constante con el place/type correspondiente; los literales numericos
+     *          conservan el valor que convirtio el lexer.
+     * Restricciones: quien llama debe asegurarse de que el tipo sea compatible con el lenguaje; un literal
+     *                que desbordo su tipo se reporta y produce una expresion invalida.
      */
     private ExprAttr literalAttr(Symbol sym, String fallback, String type) {
+        return literalAttr(sym, fallback, type, false);
+    }
+
+    /**
+     * Proposito: encapsular un literal que puede ser el operando directo de un menos unario.
+     * Entradas: las mismas de literalAttr y si el literal va precedido por '-'.
+     * Salidas: ExprAttr del literal; negado, el INT 2147483648 se acepta porque -2147483648 cabe en 32 bits.
+     * Restricciones: el rango se verifica antes de negar, asi que solo el literal directo recibe esa excepcion.
+     */
+    private ExprAttr literalAttr(Symbol sym, String fallback, String type, boolean negated) {
+        if (sym != null && sym.value instanceof LiteralNumerico) {
+            LiteralNumerico literal = (LiteralNumerico)sym.value;
+            if (negated ? !literal.cabeNegado() : literal.desbordado()) {
+                reportSemanticError("Literal " + type + " fuera de rango: " + literal, sym);
+                return ExprAttr.invalid();
+            }
+            return new ExprAttr(literal);
+        }
+        // Sin el valor del lexer (recuperacion de errores) un literal numerico vale cero
+        if ("INT".equals(type)) {
+            return constanteEntera(0);
+        }
+        if ("FLOAT".equals(type)) {
+            return constanteReal(0.0f);
+        }
         String raw = sym != null && sym.value != null ? sym.value.toString() : fallback;
         if (raw == null) {
             raw = fallback != null ? fallback : "0";
@@ -1850,9 +2028,135 @@ return lex.next_token();
             reportSemanticError("Solo se pueden promover INT a FLOAT", token);
             return ExprAttr.invalid();
         }
-        String temp = newTemp("FLOAT");
-        emit(temp + " = itof " + expr.place);
-        return new ExprAttr(temp, "FLOAT", false);
+        if (plegable(expr)) {
+            return constanteReal((float)valorEntero(expr));
+        }
+        Cuadruplo.Operando temp = newTemp("FLOAT");
+        emit(Cuadruplo.enteroAFlotante(temp, expr.operand));
+        return new ExprAttr(temp);
+    }
+
+    /**
+     * Proposito: decidir si una expresion es una constante INT, FLOAT o BOOL que se puede plegar en compilacion.
+     * Entradas: atributos de la expresion.
+     * Salidas: true si el valor se conoce y es de uno de esos tipos.
+     * Restricciones: CHAR y STRING no se pliegan; las expresiones invalidas tampoco.
+     */
+    private boolean plegable(ExprAttr expr) {
+        if (expr == null || !expr.constant || !expr.isValid()) {
+            return false;
+        }
+        if (expr.isBoolean()) {
+            return "true".equals(expr.place) || "false".equals(expr.place);
+        }
+        if (!expr.isNumeric()) {
+            return false;
+        }
+        return expr.literal != null;
+    }
+
+    private int valorEntero(ExprAttr expr) {
+        return expr.literal.comoEntero();
+    }
+
+    // Los FLOAT se pliegan en precision simple, la misma de los .float que genera GeneradorMIPS
+    private float valorReal(ExprAttr expr) {
+        return (float)expr.literal.comoReal();
+    }
+
+    private boolean valorBooleano(ExprAttr expr) {
+        return "true".equals(expr.place);
+    }
+
+    private ExprAttr constanteEntera(int valor) {
+        return new ExprAttr(LiteralNumerico.entero(valor));
+    }
+
+    private ExprAttr constanteReal(float valor) {
+        return new ExprAttr(LiteralNumerico.flotante(valor));
+    }
+
+    private ExprAttr constanteBooleana(boolean valor) {
+        return new ExprAttr(valor ? "true" : "false", "BOOL", true);
+    }
+
+    /**
+     * Proposito: calcular en compilacion una operacion aritmetica entre dos constantes del mismo tipo.
+     * Entradas: operador (+, -, *, /, ^, %) y operandos plegables ya validados.
+     * Salidas: constante con el resultado, o null si la operacion debe quedar para tiempo de ejecucion.
+     * Restricciones: INT usa aritmetica de 32 bits con desborde circular (como addu/mul) y division truncada;
+     *                la division o el modulo entre cero, los exponentes INT negativos y los FLOAT no finitos
+     *                no se pliegan.
+     */
+    private ExprAttr plegarAritmetica(String op, ExprAttr left, ExprAttr right) {
+        if ("INT".equals(left.type)) {
+            int a = valorEntero(left);
+            int b = valorEntero(right);
+            switch (op) {
+                case "+": return constanteEntera(a + b);
+                case "-": return constanteEntera(a - b);
+                case "*": return constanteEntera(a * b);
+                case "/": return b != 0 ? constanteEntera(a / b) : null;
+                case "%": return b != 0 ? constanteEntera(a % b) : null;
+                case "^": return b >= 0 ? constanteEntera(potenciaEntera(a, b)) : null;
+                default: return null;
+            }
+        }
+        float a = valorReal(left);
+        float b = valorReal(right);
+        float resultado;
+        switch (op) {
+            case "+": resultado = a + b; break;
+            case "-": resultado = a - b; break;
+            case "*": resultado = a * b; break;
+            case "/": if (b == 0f) return null; resultado = a / b; break;
+            case "%": if (b == 0f) return null; resultado = a % b; break;
+            case "^": resultado = (float)Math.pow(a, b); break;
+            default: return null;
+        }
+        if (Float.isNaN(resultado) || Float.isInfinite(resultado)) {
+            return null;
+        }
+        return constanteReal(resultado);
+    }
+
+    private int potenciaEntera(int base, int exponente) {
+        int resultado = 1;
+        while (exponente > 0) {
+            if ((exponente & 1) != 0) {
+                resultado *= base;
+            }
+            base *= base;
+            exponente >>= 1;
+        }
+        return resultado;
+    }
+
+    /**
+     * Proposito: evaluar en compilacion una comparacion entre dos constantes del mismo tipo.
+     * Entradas: operador relacional y operandos plegables ya alineados por compareBinary.
+     * Salidas: resultado booleano de la comparacion.
+     * Restricciones: los BOOL solo llegan con == y !=.
+     */
+    private boolean plegarComparacion(String op, ExprAttr left, ExprAttr right) {
+        int orden;
+        if (left.isBoolean()) {
+            orden = valorBooleano(left) == valorBooleano(right) ? 0 : 1;
+        } else if ("INT".equals(left.type)) {
+            orden = Integer.compare(valorEntero(left), valorEntero(right));
+        } else {
+            float a = valorReal(left);
+            float b = valorReal(right);
+            orden = a < b ? -1 : (a > b ? 1 : (a == b ? 0 : 2));
+        }
+        switch (op) {
+            case ">": return orden == 1;
+            case "<": return orden == -1;
+            case ">=": return orden == 1 || orden == 0;
+            case "<=": return orden == -1 || orden == 0;
+            case "==": return orden == 0;
+            default: return orden != 0;
+        }
     }
 
     private ExprAttr[] alignNumericTypes(ExprAttr left, ExprAttr right, Symbol token) {
@@ -1899,10 +2203,18 @@ return lex.next_token();
             reportSemanticError("No se puede operar '" + left.type + "' con '" + right.type + "' usando '" + op + "'", token);
             return ExprAttr.invalid();
         }
+        if (plegable(left) && plegable(right)) {
+            ExprAttr folded = plegarAritmetica(op, left, right);
+            if (folded != null) {
+                return folded;
+            }
+        }
         String resultType = left.type;
-        String temp = newTemp(resultType);
-        emit(temp + " = " + left.place + " " + op + " " + right.place);
-        return new ExprAttr(temp, resultType, false);
+        Cuadruplo.Operando temp = newTemp(resultType);
+        emit(Cuadruplo.binaria(Cuadruplo.Operacion.binaria(op), temp, left.operand, right.operand));
+        releaseTemps(left);
+        releaseTemps(right);
+        return new ExprAttr(temp);
     }
 
     /**
@@ -1916,9 +2228,13 @@ return lex.next_token();
             reportSemanticError("Operacion '" + op + "' requiere un numerico", token);
             return ExprAttr.invalid();
         }
-        String temp = newTemp(value.type);
-        emit(temp + " = " + op + value.place);
-        return new ExprAttr(temp, value.type, false);
+        if (plegable(value)) {
+            return "INT".equals(value.type) ? constanteEntera(-valorEntero(value)) : constanteReal(-valorReal(value));
+        }
+        Cuadruplo.Operando temp = newTemp(value.type);
+        emit(Cuadruplo.negativo(temp, value.operand));
+        releaseTemps(value);
+        return new ExprAttr(temp);
     }
 
     /**
@@ -1930,6 +2246,8 @@ return lex.next_token();
     private ExprAttr compareBinary(String op, ExprAttr left, ExprAttr right, Symbol token) {
         if (left == null) left = ExprAttr.invalid();
         if (right == null) right = ExprAttr.invalid();
+        ExprAttr originalLeft = left;
+        ExprAttr originalRight = right;
         if (!left.isValid() || !right.isValid()) {
             reportSemanticError("Comparacion invalida", token);
             return ExprAttr.invalid();
@@ -1959,9 +2277,17 @@ return lex.next_token();
             reportSemanticError("El operador '" + op + "' solo admite operandos numericos del mismo tipo", token);
             return ExprAttr.invalid();
         }
-        String temp = newTemp("BOOL");
-        emit(temp + " = " + left.place + " " + op + " " + right.place);
-        return new ExprAttr(temp, "BOOL", false);
+        if (plegable(left) && plegable(right)) {
+            return constanteBooleana(plegarComparacion(op, left, right));
+        }
+        Cuadruplo.Operando temp = newTemp("BOOL");
+        emit(Cuadruplo.binaria(Cuadruplo.Operacion.binaria(op), temp, left.operand, right.operand));
+        // Los operandos originales los libera buildChainedComparison: el del medio se compara dos veces
+        if (left != originalLeft) releaseTemps(left);
+        if (right != originalRight) releaseTemps(right);
+        ExprAttr result = new ExprAttr(temp);
+        result.jump = new JumpCond(null, left, right, -1, cod3D.size() - 1);
+        return result;
     }
 
     /**
@@ -1983,35 +2309,51 @@ return lex.next_token();
             if (link == null || link.right == null) {
                 return ExprAttr.invalid();
             }
+            // Todos los operandos ya se emitieron; el codigo de esta comparacion empieza aqui
+            int rightStart = cod3D.size();
             ExprAttr comparison = compareBinary(link.operator, previous, link.right, link.token);
             if (comparison == null || !comparison.isValid()) {
                 return ExprAttr.invalid();
             }
             accumulated = (accumulated == null)
                     ? comparison
-                    : logicalBinary("&&", accumulated, comparison, link.token);
+                    : logicalBinary("&&", accumulated, comparison, link.token, rightStart);
             previous = link.right;
             if (accumulated == null || !accumulated.isValid()) {
                 return ExprAttr.invalid();
             }
         }
+        releaseTemps(first);
+        for (ComparisonLink link : links) {
+            releaseTemps(link.right);
+        }
         return accumulated != null ? accumulated : ExprAttr.invalid();
     }
 
     /**
      * Proposito: validar operaciones logicas tipo AND/OR a nivel semantico.
-     * Entradas: operador logico, operandos booleanos y simbolo con datos de error.
+     * Entradas: operador logico, operandos booleanos, simbolo con datos de error e indice de cod3D
+     *           donde empieza el codigo del operando derecho.
      * Salidas: ExprAttr booleano ligado al temporal que almacena el resultado.
      * Restricciones: ambos operandos deben ser BOOL.
      */
-    private ExprAttr logicalBinary(String op, ExprAttr left, ExprAttr right, Symbol token) {
+    private ExprAttr logicalBinary(String op, ExprAttr left, ExprAttr right, Symbol token, int rightStart) {
         if (left == null || right == null || !left.isBoolean() || !right.isBoolean()) {
             reportSemanticError("Operacion logica requiere booleanos", token);
             return ExprAttr.invalid();
         }
-        String temp = newTemp("BOOL");
-        emit(temp + " = " + left.place + " " + op + " " + right.place);
-        return new ExprAttr(temp, "BOOL", false);
+        if (plegable(left) && plegable(right)) {
+            boolean a = valorBooleano(left);
+            boolean b = valorBooleano(right);
+            return constanteBooleana("&&".equals(op) ? a && b : a || b);
+        }
+        Cuadruplo.Operando temp = newTemp("BOOL");
+        emit(Cuadruplo.binaria(Cuadruplo.Operacion.binaria(op), temp, left.operand, right.operand));
+        releaseTemps(left);
+        releaseTemps(right);
+        ExprAttr result = new ExprAttr(temp);
+        result.jump = new JumpCond(op, left, right, rightStart, cod3D.size() - 1);
+        return result;
     }
 
     /**
@@ -2025,9 +2367,15 @@ return lex.next_token();
             reportSemanticError("Operacion logica requiere booleano", token);
             return ExprAttr.invalid();
         }
-        String temp = newTemp("BOOL");
-        emit(temp + " = " + op + " " + value.place);
-        return new ExprAttr(temp, "BOOL", false);
+        if (plegable(value)) {
+            return constanteBooleana(!valorBooleano(value));
+        }
+        Cuadruplo.Operando temp = newTemp("BOOL");
+        emit(Cuadruplo.negacion(temp, value.operand));
+        releaseTemps(value);
+        ExprAttr result = new ExprAttr(temp);
+        result.jump = new JumpCond(op, value, null, -1, cod3D.size() - 1);
+        return result;
     }
 
     /**
@@ -2050,6 +2398,101 @@ return lex.next_token();
         return new ExprAttr("false", "BOOL", true);
     }
 
+    /**
+     * Proposito: emitir una condicion como codigo de saltos con cortocircuito (decide of y exit when).
+     * Entradas: condicion BOOL ya emitida al final de cod3D y etiquetas para el caso verdadero y el falso.
+     * Salidas: reemplaza los "t = a < b", "t = a && b" y "t = !a" de la condicion por saltos; el operando
+     *          derecho de @ y ~ queda detras de una etiqueta y no se evalua cuando el izquierdo decide.
+     * Restricciones: nada se puede haber emitido despues de la condicion (lanza IllegalStateException si el
+     *                rango a reescribir no termina en ella); los demas valores BOOL (variables, llamadas,
+     *                arreglos) terminan en "if x goto".
+     */
+    private void emitCondition(ExprAttr condition, String trueLabel, String falseLabel) {
+        int from = conditionStart(condition, cod3D.size());
+        if (condition.jump != null && (from > condition.jump.at || condition.jump.at >= cod3D.size())) {
+            throw new IllegalStateException("Condicion fuera de rango en cod3D: [" + from + ", "
+                    + condition.jump.at + "] con " + cod3D.size() + " instrucciones");
+        }
+        List<Cuadruplo> jumping = new ArrayList<>();
+        List<Integer> trueList = new ArrayList<>();
+        List<Integer> falseList = new ArrayList<>();
+        lowerCondition(condition, from, cod3D.size(), jumping, trueList, falseList);
+        backpatch(jumping, trueList, trueLabel);
+        backpatch(jumping, falseList, falseLabel);
+        cod3D.subList(from, cod3D.size()).clear();
+        cod3D.addAll(jumping);
+        releaseTemps(condition);
+    }
+
+    // Primera instruccion que cambia al bajar la condicion; lo anterior se queda como esta
+    private int conditionStart(ExprAttr expr, int fallback) {
+        JumpCond jump = expr.jump;
+        if (jump == null) {
+            return fallback;
+        }
+        if (jump.operator == null) {
+            return jump.at;
+        }
+        return conditionStart(jump.left, "!".equals(jump.operator) ? jump.at : jump.rightStart);
+    }
+
+    /**
+     * Proposito: traducir a saltos el codigo de cod3D[from, to) que calcula expr.
+     * Entradas: expresion, rango de cod3D, lista destino y listas de saltos verdaderos/falsos por completar.
+     * Salidas: agrega las instrucciones a out y los indices de sus saltos sin destino a las listas.
+     * Restricciones: los saltos quedan sin etiqueta hasta que se llama backpatch.
+     */
+    private void lowerCondition(ExprAttr expr, int from, int to, List<Cuadruplo> out,
+                                List<Integer> trueList, List<Integer> falseList) {
+        JumpCond jump = expr.jump;
+        if (jump == null) {
+            out.addAll(cod3D.subList(from, to));
+            if (plegable(expr)) {
+                (valorBooleano(expr) ? trueList : falseList).add(out.size());
+                out.add(Cuadruplo.salto(null));
+                return;
+            }
+            trueList.add(out.size());
+            out.add(Cuadruplo.saltoSi(expr.operand, null));
+            falseList.add(out.size());
+            out.add(Cuadruplo.salto(null));
+            return;
+        }
+        if (jump.operator == null) {
+            out.addAll(cod3D.subList(from, jump.at));
+            Cuadruplo comparison = cod3D.get(jump.at);
+            trueList.add(out.size());
+            out.add(Cuadruplo.saltoSi(comparison.operacion(), comparison.arg1(), comparison.arg2(), null));
+            falseList.add(out.size());
+            out.add(Cuadruplo.salto(null));
+            return;
+        }
+        if ("!".equals(jump.operator)) {
+            lowerCondition(jump.left, from, jump.at, out, falseList, trueList);
+            return;
+        }
+        boolean and = "&&".equals(jump.operator);
+        List<Integer> leftTrue = new ArrayList<>();
+        List<Integer> leftFalse = new ArrayList<>();
+        lowerCondition(jump.left, from, jump.rightStart, out, leftTrue, leftFalse);
+        String rightLabel = newLabel(and ? "and_rhs" : "or_rhs");
+        backpatch(out, and ? leftTrue : leftFalse, rightLabel);
+        (and ? falseList : trueList).addAll(and ? leftFalse : leftTrue);
+        int last = out.size() - 1;
+        if (last >= 0 && out.get(last).operacion() == Cuadruplo.Operacion.SALTO
+                && rightLabel.equals(out.get(last).resultado().texto())) {
+            out.remove(last); // "goto L" justo antes de "L:"
+        }
+        out.add(Cuadruplo.etiqueta(rightLabel));
+        lowerCondition(jump.right, jump.rightStart, jump.at, out, trueList, falseList);
+    }
+
+    private void backpatch(List<Cuadruplo> code, List<Integer> jumps, String label) {
+        for (int index : jumps) {
+            code.set(index, code.get(index).conDestino(label));
+        }
+    }
+
     private String peekLabelOrFallback(ArrayDeque<String> stack, String context, String prefix, boolean pushWhenMissing) {
         if (!stack.isEmpty()) {
             return stack.peek();
@@ -2085,7 +2528,8 @@ return lex.next_token();
             reportSemanticError("Tipos incompatibles en asignacion para '" + target.name + "'", token);
             return;
         }
-        emit(target.name + " = " + value.place);
+        emit(Cuadruplo.copia(Cuadruplo.Operando.variable(target.name, target.type), value.operand));
+        releaseTemps(value);
     }
 
     /**
@@ -2118,22 +2562,53 @@ return lex.next_token();
                 reportSemanticError("El return de '" + fun.name + "' espera tipo '" + fun.returnType + "' y recibe '" + value.type + "'", token);
                 return;
             }
-            emit("return " + value.place);
+            emit(Cuadruplo.retorno(value.operand));
+            releaseTemps(value);
         } else {
-            emit("return");
+            emit(Cuadruplo.retorno(null));
         }
         fun.hasReturn = true;
     }
 
     /**
-     * Proposito: generar identificadores unicos para temporales.
-     * Entradas: etiqueta de tipo solo para fines descriptivos.
-     * Salidas: nombre de cadena para usarse en el codigo de tres direcciones.
-     * Restricciones: no depender del prefijo mas alla de la legibilidad.
+     * Proposito: entregar un temporal, reutilizando uno liberado del mismo tipo antes de crear otro.
+     * Entradas: tipo del valor que guardara el temporal.
+     * Salidas: operando temporal con el tipo indicado para usarse en el codigo de tres direcciones.
+     * Restricciones: no depender del prefijo mas alla de la legibilidad; tempCounter solo cuenta los nuevos.
+     */
+    private Cuadruplo.Operando newTemp(String type) {
+        ArrayDeque<Cuadruplo.Operando> free = freeTemps.get(type);
+        Cuadruplo.Operando temp;
+        if (free != null && !free.isEmpty()) {
+            temp = free.pop();
+        } else {
+            tempCounter++;
+            temp = Cuadruplo.Operando.temporal(("FLOAT".equals(type) ? "f" : "t") + tempCounter, type);
+        }
+        tempsInUse.add(temp.texto());
+        return temp;
+    }
+
+    /**
+     * Proposito: devolver a la lista libre los temporales de una expresion que ya se consumio.
+     * Entradas: atributos de la expresion (puede ser null o no usar temporales).
+     * Salidas: libera el valor y, en un elemento de arreglo, el temporal del indice.
+     * Restricciones: llamarlo solo despues de emitir la ultima instruccion que lee la expresion;
+     *                liberar dos veces no tiene efecto.
      */
-    private String newTemp(String type) {
-        tempCounter++;
-        return ("FLOAT".equals(type) ? "f" : "t") + tempCounter;
+    private void releaseTemps(ExprAttr expr) {
+        if (expr == null) {
+            return;
+        }
+        releaseTemp(expr.operand);
+        releaseTemp(expr.indexPlace);
+    }
+
+    private void releaseTemp(Cuadruplo.Operando operand) {
+        if (operand == null || !operand.esTemporal() || !tempsInUse.remove(operand.texto())) {
+            return;
+        }
+        freeTemps.computeIfAbsent(operand.tipo(), k -> new ArrayDeque<>()).push(operand);
     }
 
     /**
@@ -2148,23 +2623,23 @@ return lex.next_token();
     }
 
     /**
-     * Proposito: agregar una instruccion al buffer de codigo 3D.
-     * Entradas: linea de codigo de tres direcciones ya formateada.
-     * Salidas: actualiza cod3D con la linea mas un salto de linea.
-     * Restricciones: quien llama debe evitar cadenas nulas o vacias.
+     * Proposito: agregar una instruccion al codigo 3D.
+     * Entradas: cuadruplo ya armado.
+     * Salidas: agrega el cuadruplo al final de cod3D.
+     * Restricciones: quien llama no debe pasar null.
      */
-    private void emit(String codeLine) {
-        cod3D.append(codeLine).append("\n");
+    private void emit(Cuadruplo instruction) {
+        cod3D.add(instruction);
     }
 
     /**
-     * Proposito: imprimir la declaracion de una etiqueta dentro del codigo 3D.
+     * Proposito: declarar una etiqueta dentro del codigo 3D.
      * Entradas: etiqueta generada previamente.
-     * Salidas: escribe "label:" seguido de salto de linea en cod3D.
+     * Salidas: agrega el cuadruplo ETIQUETA (impreso "label:") a cod3D.
      * Restricciones: solo debe llamarse con etiquetas unicas.
      */
     private void emitLabel(String label) {
-        cod3D.append(label).append(":\n");
+        cod3D.add(Cuadruplo.etiqueta(label));
     }
 
     /**
@@ -2178,35 +2653,58 @@ return lex.next_token();
             return;
         }
         ciHeaderEmitted = true;
-        emit("#!CI_VERSION 1.1");
-        emit("#!CI_TARGET MIPS");
-        emit("#!CI_FORMAT structured");
+        emit(Cuadruplo.directiva("#!CI_VERSION 1.1"));
+        emit(Cuadruplo.directiva("#!CI_TARGET MIPS"));
+        emit(Cuadruplo.directiva("#!CI_FORMAT structured"));
     }
 
     private void emitFunctionEntry(String name, String returnType) {
+        // Los temporales son palabras globales en .data: una funcion no reutiliza los de otra,
+        // que pueden seguir vivos en quien la llama. Una funcion anidada empieza con pools vacios
+        // y los de la funcion que la encierra se recuperan en emitFunctionExit
+        savedFreeTemps.push(freeTemps);
+        savedTempsInUse.push(tempsInUse);
+        freeTemps = new HashMap<>();
+        tempsInUse = new HashSet<>();
         emitCiHeader();
-        emit("FUNC_BEGIN " + name + " RET " + returnType);
+        emit(Cuadruplo.inicioFuncion(name, returnType));
         emitLabel("INICIO_funcion_" + name);
     }
 
     private void emitFunctionExit(String name) {
         emitLabel("FIN_funcion_" + name);
-        emit("FUNC_END " + name);
+        emit(Cuadruplo.finFuncion(name));
+        restoreTempPools();
+    }
+
+    /**
+     * Proposito: volver a los pools de temporales de la funcion que encierra a la que termina.
+     * Entradas: ninguna.
+     * Salidas: freeTemps y tempsInUse de la funcion externa; los de la funcion que termina se descartan.
+     * Restricciones: sin funcion abierta (por ejemplo tras un error de sintaxis) no hace nada.
+     */
+    private void restoreTempPools() {
+        if (savedFreeTemps.isEmpty()) {
+            return;
+        }
+        freeTemps = savedFreeTemps.pop();
+        tempsInUse = savedTempsInUse.pop();
     }
 
     /**
      * Proposito: convertir literales CUP en enteros primitivos para tamanos de arreglo.
-     * Entradas: simbolo que contiene digitos.
-     * Salidas: valor entero o 0 si la conversion falla.
+     * Entradas: simbolo INT_LITERAL cuyo valor ya convirtio el lexer.
+     * Salidas: valor entero o 0 si el literal desbordo.
      * Restricciones: pensado para literales decimales no negativos.
      */
     private int literalToInt(Symbol sym) {
-        if (sym != null && sym.value != null) {
-            try {
-                return Integer.parseInt(sym.value.toString());
-            } catch (NumberFormatException ex) {
+        if (sym != null && sym.value instanceof LiteralNumerico) {
+            LiteralNumerico literal = (LiteralNumerico)sym.value;
+            if (literal.desbordado()) {
                 reportSemanticError("Valor numérico inválido", sym);
+                return 0;
             }
+            return literal.comoEntero();
         }
         return 0;
     }
@@ -2263,8 +2761,7 @@ return lex.next_token();
         ExprAttr guard = ensureBooleanExpr(condition, token, "la condición de decide");
         String hitLabel = newLabel("case_hit");
         String nextLabel = newLabel("case_next");
-        emit("if " + guard.place + " goto " + hitLabel);
-        emit("goto " + nextLabel);
+        emitCondition(guard, hitLabel, nextLabel);
         emitLabel(hitLabel);
         decideNextStack.push(nextLabel);
     }
@@ -2278,7 +2775,7 @@ return lex.next_token();
     private void endDecideCase() {
         String endLabel = peekLabelOrFallback(decideEndStack, "decide", "decide_end", true);
         String nextLabel = decideNextStack.isEmpty() ? newLabel("case_next_recovery") : decideNextStack.pop();
-        emit("goto " + endLabel);
+        emit(Cuadruplo.salto(endLabel));
         emitLabel(nextLabel);
     }
 
@@ -2289,7 +2786,7 @@ return lex.next_token();
      * Restricciones: se debe invocar una sola vez por cada decide-of.
      */
     private void beginDecideElse() {
-        emit("// rama else");
+        emit(Cuadruplo.comentario("rama else"));
     }
 
     /**
@@ -2300,7 +2797,7 @@ return lex.next_token();
      */
     private void endDecideElse() {
         String endLabel = peekLabelOrFallback(decideEndStack, "decide", "decide_end", true);
-        emit("goto " + endLabel);
+        emit(Cuadruplo.salto(endLabel));
     }
 
     /**
@@ -2336,14 +2833,18 @@ return lex.next_token();
      * Proposito: emitir la condicion de salida que abandona el cuerpo de un loop.
      * Entradas: expresion booleana de salida y simbolo relacionado.
      * Salidas: genera el salto condicional al final del loop y el retorno al inicio.
-     * Restricciones: la expresion debe evaluar a BOOL.
+     * Restricciones: la expresion debe evaluar a BOOL; si no, se reporta el error y no se emite ningun salto,
+     *                porque tomarla como false dejaria un "goto loop_begin" sin prueba de salida.
      */
     private void finalizeLoopBody(ExprAttr exitExpr, Symbol token) {
-        ExprAttr guard = ensureBooleanExpr(exitExpr, token, "la condición de salida del loop");
         String start = peekLabelOrFallback(loopStartStack, "loop", "loop_begin", true);
         String end = peekLabelOrFallback(loopEndStack, "loop", "loop_end", true);
-        emit("if " + guard.place + " goto " + end);
-        emit("goto " + start);
+        if (exitExpr == null || !exitExpr.isBoolean()) {
+            reportSemanticError("La expresion en la condición de salida del loop debe ser BOOL", token);
+            emit(Cuadruplo.comentario("condicion de salida invalida"));
+            return;
+        }
+        emitCondition(exitExpr, end, start);
     }
 
     /**
@@ -2369,12 +2870,12 @@ return lex.next_token();
         String bodyLabel = newLabel("for_body");
         String endLabel = newLabel("for_end");
         emitLabel(condLabel);
-        String comparator = downto ? "<" : ">";
-        emit("if " + target.place + " " + comparator + " " + limit.place + " goto " + endLabel);
+        Cuadruplo.Operacion comparator = downto ? Cuadruplo.Operacion.MENOR : Cuadruplo.Operacion.MAYOR;
+        emit(Cuadruplo.saltoSi(comparator, target.operand, limit.operand, endLabel));
         emitLabel(bodyLabel);
         loopStartStack.push(condLabel);
         loopEndStack.push(endLabel);
-        forStack.push(new ForContext(target.place, target.type, step, limit, downto, condLabel, endLabel));
+        forStack.push(new ForContext(target.operand, target.type, step, limit, downto, condLabel, endLabel));
     }
 
     /**
@@ -2388,14 +2889,229 @@ return lex.next_token();
             return;
         }
         ForContext ctx = forStack.pop();
-        String op = ctx.downto ? "-" : "+";
-        emit(ctx.target + " = " + ctx.target + " " + op + " " + ctx.step.place);
-        emit("goto " + ctx.condLabel);
+        Cuadruplo.Operacion op = ctx.downto ? Cuadruplo.Operacion.RESTA : Cuadruplo.Operacion.SUMA;
+        emit(Cuadruplo.binaria(op, ctx.target, ctx.target, ctx.step.operand));
+        // El paso y el limite se leen en cada vuelta; sus temporales viven hasta aqui
+        releaseTemps(ctx.step);
+        releaseTemps(ctx.limit);
+        emit(Cuadruplo.salto(ctx.condLabel));
         emitLabel(ctx.endLabel);
         if (!loopEndStack.isEmpty()) loopEndStack.pop();
         if (!loopStartStack.isEmpty()) loopStartStack.pop();
     }
 
+    /**
+     * Proposito: obtener el nodo de arbol asociado a una expresion.
+     * Entradas: atributos de la expresion (puede ser null).
+     * Salidas: nodo Ast.Expr o null si no hay arbol.
+     * Restricciones: fuera del modo AST siempre retorna null.
+     */
+    private Ast.Expr astNodo(ExprAttr attr) {
+        return attr != null ? attr.node : null;
+    }
+
+    private List<Ast.Expr> astNodos(List<ExprAttr> attrs) {
+        List<Ast.Expr> nodos = new ArrayList<>();
+        if (attrs != null) {
+            for (ExprAttr attr : attrs) {
+                Ast.Expr nodo = astNodo(attr);
+                if (nodo != null) nodos.add(nodo);
+            }
+        }
+        return nodos;
+    }
+
+    /**
+     * Proposito: ligar un nodo de expresion con los atributos que produjo el analisis semantico.
+     * Entradas: atributos resultantes y nodo recien creado.
+     * Salidas: los mismos atributos, con el nodo asignado y el tipo resuelto copiado al nodo.
+     * Restricciones: los hijos del nodo deben leerse antes de llamar, porque result puede ser uno de ellos.
+     */
+    private ExprAttr conAst(ExprAttr result, Ast.Expr node) {
+        if (result != null) {
+            node.type = result.type;
+            result.node = node;
+        }
+        return result;
+    }
+
+    private ExprAttr astLiteral(String text, Symbol token, ExprAttr result) {
+        if (ast == null) return result;
+        return conAst(result, new Ast.Literal(text, toLine(token), toColumn(token)));
+    }
+
+    private ExprAttr astVariable(String name, Symbol token, ExprAttr result) {
+        if (ast == null) return result;
+        return conAst(result, new Ast.VarRef(name, toLine(token), toColumn(token)));
+    }
+
+    private ExprAttr astAcceso(String name, ExprAttr index, Symbol token, ExprAttr result) {
+        if (ast == null) return result;
+        return conAst(result, new Ast.ArrayAccess(name, astNodo(index), toLine(token), toColumn(token)));
+    }
+
+    private ExprAttr astLlamada(String name, ArrayList<ExprAttr> args, Symbol token, ExprAttr result) {
+        if (ast == null) return result;
+        return conAst(result, new Ast.Call(name, astNodos(args), toLine(token), toColumn(token)));
+    }
+
+    private ExprAttr astBinario(String op, ExprAttr left, ExprAttr right, Symbol token, ExprAttr result) {
+        if (ast == null) return result;
+        return conAst(result, new Ast.Binary(op, astNodo(left), astNodo(right), toLine(token), toColumn(token)));
+    }
+
+    private ExprAttr astUnario(String op, ExprAttr value, Symbol token, ExprAttr result) {
+        if (ast == null) return result;
+        return conAst(result, new Ast.Unary(op, astNodo(value), toLine(token), toColumn(token)));
+    }
+
+    private ExprAttr astActualizacion(String name, String op, Symbol token, ExprAttr result) {
+        if (ast == null) return result;
+        return conAst(result, new Ast.Update(name, op, toLine(token), toColumn(token)));
+    }
+
+    private ExprAttr astComparacion(ExprAttr first, ArrayList<ComparisonLink> links, ExprAttr result) {
+        if (ast == null || links == null || links.isEmpty()) return result;
+        List<String> operators = new ArrayList<>();
+        List<Ast.Expr> operands = new ArrayList<>();
+        operands.add(astNodo(first));
+        for (ComparisonLink link : links) {
+            operators.add(link.operator);
+            operands.add(astNodo(link.right));
+        }
+        Symbol token = links.get(0).token;
+        return conAst(result, new Ast.Comparison(operators, operands, toLine(token), toColumn(token)));
+    }
+
+    /**
+     * Proposito: agregar una sentencia al bloque que se esta construyendo.
+     * Entradas: nodo de la sentencia.
+     * Salidas: el nodo queda al final del bloque activo (cuerpo de funcion, caso, ciclo o programa).
+     * Restricciones: sin efecto fuera del modo AST.
+     */
+    private void astAgregar(Ast.Stmt stmt) {
+        if (ast != null && !astBlocks.isEmpty()) {
+            astBlocks.peek().add(stmt);
+        }
+    }
+
+    private void astExpresion(ExprAttr expr) {
+        Ast.Expr nodo = astNodo(expr);
+        if (nodo != null) {
+            astAgregar(new Ast.ExprStmt(nodo, nodo.line, nodo.column));
+        }
+    }
+
+    private void astDeclararArreglo(String name, String type, int len, boolean global, ArrayList<ExprAttr> values, Symbol token) {
+        if (ast == null) return;
+        astAgregar(new Ast.ArrayDecl(name, type, len, global, values != null ? astNodos(values) : null, toLine(token), toColumn(token)));
+    }
+
+    /**
+     * Proposito: abrir una sentencia compuesta cuyo cuerpo recibira las sentencias siguientes.
+     * Entradas: nodo compuesto (FuncDecl, Loop o For) y la lista de su cuerpo.
+     * Salidas: nodo agregado al bloque actual y apilado junto con su cuerpo.
+     * Restricciones: debe emparejarse con astCerrar.
+     */
+    private void astAbrir(Ast.Stmt nodo, List<Ast.Stmt> cuerpo) {
+        if (ast == null) return;
+        astAgregar(nodo);
+        astAbiertos.push(nodo);
+        astBlocks.push(cuerpo);
+    }
+
+    private Ast.Stmt astCerrar() {
+        if (ast == null || astAbiertos.isEmpty()) return null;
+        astCerrarBloque();
+        return astAbiertos.pop();
+    }
+
+    private void astCerrarBloque() {
+        // El bloque raiz (Program.items) nunca se desapila, aun con errores de sintaxis
+        if (ast != null && astBlocks.size() > 1) {
+            astBlocks.pop();
+        }
+    }
+
+    private void astAbrirFuncion(String name, String returnType, boolean main, Symbol token) {
+        if (ast == null) return;
+        Ast.FuncDecl fun = new Ast.FuncDecl(name, returnType, main, toLine(token), toColumn(token));
+        astAbrir(fun, fun.body);
+    }
+
+    private void astAbrirDecide(Symbol token) {
+        if (ast == null) return;
+        Ast.Decide decide = new Ast.Decide(toLine(token), toColumn(token));
+        astAgregar(decide);
+        astAbiertos.push(decide);
+    }
+
+    private void astCerrarDecide() {
+        if (ast != null && astAbiertos.peek() instanceof Ast.Decide) {
+            astAbiertos.pop();
+        }
+    }
+
+    private void astAbrirCaso(ExprAttr condition, Symbol token) {
+        if (ast == null || !(astAbiertos.peek() instanceof Ast.Decide)) return;
+        Ast.Case caso = new Ast.Case(astNodo(condition), toLine(token), toColumn(token));
+        ((Ast.Decide)astAbiertos.peek()).cases.add(caso);
+        astBlocks.push(caso.body);
+    }
+
+    private void astAbrirElseDecide() {
+        if (ast == null || !(astAbiertos.peek() instanceof Ast.Decide)) return;
+        Ast.Decide decide = (Ast.Decide)astAbiertos.peek();
+        decide.elseBody = new ArrayList<>();
+        astBlocks.push(decide.elseBody);
+    }
+
+    private void astAbrirLoop(Symbol token) {
+        if (ast == null) return;
+        Ast.Loop loop = new Ast.Loop(toLine(token), toColumn(token));
+        astAbrir(loop, loop.body);
+    }
+
+    private void astCerrarLoop(ExprAttr exitCondition) {
+        if (ast == null || !(astAbiertos.peek() instanceof Ast.Loop)) return;
+        Ast.Loop loop = (Ast.Loop)astCerrar();
+        loop.exitCondition = astNodo(exitCondition);
+        astUltimoLoop = loop;
+    }
+
+    private void astAbrirElseLoop() {
+        if (ast == null || astUltimoLoop == null) return;
+        astUltimoLoop.elseBody = new ArrayList<>();
+        astBlocks.push(astUltimoLoop.elseBody);
+        astUltimoLoop = null;
+    }
+
+    private void astAbrirFor(ExprAttr step, ExprAttr limit, boolean downto, Symbol token) {
+        if (ast == null) return;
+        String variable = astForInit != null ? astForInit.name : "";
+        Ast.Expr init = astForInit != null ? astForInit.value : null;
+        Ast.For nodo = new Ast.For(variable, init, astNodo(step), astNodo(limit), downto, toLine(token), toColumn(token));
+        astForInit = null;
+        astAbrir(nodo, nodo.body);
+    }
+
+    /**
+     * Proposito: escribir AST.txt con el arbol tipado del programa.
+     * Entradas: ninguna (usa ast).
+     * Salidas: archivo AST.txt en el directorio de salida.
+     * Restricciones: solo se invoca en modo AST; captura excepciones de IO.
+     */
+    private void exportarAst() {
+        try {
+            Path outDir = directorioSalida();
+            Files.createDirectories(outDir);
+            Path astFile = outDir.resolve("AST.txt");
+            escribirArtefacto(astFile, Ast.imprimir(ast), "Arbol sintactico exportado a: " + astFile.toAbsolutePath());
+        } catch (Exception e) {
+            System.err.println("Error al exportar el arbol sintactico: " + e.getMessage());
+        }
+    }
+
     /**
      * Proposito: volcar las tablas de simbolos en CSV y mostrar un resumen en consola.
      * Entradas: ninguna (usa el mapa scopePrograma).
@@ -2405,7 +3121,7 @@ return lex.next_token();
     public void imprimirscopePrograma () {
         System.out.println("\nTABLA DE SIMBOLOS (resumen)");
         try {
-            Path outDir = resolveProjectBaseDir().resolve("output");
+            Path outDir = directorioSalida();
             Files.createDirectories(outDir);
 
             if (scopePrograma.isEmpty()) {
@@ -2414,39 +3130,37 @@ return lex.next_token();
 
             Path tablaFile = outDir.resolve("TablaSimbolos.txt");
             Pattern p = Pattern.compile(".*:\\s*([^:]+):([^:]+)(:line=(\\d+):col=(\\d+))?.*");
-            try (FileWriter fw = new FileWriter(tablaFile.toFile())) {
-                fw.write("Scope,Name,Type,Line,Column\n");
-                for (Map.Entry<String, ArrayList<String>> entry : scopePrograma.entrySet()) {
-                    String key = entry.getKey();
-                    System.out.println("Scope: " + key + "  (" + entry.getValue().size() + " entradas)");
-                    for (String item : entry.getValue()) {
-                        String name="", type="", line="n/a", col="n/a";
-                        String[] parts = item.split(":");
-                        if (parts.length >= 2) {
-                            name = parts[1].trim();
-                        }
-                        if (parts.length >= 3) {
-                            for (int i = 2; i < parts.length; i++) {
-                                String part = parts[i].trim();
-                                if (part.equals("INT") || part.equals("CHAR") || part.equals("FLOAT") || part.equals("BOOL") || part.equals("STRING") || part.startsWith("ARR") || part.startsWith("tipo:")) {
-                                    type = part;
-                                    break;
-                                }
-                            }
-                            if (type.isEmpty()) {
-                                type = parts[2].trim();
+            StringBuilder tabla = new StringBuilder();
+            tabla.append("Scope,Name,Type,Line,Column\n");
+            for (Map.Entry<String, ArrayList<String>> entry : scopePrograma.entrySet()) {
+                String key = entry.getKey();
+                System.out.println("Scope: " + key + "  (" + entry.getValue().size() + " entradas)");
+                for (String item : entry.getValue()) {
+                    String name="", type="", line="n/a", col="n/a";
+                    String[] parts = item.split(":");
+                    if (parts.length >= 2) {
+                        name = parts[1].trim();
+                    }
+                    if (parts.length >= 3) {
+                        for (int i = 2; i < parts.length; i++) {
+                            String part = parts[i].trim();
+                            if (part.equals("INT") || part.equals("CHAR") || part.equals("FLOAT") || part.equals("BOOL") || part.equals("STRING") || part.startsWith("ARR") || part.startsWith("tipo:")) {
+                                type = part;
+                                break;
                             }
                         }
-                        Matcher ml = Pattern.compile("line=(\\d+)").matcher(item);
-                        if (ml.find()) line = ml.group(1);
-                        Matcher mc = Pattern.compile("col=(\\d+)").matcher(item);
-                        if (mc.find()) col = mc.group(1);
-                        fw.write(key + "," + name + "," + type + "," + line + "," + col + "\n");
+                        if (type.isEmpty()) {
+                            type = parts[2].trim();
+                        }
                     }
+                    Matcher ml = Pattern.compile("line=(\\d+)").matcher(item);
+                    if (ml.find()) line = ml.group(1);
+                    Matcher mc = Pattern.compile("col=(\\d+)").matcher(item);
+                    if (mc.find()) col = mc.group(1);
+                    tabla.append(key + "," + name + "," + type + "," + line + "," + col + "\n");
                 }
             }
-
-            System.out.println("Tablas de simbolos exportadas a: " + outDir.toAbsolutePath());
+            escribirArtefacto(tablaFile, tabla.toString(), "Tablas de simbolos exportadas a: " + outDir.toAbsolutePath());
         } catch (Exception e) {
             System.err.println("Error al exportar tablas de simbolos: " + e.getMessage());
         }
@@ -2454,30 +3168,56 @@ return lex.next_token();
 
     /**
      * Proposito: persistir el codigo 3D generado en Codigo3D.txt.
-     * Entradas: ninguna (usa el buffer cod3D).
+     * Entradas: ninguna (imprime los cuadruplos de cod3D).
      * Salidas: escribe el archivo y muestra el destino; avisa cuando no hay codigo.
      * Restricciones: crea el directorio de salida si falta y captura excepciones de IO.
      */
     private void exportarCodigo3D() {
         try {
-            Path outDir = resolveProjectBaseDir().resolve("output");
+            Path outDir = directorioSalida();
             Files.createDirectories(outDir);
             Path cod3DFile = outDir.resolve("Codigo3D.txt");
-            try (FileWriter fw = new FileWriter(cod3DFile.toFile())) {
-                String codigo = cod3D.toString().trim();
-                if (codigo.isEmpty()) {
-                    fw.write("// No se genero codigo 3D\n");
-                    System.out.println("Advertencia: No se genero codigo 3D");
-                } else {
-                    fw.write(codigo + "\n");
-                    System.out.println("Codigo 3D exportado a: " + cod3DFile.toAbsolutePath());
-                }
+            String codigo = Cuadruplo.imprimir(cod3D).trim();
+            if (codigo.isEmpty()) {
+                escribirArtefacto(cod3DFile, "// No se genero codigo 3D\n", null);
+                System.out.println("Advertencia: No se genero codigo 3D");
+            } else {
+                escribirArtefacto(cod3DFile, codigo + "\n", "Codigo 3D exportado a: " + cod3DFile.toAbsolutePath());
             }
         } catch (Exception e) {
             System.err.println("Error al exportar codigo 3D: " + e.getMessage());
         }
     }
 
+    /**
+     * Proposito: escribir un artefacto del parser, en segundo plano si el driver configuro un escritor.
+     * Entradas: archivo destino, contenido completo y mensaje para la consola cuando quede escrito (o null).
+     * Salidas: archivo escrito con el charset por defecto (como FileWriter) o escritura encolada.
+     * Restricciones: con escritor, el mensaje y los errores los imprime EscritorArtefactos.esperar().
+     */
+    private void escribirArtefacto(Path destino, String contenido, String confirmacion) throws IOException {
+        if (escritor != null) {
+            escritor.escribir(destino, contenido, java.nio.charset.Charset.defaultCharset(), confirmacion);
+            return;
+        }
+        try (FileWriter fw = new FileWriter(destino.toFile())) {
+            fw.write(contenido);
+        }
+        if (confirmacion != null) {
+            System.out.println(confirmacion);
+        }
+    }
+
+    /**
+     * Proposito: delegar la escritura de TablaSimbolos.txt y Codigo3D.txt a un hilo de E/S.
+     * Entradas: escritor de la compilacion o null para escribir de forma sincrona.
+     * Salidas: ninguna; las exportaciones encolan su contenido en el escritor.
+     * Restricciones: quien lo configura debe llamar esperar() antes de leer los archivos.
+     */
+    public void setEscritor(EscritorArtefactos escritor) {
+        this.escritor = escritor;
+    }
+
     /**
      * Proposito: exportar tablas y codigo 3D solo una vez por ejecucion del parser.
      * Entradas: ninguna.
@@ -2488,11 +3228,161 @@ return lex.next_token();
         if (artifactsExported) {
             return;
         }
+        iniciarFase("tabla_simbolos");
         imprimirscopePrograma();
-        exportarCodigo3D();
+        terminarFase();
+        if (exportarCodigo3DArchivo) {
+            iniciarFase("codigo3d");
+            exportarCodigo3D();
+            terminarFase();
+            contarFase("codigo3d", "lineas", cod3D.size());
+        }
+        if (ast != null) {
+            iniciarFase("analisis_flujo");
+            for (String advertencia : AnalisisFlujo.analizar(ast)) {
+                advertencias.add(advertencia);
+                System.err.println(advertencia);
+            }
+            terminarFase();
+            iniciarFase("ast");
+            exportarAst();
+            terminarFase();
+        }
         artifactsExported = true;
     }
 
+    /**
+     * Proposito: medir por separado las exportaciones que ocurren dentro de parse() cuando --stats esta activo.
+     * Entradas: estadisticas del driver o null para no medir.
+     * Salidas: ninguna; exportarResultados abre sus propias fases sobre esta instancia.
+     * Restricciones: debe llamarse antes de parse() y desde el mismo hilo.
+     */
+    public void setEstadisticas(EstadisticasFases estadisticas) {
+        this.estadisticas = estadisticas;
+    }
+
+    private void iniciarFase(String nombre) {
+        if (estadisticas != null) estadisticas.iniciar(nombre);
+    }
+
+    private void terminarFase() {
+        if (estadisticas != null) estadisticas.terminar();
+    }
+
+    private void contarFase(String fase, String conteo, long valor) {
+        if (estadisticas != null) estadisticas.contar(fase, conteo, valor);
+    }
+
+    /**
+     * Proposito: informar cuantos temporales genero el parser.
+     * Entradas: ninguna.
+     * Salidas: valor de tempCounter.
+     * Restricciones: consultarlo despues de parse().
+     */
+    public int getTemporalesGenerados() {
+        return tempCounter;
+    }
+
+    /**
+     * Proposito: informar cuantas etiquetas genero el parser.
+     * Entradas: ninguna.
+     * Salidas: valor de labelCounter.
+     * Restricciones: consultarlo despues de parse().
+     */
+    public int getEtiquetasGeneradas() {
+        return labelCounter;
+    }
+
+    /**
+     * Proposito: activar o desactivar la escritura de Codigo3D.txt como salida secundaria.
+     * Entradas: true para escribir el archivo (por defecto), false para conservar el codigo solo en memoria.
+     * Salidas: ninguna; ajusta la bandera consultada por exportarResultados.
+     * Restricciones: debe llamarse antes de parse() para tener efecto.
+     */
+    public void setExportarCodigo3D(boolean exportar) {
+        this.exportarCodigo3DArchivo = exportar;
+    }
+
+    /**
+     * Proposito: construir ademas el arbol sintactico tipado (Ast) y exportarlo como AST.txt.
+     * Entradas: true para construir el arbol; false (por defecto) no crea ningun nodo.
+     * Salidas: ninguna; el arbol queda disponible en getAst() despues de parse().
+     * Restricciones: debe llamarse antes de parse(); el analisis semantico y el codigo 3D no cambian, pero
+     *                un parseo completo pasa ademas el arbol por AnalisisFlujo, cuyas advertencias van a stderr.
+     */
+    public void setConstruirAst(boolean construir) {
+        ast = construir ? new Ast.Program() : null;
+        astBlocks.clear();
+        astAbiertos.clear();
+        if (ast != null) {
+            astBlocks.push(ast.items);
+        }
+    }
+
+    /**
+     * Proposito: entregar el arbol tipado para pasadas posteriores sobre el programa completo.
+     * Entradas: ninguna.
+     * Salidas: raiz del arbol o null si no se activo setConstruirAst.
+     * Restricciones: consultarlo despues de parse(); con errores de sintaxis el arbol puede quedar incompleto.
+     */
+    public Ast.Program getAst() {
+        return ast;
+    }
+
+    /**
+     * Proposito: entregar las advertencias de las pasadas sobre el arbol (por ahora, AnalisisFlujo).
+     * Entradas: ninguna.
+     * Salidas: lista de advertencias en el orden en que se imprimieron; vacia sin setConstruirAst(true).
+     * Restricciones: consultarla despues de parse(); no forman parte de getCantidadErrores().
+     */
+    public List<String> getAdvertencias() {
+        return java.util.Collections.unmodifiableList(advertencias);
+    }
+
+    /**
+     * Proposito: entregar el codigo 3D generado directamente a fases posteriores (por ejemplo GeneradorMIPS).
+     * Entradas: ninguna.
+     * Salidas: vista de solo lectura de los cuadruplos de cod3D en el orden en que se emitieron.
+     * Restricciones: la lista refleja el estado actual; consultarla despues de parse().
+     */
+    public List<Cuadruplo> getCuadruplos() {
+        return java.util.Collections.unmodifiableList(cod3D);
+    }
+
+    /**
+     * Proposito: obtener el codigo 3D como lineas de texto, igual que en Codigo3D.txt.
+     * Entradas: ninguna.
+     * Salidas: lista nueva con la impresion de cada cuadruplo.
+     * Restricciones: crea las cadenas en cada llamada; las fases del compilador usan getCuadruplos().
+     */
+    public List<String> getCodigo3D() {
+        List<String> lines = new ArrayList<>(cod3D.size());
+        for (Cuadruplo instruction : cod3D) {
+            lines.add(instruction.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Proposito: indicar si el parseo llego hasta la regla inicial y exporto sus resultados.
+     * Entradas: ninguna.
+     * Salidas: true cuando PROGRAMA se redujo completo; false si el parser aborto antes.
+     * Restricciones: permite a quien llama descartar codigo 3D parcial de un parseo fallido.
+     */
+    public boolean isParseCompletado() {
+        return artifactsExported;
+    }
+
+    /**
+     * Proposito: contar los errores sintacticos y semanticos que reporto el parseo.
+     * Entradas: ninguna.
+     * Salidas: cantidad de errores escritos en stderr; 0 si la fuente es valida.
+     * Restricciones: consultarlo despues de parse(); un parseo abortado tiene al menos un error sintactico.
+     */
+    public int getCantidadErrores() {
+        return syntaxErrors + semanticErrors.size();
+    }
+
     // recuperación de errores de sintaxis (mejorada)
     /**
      * Proposito: ofrecer un gancho detallado para el manejo de errores sintacticos de CUP.
@@ -2501,10 +3391,11 @@ return lex.next_token();
      * Restricciones: no debe lanzar excepciones; se protege contra fallos del lexer.
      */
     public void syntax_error(Symbol s) {
+        syntaxErrors++;
         try {
             if (s == null) {
                 String yy = "";
-                try { yy = lex.yytext(); } catch (Exception e) { yy = "<no-yytext>"; }
+                try { yy = textoTokenActual(); } catch (Exception e) { yy = "<no-yytext>"; }
                 System.err.println("!!Error de Sintaxis: símbolo nulo (fin de fichero probable). yytext='" + yy + "'");
                 return;
             }
@@ -2514,7 +3405,7 @@ return lex.next_token();
             int left = s.left;
             int right = s.right;
             String yytext = "";
-            try { yytext = lex.yytext(); } catch (Exception e) { yytext = "<no-yytext>"; }
+            try { yytext = textoTokenActual(); } catch (Exception e) { yytext = "<no-yytext>"; }
 
             System.err.println("!!Error de Sintaxis: tokenId=" + symId + " value=" + val + " yytext='" + yytext + "' linea:" + (left>=0 ? (left+1) : "n/a") + " columna:" + (right>=0 ? (right+1) : "n/a"));
 
@@ -2530,10 +3421,11 @@ return lex.next_token();
      * Restricciones: no debe lanzar excepciones para permitir un cierre limpio del parser.
      */
     public void unrecovered_syntax_error(Symbol s) {
+        syntaxErrors++;
         try {
             if (s == null) {
                 String yy = "";
-                try { yy = lex.yytext(); } catch (Exception e) { yy = "<no-yytext>"; }
+                try { yy = textoTokenActual(); } catch (Exception e) { yy = "<no-yytext>"; }
                 System.err.println("!!Error fatal: símbolo nulo. yytext='" + yy + "'");
                 return;
             }
@@ -2543,7 +3435,7 @@ return lex.next_token();
             int left = s.left;
             int right = s.right;
             String yytext = "";
-            try { yytext = lex.yytext(); } catch (Exception e) { yytext = "<no-yytext>"; }
+            try { yytext = textoTokenActual(); } catch (Exception e) { yytext = "<no-yytext>"; }
 
             System.err.println("!!Error fatal: tokenId=" + symId + " value=" + val + " yytext='" + yytext + "' linea:" + (left>=0 ? (left+1) : "n/a") + " columna:" + (right>=0 ? (right+1) : "n/a"));
 
@@ -2596,7 +3488,7 @@ class CUP$Parser$actions {
             {
               Object RESULT =null;
  initializeGlobalScope(); emitCiHeader(); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$0",59, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$0",60, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
@@ -2804,7 +3696,10 @@ class CUP$Parser$actions {
           case 24: // BLOCK ::= BLOCK exprP DOLLAR 
             {
               Object RESULT =null;
-
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 releaseTemps((ExprAttr)e); astExpresion((ExprAttr)e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("BLOCK",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
@@ -2975,7 +3870,10 @@ class CUP$Parser$actions {
           case 43: // BLOCK ::= BLOCK BREAK DOLLAR 
             {
               Object RESULT =null;
-
+		int brkleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int brkright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object brk = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 if (ast != null) astAgregar(new Ast.Break(brkleft + 1, brkright + 1)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("BLOCK",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
@@ -2992,6 +3890,7 @@ class CUP$Parser$actions {
 		Object exp = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 Symbol retSym = tokenFrom(retTok, retTokleft, retTokright, sym.RETURN);
                     recordReturn((ExprAttr)exp, retSym, true);
+                    if (ast != null) astAgregar(new Ast.Return(astNodo((ExprAttr)exp), toLine(retSym), toColumn(retSym)));
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("BLOCK",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -3006,6 +3905,7 @@ class CUP$Parser$actions {
 		Object retTok = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 Symbol retSym = tokenFrom(retTok, retTokleft, retTokright, sym.RETURN);
                     recordReturn(null, retSym, false);
+                    if (ast != null) astAgregar(new Ast.Return(null, toLine(retSym), toColumn(retSym)));
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("BLOCK",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -3024,7 +3924,10 @@ class CUP$Parser$actions {
           case 47: // BLOCK ::= exprP DOLLAR 
             {
               Object RESULT =null;
-
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 releaseTemps((ExprAttr)e); astExpresion((ExprAttr)e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("BLOCK",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
@@ -3189,7 +4092,7 @@ class CUP$Parser$actions {
 		int brkleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int brkright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object brk = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol brkSym = tokenFrom(brk, brkleft, brkright, sym.BREAK); if (loopEndStack.isEmpty()) { reportSemanticError("'break' fuera de ciclo", brkSym); } else { emit("goto " + loopEndStack.peek()); } 
+		 Symbol brkSym = tokenFrom(brk, brkleft, brkright, sym.BREAK); if (loopEndStack.isEmpty()) { reportSemanticError("'break' fuera de ciclo", brkSym); } else { emit(Cuadruplo.salto(loopEndStack.peek())); } if (ast != null) astAgregar(new Ast.Break(toLine(brkSym), toColumn(brkSym))); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("BLOCK",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
@@ -3204,7 +4107,7 @@ class CUP$Parser$actions {
 		int expleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int expright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object exp = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol retSym = tokenFrom(retTok, retTokleft, retTokright, sym.RETURN); recordReturn((ExprAttr)exp, retSym, true); 
+		 Symbol retSym = tokenFrom(retTok, retTokleft, retTokright, sym.RETURN); recordReturn((ExprAttr)exp, retSym, true); if (ast != null) astAgregar(new Ast.Return(astNodo((ExprAttr)exp), toLine(retSym), toColumn(retSym))); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("BLOCK",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
@@ -3216,7 +4119,7 @@ class CUP$Parser$actions {
 		int retTokleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int retTokright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object retTok = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol retSym = tokenFrom(retTok, retTokleft, retTokright, sym.RETURN); recordReturn(null, retSym, false); 
+		 Symbol retSym = tokenFrom(retTok, retTokleft, retTokright, sym.RETURN); recordReturn(null, retSym, false); if (ast != null) astAgregar(new Ast.Return(null, toLine(retSym), toColumn(retSym))); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("BLOCK",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
@@ -3267,7 +4170,16 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 73: // commentBody ::= commentBody COMMENT 
+          case 73: // commentBlock ::= BLOCK_COMMENT 
+            {
+              Object RESULT =null;
+
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("commentBlock",51, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 74: // commentBody ::= commentBody COMMENT 
             {
               Object RESULT =null;
 
@@ -3276,7 +4188,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 74: // commentBody ::= COMMENT 
+          case 75: // commentBody ::= COMMENT 
             {
               Object RESULT =null;
 
@@ -3285,31 +4197,31 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 75: // numbers ::= INT_LITERAL 
+          case 76: // numbers ::= INT_LITERAL 
             {
               Object RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int litright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object lit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol litSym = tokenFrom(lit, litleft, litright, sym.INT_LITERAL); RESULT = literalAttr(litSym, "0", "INT"); 
+		 Symbol litSym = tokenFrom(lit, litleft, litright, sym.INT_LITERAL); RESULT = astLiteral(lexeme(lit), litSym, literalAttr(litSym, "0", "INT")); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("numbers",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 76: // numbers ::= FLOAT 
+          case 77: // numbers ::= FLOAT 
             {
               Object RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int litright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object lit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol litSym = tokenFrom(lit, litleft, litright, sym.FLOAT); RESULT = literalAttr(litSym, "0.0", "FLOAT"); 
+		 Symbol litSym = tokenFrom(lit, litleft, litright, sym.FLOAT); RESULT = astLiteral(lexeme(lit), litSym, literalAttr(litSym, "0.0", "FLOAT")); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("numbers",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 77: // compAritOp ::= term 
+          case 78: // compAritOp ::= term 
             {
               Object RESULT =null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -3321,7 +4233,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 78: // compAritOp ::= compAritOp MAS term 
+          case 79: // compAritOp ::= compAritOp MAS term 
             {
               Object RESULT =null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3333,13 +4245,13 @@ class CUP$Parser$actions {
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MAS); RESULT = numericBinary("+", (ExprAttr)l, (ExprAttr)r, opSym); 
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MAS); RESULT = astBinario("+", (ExprAttr)l, (ExprAttr)r, opSym, numericBinary("+", (ExprAttr)l, (ExprAttr)r, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("compAritOp",5, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 79: // compAritOp ::= compAritOp MENOS term 
+          case 80: // compAritOp ::= compAritOp MENOS term 
             {
               Object RESULT =null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3351,13 +4263,13 @@ class CUP$Parser$actions {
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MENOS); RESULT = numericBinary("-", (ExprAttr)l, (ExprAttr)r, opSym); 
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MENOS); RESULT = astBinario("-", (ExprAttr)l, (ExprAttr)r, opSym, numericBinary("-", (ExprAttr)l, (ExprAttr)r, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("compAritOp",5, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 80: // term ::= factor 
+          case 81: // term ::= factor 
             {
               Object RESULT =null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -3369,7 +4281,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 81: // term ::= term MULTI factor 
+          case 82: // term ::= term MULTI factor 
             {
               Object RESULT =null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3381,13 +4293,13 @@ class CUP$Parser$actions {
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MULTI); RESULT = numericBinary("*", (ExprAttr)l, (ExprAttr)r, opSym); 
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MULTI); RESULT = astBinario("*", (ExprAttr)l, (ExprAttr)r, opSym, numericBinary("*", (ExprAttr)l, (ExprAttr)r, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("term",7, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 82: // term ::= term DIV factor 
+          case 83: // term ::= term DIV factor 
             {
               Object RESULT =null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3399,13 +4311,13 @@ class CUP$Parser$actions {
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.DIV); RESULT = numericBinary("/", (ExprAttr)l, (ExprAttr)r, opSym); 
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.DIV); RESULT = astBinario("/", (ExprAttr)l, (ExprAttr)r, opSym, numericBinary("/", (ExprAttr)l, (ExprAttr)r, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("term",7, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 83: // term ::= term POTENCIA factor 
+          case 84: // term ::= term POTENCIA factor 
             {
               Object RESULT =null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3417,13 +4329,13 @@ class CUP$Parser$actions {
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.POTENCIA); RESULT = numericBinary("^", (ExprAttr)l, (ExprAttr)r, opSym); 
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.POTENCIA); RESULT = astBinario("^", (ExprAttr)l, (ExprAttr)r, opSym, numericBinary("^", (ExprAttr)l, (ExprAttr)r, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("term",7, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 84: // term ::= term FLOAT_DIV factor 
+          case 85: // term ::= term FLOAT_DIV factor 
             {
               Object RESULT =null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3435,13 +4347,13 @@ class CUP$Parser$actions {
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.FLOAT_DIV); RESULT = numericBinary("%", (ExprAttr)l, (ExprAttr)r, opSym); 
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.FLOAT_DIV); RESULT = astBinario("%", (ExprAttr)l, (ExprAttr)r, opSym, numericBinary("%", (ExprAttr)l, (ExprAttr)r, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("term",7, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 85: // factor ::= numbers 
+          case 86: // factor ::= numbers 
             {
               Object RESULT =null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -3453,58 +4365,73 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 86: // factor ::= MENOS numbers 
+          case 87: // factor ::= MENOS INT_LITERAL 
             {
               Object RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int opright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object op = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int nright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Object n = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MENOS); RESULT = numericUnary("-", (ExprAttr)n, opSym); 
+		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int litright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object lit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MENOS); Symbol litSym = tokenFrom(lit, litleft, litright, sym.INT_LITERAL); ExprAttr n = astLiteral(lexeme(lit), litSym, literalAttr(litSym, "0", "INT", true)); RESULT = astUnario("-", n, opSym, numericUnary("-", n, opSym)); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 88: // factor ::= MENOS FLOAT 
+            {
+              Object RESULT =null;
+		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int opright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object op = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int litright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object lit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MENOS); Symbol litSym = tokenFrom(lit, litleft, litright, sym.FLOAT); ExprAttr n = astLiteral(lexeme(lit), litSym, literalAttr(litSym, "0.0", "FLOAT", true)); RESULT = astUnario("-", n, opSym, numericUnary("-", n, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 87: // factor ::= STRING_LITERAL 
+          case 89: // factor ::= STRING_LITERAL 
             {
               Object RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int litright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object lit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol litSym = tokenFrom(lit, litleft, litright, sym.STRING_LITERAL); RESULT = literalAttr(litSym, "\"\"", "STRING"); 
+		 Symbol litSym = tokenFrom(lit, litleft, litright, sym.STRING_LITERAL); RESULT = astLiteral(lexeme(lit), litSym, literalAttr(litSym, "\"\"", "STRING")); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 88: // factor ::= CHARSTR 
+          case 90: // factor ::= CHARSTR 
             {
               Object RESULT =null;
 		int chleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int chright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ch = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol chSym = tokenFrom(ch, chleft, chright, sym.CHARSTR); RESULT = literalAttr(chSym, "'?'", "CHAR"); 
+		 Symbol chSym = tokenFrom(ch, chleft, chright, sym.CHARSTR); RESULT = astLiteral(lexeme(ch), chSym, literalAttr(chSym, "'?'", "CHAR")); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 89: // factor ::= IDENTIFIER 
+          case 91: // factor ::= IDENTIFIER 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object id = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol idSym = tokenFrom(id, idleft, idright, sym.IDENTIFIER); RESULT = identifierExpr(lexeme(id), idSym); 
+		 Symbol idSym = tokenFrom(id, idleft, idright, sym.IDENTIFIER); RESULT = astVariable(lexeme(id), idSym, identifierExpr(lexeme(id), idSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 90: // factor ::= IDENTIFIER DMENOS 
+          case 92: // factor ::= IDENTIFIER DMENOS 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3517,17 +4444,17 @@ class CUP$Parser$actions {
                     Symbol idSym = tokenFrom(id, idleft, idright, sym.IDENTIFIER);
                     Symbol opSym = tokenFrom(op, opleft, opright, sym.DMENOS);
                     ExprAttr base = identifierExpr(lexeme(id), idSym);
-                    String step = "FLOAT".equals(base.type) ? "1.0" : "1";
-                    ExprAttr result = numericBinary("-", base, literalAttr(null, step, base.type), opSym);
-                    emit(lexeme(id) + " = " + result.place);
-                    RESULT = result;
+                    ExprAttr step = "FLOAT".equals(base.type) ? constanteReal(1.0f) : constanteEntera(1);
+                    ExprAttr result = numericBinary("-", base, step, opSym);
+                    emit(Cuadruplo.copia(Cuadruplo.Operando.variable(lexeme(id), base.type), result.operand));
+                    RESULT = astActualizacion(lexeme(id), "--", idSym, result);
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 91: // factor ::= IDENTIFIER DMAS 
+          case 93: // factor ::= IDENTIFIER DMAS 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3540,17 +4467,17 @@ class CUP$Parser$actions {
                     Symbol idSym = tokenFrom(id, idleft, idright, sym.IDENTIFIER);
                     Symbol opSym = tokenFrom(op, opleft, opright, sym.DMAS);
                     ExprAttr base = identifierExpr(lexeme(id), idSym);
-                    String step = "FLOAT".equals(base.type) ? "1.0" : "1";
-                    ExprAttr result = numericBinary("+", base, literalAttr(null, step, base.type), opSym);
-                    emit(lexeme(id) + " = " + result.place);
-                    RESULT = result;
+                    ExprAttr step = "FLOAT".equals(base.type) ? constanteReal(1.0f) : constanteEntera(1);
+                    ExprAttr result = numericBinary("+", base, step, opSym);
+                    emit(Cuadruplo.copia(Cuadruplo.Operando.variable(lexeme(id), base.type), result.operand));
+                    RESULT = astActualizacion(lexeme(id), "++", idSym, result);
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 92: // factor ::= IDENTIFIER UKRA argListOpt RUSS 
+          case 94: // factor ::= IDENTIFIER UKRA argListOpt RUSS 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -3559,13 +4486,13 @@ class CUP$Parser$actions {
 		int argsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int argsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object args = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol idSym = tokenFrom(id, idleft, idright, sym.IDENTIFIER); RESULT = invokeFunction(lexeme(id), (ArrayList)args, idSym); 
+		 Symbol idSym = tokenFrom(id, idleft, idright, sym.IDENTIFIER); RESULT = astLlamada(lexeme(id), (ArrayList<ExprAttr>)args, idSym, invokeFunction(lexeme(id), (ArrayList)args, idSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 93: // factor ::= arrayElement 
+          case 95: // factor ::= arrayElement 
             {
               Object RESULT =null;
 		int arrleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -3577,7 +4504,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 94: // factor ::= MENOS UKRA exprP RUSS 
+          case 96: // factor ::= MENOS UKRA exprP RUSS 
             {
               Object RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -3586,13 +4513,13 @@ class CUP$Parser$actions {
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object e = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MENOS); RESULT = numericUnary("-", (ExprAttr)e, opSym); 
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.MENOS); RESULT = astUnario("-", (ExprAttr)e, opSym, numericUnary("-", (ExprAttr)e, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 95: // factor ::= UKRA exprP RUSS 
+          case 97: // factor ::= UKRA exprP RUSS 
             {
               Object RESULT =null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3604,25 +4531,31 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 96: // factor ::= TRUE 
+          case 98: // factor ::= TRUE 
             {
               Object RESULT =null;
-		 RESULT = new ExprAttr("true", "BOOL", true); 
+		int tkleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tkright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object tk = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 Symbol tkSym = tokenFrom(tk, tkleft, tkright, sym.TRUE); RESULT = astLiteral("true", tkSym, new ExprAttr("true", "BOOL", true)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 97: // factor ::= FALSE 
+          case 99: // factor ::= FALSE 
             {
               Object RESULT =null;
-		 RESULT = new ExprAttr("false", "BOOL", true); 
+		int tkleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tkright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object tk = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 Symbol tkSym = tokenFrom(tk, tkleft, tkright, sym.FALSE); RESULT = astLiteral("false", tkSym, new ExprAttr("false", "BOOL", true)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 98: // inputStruct ::= INPUT UKRA IDENTIFIER RUSS DOLLAR 
+          case 100: // inputStruct ::= INPUT UKRA IDENTIFIER RUSS DOLLAR 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3637,15 +4570,16 @@ class CUP$Parser$actions {
                     } else if (info.isArray) {
                         reportSemanticError("No se puede leer directamente un arreglo", idSym);
                     } else {
-                        emit("read " + name);
+                        emit(Cuadruplo.leer(Cuadruplo.Operando.variable(name, info.type)));
                     }
+                    if (ast != null) astAgregar(new Ast.Read(name, toLine(idSym), toColumn(idSym)));
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("inputStruct",28, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 99: // exprP ::= exprLog 
+          case 101: // exprP ::= exprLog 
             {
               Object RESULT =null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -3657,43 +4591,49 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 100: // exprLog ::= exprLog AND exprRel 
+          case 102: // exprLog ::= exprLog AND codeMark exprRel 
             {
               Object RESULT =null;
-		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Object l = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int opright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Object op = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Object l = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int opright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Object op = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Integer m = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.AND); RESULT = logicalBinary("&&", (ExprAttr)l, (ExprAttr)r, opSym); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("exprLog",32, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.AND); RESULT = astBinario("&&", (ExprAttr)l, (ExprAttr)r, opSym, logicalBinary("&&", (ExprAttr)l, (ExprAttr)r, opSym, (Integer)m)); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("exprLog",32, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 101: // exprLog ::= exprLog OR exprRel 
+          case 103: // exprLog ::= exprLog OR codeMark exprRel 
             {
               Object RESULT =null;
-		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Object l = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int opright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Object op = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Object l = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int opright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Object op = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Integer m = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.OR); RESULT = logicalBinary("||", (ExprAttr)l, (ExprAttr)r, opSym); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("exprLog",32, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.OR); RESULT = astBinario("||", (ExprAttr)l, (ExprAttr)r, opSym, logicalBinary("||", (ExprAttr)l, (ExprAttr)r, opSym, (Integer)m)); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("exprLog",32, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 102: // exprLog ::= exprRel 
+          case 104: // exprLog ::= exprRel 
             {
               Object RESULT =null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -3705,7 +4645,16 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 103: // exprRel ::= compAritOp relChainSeq 
+          case 105: // codeMark ::= 
+            {
+              Integer RESULT =null;
+		 RESULT = cod3D.size(); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("codeMark",59, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 106: // exprRel ::= compAritOp relChainSeq 
             {
               Object RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3714,13 +4663,13 @@ class CUP$Parser$actions {
 		int seqleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int seqright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		ArrayList seq = (ArrayList)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 ExprAttr base = (ExprAttr)left; RESULT = (seq != null) ? buildChainedComparison(base, (ArrayList<ComparisonLink>)seq) : base; 
+		 ExprAttr base = (ExprAttr)left; RESULT = (seq != null) ? astComparacion(base, (ArrayList<ComparisonLink>)seq, buildChainedComparison(base, (ArrayList<ComparisonLink>)seq)) : base; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("exprRel",33, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 104: // exprRel ::= NEGA exprRel 
+          case 107: // exprRel ::= NEGA exprRel 
             {
               Object RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3729,13 +4678,13 @@ class CUP$Parser$actions {
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object e = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol opSym = tokenFrom(op, opleft, opright, sym.NEGA); RESULT = logicalUnary("!", (ExprAttr)e, opSym); 
+		 Symbol opSym = tokenFrom(op, opleft, opright, sym.NEGA); RESULT = astUnario("!", (ExprAttr)e, opSym, logicalUnary("!", (ExprAttr)e, opSym)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("exprRel",33, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 105: // relChainSeq ::= relChainLink relChainSuffix 
+          case 108: // relChainSeq ::= relChainLink relChainSuffix 
             {
               ArrayList RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3755,7 +4704,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 106: // relChainSeq ::= 
+          case 109: // relChainSeq ::= 
             {
               ArrayList RESULT =null;
 		 RESULT = null; 
@@ -3764,7 +4713,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 107: // relChainSuffix ::= relChainLink relChainSuffix 
+          case 110: // relChainSuffix ::= relChainLink relChainSuffix 
             {
               ArrayList RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3784,7 +4733,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 108: // relChainSuffix ::= 
+          case 111: // relChainSuffix ::= 
             {
               ArrayList RESULT =null;
 		 RESULT = null; 
@@ -3793,7 +4742,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 109: // relChainLink ::= GREATHER compAritOp 
+          case 112: // relChainLink ::= GREATHER compAritOp 
             {
               ComparisonLink RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3808,7 +4757,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 110: // relChainLink ::= LESS compAritOp 
+          case 113: // relChainLink ::= LESS compAritOp 
             {
               ComparisonLink RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3823,7 +4772,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 111: // relChainLink ::= MORE compAritOp 
+          case 114: // relChainLink ::= MORE compAritOp 
             {
               ComparisonLink RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3838,7 +4787,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 112: // relChainLink ::= LOWER compAritOp 
+          case 115: // relChainLink ::= LOWER compAritOp 
             {
               ComparisonLink RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3853,7 +4802,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 113: // relChainLink ::= DIFF compAritOp 
+          case 116: // relChainLink ::= DIFF compAritOp 
             {
               ComparisonLink RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3868,7 +4817,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 114: // relChainLink ::= COMPARA compAritOp 
+          case 117: // relChainLink ::= COMPARA compAritOp 
             {
               ComparisonLink RESULT =null;
 		int opleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -3883,7 +4832,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 115: // scalarType ::= INT 
+          case 118: // scalarType ::= INT 
             {
               String RESULT =null;
 		 RESULT = "INT"; 
@@ -3892,7 +4841,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 116: // scalarType ::= CHAR 
+          case 119: // scalarType ::= CHAR 
             {
               String RESULT =null;
 		 RESULT = "CHAR"; 
@@ -3901,7 +4850,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 117: // scalarType ::= FLOAT 
+          case 120: // scalarType ::= FLOAT 
             {
               String RESULT =null;
 		 RESULT = "FLOAT"; 
@@ -3910,7 +4859,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 118: // scalarType ::= BOOL 
+          case 121: // scalarType ::= BOOL 
             {
               String RESULT =null;
 		 RESULT = "BOOL"; 
@@ -3919,7 +4868,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 119: // scalarType ::= STRING 
+          case 122: // scalarType ::= STRING 
             {
               String RESULT =null;
 		 RESULT = "STRING"; 
@@ -3928,7 +4877,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 120: // varAsig ::= IDENTIFIER EQ exprP DOLLAR 
+          case 123: // varAsig ::= IDENTIFIER EQ exprP DOLLAR 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -3952,13 +4901,14 @@ class CUP$Parser$actions {
                     } else {
                         recordAssignment(target, (ExprAttr)exp, eqSym);
                     }
+                    if (ast != null) astAgregar(new Ast.Assign(name, astNodo((ExprAttr)exp), toLine(idSym), toColumn(idSym)));
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("varAsig",3, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 121: // varAsig ::= arrayElement EQ exprP DOLLAR 
+          case 124: // varAsig ::= arrayElement EQ exprP DOLLAR 
             {
               Object RESULT =null;
 		int elemleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -3975,13 +4925,14 @@ class CUP$Parser$actions {
                     ExprAttr lhs = (ExprAttr)elem;
                     ExprAttr rhs = (ExprAttr)exp;
                     emitArrayStore(lhs, rhs, eqSym);
+                    if (ast != null) astAgregar(new Ast.ArrayAssign((Ast.ArrayAccess)astNodo(lhs), astNodo(rhs), toLine(eqSym), toColumn(eqSym)));
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("varAsig",3, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 122: // varAsig ::= EQ exprP DOLLAR 
+          case 125: // varAsig ::= EQ exprP DOLLAR 
             {
               Object RESULT =null;
 		int eqleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3993,7 +4944,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 123: // varIns ::= LET scalarType IDENTIFIER 
+          case 126: // varIns ::= LET scalarType IDENTIFIER 
             {
               Object RESULT =null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -4002,13 +4953,13 @@ class CUP$Parser$actions {
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int IDright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ID = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); String typeName = t != null ? t.toString() : "INT"; SymbolInfo info = declareSymbol(currentHash, name, typeName, false, 0, false, false, idSym); if (info != null) emit("declare " + name + ":" + typeName); 
+		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); String typeName = t != null ? t.toString() : "INT"; SymbolInfo info = declareSymbol(currentHash, name, typeName, false, 0, false, false, idSym); if (info != null) emit(Cuadruplo.declarar(name, typeName, false)); if (ast != null) astAgregar(new Ast.VarDecl(name, typeName, false, null, toLine(idSym), toColumn(idSym))); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("varIns",2, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 124: // varInsInit ::= LET scalarType IDENTIFIER EQ exprP 
+          case 127: // varInsInit ::= LET scalarType IDENTIFIER EQ exprP 
             {
               Object RESULT =null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -4030,16 +4981,17 @@ class CUP$Parser$actions {
                         String typeName = t != null ? t.toString() : "INT";
                         SymbolInfo info = declareSymbol(currentHash, name, typeName, false, 0, false, false, idSym);
                         if (info != null) {
-                            emit("declare " + name + ":" + typeName);
+                            emit(Cuadruplo.declarar(name, typeName, false));
                             recordAssignment(info, (ExprAttr)exp, eqSym);
                         }
+                        if (ast != null) astAgregar(new Ast.VarDecl(name, typeName, false, astNodo((ExprAttr)exp), toLine(idSym), toColumn(idSym)));
                     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("varInsInit",19, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 125: // varInsGl ::= GLOBAL LET scalarType IDENTIFIER 
+          case 128: // varInsGl ::= GLOBAL LET scalarType IDENTIFIER 
             {
               Object RESULT =null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -4048,13 +5000,13 @@ class CUP$Parser$actions {
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int IDright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ID = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); String typeName = t != null ? t.toString() : "INT"; SymbolInfo info = declareSymbol(globalHash, name, typeName, false, 0, false, true, idSym); if (info != null) emit("declare_global " + name + ":" + typeName); 
+		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); String typeName = t != null ? t.toString() : "INT"; SymbolInfo info = declareSymbol(globalHash, name, typeName, false, 0, false, true, idSym); if (info != null) emit(Cuadruplo.declarar(name, typeName, true)); if (ast != null) astAgregar(new Ast.VarDecl(name, typeName, true, null, toLine(idSym), toColumn(idSym))); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("varInsGl",39, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 126: // varInsAsig ::= varIns varAsig 
+          case 129: // varInsAsig ::= varIns varAsig 
             {
               Object RESULT =null;
 
@@ -4063,7 +5015,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 127: // varInsAsigGl ::= varInsGl varAsig 
+          case 130: // varInsAsigGl ::= varInsGl varAsig 
             {
               Object RESULT =null;
 
@@ -4072,99 +5024,99 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 128: // funInitial ::= INT IDENTIFIER 
+          case 131: // funInitial ::= INT IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int IDright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ID = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "INT", idSym); emitFunctionEntry(name, "INT"); 
+		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "INT", idSym); emitFunctionEntry(name, "INT"); astAbrirFuncion(name, "INT", false, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("funInitial",30, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 129: // funInitial ::= CHAR IDENTIFIER 
+          case 132: // funInitial ::= CHAR IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int IDright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ID = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "CHAR", idSym); emitFunctionEntry(name, "CHAR"); 
+		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "CHAR", idSym); emitFunctionEntry(name, "CHAR"); astAbrirFuncion(name, "CHAR", false, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("funInitial",30, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 130: // funInitial ::= BOOL IDENTIFIER 
+          case 133: // funInitial ::= BOOL IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int IDright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ID = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "BOOL", idSym); emitFunctionEntry(name, "BOOL"); 
+		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "BOOL", idSym); emitFunctionEntry(name, "BOOL"); astAbrirFuncion(name, "BOOL", false, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("funInitial",30, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 131: // funInitial ::= STRING IDENTIFIER 
+          case 134: // funInitial ::= STRING IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int IDright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ID = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "STRING", idSym); emitFunctionEntry(name, "STRING"); 
+		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "STRING", idSym); emitFunctionEntry(name, "STRING"); astAbrirFuncion(name, "STRING", false, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("funInitial",30, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 132: // funInitial ::= FLOAT IDENTIFIER 
+          case 135: // funInitial ::= FLOAT IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int IDright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ID = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "FLOAT", idSym); emitFunctionEntry(name, "FLOAT"); 
+		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "FLOAT", idSym); emitFunctionEntry(name, "FLOAT"); astAbrirFuncion(name, "FLOAT", false, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("funInitial",30, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 133: // funInitial ::= VOID IDENTIFIER 
+          case 136: // funInitial ::= VOID IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
 		int IDright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		Object ID = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "VOID", idSym); emitFunctionEntry(name, "VOID"); 
+		   Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); String name = lexeme(ID); startFunctionScope(name, "VOID", idSym); emitFunctionEntry(name, "VOID"); astAbrirFuncion(name, "VOID", false, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("funInitial",30, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 134: // NT$1 ::= 
+          case 137: // NT$1 ::= 
             {
               Object RESULT =null;
  emitFunctionParamMetadata(); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$1",60, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$1",61, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 135: // funcStruct ::= funInitial paramSection NT$1 blockStart BLOCK END_BLOCK 
+          case 138: // funcStruct ::= funInitial paramSection NT$1 blockStart BLOCK END_BLOCK 
             {
               Object RESULT =null;
               // propagate RESULT from NT$1
                 RESULT = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		 String finished = currentHash; if (finished != null) { emitFunctionExit(finished); } FunctionInfo info = finished != null ? functionTable.get(finished) : null; if (info != null && !info.returnsVoid && !info.hasReturn) { reportSemanticError("La funcion '" + finished + "' no retorna", null); } closeCurrentScope(); 
+		 String finished = currentHash; if (finished != null) { emitFunctionExit(finished); } else { restoreTempPools(); } FunctionInfo info = finished != null ? functionTable.get(finished) : null; if (info != null && !info.returnsVoid && !info.hasReturn) { reportSemanticError("La funcion '" + finished + "' no retorna", null); } closeCurrentScope(); astCerrar(); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("funcStruct",8, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 136: // paramSection ::= UKRA paramDeclList paramSectionClose 
+          case 139: // paramSection ::= UKRA paramDeclList paramSectionClose 
             {
               Object RESULT =null;
 
@@ -4173,7 +5125,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 137: // paramSection ::= UKRA paramSectionClose 
+          case 140: // paramSection ::= UKRA paramSectionClose 
             {
               Object RESULT =null;
 
@@ -4182,7 +5134,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 138: // paramSection ::= 
+          case 141: // paramSection ::= 
             {
               Object RESULT =null;
 
@@ -4191,7 +5143,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 139: // paramSectionClose ::= RUSS 
+          case 142: // paramSectionClose ::= RUSS 
             {
               Object RESULT =null;
 
@@ -4200,7 +5152,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 140: // paramSectionClose ::= 
+          case 143: // paramSectionClose ::= 
             {
               Object RESULT =null;
 
@@ -4209,7 +5161,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 141: // paramDeclList ::= paramDecl 
+          case 144: // paramDeclList ::= paramDecl 
             {
               Object RESULT =null;
 
@@ -4218,7 +5170,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 142: // paramDeclList ::= paramDecl COMA paramDeclList 
+          case 145: // paramDeclList ::= paramDecl COMA paramDeclList 
             {
               Object RESULT =null;
 
@@ -4227,7 +5179,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 143: // paramDecl ::= INT IDENTIFIER 
+          case 146: // paramDecl ::= INT IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4239,7 +5191,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 144: // paramDecl ::= CHAR IDENTIFIER 
+          case 147: // paramDecl ::= CHAR IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4251,7 +5203,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 145: // paramDecl ::= FLOAT IDENTIFIER 
+          case 148: // paramDecl ::= FLOAT IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4263,7 +5215,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 146: // paramDecl ::= BOOL IDENTIFIER 
+          case 149: // paramDecl ::= BOOL IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4275,7 +5227,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 147: // paramDecl ::= STRING IDENTIFIER 
+          case 150: // paramDecl ::= STRING IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4287,7 +5239,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 148: // blockStart ::= INIT_BLOCK blockStartClose 
+          case 151: // blockStart ::= INIT_BLOCK blockStartClose 
             {
               Object RESULT =null;
 
@@ -4296,7 +5248,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 149: // blockStartClose ::= RUSS 
+          case 152: // blockStartClose ::= RUSS 
             {
               Object RESULT =null;
 
@@ -4305,7 +5257,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 150: // blockStartClose ::= 
+          case 153: // blockStartClose ::= 
             {
               Object RESULT =null;
 
@@ -4314,7 +5266,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 151: // argListOpt ::= argList 
+          case 154: // argListOpt ::= argList 
             {
               Object RESULT =null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4326,7 +5278,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 152: // argListOpt ::= 
+          case 155: // argListOpt ::= 
             {
               Object RESULT =null;
 		 RESULT = new ArrayList(); 
@@ -4335,7 +5287,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 153: // argList ::= exprP 
+          case 156: // argList ::= exprP 
             {
               Object RESULT =null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4347,7 +5299,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 154: // argList ::= exprP COMA argList 
+          case 157: // argList ::= exprP COMA argList 
             {
               Object RESULT =null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -4362,27 +5314,27 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 155: // NT$2 ::= 
+          case 158: // NT$2 ::= 
             {
               Object RESULT =null;
  emitFunctionParamMetadata(); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$2",61, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$2",62, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 156: // mainStruct ::= mainInitial paramSection NT$2 blockStart BLOCK END_BLOCK 
+          case 159: // mainStruct ::= mainInitial paramSection NT$2 blockStart BLOCK END_BLOCK 
             {
               Object RESULT =null;
               // propagate RESULT from NT$2
                 RESULT = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		 emitFunctionExit("MAIN"); emitLabel("FIN_main"); emit("MAIN_END"); closeCurrentScope(); 
+		 emitFunctionExit("MAIN"); emitLabel("FIN_main"); emit(Cuadruplo.finPrincipal()); closeCurrentScope(); astCerrar(); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("mainStruct",9, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 157: // mainInitial ::= PRINCIPAL 
+          case 160: // mainInitial ::= PRINCIPAL 
             {
               Object RESULT =null;
 		int KWleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4390,35 +5342,42 @@ class CUP$Parser$actions {
 		Object KW = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		 Symbol kwSym = tokenFrom(KW, KWleft, KWright, sym.PRINCIPAL);
                                                      startFunctionScope("MAIN", "INT", kwSym);
-                                                     emit("MAIN_BEGIN");
+                                                     emit(Cuadruplo.inicioPrincipal());
                                                      emitFunctionEntry("MAIN", "INT");
+                                                     astAbrirFuncion("MAIN", "INT", true, kwSym);
                                                  
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("mainInitial",29, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 158: // NT$3 ::= 
+          case 161: // NT$3 ::= 
             {
               Object RESULT =null;
- beginDecideStructure(); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$3",62, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+		int decleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int decright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object dec = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+ beginDecideStructure(); astAbrirDecide(tokenFrom(dec, decleft, decright, sym.DECIDE)); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$3",63, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 159: // decideOfStruct ::= DECIDE OF NT$3 decideClauseList END DECIDE DOLLAR 
+          case 162: // decideOfStruct ::= DECIDE OF NT$3 decideClauseList END DECIDE DOLLAR 
             {
               Object RESULT =null;
               // propagate RESULT from NT$3
                 RESULT = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		 endDecideStructure(); 
+		int decleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int decright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		Object dec = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		 endDecideStructure(); astCerrarDecide(); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("decideOfStruct",23, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 160: // decideClauseList ::= decideClauseList decideClause 
+          case 163: // decideClauseList ::= decideClauseList decideClause 
             {
               Object RESULT =null;
 
@@ -4427,7 +5386,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 161: // decideClauseList ::= decideClause 
+          case 164: // decideClauseList ::= decideClause 
             {
               Object RESULT =null;
 
@@ -4436,7 +5395,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 162: // NT$4 ::= 
+          case 165: // NT$4 ::= 
             {
               Object RESULT =null;
 		int condleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -4445,13 +5404,13 @@ class CUP$Parser$actions {
 		int arrowTokleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int arrowTokright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object arrowTok = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
- Symbol arrowSym = tokenFrom(arrowTok, arrowTokleft, arrowTokright, sym.ARROW); beginDecideCase((ExprAttr)cond, arrowSym); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$4",63, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+ Symbol arrowSym = tokenFrom(arrowTok, arrowTokleft, arrowTokright, sym.ARROW); beginDecideCase((ExprAttr)cond, arrowSym); astAbrirCaso((ExprAttr)cond, arrowSym); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$4",64, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 163: // decideClause ::= caseCondition ARROW INIT_BLOCK NT$4 BLOCK END_BLOCK 
+          case 166: // decideClause ::= caseCondition ARROW INIT_BLOCK NT$4 BLOCK END_BLOCK 
             {
               Object RESULT =null;
               // propagate RESULT from NT$4
@@ -4462,33 +5421,33 @@ class CUP$Parser$actions {
 		int arrowTokleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
 		int arrowTokright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
 		Object arrowTok = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		 endDecideCase(); 
+		 endDecideCase(); astCerrarBloque(); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("decideClause",22, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 164: // NT$5 ::= 
+          case 167: // NT$5 ::= 
             {
               Object RESULT =null;
- beginDecideElse(); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$5",64, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+ beginDecideElse(); astAbrirElseDecide(); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$5",65, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 165: // decideClause ::= ELSE ARROW INIT_BLOCK NT$5 BLOCK END_BLOCK 
+          case 168: // decideClause ::= ELSE ARROW INIT_BLOCK NT$5 BLOCK END_BLOCK 
             {
               Object RESULT =null;
               // propagate RESULT from NT$5
                 RESULT = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		 endDecideElse(); 
+		 endDecideElse(); astCerrarBloque(); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("decideClause",22, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 166: // caseCondition ::= exprP 
+          case 169: // caseCondition ::= exprP 
             {
               Object RESULT =null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4500,35 +5459,44 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 167: // NT$6 ::= 
+          case 170: // NT$6 ::= 
             {
               Object RESULT =null;
- beginLoopStructure(); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$6",65, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+		int lpleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int lpright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object lp = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+ beginLoopStructure(); astAbrirLoop(tokenFrom(lp, lpleft, lpright, sym.LOOP)); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$6",66, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 168: // NT$7 ::= 
+          case 171: // NT$7 ::= 
             {
               Object RESULT =(Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-8)).value;
+		int lpleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)).left;
+		int lpright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)).right;
+		Object lp = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-9)).value;
 		int exitTokleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
 		int exitTokright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
 		Object exitTok = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
 		int exitCondleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
 		int exitCondright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
 		Object exitCond = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
- Symbol exitSym = tokenFrom(exitTok, exitTokleft, exitTokright, sym.EXIT); finalizeLoopBody((ExprAttr)exitCond, exitSym); endLoopStructure(); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$7",66, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+ Symbol exitSym = tokenFrom(exitTok, exitTokleft, exitTokright, sym.EXIT); finalizeLoopBody((ExprAttr)exitCond, exitSym); endLoopStructure(); astCerrarLoop((ExprAttr)exitCond); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$7",67, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 169: // loopStruct ::= LOOP NT$6 loopBody EXIT WHEN exprP DOLLAR END LOOP DOLLAR NT$7 loopElseOpt 
+          case 172: // loopStruct ::= LOOP NT$6 loopBody EXIT WHEN exprP DOLLAR END LOOP DOLLAR NT$7 loopElseOpt 
             {
               Object RESULT =null;
               // propagate RESULT from NT$7
                 RESULT = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int lpleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-11)).left;
+		int lpright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-11)).right;
+		Object lp = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-11)).value;
 		int exitTokleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).left;
 		int exitTokright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).right;
 		Object exitTok = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-8)).value;
@@ -4541,16 +5509,19 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 170: // loopBody ::= exprP 
+          case 173: // loopBody ::= exprP 
             {
               Object RESULT =null;
-
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 releaseTemps((ExprAttr)e); astExpresion((ExprAttr)e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("loopBody",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 171: // loopBody ::= BLOCK 
+          case 174: // loopBody ::= BLOCK 
             {
               Object RESULT =null;
 
@@ -4559,16 +5530,27 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 172: // loopElseOpt ::= ELSE ARROW INIT_BLOCK BLOCK END_BLOCK 
+          case 175: // NT$8 ::= 
+            {
+              Object RESULT =null;
+ astAbrirElseLoop(); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$8",68, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 176: // loopElseOpt ::= ELSE ARROW INIT_BLOCK NT$8 BLOCK END_BLOCK 
             {
               Object RESULT =null;
-		 emit("// rama else del loop"); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("loopElseOpt",25, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+              // propagate RESULT from NT$8
+                RESULT = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		 emit(Cuadruplo.comentario("rama else del loop")); astCerrarBloque(); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("loopElseOpt",25, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 173: // loopElseOpt ::= 
+          case 177: // loopElseOpt ::= 
             {
               Object RESULT =null;
 
@@ -4577,9 +5559,12 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 174: // NT$8 ::= 
+          case 178: // NT$9 ::= 
             {
               Object RESULT =null;
+		int frleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int frright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		Object fr = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
 		int initleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
 		int initright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
 		Object init = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
@@ -4589,17 +5574,20 @@ class CUP$Parser$actions {
 		int limitleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int limitright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object limit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
- beginForLoop((ExprAttr)init, (ExprAttr)step, (ExprAttr)limit, false); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$8",67, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+ beginForLoop((ExprAttr)init, (ExprAttr)step, (ExprAttr)limit, false); astAbrirFor((ExprAttr)step, (ExprAttr)limit, false, tokenFrom(fr, frleft, frright, sym.FOR)); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$9",69, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 175: // forStruct ::= FOR forInit STEP stepValue TO exprP DO NT$8 blockStart BLOCK END_BLOCK 
+          case 179: // forStruct ::= FOR forInit STEP stepValue TO exprP DO NT$9 blockStart BLOCK END_BLOCK 
             {
               Object RESULT =null;
-              // propagate RESULT from NT$8
+              // propagate RESULT from NT$9
                 RESULT = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int frleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-10)).left;
+		int frright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-10)).right;
+		Object fr = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-10)).value;
 		int initleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)).left;
 		int initright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)).right;
 		Object init = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-9)).value;
@@ -4609,15 +5597,18 @@ class CUP$Parser$actions {
 		int limitleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
 		int limitright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
 		Object limit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		 endForLoop(); 
+		 endForLoop(); astCerrar(); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("forStruct",26, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-10)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 176: // NT$9 ::= 
+          case 180: // NT$10 ::= 
             {
               Object RESULT =null;
+		int frleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int frright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		Object fr = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
 		int initleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
 		int initright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
 		Object init = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
@@ -4627,17 +5618,20 @@ class CUP$Parser$actions {
 		int limitleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int limitright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object limit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
- beginForLoop((ExprAttr)init, (ExprAttr)step, (ExprAttr)limit, true); 
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$9",68, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+ beginForLoop((ExprAttr)init, (ExprAttr)step, (ExprAttr)limit, true); astAbrirFor((ExprAttr)step, (ExprAttr)limit, true, tokenFrom(fr, frleft, frright, sym.FOR)); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$10",70, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 177: // forStruct ::= FOR forInit STEP stepValue DOWNTO exprP DO NT$9 blockStart BLOCK END_BLOCK 
+          case 181: // forStruct ::= FOR forInit STEP stepValue DOWNTO exprP DO NT$10 blockStart BLOCK END_BLOCK 
             {
               Object RESULT =null;
-              // propagate RESULT from NT$9
+              // propagate RESULT from NT$10
                 RESULT = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int frleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-10)).left;
+		int frright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-10)).right;
+		Object fr = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-10)).value;
 		int initleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)).left;
 		int initright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)).right;
 		Object init = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-9)).value;
@@ -4647,13 +5641,13 @@ class CUP$Parser$actions {
 		int limitleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
 		int limitright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
 		Object limit = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		 endForLoop(); 
+		 endForLoop(); astCerrar(); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("forStruct",26, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-10)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 178: // forInit ::= IDENTIFIER EQ exprP 
+          case 182: // forInit ::= IDENTIFIER EQ exprP 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -4671,6 +5665,7 @@ class CUP$Parser$actions {
               String name = lexeme(id);
               SymbolInfo info = lookupSymbol(name);
               ExprAttr rhs = (ExprAttr)exp;
+              if (ast != null) astForInit = new Ast.Assign(name, astNodo(rhs), toLine(idSym), toColumn(idSym));
               if (info == null) {
                   reportSemanticError("Variable '" + name + "' no declarada", idSym);
                   RESULT = ExprAttr.invalid();
@@ -4684,7 +5679,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 179: // forInit ::= arrayElement EQ exprP 
+          case 183: // forInit ::= arrayElement EQ exprP 
             {
               Object RESULT =null;
 		int elemleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -4706,7 +5701,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 180: // stepValue ::= exprP 
+          case 184: // stepValue ::= exprP 
             {
               Object RESULT =null;
 		int expleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4718,7 +5713,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 181: // arrayIns ::= INT ARRAY IDENTIFIER SQUARES INT_LITERAL SQUAREC 
+          case 185: // arrayIns ::= INT ARRAY IDENTIFIER SQUARES INT_LITERAL SQUAREC 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -4727,13 +5722,13 @@ class CUP$Parser$actions {
 		int SZleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int SZright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object SZ = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); Symbol szSym = tokenFrom(SZ, SZleft, SZright, sym.INT_LITERAL); String name = lexeme(ID); int len = Math.max(0, literalToInt(szSym)); SymbolInfo info = declareSymbol(currentHash, name, "INT", true, len, false, false, idSym); if (info != null) { emit("declare_arr " + name + "[" + len + "] INT"); if (len > 0) emit("arr_pad_zero " + name + ", 0, " + len); } 
+		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); Symbol szSym = tokenFrom(SZ, SZleft, SZright, sym.INT_LITERAL); String name = lexeme(ID); int len = Math.max(0, literalToInt(szSym)); SymbolInfo info = declareSymbol(currentHash, name, "INT", true, len, false, false, idSym); if (info != null) { emit(Cuadruplo.declararArreglo(name, len, "INT", false)); if (len > 0) emit(Cuadruplo.rellenoCeros(arrayOperand(info), intLiteral(0), intLiteral(len))); } astDeclararArreglo(name, "INT", len, false, null, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("arrayIns",14, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 182: // arrayIns ::= CHAR ARRAY IDENTIFIER SQUARES INT_LITERAL SQUAREC 
+          case 186: // arrayIns ::= CHAR ARRAY IDENTIFIER SQUARES INT_LITERAL SQUAREC 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -4742,13 +5737,13 @@ class CUP$Parser$actions {
 		int SZleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int SZright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object SZ = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); Symbol szSym = tokenFrom(SZ, SZleft, SZright, sym.INT_LITERAL); String name = lexeme(ID); int len = Math.max(0, literalToInt(szSym)); SymbolInfo info = declareSymbol(currentHash, name, "CHAR", true, len, false, false, idSym); if (info != null) { emit("declare_arr " + name + "[" + len + "] CHAR"); if (len > 0) emit("arr_pad_zero " + name + ", 0, " + len); } 
+		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); Symbol szSym = tokenFrom(SZ, SZleft, SZright, sym.INT_LITERAL); String name = lexeme(ID); int len = Math.max(0, literalToInt(szSym)); SymbolInfo info = declareSymbol(currentHash, name, "CHAR", true, len, false, false, idSym); if (info != null) { emit(Cuadruplo.declararArreglo(name, len, "CHAR", false)); if (len > 0) emit(Cuadruplo.rellenoCeros(arrayOperand(info), intLiteral(0), intLiteral(len))); } astDeclararArreglo(name, "CHAR", len, false, null, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("arrayIns",14, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 183: // arrayInsGl ::= GLOBAL INT ARRAY IDENTIFIER SQUARES INT_LITERAL SQUAREC 
+          case 187: // arrayInsGl ::= GLOBAL INT ARRAY IDENTIFIER SQUARES INT_LITERAL SQUAREC 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -4757,13 +5752,13 @@ class CUP$Parser$actions {
 		int SZleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int SZright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object SZ = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); Symbol szSym = tokenFrom(SZ, SZleft, SZright, sym.INT_LITERAL); String name = lexeme(ID); int len = Math.max(0, literalToInt(szSym)); SymbolInfo info = declareSymbol(globalHash, name, "INT", true, len, false, true, idSym); if (info != null) { emit("declare_global_arr " + name + "[" + len + "] INT"); if (len > 0) emit("arr_pad_zero " + name + ", 0, " + len); } 
+		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); Symbol szSym = tokenFrom(SZ, SZleft, SZright, sym.INT_LITERAL); String name = lexeme(ID); int len = Math.max(0, literalToInt(szSym)); SymbolInfo info = declareSymbol(globalHash, name, "INT", true, len, false, true, idSym); if (info != null) { emit(Cuadruplo.declararArreglo(name, len, "INT", true)); if (len > 0) emit(Cuadruplo.rellenoCeros(arrayOperand(info), intLiteral(0), intLiteral(len))); } astDeclararArreglo(name, "INT", len, true, null, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("arrayInsGl",38, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 184: // arrayInsGl ::= GLOBAL CHAR ARRAY IDENTIFIER SQUARES INT_LITERAL SQUAREC 
+          case 188: // arrayInsGl ::= GLOBAL CHAR ARRAY IDENTIFIER SQUARES INT_LITERAL SQUAREC 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -4772,13 +5767,13 @@ class CUP$Parser$actions {
 		int SZleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int SZright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object SZ = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); Symbol szSym = tokenFrom(SZ, SZleft, SZright, sym.INT_LITERAL); String name = lexeme(ID); int len = Math.max(0, literalToInt(szSym)); SymbolInfo info = declareSymbol(globalHash, name, "CHAR", true, len, false, true, idSym); if (info != null) { emit("declare_global_arr " + name + "[" + len + "] CHAR"); if (len > 0) emit("arr_pad_zero " + name + ", 0, " + len); } 
+		 Symbol idSym = tokenFrom(ID, IDleft, IDright, sym.IDENTIFIER); Symbol szSym = tokenFrom(SZ, SZleft, SZright, sym.INT_LITERAL); String name = lexeme(ID); int len = Math.max(0, literalToInt(szSym)); SymbolInfo info = declareSymbol(globalHash, name, "CHAR", true, len, false, true, idSym); if (info != null) { emit(Cuadruplo.declararArreglo(name, len, "CHAR", true)); if (len > 0) emit(Cuadruplo.rellenoCeros(arrayOperand(info), intLiteral(0), intLiteral(len))); } astDeclararArreglo(name, "CHAR", len, true, null, idSym); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("arrayInsGl",38, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 185: // arrayLetStmt ::= LET scalarType IDENTIFIER SQUARES INT_LITERAL SQUAREC 
+          case 189: // arrayLetStmt ::= LET scalarType IDENTIFIER SQUARES INT_LITERAL SQUAREC 
             {
               Object RESULT =null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -4798,16 +5793,17 @@ class CUP$Parser$actions {
                     int len = Math.max(0, literalToInt(szSym));
                     SymbolInfo info = declareSymbol(currentHash, name, elementType, true, len, false, false, idSym);
                     if (info != null) {
-                        emit("declare_arr " + name + "[" + len + "] " + elementType);
+                        emit(Cuadruplo.declararArreglo(name, len, elementType, false));
                         initializeArrayValues(info, null, idSym);
                     }
+                    astDeclararArreglo(name, elementType, len, false, null, idSym);
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("arrayLetStmt",20, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 186: // arrayLetStmt ::= LET scalarType IDENTIFIER SQUARES INT_LITERAL SQUAREC EQ arrayLiteral 
+          case 190: // arrayLetStmt ::= LET scalarType IDENTIFIER SQUARES INT_LITERAL SQUAREC EQ arrayLiteral 
             {
               Object RESULT =null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -4834,16 +5830,17 @@ class CUP$Parser$actions {
                     int len = Math.max(0, literalToInt(szSym));
                     SymbolInfo info = declareSymbol(currentHash, name, elementType, true, len, false, false, idSym);
                     if (info != null) {
-                        emit("declare_arr " + name + "[" + len + "] " + elementType);
+                        emit(Cuadruplo.declararArreglo(name, len, elementType, false));
                         initializeArrayValues(info, (ArrayList<ExprAttr>)vals, eqSym);
                     }
+                    astDeclararArreglo(name, elementType, len, false, (ArrayList<ExprAttr>)vals, idSym);
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("arrayLetStmt",20, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 187: // arrayAsig ::= IDENTIFIER EQ SQUARES elementos SQUAREC DOLLAR 
+          case 191: // arrayAsig ::= IDENTIFIER EQ SQUARES elementos SQUAREC DOLLAR 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -4868,13 +5865,14 @@ class CUP$Parser$actions {
                         ArrayList<ExprAttr> list = (ArrayList<ExprAttr>)vals;
                         initializeArrayValues(info, list, eqSym);
                     }
+                    if (ast != null) astAgregar(new Ast.ArrayInit(name, astNodos((ArrayList<ExprAttr>)vals), toLine(idSym), toColumn(idSym)));
                 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("arrayAsig",15, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 188: // arrayAsig ::= EQ SQUARES elementos SQUAREC DOLLAR 
+          case 192: // arrayAsig ::= EQ SQUARES elementos SQUAREC DOLLAR 
             {
               Object RESULT =null;
 		int eqleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -4886,7 +5884,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 189: // elementos ::= compAritOp COMA elementos 
+          case 193: // elementos ::= compAritOp COMA elementos 
             {
               Object RESULT =null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -4901,7 +5899,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 190: // elementos ::= compAritOp 
+          case 194: // elementos ::= compAritOp 
             {
               Object RESULT =null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4913,7 +5911,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 191: // arrayLiteral ::= INIT_BLOCK arrayLiteralItems END_BLOCK 
+          case 195: // arrayLiteral ::= INIT_BLOCK arrayLiteralItems END_BLOCK 
             {
               ArrayList RESULT =null;
 		int valsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -4925,7 +5923,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 192: // arrayLiteral ::= INIT_BLOCK END_BLOCK 
+          case 196: // arrayLiteral ::= INIT_BLOCK END_BLOCK 
             {
               ArrayList RESULT =null;
 		 RESULT = new ArrayList<ExprAttr>(); 
@@ -4934,7 +5932,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 193: // arrayLiteralItems ::= exprP COMA arrayLiteralItems 
+          case 197: // arrayLiteralItems ::= exprP COMA arrayLiteralItems 
             {
               ArrayList RESULT =null;
 		int expleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -4949,7 +5947,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 194: // arrayLiteralItems ::= exprP 
+          case 198: // arrayLiteralItems ::= exprP 
             {
               ArrayList RESULT =null;
 		int expleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -4961,7 +5959,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 195: // arrayInsAsign ::= arrayIns arrayAsig 
+          case 199: // arrayInsAsign ::= arrayIns arrayAsig 
             {
               Object RESULT =null;
 
@@ -4970,7 +5968,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 196: // arrayInsAsignGl ::= arrayInsGl arrayAsig 
+          case 200: // arrayInsAsignGl ::= arrayInsGl arrayAsig 
             {
               Object RESULT =null;
 
@@ -4979,7 +5977,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 197: // arrayElement ::= IDENTIFIER SQUARES compAritOp SQUAREC 
+          case 201: // arrayElement ::= IDENTIFIER SQUARES compAritOp SQUAREC 
             {
               Object RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -4988,13 +5986,13 @@ class CUP$Parser$actions {
 		int exprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int exprright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object expr = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 Symbol idSym = tokenFrom(id, idleft, idright, sym.IDENTIFIER); RESULT = arrayAccess(lexeme(id), (ExprAttr)expr, idSym, null); 
+		 Symbol idSym = tokenFrom(id, idleft, idright, sym.IDENTIFIER); RESULT = astAcceso(lexeme(id), (ExprAttr)expr, idSym, arrayAccess(lexeme(id), (ExprAttr)expr, idSym, null)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("arrayElement",34, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 198: // paramStruct ::= PARAM INT IDENTIFIER 
+          case 202: // paramStruct ::= PARAM INT IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -5006,7 +6004,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 199: // paramStruct ::= PARAM CHAR IDENTIFIER 
+          case 203: // paramStruct ::= PARAM CHAR IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -5018,7 +6016,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 200: // paramStruct ::= PARAM STRING IDENTIFIER 
+          case 204: // paramStruct ::= PARAM STRING IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -5030,7 +6028,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 201: // paramStruct ::= PARAM FLOAT IDENTIFIER 
+          case 205: // paramStruct ::= PARAM FLOAT IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -5042,7 +6040,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 202: // paramStruct ::= PARAM BOOL IDENTIFIER 
+          case 206: // paramStruct ::= PARAM BOOL IDENTIFIER 
             {
               Object RESULT =null;
 		int IDleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -5054,7 +6052,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 203: // paramList ::= paramStruct paramList 
+          case 207: // paramList ::= paramStruct paramList 
             {
               Object RESULT =null;
 
@@ -5063,7 +6061,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 204: // paramList ::= paramStruct 
+          case 208: // paramList ::= paramStruct 
             {
               Object RESULT =null;
 
@@ -5072,13 +6070,16 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 205: // outPutStruct ::= OUTPUT UKRA exprP RUSS 
+          case 209: // outPutStruct ::= OUTPUT UKRA exprP RUSS 
             {
               Object RESULT =null;
+		int outleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int outright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Object out = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int expleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int expright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object exp = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 ExprAttr value = (ExprAttr)exp; if (value != null && value.isValid()) emit("print " + value.place); 
+		 ExprAttr value = (ExprAttr)exp; if (value != null && value.isValid()) emit(Cuadruplo.imprimir(value.operand)); releaseTemps(value); if (ast != null) astAgregar(new Ast.Print(astNodo(value), outleft + 1, outright + 1)); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("outPutStruct",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
@@ -12,12 +12,28 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java_cup.runtime.Symbol;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Proye1_compi {
+    // Tabla tokenId -> nombre construida una sola vez con reflexion sobre sym
+    private static final String[] NOMBRES_TOKENS = construirNombresTokens();
+
     /**
      * Proposito: punto de entrada que coordina el analisis lexico y sintactico.
-     * Entradas: argumento CLI opcional con la ruta del archivo fuente.
-     * Salidas: genera TOKENS.txt, TablaSimbolos.txt y Codigo3D.txt dentro de output/.
+     * Entradas: ruta opcional del archivo fuente y las opciones --sin-codigo3d, --lote, --hilos N, --servidor [puerto],
+     *           --cache, --cache-dir <carpeta>, --cache-max-mb N, --watch <carpeta>, --stats[=json], --tokens-consola,
+     *           --traza-lexer, --comentarios-resumidos y --ast.
+     * Salidas: genera TOKENS.txt, TablaSimbolos.txt, Codigo3D.txt (salvo con --sin-codigo3d) y destino.asm dentro de output/;
+     *          en modo --lote se crea una carpeta output/<fuente>/ por cada archivo compilado. Con la cache activa, las
+     *          fuentes sin cambios reutilizan los artefactos guardados en lugar de recompilarse. Con --watch el proceso
+     *          queda activo y recompila cada fuente de la carpeta cuando cambia. Con --stats se imprime el tiempo,
+     *          la CPU y los bytes asignados por cada fase de la compilacion. Los tokens solo se muestran en consola
+     *          con --tokens-consola; por defecto van unicamente a TOKENS.txt. --traza-lexer imprime las trazas
+     *          de depuracion del lexer (puntos, flotantes, true, cambios de estado y errores). Con
+     *          --comentarios-resumidos cada comentario de bloque es un solo token BLOCK_COMMENT (tambien en TOKENS.txt).
+     *          Con --ast el parser tambien construye el arbol sintactico tipado, lo escribe en AST.txt y lo pasa
+     *          por AnalisisFlujo, que advierte returns faltantes en algun camino y codigo inalcanzable.
      * Restricciones: requiere que el lexer y parser ya hayan sido generados; finaliza ante errores de E/S.
      */
     public static void main(String[] args) throws Exception {
@@ -29,31 +45,268 @@ public class Proye1_compi {
             Files.createDirectories(outputDir);
         }
 
+        // Separar opciones de las rutas de los archivos fuente
+        List<String> fuentes = new ArrayList<>();
+        OpcionesCompilacion opciones = OpcionesCompilacion.PREDETERMINADAS;
+        boolean modoLote = false;
+        String carpetaVigilada = null;
+        int puertoServidor = -1;
+        int hilos = Runtime.getRuntime().availableProcessors();
+        boolean usarCache = false;
+        Path carpetaCache = outputDir.resolve(".cache");
+        long cacheMaxBytes = CacheArtefactos.TAMANO_MAXIMO_POR_DEFECTO;
+        String formatoEstadisticas = null;
+        if (args != null) {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if ("--lote".equals(arg)) {
+                    modoLote = true;
+                } else if ("--hilos".equals(arg) && i + 1 < args.length) {
+                    hilos = Math.max(1, Integer.parseInt(args[++i]));
+                } else if ("--servidor".equals(arg)) {
+                    puertoServidor = ServidorCompilador.PUERTO_POR_DEFECTO;
+                    if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                        puertoServidor = Integer.parseInt(args[++i]);
+                    }
+                } else if ("--watch".equals(arg) && i + 1 < args.length) {
+                    carpetaVigilada = args[++i];
+                } else if (OpcionesCompilacion.esOpcion(arg)) {
+                    opciones = opciones.con(arg);
+                } else if ("--stats".equals(arg)) {
+                    formatoEstadisticas = "texto";
+                } else if ("--stats=json".equals(arg)) {
+                    formatoEstadisticas = "json";
+                } else if ("--cache".equals(arg)) {
+                    usarCache = true;
+                } else if ("--cache-dir".equals(arg) && i + 1 < args.length) {
+                    usarCache = true;
+                    carpetaCache = resolverFuente(args[++i], baseDir);
+                } else if ("--cache-max-mb".equals(arg) && i + 1 < args.length) {
+                    cacheMaxBytes = Math.max(1L, Long.parseLong(args[++i])) * 1024 * 1024;
+                } else {
+                    fuentes.add(arg);
+                }
+            }
+        }
+
+        if (puertoServidor >= 0) {
+            // Proceso residente: compila las peticiones que llegan por el socket local
+            new ServidorCompilador(puertoServidor, outputDir.resolve(ServidorCompilador.ARCHIVO_TOKEN), opciones).ejecutar();
+            return;
+        }
+
+        if (usarCache) {
+            opciones = opciones.conCache(new CacheArtefactos(carpetaCache, cacheMaxBytes));
+        }
+
+        if (carpetaVigilada != null) {
+            // Proceso residente: recompila las fuentes de la carpeta cada vez que cambian
+            new ModoVigilancia(resolverFuente(carpetaVigilada, baseDir), outputDir, hilos, opciones).ejecutar();
+            return;
+        }
+
+        if (modoLote) {
+            // Compilacion en paralelo: un directorio y/o una lista de archivos
+            if (fuentes.isEmpty()) {
+                fuentes.add("input");
+            }
+            List<Path> archivos = CompilacionLote.recolectarFuentes(fuentes, baseDir);
+            int fallidos = CompilacionLote.compilar(archivos, outputDir, hilos, opciones);
+            if (fallidos > 0) {
+                System.exit(1);
+            }
+            return;
+        }
+
         // Determinar input path: usar argumento o default a test.txt
         String inputPath;
-        if (args != null && args.length > 0) {
-            Path provided = Paths.get(args[0]);
-            inputPath = provided.isAbsolute() ? provided.toString() : baseDir.resolve(provided).toString();
+        if (!fuentes.isEmpty()) {
+            inputPath = resolverFuente(fuentes.get(0), baseDir).toString();
         } else {
             inputPath = baseDir.resolve("input").resolve("test.txt").toString();
         }
 
-        // Análisis léxico: generar archivo TOKENS.txt en programa/output
-        String tokens = test1(inputPath);
-        WriteToFile(outputDir.resolve("TOKENS.txt").toString(), tokens);
+        if (formatoEstadisticas != null) {
+            // Medicion por fase: siempre compila de verdad, sin consultar la cache
+            EstadisticasFases estadisticas = new EstadisticasFases();
+            compilar(inputPath, outputDir, opciones.conEstadisticas(estadisticas));
+            System.out.println("json".equals(formatoEstadisticas) ? estadisticas.reporteJson() : estadisticas.reporteTexto());
+            return;
+        }
+
+        compilar(inputPath, outputDir, opciones);
+    }
+
+    /**
+     * Proposito: ejecutar el pipeline completo (lexico, sintactico/semantico y MIPS) para un archivo fuente.
+     * Entradas: ruta del archivo fuente, carpeta donde se escriben sus artefactos y opciones de esta compilacion
+     *           (Codigo3D.txt, eco de tokens, trazas, comentarios, AST, cache y estadisticas).
+     * Salidas: TOKENS.txt, TablaSimbolos.txt, Codigo3D.txt (opcional) y destino.asm dentro de outputDir;
+     *          true si el parseo se completo sin errores sintacticos ni semanticos y destino.asm se genero.
+     *          Con cache, una fuente sin cambios copia los artefactos guardados, reemite los diagnosticos que la
+     *          compilacion original escribio en stderr y retorna el resultado de esa compilacion.
+     * Restricciones: los errores lexicos y de E/S se propagan; cada llamada usa su propio lexer y parser,
+     *                por lo que puede ejecutarse en paralelo con otras siempre que outputDir sea distinto y las
+     *                opciones no lleven estadisticas. Con estadisticas la cache no se consulta.
+     */
+    public static boolean compilar(String inputPath, Path outputDir, OpcionesCompilacion opciones) throws Exception {
+        CacheArtefactos cache = opciones.cache();
+        if (cache == null || opciones.estadisticas() != null) {
+            return compilarSinCache(inputPath, outputDir, opciones);
+        }
+        // La clave depende de los bytes de la fuente, de la version del compilador y de las opciones
+        String clave = cache.clave(Files.readAllBytes(Paths.get(inputPath)), opciones.claveCache());
+        Boolean exitoGuardado = cache.restaurar(clave, outputDir);
+        if (exitoGuardado != null) {
+            return exitoGuardado;
+        }
 
-        // Análisis sintáctico
-        test2(inputPath);
+        // Solo se guardan los artefactos que escriba esta compilacion, no los que quedaron de otra fuente
+        CacheArtefactos.limpiar(outputDir);
+        // Capturar stderr para poder reemitir los diagnosticos cuando la entrada se reutilice
+        ConsolaPorHilo.instalar();
+        ConsolaPorHilo.iniciarCaptura();
+        ConsolaPorHilo.Captura captura;
+        boolean exito;
+        try {
+            exito = compilarSinCache(inputPath, outputDir, opciones);
+        } finally {
+            captura = ConsolaPorHilo.terminarCaptura();
+            captura.reenviar();
+        }
+        // Las compilaciones que terminan con excepcion no llegan aqui y no se guardan
+        cache.guardar(clave, outputDir, captura.errores(), exito);
+        return exito;
+    }
 
-        // Generar archivo destino MIPS a partir del Codigo3D
+    /**
+     * Proposito: escanear el archivo fuente y compilar sus tokens sin consultar la cache.
+     * Entradas: ruta del archivo fuente, carpeta de artefactos y opciones de la compilacion.
+     * Salidas: los mismos artefactos y resultado que compilar(String, Path, OpcionesCompilacion).
+     * Restricciones: registra la fase lexico cuando las opciones llevan estadisticas.
+     */
+    private static boolean compilarSinCache(String inputPath, Path outputDir, OpcionesCompilacion opciones) throws Exception {
+        EstadisticasFases estadisticas = opciones.estadisticas();
+        // Análisis léxico: una sola pasada del lexer que alimenta TOKENS.txt y al parser
+        iniciarFase(estadisticas, "lexico");
+        FlujoTokens flujo;
+        try {
+            flujo = grabarTokens(inputPath, opciones);
+        } finally {
+            terminarFase(estadisticas);
+        }
+        return compilar(flujo, outputDir, opciones);
+    }
+
+    /**
+     * Proposito: ejecutar las fases posteriores al lexer sobre tokens ya grabados (por ejemplo, de una fuente en
+     *           memoria o de una peticion del servidor).
+     * Entradas: flujo de tokens (escaneado con las mismas opciones), carpeta de artefactos y opciones de esta
+     *           compilacion; la cache de las opciones no se usa porque no hay bytes de fuente para la clave.
+     * Salidas: TOKENS.txt, TablaSimbolos.txt, Codigo3D.txt (opcional) y destino.asm dentro de outputDir; con
+     *          estadisticas, las fases tokens_txt, sintactico, tabla_simbolos, codigo3d, mips y espera_escritura
+     *          (cada escritura en segundo plano se suma a la fase que la encolo, no a espera_escritura).
+     * Restricciones: las fases anidadas dentro de parse() se descuentan de sintactico; retorna cuando los
+     *                artefactos ya estan en disco y lanza IOException si alguno no se pudo escribir.
+     */
+    public static boolean compilar(FlujoTokens flujo, Path outputDir, OpcionesCompilacion opciones) throws Exception {
+        EstadisticasFases estadisticas = opciones.estadisticas();
+        contarFase(estadisticas, "lexico", "tokens", flujo.size());
+        contarFase(estadisticas, "lexico", "lexemas_distintos", flujo.lexemasDistintos());
+        // Los artefactos se escriben en el hilo de E/S mientras avanzan las fases siguientes
+        EscritorArtefactos escritor = new EscritorArtefactos(estadisticas);
+
+        // Listado de tokens directo a TOKENS.txt (y a la consola solo si se pidio)
+        iniciarFase(estadisticas, "tokens_txt");
+        try {
+            Path tokensTxt = outputDir.resolve("TOKENS.txt");
+            String escrito = "El archivo se ha escrito correctamente en: " + tokensTxt.toAbsolutePath();
+            if (opciones.tokensEnConsola()) {
+                volcarTokens(flujo, SumideroTokens.todos(new SumideroTokens.Archivo(tokensTxt.toString()), new SumideroTokens.Consola()));
+                System.out.println("Cantidad de lexemas encontrados: " + flujo.size());
+                System.out.println(escrito);
+            } else {
+                // El mensaje de TOKENS.txt lo imprime escritor.esperar() cuando el archivo ya esta en disco
+                escritor.ejecutar(tokensTxt, escrito, () -> volcarTokens(flujo, new SumideroTokens.Archivo(tokensTxt.toString())));
+                System.out.println("Cantidad de lexemas encontrados: " + flujo.size());
+            }
+        } finally {
+            terminarFase(estadisticas);
+        }
+
+        try {
+            return compilarDespuesDeTokens(flujo, outputDir, escritor, opciones);
+        } finally {
+            iniciarFase(estadisticas, "espera_escritura");
+            try {
+                escritor.esperar();
+            } finally {
+                terminarFase(estadisticas);
+            }
+        }
+    }
+
+    /**
+     * Proposito: ejecutar el parser y la generacion MIPS dejando la escritura de sus artefactos al escritor.
+     * Entradas: flujo de tokens, carpeta de artefactos, escritor y opciones de la compilacion.
+     * Salidas: escrituras de TablaSimbolos.txt, Codigo3D.txt y destino.asm encoladas en el escritor; true si el
+     *          parseo se completo sin errores y destino.asm se genero.
+     * Restricciones: quien llama debe invocar escritor.esperar() antes de leer los artefactos.
+     */
+    private static boolean compilarDespuesDeTokens(FlujoTokens flujo, Path outputDir, EscritorArtefactos escritor,
+                                                OpcionesCompilacion opciones) {
+        EstadisticasFases estadisticas = opciones.estadisticas();
+        // Análisis sintáctico sobre los tokens ya grabados
+        Parser parser = test2(flujo, outputDir, escritor, opciones);
+        if (parser != null) {
+            contarFase(estadisticas, "sintactico", "temporales", parser.getTemporalesGenerados());
+            contarFase(estadisticas, "sintactico", "etiquetas", parser.getEtiquetasGeneradas());
+            contarFase(estadisticas, "sintactico", "instrucciones3d", parser.getCuadruplos().size());
+        }
+
+        // Generar archivo destino MIPS a partir del codigo 3D que el parser conserva en memoria
         try {
-            Path codigo3DPath = outputDir.resolve("Codigo3D.txt");
             Path destinoAsm = outputDir.resolve("destino.asm");
-            Path tablaSimbolosPath = outputDir.resolve("TablaSimbolos.txt");
-            GeneradorMIPS.generarDesdeArtefactos(codigo3DPath, destinoAsm, tablaSimbolosPath);
+            if (parser != null && parser.isParseCompletado()) {
+                iniciarFase(estadisticas, "mips");
+                try {
+                    contarFase(estadisticas, "mips", "lineas_text",
+                            GeneradorMIPS.generarDesdeCuadruplos(parser.getCuadruplos(), destinoAsm, escritor));
+                } finally {
+                    terminarFase(estadisticas);
+                }
+            } else {
+                System.err.println("No fue posible generar destino.asm: el analisis sintactico no se completo");
+                return false;
+            }
         } catch (Exception e) {
             System.err.println("No fue posible generar destino.asm: " + e.getMessage());
+            return false;
         }
+        return parser.getCantidadErrores() == 0;
+    }
+
+    private static void iniciarFase(EstadisticasFases estadisticas, String fase) {
+        if (estadisticas != null) estadisticas.iniciar(fase);
+    }
+
+    private static void terminarFase(EstadisticasFases estadisticas) {
+        if (estadisticas != null) estadisticas.terminar();
+    }
+
+    private static void contarFase(EstadisticasFases estadisticas, String fase, String conteo, long valor) {
+        if (estadisticas != null) estadisticas.contar(fase, conteo, valor);
+    }
+
+    /**
+     * Proposito: interpretar una ruta de la linea de comandos relativa al directorio base del proyecto.
+     * Entradas: ruta tal como se recibio y directorio base detectado.
+     * Salidas: ruta absoluta o resuelta contra baseDir.
+     * Restricciones: no verifica que el archivo exista.
+     */
+    static Path resolverFuente(String ruta, Path baseDir) {
+        Path provided = Paths.get(ruta);
+        return provided.isAbsolute() ? provided : baseDir.resolve(provided);
     }
 
     /**
@@ -82,7 +335,7 @@ public class Proye1_compi {
      */
     public static String analizarLexico(String ruta) throws Exception {
         try (Reader reader = new BufferedReader(new FileReader(ruta, StandardCharsets.UTF_8))) {
-            Lexer lex = new Lexer(reader);
+            Lexer lex = nuevoLexer(reader, OpcionesCompilacion.PREDETERMINADAS);
             StringBuilder tokens = new StringBuilder();
             Symbol token;
             int i = 0;
@@ -108,7 +361,7 @@ public class Proye1_compi {
      */
     public static void analizarSintactico(String ruta) throws Exception {
         try (Reader reader = new BufferedReader(new FileReader(ruta, StandardCharsets.UTF_8))) {
-            Lexer lex = new Lexer(reader);
+            Lexer lex = nuevoLexer(reader, OpcionesCompilacion.PREDETERMINADAS);
             Parser parser = new Parser(lex);
             parser.parse();
         }
@@ -121,45 +374,116 @@ public class Proye1_compi {
      * Restricciones: lanza excepciones cuando el lexer falla; pensada para depuracion manual.
      */
     public static String test1(String ruta) throws FileNotFoundException, IOException, Exception {
-        try (Reader reader = new BufferedReader(new FileReader(ruta, StandardCharsets.UTF_8))) {
-            Lexer lex = new Lexer(reader);
-            int i = 0;
-            Symbol token;
-            StringBuilder tokens = new StringBuilder();
+        return test1(grabarTokens(ruta, OpcionesCompilacion.PREDETERMINADAS));
+    }
 
-            // Construir el mapa inverso tokenId -> nombre utilizando reflexion sobre sym
-            java.util.Map<Integer,String> tokenNames = new java.util.HashMap<Integer,String>();
-            try {
-                for (java.lang.reflect.Field f : sym.class.getFields()) {
-                    if (java.lang.reflect.Modifier.isStatic(f.getModifiers())) {
-                        Object val = f.get(null);
-                        if (val instanceof Integer) tokenNames.put((Integer)val, f.getName());
-                    }
-                }
-            } catch (Exception e) {
-                // ignorar la excepcion y usar los identificadores numericos
+    /**
+     * Proposito: escanear el archivo fuente una unica vez y grabar sus tokens para las fases siguientes.
+     * Entradas: ruta del archivo fuente en UTF-8 y opciones de la compilacion (trazas y comentarios resumidos).
+     * Salidas: FlujoTokens con cada simbolo, su posicion y su lexema.
+     * Restricciones: propaga las excepciones de E/S y los errores lexicos; el archivo se lee con LectorMapeado,
+     *                que decodifica directo al buffer del lexer. Las fuentes de LexicoParalelo.UMBRAL_BYTES o mas
+     *                se escanean por trozos en paralelo, salvo con --traza-lexer para conservar el orden de las trazas.
+     */
+    public static FlujoTokens grabarTokens(String ruta, OpcionesCompilacion opciones) throws IOException {
+        Path fuente = Paths.get(ruta);
+        if (opciones.listenerLexer() == null && Files.size(fuente) >= LexicoParalelo.UMBRAL_BYTES) {
+            return LexicoParalelo.grabar(fuente, opciones.comentariosResumidos());
+        }
+        try (Reader reader = LectorMapeado.abrir(fuente)) {
+            return FlujoTokens.grabar(nuevoLexer(reader, opciones));
+        }
+    }
+
+    /**
+     * Proposito: crear un Lexer con las trazas y los comentarios resumidos de unas opciones dadas.
+     * Entradas: lector de la fuente y opciones de la compilacion.
+     * Salidas: lexer listo para next_token().
+     * Restricciones: ninguna.
+     */
+    static Lexer nuevoLexer(Reader reader, OpcionesCompilacion opciones) {
+        Lexer lex = new Lexer(reader);
+        lex.setListener(opciones.listenerLexer());
+        lex.setResumirComentarios(opciones.comentariosResumidos());
+        return lex;
+    }
+
+    /**
+     * Proposito: formatear el listado de tokens a partir de un flujo ya grabado, sin volver a escanear.
+     * Entradas: flujo producido por grabarTokens.
+     * Salidas: cadena con los tokens formateados y trazas informativas en stdout.
+     * Restricciones: no modifica el cursor del flujo, por lo que puede reproducirse despues en el parser.
+     */
+    public static String test1(FlujoTokens flujo) {
+        StringBuilder tokens = new StringBuilder();
+        for (int i = 0; i < flujo.size(); i++) {
+            int tipo = flujo.tipo(i);
+            String linea = SumideroTokens.formatear(tipo, flujo.linea(i), flujo.columna(i), flujo.lexema(i), nombreToken(tipo));
+            System.out.println(linea);
+            tokens.append(linea).append('\n');
+        }
+        System.out.println("Cantidad de lexemas encontrados: " + flujo.size());
+        return tokens.toString();
+    }
+
+    /**
+     * Proposito: entregar cada token grabado a un sumidero sin construir el listado completo en memoria.
+     * Entradas: flujo producido por grabarTokens y sumidero destino (archivo, consola, nulo o una combinacion).
+     * Salidas: tokens enviados al sumidero, que se cierra al terminar.
+     * Restricciones: no modifica el cursor del flujo ni imprime en consola, por lo que puede correr en el hilo de
+     *                EscritorArtefactos; propaga los errores de E/S del sumidero.
+     */
+    public static void volcarTokens(FlujoTokens flujo, SumideroTokens sumidero) throws IOException {
+        try (SumideroTokens destino = sumidero) {
+            for (int i = 0; i < flujo.size(); i++) {
+                int tipo = flujo.tipo(i);
+                destino.token(tipo, flujo.linea(i), flujo.columna(i), flujo.lexema(i), nombreToken(tipo));
             }
+        }
+    }
 
-            while (true) {
-                token = lex.next_token();
-                if (token.sym != 0) {
-                    String lexeme = (token.value == null ? lex.getYYText() : token.value.toString());
-                    String tname = tokenNames.containsKey(token.sym) ? tokenNames.get(token.sym) : Integer.toString(token.sym);
-                    int line = -1, col = -1;
-                    try { line = lex.getLine(); col = lex.getColumn(); } catch (Exception ex) { /* ignorar */ }
-                    // ajustar a base 1 para los lectores humanos
-                    String lineStr = (line >= 0 ? Integer.toString(line+1) : "n/a");
-                    String colStr = (col >= 0 ? Integer.toString(col+1) : "n/a");
-
-                    System.out.println("Token: " + token.sym + " " + lexeme + " (" + tname + ") at " + lineStr + ":" + colStr);
-                    tokens.append("Token: " + token.sym + " " + lexeme + " (" + tname + ") at " + lineStr + ":" + colStr + "\n");
-                } else {
-                    System.out.println("Cantidad de lexemas encontrados: " + i);
-                    return tokens.toString(); // Convertir StringBuilder a String antes de devolverlo
+    /**
+     * Proposito: obtener el nombre simbolico de un token (por ejemplo IDENTIFICADOR) a partir de su id.
+     * Entradas: valor numerico definido en sym.
+     * Salidas: nombre de la constante, o el numero como texto si no existe.
+     * Restricciones: consulta la tabla estatica; no usa reflexion en cada llamada.
+     */
+    static String nombreToken(int id) {
+        if (id >= 0 && id < NOMBRES_TOKENS.length && NOMBRES_TOKENS[id] != null) {
+            return NOMBRES_TOKENS[id];
+        }
+        return Integer.toString(id);
+    }
+
+    /**
+     * Proposito: construir el mapa inverso tokenId -> nombre utilizando reflexion sobre sym.
+     * Entradas: ninguna.
+     * Salidas: arreglo indexado por id de token; las posiciones sin constante quedan en null.
+     * Restricciones: se ejecuta una vez al cargar la clase; ante errores de reflexion se usan los ids numericos.
+     */
+    private static String[] construirNombresTokens() {
+        java.util.Map<Integer,String> tokenNames = new java.util.HashMap<Integer,String>();
+        int maximo = -1;
+        try {
+            for (java.lang.reflect.Field f : sym.class.getFields()) {
+                if (java.lang.reflect.Modifier.isStatic(f.getModifiers())) {
+                    Object val = f.get(null);
+                    if (val instanceof Integer) {
+                        tokenNames.put((Integer)val, f.getName());
+                        maximo = Math.max(maximo, (Integer)val);
+                    }
                 }
-                i++;
+            }
+        } catch (Exception e) {
+            // ignorar la excepcion y usar los identificadores numericos
+        }
+        String[] nombres = new String[maximo + 1];
+        for (java.util.Map.Entry<Integer,String> entry : tokenNames.entrySet()) {
+            if (entry.getKey() >= 0) {
+                nombres[entry.getKey()] = entry.getValue();
             }
         }
+        return nombres;
     }
 
     private static String escapeCsv(String s) {
@@ -199,7 +523,7 @@ public class Proye1_compi {
         Parser myParser = null;
         try {
             reader = new BufferedReader(new FileReader(ruta, StandardCharsets.UTF_8));
-            Lexer lex = new Lexer(reader);  // Crea un analizador léxico para el archivo
+            Lexer lex = nuevoLexer(reader, OpcionesCompilacion.PREDETERMINADAS);  // Crea un analizador léxico para el archivo
             myParser = new Parser(lex);  // Crea un analizador sintáctico y le pasa el analizador léxico
             myParser.parse();  // Parsea el contenido del archivo
         } catch (Exception e) {
@@ -218,4 +542,45 @@ public class Proye1_compi {
             }
         }
     }
+
+    /**
+     * Proposito: ejecutar el parser sobre un flujo de tokens grabado y encolar la exportacion de las tablas.
+     * Entradas: flujo producido por grabarTokens (se reinicia su cursor antes de parsear), carpeta destino, escritor
+     *           del hilo de E/S y opciones de la compilacion (Codigo3D.txt, AST y estadisticas).
+     * Salidas: el parser usado, con el codigo 3D disponible mediante getCuadruplos(); null si no pudo crearse.
+     * Restricciones: siempre intenta exportar aun si el parseo falla, igual que test2(String); los archivos estan
+     *                completos solo despues de escritor.esperar().
+     */
+    private static Parser test2(FlujoTokens flujo, Path directorioSalida, EscritorArtefactos escritor,
+                                OpcionesCompilacion opciones) {
+        EstadisticasFases estadisticas = opciones.estadisticas();
+        Parser myParser = null;
+        iniciarFase(estadisticas, "sintactico");
+        try {
+            flujo.reiniciar();
+            myParser = new Parser(flujo);  // El parser consume los tokens grabados, sin volver a escanear
+            myParser.setExportarCodigo3D(opciones.escribirCodigo3D());
+            myParser.setDirectorioSalida(directorioSalida);
+            myParser.setEstadisticas(estadisticas);
+            myParser.setEscritor(escritor);
+            myParser.setConstruirAst(opciones.construirAst());
+            myParser.parse();
+        } catch (Exception e) {
+            System.err.println("Exception during parse: " + e.getMessage());
+        } finally {
+            terminarFase(estadisticas);
+            // Intentar exportar las tablas de simbolos aunque haya ocurrido un error de parseo
+            iniciarFase(estadisticas, "tabla_simbolos");
+            try {
+                if (myParser != null) {
+                    myParser.imprimirscopePrograma();
+                }
+            } catch (Exception ex) {
+                System.err.println("Error exportando resultados: " + ex.getMessage());
+            } finally {
+                terminarFase(estadisticas);
+            }
+        }
+        return myParser;
+    }
 }
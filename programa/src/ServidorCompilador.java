@@ -0,0 +1,401 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Compilador residente: mantiene una JVM caliente (tablas de CUP y JFlex ya
+ * desempacadas, codigo ya compilado por el JIT) y atiende peticiones de
+ * compilacion por un socket TCP de loopback. Cada conexion se atiende en un
+ * hilo virtual cuando la JVM lo soporta (Java 21+) o en un pool en cache.
+ *
+ * Al iniciar se genera un token aleatorio que se escribe en un archivo legible
+ * solo por el dueno (0600); cada conexion debe presentarlo antes de cualquier
+ * otro comando, asi que solo quien puede leer ese archivo puede pedir
+ * compilaciones, leer archivos con COMPILAR o detener el servidor.
+ *
+ * Protocolo (encabezados en ASCII terminados en '\n', cuerpos en UTF-8):
+ *   TOKEN <valor>\n                       primer comando de la conexion; responde AUTORIZADO
+ *                                         o ERROR y cierra la conexion
+ *   OPCIONES [--ast] [--comentarios-resumidos] [--traza-lexer] [--tokens-consola] [--sin-codigo3d]\n
+ *                                         fija las opciones de las compilaciones siguientes de
+ *                                         esta conexion (por defecto, las del servidor); responde OK
+ *   FUENTE <bytes>\n<bytes del programa>  compila el texto enviado
+ *   COMPILAR <ruta>\n                     compila un archivo visible para el servidor
+ *   PING\n                                responde PONG
+ *   APAGAR\n                              detiene el servidor
+ * Respuesta a una compilacion:
+ *   OK <ms>\n  o  ERROR <mensaje>\n
+ *   #TOKENS <bytes>\n..., #TABLA, #CODIGO3D (vacio con --sin-codigo3d), #ASM, #AST (solo con --ast) y #CONSOLA con el mismo formato
+ *   FIN\n
+ */
+public final class ServidorCompilador {
+
+    public static final int PUERTO_POR_DEFECTO = 7575;
+    /** Nombre del archivo del token dentro de la carpeta output. */
+    public static final String ARCHIVO_TOKEN = ".servidor-token";
+    private static final int MAX_FUENTE_BYTES = 64 * 1024 * 1024;
+    private static final String PROGRAMA_CALENTAMIENTO =
+            "principal\n¿\nlet int x = 1 + 2$\noutput є x э $\nreturn x$\n?\n";
+
+    private final int puerto;
+    private final Path archivoToken;
+    private final OpcionesCompilacion opciones;
+    private volatile boolean activo = true;
+    private ServerSocket socketServidor;
+    private byte[] token;
+
+    /**
+     * Proposito: crear un servidor ligado al puerto indicado de la interfaz de loopback.
+     * Entradas: numero de puerto TCP (0 elige uno libre), archivo donde se publica el token y opciones
+     *           de compilacion con las que empieza cada conexion.
+     * Salidas: instancia lista para ejecutar().
+     * Restricciones: no abre el socket ni escribe el token hasta llamar ejecutar().
+     */
+    public ServidorCompilador(int puerto, Path archivoToken, OpcionesCompilacion opciones) {
+        this.puerto = puerto;
+        this.archivoToken = archivoToken;
+        this.opciones = opciones;
+    }
+
+    /**
+     * Proposito: calentar el compilador y atender conexiones hasta recibir APAGAR.
+     * Entradas: ninguna.
+     * Salidas: mensajes de estado en consola; bloquea el hilo que lo invoca.
+     * Restricciones: solo escucha en 127.0.0.1 para no exponer el compilador a la red; el archivo del token
+     *                se borra al detenerse.
+     */
+    public void ejecutar() throws IOException {
+        ConsolaPorHilo.instalar();
+        calentar();
+        token = publicarToken();
+        ExecutorService hilos = crearEjecutorConexiones();
+        try (ServerSocket servidor = new ServerSocket(puerto, 50, InetAddress.getLoopbackAddress())) {
+            socketServidor = servidor;
+            System.out.println("Servidor del compilador escuchando en " + servidor.getLocalSocketAddress());
+            System.out.println("Token de acceso en " + archivoToken.toAbsolutePath());
+            while (activo) {
+                Socket cliente;
+                try {
+                    cliente = servidor.accept();
+                } catch (IOException e) {
+                    if (!activo) {
+                        break;
+                    }
+                    throw e;
+                }
+                hilos.submit(() -> atender(cliente));
+            }
+        } finally {
+            hilos.shutdown();
+            Files.deleteIfExists(archivoToken);
+            System.out.println("Servidor del compilador detenido");
+        }
+    }
+
+    /**
+     * Proposito: generar el token de esta ejecucion y escribirlo en archivoToken.
+     * Entradas: ninguna.
+     * Salidas: bytes del token (hexadecimal en ASCII) que deben presentar los clientes.
+     * Restricciones: el archivo se crea de nuevo con permisos 0600; en sistemas sin permisos POSIX se deja
+     *                legible y escribible solo por el dueno con java.io.File.
+     */
+    private byte[] publicarToken() throws IOException {
+        byte[] aleatorio = new byte[32];
+        new SecureRandom().nextBytes(aleatorio);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : aleatorio) {
+            hex.append(String.format("%02x", b));
+        }
+        Files.createDirectories(archivoToken.toAbsolutePath().getParent());
+        Files.deleteIfExists(archivoToken);
+        try {
+            Files.createFile(archivoToken, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } catch (UnsupportedOperationException e) {
+            Files.createFile(archivoToken);
+            File archivo = archivoToken.toFile();
+            archivo.setReadable(false, false);
+            archivo.setWritable(false, false);
+            archivo.setReadable(true, true);
+            archivo.setWritable(true, true);
+        }
+        byte[] valor = hex.toString().getBytes(StandardCharsets.US_ASCII);
+        Files.write(archivoToken, valor);
+        return valor;
+    }
+
+    /**
+     * Proposito: elegir el ejecutor para las conexiones: hilos virtuales si existen, o un pool en cache.
+     * Entradas: ninguna.
+     * Salidas: ExecutorService que crea un hilo por tarea.
+     * Restricciones: usa reflexion para seguir compilando con JDK anteriores a 21.
+     */
+    private static ExecutorService crearEjecutorConexiones() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Proposito: forzar la carga de las tablas del lexer y del parser y dar trabajo inicial al JIT.
+     * Entradas: ninguna; compila un programa pequeno embebido.
+     * Salidas: ninguna; la salida de esa compilacion se descarta.
+     * Restricciones: cualquier error se ignora porque el calentamiento es opcional.
+     */
+    private void calentar() {
+        long inicio = System.nanoTime();
+        try {
+            for (int i = 0; i < 20; i++) {
+                compilarFuente(PROGRAMA_CALENTAMIENTO, OpcionesCompilacion.PREDETERMINADAS).borrar();
+            }
+        } catch (Exception e) {
+            // el calentamiento es opcional
+        }
+        System.out.println("Compilador calentado en " + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Proposito: atender todas las peticiones de una conexion hasta que el cliente la cierre.
+     * Entradas: socket aceptado.
+     * Salidas: respuestas escritas en el socket.
+     * Restricciones: los errores de E/S cierran solo esta conexion; sin un TOKEN valido como primer comando
+     *                la conexion se cierra sin atender nada mas.
+     */
+    private void atender(Socket cliente) {
+        try (Socket socket = cliente;
+             InputStream entrada = new BufferedInputStream(socket.getInputStream());
+             OutputStream salida = new BufferedOutputStream(socket.getOutputStream())) {
+            OpcionesCompilacion opcionesConexion = opciones;
+            boolean autorizado = false;
+            String linea;
+            while ((linea = leerLinea(entrada)) != null) {
+                linea = linea.trim();
+                if (linea.isEmpty()) {
+                    continue;
+                }
+                if (!autorizado) {
+                    if (!linea.startsWith("TOKEN ") || !tokenValido(linea.substring(6).trim())) {
+                        escribirLinea(salida, "ERROR no autorizado");
+                        return;
+                    }
+                    autorizado = true;
+                    escribirLinea(salida, "AUTORIZADO");
+                } else if (linea.equals("OPCIONES") || linea.startsWith("OPCIONES ")) {
+                    OpcionesCompilacion nuevas = OpcionesCompilacion.PREDETERMINADAS;
+                    String invalida = null;
+                    for (String opcion : linea.substring(8).trim().split("\\s+")) {
+                        if (opcion.isEmpty()) {
+                            continue;
+                        }
+                        if (!OpcionesCompilacion.esOpcion(opcion)) {
+                            invalida = opcion;
+                            break;
+                        }
+                        nuevas = nuevas.con(opcion);
+                    }
+                    if (invalida != null) {
+                        escribirLinea(salida, "ERROR opcion desconocida: " + invalida);
+                    } else {
+                        opcionesConexion = nuevas;
+                        escribirLinea(salida, "OK");
+                    }
+                } else if (linea.equals("PING")) {
+                    escribirLinea(salida, "PONG");
+                } else if (linea.equals("APAGAR")) {
+                    escribirLinea(salida, "ADIOS");
+                    salida.flush();
+                    detener();
+                    return;
+                } else if (linea.startsWith("FUENTE ")) {
+                    int bytes = Integer.parseInt(linea.substring(7).trim());
+                    if (bytes < 0 || bytes > MAX_FUENTE_BYTES) {
+                        escribirLinea(salida, "ERROR tamano de fuente invalido: " + bytes);
+                        return;
+                    }
+                    String fuente = new String(leerBytes(entrada, bytes), StandardCharsets.UTF_8);
+                    responder(salida, compilarFuente(fuente, opcionesConexion));
+                } else if (linea.startsWith("COMPILAR ")) {
+                    Path ruta = Paths.get(linea.substring(9).trim());
+                    responder(salida, compilarFuente(Files.readString(ruta, StandardCharsets.UTF_8), opcionesConexion));
+                } else {
+                    escribirLinea(salida, "ERROR comando desconocido: " + linea);
+                }
+                salida.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Conexion cerrada con error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Proposito: comparar el token presentado por un cliente con el de esta ejecucion.
+     * Entradas: valor enviado despues de TOKEN.
+     * Salidas: true si coincide.
+     * Restricciones: la comparacion toma el mismo tiempo sin importar en que byte difieran.
+     */
+    private boolean tokenValido(String presentado) {
+        return MessageDigest.isEqual(token, presentado.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Proposito: compilar un programa en una carpeta temporal capturando su consola.
+     * Entradas: texto del programa fuente y opciones de la conexion que lo pidio.
+     * Salidas: Resultado con el estado, la duracion, la consola y la carpeta de artefactos.
+     * Restricciones: quien llama debe invocar borrar() sobre el resultado cuando ya no lo necesite; no usa
+     *                las opciones de la linea de comandos, asi que conexiones con opciones distintas no se mezclan.
+     */
+    private Resultado compilarFuente(String fuente, OpcionesCompilacion opcionesFuente) throws IOException {
+        Path carpeta = Files.createTempDirectory("compilador-");
+        long inicio = System.nanoTime();
+        String error = null;
+        ConsolaPorHilo.Captura captura;
+        ConsolaPorHilo.iniciarCaptura();
+        try {
+            FlujoTokens flujo = FlujoTokens.grabar(Proye1_compi.nuevoLexer(new StringReader(fuente), opcionesFuente));
+            Proye1_compi.compilar(flujo, carpeta, opcionesFuente);
+        } catch (Exception e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        } finally {
+            captura = ConsolaPorHilo.terminarCaptura();
+        }
+        return new Resultado(carpeta, error, (System.nanoTime() - inicio) / 1_000_000,
+                captura.salida() + captura.errores());
+    }
+
+    /**
+     * Proposito: enviar al cliente el estado y los artefactos de una compilacion.
+     * Entradas: flujo de salida del socket y resultado de compilarFuente.
+     * Salidas: respuesta completa terminada en FIN.
+     * Restricciones: borra la carpeta temporal del resultado al terminar.
+     */
+    private void responder(OutputStream salida, Resultado resultado) throws IOException {
+        try {
+            if (resultado.error == null) {
+                escribirLinea(salida, "OK " + resultado.milisegundos);
+            } else {
+                escribirLinea(salida, "ERROR " + resultado.error.replace('\n', ' '));
+            }
+            escribirSeccion(salida, "TOKENS", resultado.leer("TOKENS.txt"));
+            escribirSeccion(salida, "TABLA", resultado.leer("TablaSimbolos.txt"));
+            escribirSeccion(salida, "CODIGO3D", resultado.leer("Codigo3D.txt"));
+            escribirSeccion(salida, "ASM", resultado.leer("destino.asm"));
+            if (Files.exists(resultado.carpeta.resolve("AST.txt"))) {
+                escribirSeccion(salida, "AST", resultado.leer("AST.txt"));
+            }
+            escribirSeccion(salida, "CONSOLA", resultado.consola);
+            escribirLinea(salida, "FIN");
+        } finally {
+            resultado.borrar();
+        }
+    }
+
+    /**
+     * Proposito: cerrar el socket de escucha para terminar ejecutar().
+     * Entradas: ninguna.
+     * Salidas: el ciclo de accept termina.
+     * Restricciones: las conexiones en curso terminan su peticion actual.
+     */
+    private void detener() {
+        activo = false;
+        try {
+            if (socketServidor != null) {
+                socketServidor.close();
+            }
+        } catch (IOException e) {
+            // ya estaba cerrado
+        }
+    }
+
+    private static void escribirSeccion(OutputStream salida, String nombre, String contenido) throws IOException {
+        byte[] bytes = contenido.getBytes(StandardCharsets.UTF_8);
+        escribirLinea(salida, "#" + nombre + " " + bytes.length);
+        salida.write(bytes);
+    }
+
+    private static void escribirLinea(OutputStream salida, String linea) throws IOException {
+        salida.write((linea + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Proposito: leer un encabezado del protocolo hasta el salto de linea.
+     * Entradas: flujo de entrada del socket.
+     * Salidas: linea sin el terminador, o null si el cliente cerro la conexion.
+     * Restricciones: los encabezados deben ser UTF-8 y terminar en '\n'.
+     */
+    private static String leerLinea(InputStream entrada) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int b;
+        while ((b = entrada.read()) != -1) {
+            if (b == '\n') {
+                return buffer.toString(StandardCharsets.UTF_8);
+            }
+            buffer.write(b);
+        }
+        return buffer.size() > 0 ? buffer.toString(StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] leerBytes(InputStream entrada, int cantidad) throws IOException {
+        byte[] datos = new byte[cantidad];
+        int leidos = 0;
+        while (leidos < cantidad) {
+            int n = entrada.read(datos, leidos, cantidad - leidos);
+            if (n < 0) {
+                throw new EOFException("Fuente incompleta: " + leidos + " de " + cantidad + " bytes");
+            }
+            leidos += n;
+        }
+        return datos;
+    }
+
+    /**
+     * Resultado de una compilacion hecha por el servidor.
+     */
+    private static final class Resultado {
+        final Path carpeta;
+        final String error;
+        final long milisegundos;
+        final String consola;
+
+        Resultado(Path carpeta, String error, long milisegundos, String consola) {
+            this.carpeta = carpeta;
+            this.error = error;
+            this.milisegundos = milisegundos;
+            this.consola = consola;
+        }
+
+        String leer(String archivo) throws IOException {
+            Path path = carpeta.resolve(archivo);
+            // lectura tolerante: algunos artefactos se escriben con el charset por defecto de la plataforma
+            return Files.exists(path) ? new String(Files.readAllBytes(path), StandardCharsets.UTF_8) : "";
+        }
+
+        void borrar() {
+            try (Stream<Path> archivos = Files.walk(carpeta)) {
+                archivos.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            } catch (IOException e) {
+                // carpeta temporal; se ignora si no se puede borrar
+            }
+        }
+    }
+}
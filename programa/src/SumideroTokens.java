@@ -0,0 +1,148 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Destino del listado de tokens que produce el analisis lexico. El driver
+ * recorre el flujo grabado una sola vez y entrega cada token al sumidero, que
+ * decide si lo escribe en TOKENS.txt, en la consola o en ningun lado; asi el
+ * listado nunca se arma completo en memoria.
+ */
+public interface SumideroTokens extends AutoCloseable {
+
+    /**
+     * Proposito: recibir un token del flujo.
+     * Entradas: tipo (constante de sym), linea y columna base 0, lexema y nombre simbolico del token.
+     * Salidas: depende de la implementacion.
+     * Restricciones: se invoca en el orden del archivo fuente; recibe los campos sueltos para que el flujo
+     *                empaquetado no tenga que crear un Symbol por token.
+     */
+    void token(int tipo, int linea, int columna, String lexema, String nombre) throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Proposito: dar el formato de una linea de TOKENS.txt.
+     * Entradas: tipo, linea y columna base 0, lexema y nombre simbolico.
+     * Salidas: "Token: <id> <lexema> (<NOMBRE>) at <linea>:<columna>" con posiciones base 1, sin salto de linea.
+     * Restricciones: las posiciones negativas se muestran como n/a.
+     */
+    static String formatear(int tipo, int linea, int columna, String lexema, String nombre) {
+        // ajustar a base 1 para los lectores humanos
+        String lineStr = (linea >= 0 ? Integer.toString(linea + 1) : "n/a");
+        String colStr = (columna >= 0 ? Integer.toString(columna + 1) : "n/a");
+        return "Token: " + tipo + " " + lexema + " (" + nombre + ") at " + lineStr + ":" + colStr;
+    }
+
+    /**
+     * Proposito: combinar varios sumideros en uno.
+     * Entradas: sumideros destino.
+     * Salidas: sumidero que reenvia cada token a todos, en el orden recibido.
+     * Restricciones: close() cierra todos aunque alguno falle y relanza el primer error.
+     */
+    static SumideroTokens todos(SumideroTokens... destinos) {
+        return new Multiple(Arrays.asList(destinos));
+    }
+
+    /**
+     * Escribe TOKENS.txt por partes con un BufferedWriter, sin acumular el listado.
+     */
+    final class Archivo implements SumideroTokens {
+        private final Writer writer;
+
+        /**
+         * Proposito: abrir el archivo destino creando sus carpetas padre.
+         * Entradas: ruta de TOKENS.txt.
+         * Salidas: sumidero listo; el archivo se sobrescribe.
+         * Restricciones: usa el charset por defecto de la plataforma, igual que WriteToFile; no imprime en
+         *                consola para poder usarse desde el hilo de EscritorArtefactos.
+         */
+        public Archivo(String ruta) throws IOException {
+            File archivo = new File(ruta);
+            File parent = archivo.getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            this.writer = new BufferedWriter(new FileWriter(archivo), 64 * 1024);
+        }
+
+        @Override
+        public void token(int tipo, int linea, int columna, String lexema, String nombre) throws IOException {
+            writer.write(formatear(tipo, linea, columna, lexema, nombre));
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Eco de cada token en stdout; solo se usa cuando se pide con --tokens-consola.
+     */
+    final class Consola implements SumideroTokens {
+        @Override
+        public void token(int tipo, int linea, int columna, String lexema, String nombre) {
+            System.out.println(formatear(tipo, linea, columna, lexema, nombre));
+        }
+
+        @Override
+        public void close() {
+            System.out.flush();
+        }
+    }
+
+    /**
+     * Descarta los tokens; util para medir el lexer o cuando TOKENS.txt no hace falta.
+     */
+    final class Nulo implements SumideroTokens {
+        @Override
+        public void token(int tipo, int linea, int columna, String lexema, String nombre) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Reenvia cada token a varios sumideros.
+     */
+    final class Multiple implements SumideroTokens {
+        private final List<SumideroTokens> destinos;
+
+        Multiple(List<SumideroTokens> destinos) {
+            this.destinos = destinos;
+        }
+
+        @Override
+        public void token(int tipo, int linea, int columna, String lexema, String nombre) throws IOException {
+            for (SumideroTokens destino : destinos) {
+                destino.token(tipo, linea, columna, lexema, nombre);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException primero = null;
+            for (SumideroTokens destino : destinos) {
+                try {
+                    destino.close();
+                } catch (IOException e) {
+                    if (primero == null) {
+                        primero = e;
+                    }
+                }
+            }
+            if (primero != null) {
+                throw primero;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Tabla de internado de lexemas que pertenece a un Lexer. Busca el texto
+ * directamente sobre el rango de caracteres del buffer de JFlex, de modo que
+ * un identificador que ya aparecio no crea un String nuevo: se devuelve la
+ * misma instancia. Asi cada nombre distinto se asigna una sola vez por
+ * compilacion y las tablas del Parser (semanticScopes, functionTable) reciben
+ * claves identicas cuyo hashCode ya esta calculado y cuyo equals se resuelve
+ * por identidad.
+ */
+public final class TablaIdentificadores {
+
+    private static final int CAPACIDAD_INICIAL = 256;
+
+    // Direccionamiento abierto con sondeo lineal; capacidad siempre potencia de 2
+    private String[] textos = new String[CAPACIDAD_INICIAL];
+    private int[] hashes = new int[CAPACIDAD_INICIAL];
+    private int cantidad;
+
+    /**
+     * Proposito: obtener la instancia unica de un lexema.
+     * Entradas: buffer de caracteres, inicio y largo del lexema dentro del buffer.
+     * Salidas: String con ese contenido; la misma instancia para contenidos iguales.
+     * Restricciones: el hash se calcula igual que String.hashCode, asi que la tabla lo deja
+     *                precalculado en el String la primera vez.
+     */
+    public String internar(char[] buffer, int inicio, int largo) {
+        int hash = 0;
+        for (int i = 0; i < largo; i++) {
+            hash = 31 * hash + buffer[inicio + i];
+        }
+        int mascara = textos.length - 1;
+        int posicion = mezclar(hash) & mascara;
+        String actual;
+        while ((actual = textos[posicion]) != null) {
+            if (hashes[posicion] == hash && iguales(actual, buffer, inicio, largo)) {
+                return actual;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        String nuevo = new String(buffer, inicio, largo);
+        nuevo.hashCode();
+        textos[posicion] = nuevo;
+        hashes[posicion] = hash;
+        if (++cantidad * 2 > textos.length) {
+            crecer();
+        }
+        return nuevo;
+    }
+
+    /**
+     * Proposito: consultar cuantos lexemas distintos se han internado.
+     * Entradas: ninguna.
+     * Salidas: cantidad de entradas de la tabla.
+     * Restricciones: ninguna.
+     */
+    public int tamano() {
+        return cantidad;
+    }
+
+    /**
+     * Proposito: olvidar todos los lexemas internados y volver a la capacidad inicial.
+     * Entradas: ninguna.
+     * Salidas: tabla vacia; los String ya entregados siguen siendo validos.
+     * Restricciones: despues de vaciar, un lexema repetido produce una instancia nueva, asi que quien compare
+     *                lexemas de antes y despues debe usar equals.
+     */
+    public void vaciar() {
+        textos = new String[CAPACIDAD_INICIAL];
+        hashes = new int[CAPACIDAD_INICIAL];
+        cantidad = 0;
+    }
+
+    private static boolean iguales(String texto, char[] buffer, int inicio, int largo) {
+        if (texto.length() != largo) {
+            return false;
+        }
+        for (int i = 0; i < largo; i++) {
+            if (texto.charAt(i) != buffer[inicio + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // La mascara solo usa los bits bajos; se mezclan con los altos para repartir mejor
+    private static int mezclar(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private void crecer() {
+        String[] viejosTextos = textos;
+        int[] viejosHashes = hashes;
+        textos = new String[viejosTextos.length * 2];
+        hashes = new int[viejosTextos.length * 2];
+        int mascara = textos.length - 1;
+        for (int i = 0; i < viejosTextos.length; i++) {
+            if (viejosTextos[i] == null) {
+                continue;
+            }
+            int posicion = mezclar(viejosHashes[i]) & mascara;
+            while (textos[posicion] != null) {
+                posicion = (posicion + 1) & mascara;
+            }
+            textos[posicion] = viejosTextos[i];
+            hashes[posicion] = viejosHashes[i];
+        }
+    }
+}
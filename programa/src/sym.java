@@ -13,6 +13,7 @@ public class sym {
   public static final int OUTPUT = 58;
   public static final int COMMENT = 16;
   public static final int INPUT = 57;
+  public static final int BLOCK_COMMENT = 68;
   public static final int NEGA = 29;
   public static final int LOWER = 22;
   public static final int INT = 30;
@@ -142,7 +143,8 @@ public class sym {
   "RUSS",
   "ARROW",
   "CHARSTR",
-  "DOLLAR"
+  "DOLLAR",
+  "BLOCK_COMMENT"
   };
 }
 